@@ -373,7 +373,9 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
         stats.stopTimer.start();
         boolean stop;
         try {
-          stop = stopOperator.stop(successor, reachedSet.getReached(successor), successorPrecision);
+          stop =
+              stopOperator.stop(
+                  successor, reachedSet.getCoverageCandidates(successor), successorPrecision);
         } finally {
           stats.stopTimer.stop();
         }
@@ -404,7 +406,7 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
       }
       assert action == Action.CONTINUE : "Enum Action has unhandled values!";
 
-      Collection<AbstractState> reached = reachedSet.getReached(successor);
+      Collection<AbstractState> reached = reachedSet.getMergeCandidates(successor);
 
       // An optimization, we don't bother merging if we know that the
       // merge operator won't do anything (i.e., it is merge-sep).
@@ -451,7 +453,9 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
       stats.stopTimer.start();
       boolean stop;
       try {
-        stop = stopOperator.stop(successor, reached, successorPrecision);
+        stop =
+            stopOperator.stop(
+                successor, reachedSet.getCoverageCandidates(successor), successorPrecision);
       } finally {
         stats.stopTimer.stop();
       }
@@ -69,6 +69,7 @@ import org.sosy_lab.cpachecker.core.algorithm.Algorithm.AlgorithmStatus;
 import org.sosy_lab.cpachecker.core.algorithm.CPAAlgorithm;
 import org.sosy_lab.cpachecker.core.algorithm.ParallelAlgorithm.ConditionAdjustmentEventSubscriber;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.CandidateInvariant;
+import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.CandidateInvariantBatchChecker;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.CandidateInvariantCombination;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.SingleLocationFormulaInvariant;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.SymbolicCandiateInvariant;
@@ -241,6 +242,15 @@ abstract class AbstractBMCAlgorithm
       name = "bmc.simplifyBooleanFormula")
   private boolean simplifyBooleanFormula = false;
 
+  @Option(
+      secure = true,
+      description =
+          "Check all candidate invariants except the safety property together in the BMC base"
+              + " case, using one selector variable per candidate and dropping refuted candidates"
+              + " iteratively (Houdini-style), instead of checking each candidate separately.",
+      name = "bmc.batchCandidateChecks")
+  private boolean batchCandidateChecks = false;
+
   protected final BMCStatistics stats;
   private final Algorithm algorithm;
   private final ConfigurableProgramAnalysis cpa;
@@ -271,6 +281,8 @@ abstract class AbstractBMCAlgorithm
 
   private final AbstractionStrategy abstractionStrategy;
 
+  private final @Nullable CandidateInvariantBatchChecker batchChecker;
+
   /** The candidate invariants that have been proven to hold at the loop heads. */
   private final Set<CandidateInvariant> confirmedCandidates = new CopyOnWriteArraySet<>();
 
@@ -405,6 +417,11 @@ abstract class AbstractBMCAlgorithm
     bfmgr = fmgr.getBooleanFormulaManager();
     pmgr = predCpa.getPathFormulaManager();
     abstractionStrategy = new PredicateAbstractionStrategy(cfa.getVarClassification());
+    batchChecker =
+        batchCandidateChecks
+            ? new CandidateInvariantBatchChecker(
+                fmgr, pmgr, logger, shutdownNotifier, simplifyBooleanFormula)
+            : null;
     assignmentToPathAllocator =
         new AssignmentToPathAllocator(config, shutdownNotifier, pLogger, pCFA.getMachineModel());
 
@@ -507,10 +524,17 @@ abstract class AbstractBMCAlgorithm
         }
 
         // Perform a bounded model check on each candidate invariant
+        final List<CandidateInvariant> batchedCandidates = new ArrayList<>();
         Iterator<CandidateInvariant> candidateInvariantIterator = candidateGenerator.iterator();
         while (candidateInvariantIterator.hasNext()) {
           shutdownNotifier.shutdownIfNecessary();
           CandidateInvariant candidateInvariant = candidateInvariantIterator.next();
+          if (batchChecker != null
+              && candidateInvariant != TargetLocationCandidateInvariant.INSTANCE) {
+            // checked together with the other candidates below
+            batchedCandidates.add(candidateInvariant);
+            continue;
+          }
           // first check safety in k iterations
 
           boolean safe = boundedModelCheck(reachedSet, prover, candidateInvariant);
@@ -526,6 +550,13 @@ abstract class AbstractBMCAlgorithm
             return AlgorithmStatus.SOUND_AND_PRECISE;
           }
         }
+        if (!batchedCandidates.isEmpty()) {
+          checkCandidatesInBatch(reachedSet, prover, candidateGenerator, batchedCandidates);
+          if (invariantGenerator.isProgramSafe()) {
+            TargetLocationCandidateInvariant.INSTANCE.assumeTruth(reachedSet);
+            return AlgorithmStatus.SOUND_AND_PRECISE;
+          }
+        }
 
         // second check soundness
         boolean sound;
@@ -789,6 +820,59 @@ abstract class AbstractBMCAlgorithm
     return safe;
   }
 
+  /**
+   * Check the given candidates together with the batch checker and assume the truth of the ones
+   * that hold, like {@link #boundedModelCheck(ReachedSet, BasicProverEnvironment,
+   * CandidateInvariant)} does for single candidates. Subclasses that override that method need to
+   * override this one consistently.
+   *
+   * @return the violated candidates.
+   */
+  @ForOverride
+  protected Set<CandidateInvariant> boundedModelCheckInBatch(
+      final ReachedSet pReachedSet,
+      final BasicProverEnvironment<?> pProver,
+      List<CandidateInvariant> pCandidates)
+      throws CPATransferException, InterruptedException, SolverException {
+    logger.log(Level.INFO, "Starting batched satisfiability check...");
+    final Set<CandidateInvariant> violated;
+    stats.satCheck.start();
+    try {
+      violated =
+          checkNotNull(batchChecker).findViolatedCandidates(pReachedSet, pProver, pCandidates);
+    } finally {
+      stats.satCheck.stop();
+    }
+
+    for (CandidateInvariant candidate : pCandidates) {
+      if (!violated.contains(candidate)) {
+        candidate.assumeTruth(pReachedSet);
+      }
+    }
+    return violated;
+  }
+
+  /**
+   * Check the given candidates with {@link #boundedModelCheckInBatch} and remove the violated ones
+   * from the candidate generator.
+   */
+  private void checkCandidatesInBatch(
+      ReachedSet pReachedSet,
+      BasicProverEnvironment<?> pProver,
+      CandidateGenerator pCandidateGenerator,
+      List<CandidateInvariant> pCandidates)
+      throws CPATransferException, InterruptedException, SolverException {
+    Set<CandidateInvariant> violated = boundedModelCheckInBatch(pReachedSet, pProver, pCandidates);
+    if (!violated.isEmpty()) {
+      Iterator<CandidateInvariant> candidateInvariantIterator = pCandidateGenerator.iterator();
+      while (candidateInvariantIterator.hasNext()) {
+        if (violated.contains(candidateInvariantIterator.next())) {
+          candidateInvariantIterator.remove();
+        }
+      }
+    }
+  }
+
   private boolean refineCtiBlockingClauses(
       ReachedSet pReachedSet,
       BasicProverEnvironment<?> pProver,
@@ -1092,6 +1176,9 @@ abstract class AbstractBMCAlgorithm
       statisticsProvider.collectStatistics(pStatsCollection);
     }
     pStatsCollection.add(stats);
+    if (batchChecker != null) {
+      pStatsCollection.add(batchChecker);
+    }
     if (invariantGenerator instanceof StatisticsProvider statisticsProvider) {
       statisticsProvider.collectStatistics(pStatsCollection);
     }
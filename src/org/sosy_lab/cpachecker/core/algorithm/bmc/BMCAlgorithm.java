@@ -9,6 +9,7 @@
 package org.sosy_lab.cpachecker.core.algorithm.bmc;
 
 import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Writer;
@@ -16,7 +17,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownManager;
@@ -148,6 +151,19 @@ public class BMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
     return super.boundedModelCheck(pReachedSet, pProver, pInductionProblem);
   }
 
+  @Override
+  protected Set<CandidateInvariant> boundedModelCheckInBatch(
+      final ReachedSet pReachedSet,
+      final BasicProverEnvironment<?> pProver,
+      List<CandidateInvariant> pCandidates)
+      throws CPATransferException, InterruptedException, SolverException {
+    if (!checkTargetStates) {
+      return ImmutableSet.of();
+    }
+
+    return super.boundedModelCheckInBatch(pReachedSet, pProver, pCandidates);
+  }
+
   @Override
   public void collectStatistics(Collection<Statistics> pStatsCollection) {
     super.collectStatistics(pStatsCollection);
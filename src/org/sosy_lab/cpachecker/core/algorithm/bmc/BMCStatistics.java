@@ -11,6 +11,8 @@ package org.sosy_lab.cpachecker.core.algorithm.bmc;
 import com.google.common.math.IntMath;
 import java.io.PrintStream;
 import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.sosy_lab.common.time.TimeSpan;
 import org.sosy_lab.common.time.Timer;
 import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
 import org.sosy_lab.cpachecker.core.interfaces.Statistics;
@@ -34,6 +36,8 @@ public class BMCStatistics implements Statistics {
   // IMC/ISMC/DAR operations
   final Timer interpolationPreparation = new Timer();
   final Timer fixedPointComputation = new Timer();
+  final Timer interpolantComputation = new Timer();
+  final Timer fixedPointCheck = new Timer();
   int numOfInterpolationCalls = -1;
   int numOfInterpolants = -1;
   int numOfAtomsInInterpolants = -1;
@@ -47,6 +51,13 @@ public class BMCStatistics implements Statistics {
   int numOfDARGlobalPhases = -1;
   int numOfDARLocalPhases = -1;
   int numOfDARLocalInterpolants = -1;
+  final Timer darLocalStrengthening = new Timer();
+  final Timer darGlobalStrengthening = new Timer();
+
+  // Queries executed concurrently on separate solver contexts
+  final Timer parallelSolverBatches = new Timer();
+  TimeSpan parallelSolverBusyTime = TimeSpan.empty();
+  int numOfParallelSolverQueries = 0;
 
   @Override
   public void printStatistics(PrintStream out, Result pResult, UnmodifiableReachedSet pReached) {
@@ -80,6 +91,25 @@ public class BMCStatistics implements Statistics {
       out.println("Time for collecting formulas for interpolation:  " + interpolationPreparation);
       out.println("Time for computing fixed-point by interpolation: " + fixedPointComputation);
     }
+    if (interpolantComputation.getNumberOfIntervals() > 0) {
+      out.println("  Time for computing interpolants:               " + interpolantComputation);
+    }
+    if (fixedPointCheck.getNumberOfIntervals() > 0) {
+      out.println("  Time for fixed-point checks:                   " + fixedPointCheck);
+    }
+    if (darLocalStrengthening.getNumberOfIntervals() > 0) {
+      out.println("  Time for DAR local strengthening:              " + darLocalStrengthening);
+    }
+    if (darGlobalStrengthening.getNumberOfIntervals() > 0) {
+      out.println("  Time for DAR global strengthening:             " + darGlobalStrengthening);
+    }
+    if (parallelSolverBatches.getNumberOfIntervals() > 0) {
+      out.println("Time for parallel solver batches:                " + parallelSolverBatches);
+      out.println(
+          "  Busy time of solver workers:                   "
+              + parallelSolverBusyTime.formatAs(TimeUnit.SECONDS));
+      out.println("  Number of parallel solver queries:             " + numOfParallelSolverQueries);
+    }
     if (numOfInterpolants >= 0) {
       out.println("Total number of computed interpolants:           " + numOfInterpolants);
     }
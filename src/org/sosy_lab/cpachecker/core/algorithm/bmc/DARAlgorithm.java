@@ -13,6 +13,7 @@ import static org.sosy_lab.cpachecker.util.statistics.StatisticsWriter.writingSt
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import java.util.logging.Level;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownManager;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -38,6 +40,7 @@ import org.sosy_lab.cpachecker.cpa.loopbound.LoopBoundCPA;
 import org.sosy_lab.cpachecker.cpa.predicate.PredicateCPA;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.util.CPAs;
+import org.sosy_lab.cpachecker.util.Pair;
 import org.sosy_lab.cpachecker.util.predicates.interpolation.InterpolationManager;
 import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
 import org.sosy_lab.cpachecker.util.predicates.pathformula.SSAMap;
@@ -93,6 +96,14 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   @Option(secure = true, description = "toggle checking forward conditions")
   private boolean checkForwardConditions = true;
 
+  @Option(
+      secure = true,
+      description =
+          "number of additional solver contexts for running independent fixed-point checks, local"
+              + " checks, and interpolation queries concurrently (0 disables parallel solving)")
+  @IntegerOption(min = 0)
+  private int parallelSolverContexts = 0;
+
   private boolean isInterpolationEnabled = true;
 
   private final ConfigurableProgramAnalysis cpa;
@@ -105,6 +116,10 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   private final Solver solver;
   private final InterpolationManager itpMgr;
   private final CFA cfa;
+  private final Configuration config;
+
+  /** Only present during {@link #run(ReachedSet)} if parallel solving is enabled. */
+  private @Nullable ParallelSolverWorkers parallelWorkers = null;
 
   public DARAlgorithm(
       Algorithm pAlgorithm,
@@ -133,6 +148,7 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
 
     cpa = pCPA;
     cfa = pCFA;
+    config = pConfig;
     algorithm = pAlgorithm;
 
     @SuppressWarnings("resource")
@@ -163,11 +179,22 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   public AlgorithmStatus run(final ReachedSet pReachedSet)
       throws CPAException, InterruptedException {
     try {
+      if (parallelSolverContexts > 0) {
+        parallelWorkers =
+            new ParallelSolverWorkers(
+                parallelSolverContexts, fmgr, pfmgr, config, logger, shutdownNotifier, stats);
+      }
       return dualApproximatedReachabilityModelChecking(pReachedSet);
     } catch (SolverException e) {
       throw new CPAException("Solver Failure " + e.getMessage(), e);
+    } catch (InvalidConfigurationException e) {
+      throw new CPAException("Cannot create solver contexts for parallel solving", e);
     } finally {
       invariantGenerator.cancel();
+      if (parallelWorkers != null) {
+        parallelWorkers.close();
+        parallelWorkers = null;
+      }
     }
   }
 
@@ -233,10 +260,23 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   }
 
   private boolean checkFixedPoint(DualReachabilitySequence pDualSequence)
-      throws InterruptedException, SolverException {
+      throws CPAException, InterruptedException, SolverException {
     if (pDualSequence.getSize() < 1) {
       return false;
     }
+    stats.fixedPointCheck.start();
+    try {
+      if (parallelWorkers != null) {
+        return checkFixedPointInParallel(pDualSequence);
+      }
+      return checkFixedPointSequentially(pDualSequence);
+    } finally {
+      stats.fixedPointCheck.stop();
+    }
+  }
+
+  private boolean checkFixedPointSequentially(DualReachabilitySequence pDualSequence)
+      throws InterruptedException, SolverException {
     BooleanFormula forwardImage = pDualSequence.getForwardImageAt(0);
     BooleanFormula backwardImage = pDualSequence.getBackwardImageAt(0);
 
@@ -258,6 +298,36 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
     return false;
   }
 
+  /**
+   * Same check as {@link #checkFixedPointSequentially}, but the implication checks for all
+   * positions of the sequences are independent of each other and thus run concurrently.
+   */
+  private boolean checkFixedPointInParallel(DualReachabilitySequence pDualSequence)
+      throws CPAException, InterruptedException, SolverException {
+    // The set that is represented by formula B_0 should not be empty.
+    // If it is, then the algorithm catches it sooner.
+    if (pDualSequence.getBackwardImageAt(0).equals(bfmgr.makeFalse())) {
+      return false;
+    }
+    List<Pair<BooleanFormula, BooleanFormula>> implications = new ArrayList<>();
+    BooleanFormula forwardImage = pDualSequence.getForwardImageAt(0);
+    BooleanFormula backwardImage = pDualSequence.getBackwardImageAt(0);
+    for (int i = 1; i < pDualSequence.getSize(); i++) {
+      BooleanFormula forwardFormula = pDualSequence.getForwardImageAt(i);
+      BooleanFormula backwardFormula = pDualSequence.getBackwardImageAt(i);
+      implications.add(Pair.of(forwardFormula, forwardImage));
+      implications.add(Pair.of(backwardFormula, backwardImage));
+      forwardImage = bfmgr.or(forwardFormula, forwardImage);
+      backwardImage = bfmgr.or(backwardFormula, backwardImage);
+    }
+    if (parallelWorkers.implies(implications).contains(true)) {
+      stats.fixedPointConvergenceLength = pDualSequence.getSize();
+      logger.log(Level.INFO, "Fixed point reached");
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Checks local safety of the sequences. Further, it extends them by new overapproximating
    * formulas.
@@ -269,17 +339,22 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
       DualReachabilitySequence pDualSequence, PartitionedFormulas pPartitionedFormulas)
       throws CPAException, SolverException, InterruptedException {
     stats.numOfDARLocalPhases += 1;
-    final int indexOfLocalContradiction =
-        findIndexOfUnsatisfiableLocalCheck(pDualSequence, pPartitionedFormulas);
-    if (indexOfLocalContradiction == -1) {
-      // No local strengthening point was found, switch to Global phase
-      return StrengtheningStatus.FAILED;
-    } else {
-      // Local strengthening point was found, propagate the reason for contradiction to the end
-      // of sequences.
-      iterativeLocalStrengthening(pDualSequence, pPartitionedFormulas, indexOfLocalContradiction);
+    stats.darLocalStrengthening.start();
+    try {
+      final int indexOfLocalContradiction =
+          findIndexOfUnsatisfiableLocalCheck(pDualSequence, pPartitionedFormulas);
+      if (indexOfLocalContradiction == -1) {
+        // No local strengthening point was found, switch to Global phase
+        return StrengtheningStatus.FAILED;
+      } else {
+        // Local strengthening point was found, propagate the reason for contradiction to the end
+        // of sequences.
+        iterativeLocalStrengthening(pDualSequence, pPartitionedFormulas, indexOfLocalContradiction);
+      }
+      return StrengtheningStatus.SUCCEEDED;
+    } finally {
+      stats.darLocalStrengthening.stop();
     }
-    return StrengtheningStatus.SUCCEEDED;
   }
 
   /**
@@ -297,7 +372,17 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
       throws CPAException, InterruptedException, SolverException {
     // Global phase of DAR
     stats.numOfDARGlobalPhases += 1;
-    ///
+    stats.darGlobalStrengthening.start();
+    try {
+      return performGlobalStrengthening0(pFormulas, pDualSequence, pReachedSet);
+    } finally {
+      stats.darGlobalStrengthening.stop();
+    }
+  }
+
+  private StrengtheningStatus performGlobalStrengthening0(
+      PartitionedFormulas pFormulas, DualReachabilitySequence pDualSequence, ReachedSet pReachedSet)
+      throws CPAException, InterruptedException, SolverException {
     Preconditions.checkArgument(pFormulas.getNumLoops() < pDualSequence.getSize());
     int globalUnsatIndex = 1;
     for (final int n = pDualSequence.getSize(); globalUnsatIndex <= n; ++globalUnsatIndex) {
@@ -351,7 +436,7 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
       DualReachabilitySequence pDualSequence,
       PartitionedFormulas pPartitionedFormulas,
       int pIdxOfLocalContradiction)
-      throws CPAException, InterruptedException {
+      throws CPAException, InterruptedException, SolverException {
     logger.log(Level.FINE, "Strengthening forward and backward reachability vectors locally");
     final int lastIdxOfSequences = pDualSequence.getSize() - 1;
     // Updating forward sequence
@@ -373,10 +458,31 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
       pDualSequence.updateBackwardReachVector(resultingBackwardFormula, backwardIdx + 1);
     }
     // Extend the reachability vectors
-    BooleanFormula newForwardReachFormula =
-        constructForwardInterpolant(pDualSequence, pPartitionedFormulas, lastIdxOfSequences);
-    BooleanFormula newBackwardReachFormula =
-        constructBackwardInterpolant(pDualSequence, pPartitionedFormulas, lastIdxOfSequences);
+    BooleanFormula newForwardReachFormula;
+    BooleanFormula newBackwardReachFormula;
+    if (parallelWorkers != null) {
+      // both interpolants are derived from the same sequences, so they can be computed in parallel
+      ImmutableList<BooleanFormula> forwardQuery =
+          getForwardInterpolationQuery(pDualSequence, pPartitionedFormulas, lastIdxOfSequences);
+      ImmutableList<BooleanFormula> backwardQuery =
+          getBackwardInterpolationQuery(pDualSequence, pPartitionedFormulas, lastIdxOfSequences);
+      ImmutableList<Optional<ImmutableList<BooleanFormula>>> interpolants;
+      stats.interpolantComputation.start();
+      try {
+        interpolants = parallelWorkers.interpolate(ImmutableList.of(forwardQuery, backwardQuery));
+      } finally {
+        stats.interpolantComputation.stop();
+      }
+      newForwardReachFormula =
+          toForwardInterpolant(interpolants.get(0).orElseThrow().getFirst(), pPartitionedFormulas);
+      newBackwardReachFormula =
+          toBackwardInterpolant(interpolants.get(1).orElseThrow().getFirst(), pPartitionedFormulas);
+    } else {
+      newForwardReachFormula =
+          constructForwardInterpolant(pDualSequence, pPartitionedFormulas, lastIdxOfSequences);
+      newBackwardReachFormula =
+          constructBackwardInterpolant(pDualSequence, pPartitionedFormulas, lastIdxOfSequences);
+    }
     pDualSequence.extendForwardReachVector(newForwardReachFormula);
     pDualSequence.extendBackwardReachVector(newBackwardReachFormula);
     logger.log(
@@ -393,22 +499,28 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   private BooleanFormula constructForwardInterpolant(
       DualReachabilitySequence pDualSequence, PartitionedFormulas pPartitionedFormulas, int pIndex)
       throws CPAException, InterruptedException {
+    return toForwardInterpolant(
+        interpolate(getForwardInterpolationQuery(pDualSequence, pPartitionedFormulas, pIndex)),
+        pPartitionedFormulas);
+  }
+
+  private ImmutableList<BooleanFormula> getForwardInterpolationQuery(
+      DualReachabilitySequence pDualSequence,
+      PartitionedFormulas pPartitionedFormulas,
+      int pIndex) {
     final int lastIndexOfSequences = pDualSequence.getSize() - 1;
     BooleanFormula transitionFormula = pPartitionedFormulas.getLoopFormulas().getFirst();
     BooleanFormula forwardFormula = pDualSequence.getForwardImageAt(pIndex);
     BooleanFormula backwardFormula =
         pDualSequence.getBackwardImageAt(lastIndexOfSequences - pIndex);
+    return ImmutableList.of(bfmgr.and(forwardFormula, transitionFormula), backwardFormula);
+  }
 
-    Optional<ImmutableList<BooleanFormula>> interpolants =
-        itpMgr.interpolate(
-            ImmutableList.of(bfmgr.and(forwardFormula, transitionFormula), backwardFormula));
-    BooleanFormula interpolant = interpolants.orElseThrow().getFirst();
-    interpolant =
-        fmgr.instantiate(fmgr.uninstantiate(interpolant), pPartitionedFormulas.getPrefixSsaMap());
-    stats.numOfInterpolationCalls += 1;
-    stats.numOfInterpolants += 1;
-    stats.numOfDARLocalInterpolants += 1;
-    InterpolationHelper.recordInterpolantStats(fmgr, interpolant, stats);
+  private BooleanFormula toForwardInterpolant(
+      BooleanFormula pInterpolant, PartitionedFormulas pPartitionedFormulas) {
+    BooleanFormula interpolant =
+        fmgr.instantiate(fmgr.uninstantiate(pInterpolant), pPartitionedFormulas.getPrefixSsaMap());
+    recordLocalInterpolant(interpolant);
     return interpolant;
   }
 
@@ -420,22 +532,46 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   private BooleanFormula constructBackwardInterpolant(
       DualReachabilitySequence pDualSequence, PartitionedFormulas pPartitionedFormulas, int pIndex)
       throws CPAException, InterruptedException {
+    return toBackwardInterpolant(
+        interpolate(getBackwardInterpolationQuery(pDualSequence, pPartitionedFormulas, pIndex)),
+        pPartitionedFormulas);
+  }
+
+  private ImmutableList<BooleanFormula> getBackwardInterpolationQuery(
+      DualReachabilitySequence pDualSequence,
+      PartitionedFormulas pPartitionedFormulas,
+      int pIndex) {
     final int lastIndexOfSequences = pDualSequence.getSize() - 1;
     BooleanFormula transitionFormula = pPartitionedFormulas.getLoopFormulas().getFirst();
     BooleanFormula forwardFormula = pDualSequence.getForwardImageAt(lastIndexOfSequences - pIndex);
     BooleanFormula backwardFormula = pDualSequence.getBackwardImageAt(pIndex);
+    return ImmutableList.of(bfmgr.and(backwardFormula, transitionFormula), forwardFormula);
+  }
+
+  private BooleanFormula toBackwardInterpolant(
+      BooleanFormula pInterpolant, PartitionedFormulas pPartitionedFormulas) {
     SSAMap backwardSsa = pPartitionedFormulas.getLoopFormulaSsaMaps().getFirst();
+    BooleanFormula interpolant = fmgr.instantiate(fmgr.uninstantiate(pInterpolant), backwardSsa);
+    recordLocalInterpolant(interpolant);
+    return interpolant;
+  }
 
-    Optional<ImmutableList<BooleanFormula>> interpolants =
-        itpMgr.interpolate(
-            ImmutableList.of(bfmgr.and(backwardFormula, transitionFormula), forwardFormula));
-    BooleanFormula interpolant = interpolants.orElseThrow().getFirst();
-    interpolant = fmgr.instantiate(fmgr.uninstantiate(interpolant), backwardSsa);
+  /** Compute the first interpolant of the given two formulas with the main solver. */
+  private BooleanFormula interpolate(ImmutableList<BooleanFormula> pFormulas)
+      throws CPAException, InterruptedException {
+    stats.interpolantComputation.start();
+    try {
+      return itpMgr.interpolate(pFormulas).orElseThrow().getFirst();
+    } finally {
+      stats.interpolantComputation.stop();
+    }
+  }
+
+  private void recordLocalInterpolant(BooleanFormula pInterpolant) {
     stats.numOfInterpolationCalls += 1;
     stats.numOfInterpolants += 1;
     stats.numOfDARLocalInterpolants += 1;
-    InterpolationHelper.recordInterpolantStats(fmgr, interpolant, stats);
-    return interpolant;
+    InterpolationHelper.recordInterpolantStats(fmgr, pInterpolant, stats);
   }
 
   /**
@@ -474,9 +610,28 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
    */
   private int findIndexOfUnsatisfiableLocalCheck(
       DualReachabilitySequence pDualSequence, PartitionedFormulas pPartitionedFormulas)
-      throws SolverException, InterruptedException {
+      throws CPAException, SolverException, InterruptedException {
     BooleanFormula transitionFormula = pPartitionedFormulas.getLoopFormulas().getFirst();
     final int sequenceSize = pDualSequence.getSize();
+    if (parallelWorkers != null) {
+      // all local checks are independent, run them at once and pick the largest index
+      List<BooleanFormula> localQueries = new ArrayList<>(sequenceSize);
+      for (int i = 0; i < sequenceSize; i++) {
+        localQueries.add(
+            bfmgr.and(
+                pDualSequence.getForwardImageAt(i),
+                transitionFormula,
+                pDualSequence.getBackwardImageAt(sequenceSize - i - 1)));
+      }
+      final ImmutableList<Boolean> isUnsat;
+      stats.assertionsCheck.start();
+      try {
+        isUnsat = parallelWorkers.isUnsat(localQueries);
+      } finally {
+        stats.assertionsCheck.stop();
+      }
+      return isUnsat.lastIndexOf(true);
+    }
     for (int i = sequenceSize - 1; i >= 0; i--) {
       stats.assertionsCheck.start();
       final boolean isNotReachableWithOneTransition;
@@ -632,7 +787,13 @@ public class DARAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
             .addAll(pFormulas.getLoopFormulas().subList(1, pIndexOfGlobalUnsat))
             .add(backwardFormula)
             .build();
-    ImmutableList<BooleanFormula> itpSequence = itpMgr.interpolate(formulasToPush).orElseThrow();
+    ImmutableList<BooleanFormula> itpSequence;
+    stats.interpolantComputation.start();
+    try {
+      itpSequence = itpMgr.interpolate(formulasToPush).orElseThrow();
+    } finally {
+      stats.interpolantComputation.stop();
+    }
     stats.numOfInterpolationCalls += 1;
     stats.numOfInterpolants += itpSequence.size();
     InterpolationHelper.recordInterpolantStats(fmgr, itpSequence, stats);
@@ -43,6 +43,7 @@ import org.sosy_lab.cpachecker.exceptions.CPATransferException;
 import org.sosy_lab.cpachecker.exceptions.RefinementFailedException;
 import org.sosy_lab.cpachecker.util.AbstractStates;
 import org.sosy_lab.cpachecker.util.CPAs;
+import org.sosy_lab.cpachecker.util.Pair;
 import org.sosy_lab.cpachecker.util.predicates.interpolation.InterpolationManager;
 import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
 import org.sosy_lab.cpachecker.util.predicates.smt.BooleanFormulaManagerView;
@@ -444,6 +445,14 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
               + " assertion (target) formulas")
   private boolean backwardAnalysis = false;
 
+  @Option(
+      secure = true,
+      description =
+          "number of additional solver contexts for running the fixed-point checks of ISMC"
+              + " concurrently (0 disables parallel solving)")
+  @IntegerOption(min = 0)
+  private int parallelSolverContexts = 0;
+
   private final ConfigurableProgramAnalysis cpa;
 
   private final Algorithm algorithm;
@@ -455,6 +464,10 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   private final PredicateAbstractionManager predAbsMgr;
   private final InterpolationManager itpMgr;
   private final CFA cfa;
+  private final Configuration config;
+
+  /** Only present during {@link #run(ReachedSet)} if parallel solving is enabled. */
+  private @Nullable ParallelSolverWorkers parallelWorkers = null;
 
   /**
    * A Boolean variable to track whether the initial-state (prefix) formula approximated by
@@ -492,6 +505,7 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
 
     cpa = pCPA;
     cfa = pCFA;
+    config = pConfig;
     algorithm = pAlgorithm;
 
     @SuppressWarnings("resource")
@@ -541,11 +555,22 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   public AlgorithmStatus run(final ReachedSet pReachedSet)
       throws CPAException, InterruptedException {
     try {
+      if (parallelSolverContexts > 0 && fixedPointComputeStrategy.isISMCEnabled()) {
+        parallelWorkers =
+            new ParallelSolverWorkers(
+                parallelSolverContexts, fmgr, pfmgr, config, logger, shutdownNotifier, stats);
+      }
       return interpolationModelChecking(pReachedSet);
     } catch (SolverException e) {
       throw new CPAException("Solver Failure " + e.getMessage(), e);
+    } catch (InvalidConfigurationException e) {
+      throw new CPAException("Cannot create solver contexts for parallel solving", e);
     } finally {
       invariantGenerator.cancel();
+      if (parallelWorkers != null) {
+        parallelWorkers.close();
+        parallelWorkers = null;
+      }
     }
   }
 
@@ -836,7 +861,7 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
             bfmgr.and(loops.subList(1, formulas.getNumLoops())), formulas.getAssertionFormula());
 
     Optional<ImmutableList<BooleanFormula>> interpolants =
-        itpMgr.interpolate(ImmutableList.of(prefixFormula, loops.getFirst(), suffixFormula));
+        interpolate(ImmutableList.of(prefixFormula, loops.getFirst(), suffixFormula));
     assert interpolants.isPresent();
     final int initialIMCIter = stats.numOfInterpolationCalls;
     while (interpolants.isPresent()) {
@@ -862,15 +887,21 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
       logger.log(Level.ALL, "The interpolant is", interpolant);
       interpolant = fmgr.instantiate(fmgr.uninstantiate(interpolant), formulas.getPrefixSsaMap());
       logger.log(Level.ALL, "After changing SSA", interpolant);
-      if (solver.implies(interpolant, bfmgr.or(prefixFormula, accumImage))) {
+      final boolean isFixedPoint;
+      stats.fixedPointCheck.start();
+      try {
+        isFixedPoint = solver.implies(interpolant, bfmgr.or(prefixFormula, accumImage));
+      } finally {
+        stats.fixedPointCheck.stop();
+      }
+      if (isFixedPoint) {
         logger.log(Level.INFO, "The current image reaches a fixed point");
         stats.fixedPointConvergenceLength = stats.numOfInterpolationCalls - initialIMCIter;
         finalFixedPoint = bfmgr.or(reachVector.getFirst(), fmgr.uninstantiate(accumImage));
         return true;
       }
       accumImage = bfmgr.or(accumImage, interpolant);
-      interpolants =
-          itpMgr.interpolate(ImmutableList.of(interpolant, loops.getFirst(), suffixFormula));
+      interpolants = interpolate(ImmutableList.of(interpolant, loops.getFirst(), suffixFormula));
     }
     logger.log(
         Level.FINE,
@@ -914,7 +945,7 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
             .addAll(pFormulas.getLoopFormulas().subList(0, pFormulas.getNumLoops()))
             .add(pFormulas.getAssertionFormula())
             .build();
-    ImmutableList<BooleanFormula> itpSequence = itpMgr.interpolate(formulasToPush).orElseThrow();
+    ImmutableList<BooleanFormula> itpSequence = interpolate(formulasToPush).orElseThrow();
     logger.log(Level.ALL, "Interpolation sequence:", itpSequence);
     stats.numOfInterpolationCalls += 1;
     stats.numOfInterpolants += itpSequence.size();
@@ -922,6 +953,16 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
     return itpSequence;
   }
 
+  private Optional<ImmutableList<BooleanFormula>> interpolate(List<BooleanFormula> pFormulas)
+      throws CPAException, InterruptedException {
+    stats.interpolantComputation.start();
+    try {
+      return itpMgr.interpolate(pFormulas);
+    } finally {
+      stats.interpolantComputation.stop();
+    }
+  }
+
   /**
    * A method to collectFormulasFromARG the reachability vector with newly derived interpolants
    *
@@ -955,9 +996,22 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
    * @throws InterruptedException On shutdown request.
    */
   private boolean checkFixedPointOfReachabilityVector(List<BooleanFormula> reachVector)
-      throws InterruptedException, SolverException {
+      throws CPAException, InterruptedException, SolverException {
     logger.log(Level.FINE, "Checking fixed point of the reachability vector");
 
+    stats.fixedPointCheck.start();
+    try {
+      if (parallelWorkers != null) {
+        return checkFixedPointOfReachabilityVectorInParallel(reachVector);
+      }
+      return checkFixedPointOfReachabilityVectorSequentially(reachVector);
+    } finally {
+      stats.fixedPointCheck.stop();
+    }
+  }
+
+  private boolean checkFixedPointOfReachabilityVectorSequentially(List<BooleanFormula> reachVector)
+      throws InterruptedException, SolverException {
     if (impactLikeCovering) {
       BooleanFormula lastImage = reachVector.getLast();
       for (int i = 0; i < reachVector.size() - 1; ++i) {
@@ -984,6 +1038,45 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
     return false;
   }
 
+  /**
+   * Same check as {@link #checkFixedPointOfReachabilityVectorSequentially}, but the implication
+   * checks for all positions of the reachability vector are independent of each other and thus run
+   * concurrently. If several positions are fixed points, the first one is reported, just as in the
+   * sequential check.
+   */
+  private boolean checkFixedPointOfReachabilityVectorInParallel(List<BooleanFormula> reachVector)
+      throws CPAException, InterruptedException, SolverException {
+    List<Pair<BooleanFormula, BooleanFormula>> implications = new ArrayList<>();
+    List<BooleanFormula> currentImages = new ArrayList<>();
+    if (impactLikeCovering) {
+      BooleanFormula lastImage = reachVector.getLast();
+      for (int i = 0; i < reachVector.size() - 1; ++i) {
+        implications.add(Pair.of(lastImage, reachVector.get(i)));
+      }
+    } else {
+      BooleanFormula currentImage = reachVector.get(1);
+      for (int i = 2; i < reachVector.size(); ++i) {
+        BooleanFormula imageAtI = reachVector.get(i);
+        implications.add(Pair.of(imageAtI, currentImage));
+        currentImages.add(currentImage);
+        currentImage = bfmgr.or(currentImage, imageAtI);
+      }
+    }
+
+    final int fixedPointIdx = parallelWorkers.implies(implications).indexOf(true);
+    if (fixedPointIdx < 0) {
+      return false;
+    }
+    logger.log(Level.INFO, "Fixed point reached");
+    if (impactLikeCovering) {
+      finalFixedPoint = bfmgr.or(reachVector);
+    } else {
+      finalFixedPoint = bfmgr.or(currentImages.get(fixedPointIdx), reachVector.getFirst());
+      stats.fixedPointConvergenceLength = reachVector.size();
+    }
+    return true;
+  }
+
   @Override
   public void collectStatistics(Collection<Statistics> pStatsCollection) {
     super.collectStatistics(pStatsCollection);
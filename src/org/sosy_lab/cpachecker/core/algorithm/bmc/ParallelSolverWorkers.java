@@ -0,0 +1,305 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm.bmc;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.MoreExecutors.listeningDecorator;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.common.time.TimeSpan;
+import org.sosy_lab.common.time.Timer;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.Pair;
+import org.sosy_lab.cpachecker.util.predicates.interpolation.InterpolationManager;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
+import org.sosy_lab.cpachecker.util.predicates.smt.FormulaManagerView;
+import org.sosy_lab.cpachecker.util.predicates.smt.Solver;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.SolverException;
+
+/**
+ * A set of separate solver contexts that allows {@link IMCAlgorithm} and {@link DARAlgorithm} to
+ * run independent satisfiability checks and interpolation queries concurrently, e.g., the
+ * fixed-point checks at different positions of a reachability sequence.
+ *
+ * <p>Each worker owns its own {@link Solver} and {@link InterpolationManager}. The queries of a
+ * batch are distributed among the workers such that no solver context is ever used by more than one
+ * thread at a time. Formulas are translated into the context of a worker before a batch is started
+ * and results are translated back after all queries of the batch have finished. Both translations
+ * are done by the calling thread, because the formula manager of the main solver must not be
+ * accessed concurrently.
+ */
+final class ParallelSolverWorkers implements AutoCloseable {
+
+  @FunctionalInterface
+  private interface Query<T> {
+    T runOn(Worker pWorker) throws CPAException, SolverException, InterruptedException;
+  }
+
+  private static final class Worker {
+    private final Solver solver;
+    private final FormulaManagerView fmgr;
+    private final InterpolationManager itpMgr;
+
+    /** Only accessed by the thread that currently executes the queries of this worker. */
+    private final Timer busyTime = new Timer();
+
+    private Worker(Solver pSolver, InterpolationManager pItpMgr) {
+      solver = pSolver;
+      fmgr = pSolver.getFormulaManager();
+      itpMgr = pItpMgr;
+    }
+  }
+
+  private final FormulaManagerView mainFmgr;
+  private final BMCStatistics stats;
+  private final LogManager logger;
+
+  private final ImmutableList<Worker> workers;
+  private final ListeningExecutorService executor;
+
+  /**
+   * Create the given number of workers, each with a fresh solver context that is configured like
+   * the main solver.
+   *
+   * @param pPfmgr only passed to the interpolation managers of the workers, which never perform
+   *     counterexample analysis and thus never use it for creating formulas
+   */
+  ParallelSolverWorkers(
+      int pNumberOfWorkers,
+      FormulaManagerView pMainFmgr,
+      PathFormulaManager pPfmgr,
+      Configuration pConfig,
+      LogManager pLogger,
+      ShutdownNotifier pShutdownNotifier,
+      BMCStatistics pStats)
+      throws InvalidConfigurationException {
+    checkArgument(pNumberOfWorkers > 0, "number of solver workers must be positive");
+    mainFmgr = pMainFmgr;
+    stats = pStats;
+    logger = pLogger;
+
+    ImmutableList.Builder<Worker> workerBuilder = ImmutableList.builder();
+    try {
+      for (int i = 0; i < pNumberOfWorkers; i++) {
+        Solver solver = Solver.create(pConfig, pLogger, pShutdownNotifier);
+        try {
+          workerBuilder.add(
+              new Worker(
+                  solver,
+                  new InterpolationManager(
+                      pPfmgr,
+                      solver,
+                      Optional.empty(),
+                      Optional.empty(),
+                      pConfig,
+                      pShutdownNotifier,
+                      pLogger,
+                      /* pEnableCounterexampleAnalysis= */ false)));
+        } catch (InvalidConfigurationException e) {
+          solver.close();
+          throw e;
+        }
+      }
+    } catch (InvalidConfigurationException e) {
+      workerBuilder.build().forEach(w -> w.solver.close());
+      throw e;
+    }
+    workers = workerBuilder.build();
+    executor =
+        listeningDecorator(
+            newFixedThreadPool(
+                workers.size(),
+                Thread.ofPlatform()
+                    .daemon()
+                    .name(getClass().getSimpleName() + "-thread-", 0)
+                    .factory()));
+  }
+
+  /**
+   * Check the given formulas for unsatisfiability.
+   *
+   * @return the results in the same order as the input formulas
+   */
+  ImmutableList<Boolean> isUnsat(List<BooleanFormula> pFormulas)
+      throws CPAException, SolverException, InterruptedException {
+    List<Query<Boolean>> queries = new ArrayList<>(pFormulas.size());
+    for (int i = 0; i < pFormulas.size(); i++) {
+      Worker worker = workerFor(i);
+      BooleanFormula f = worker.fmgr.translateFrom(pFormulas.get(i), mainFmgr);
+      queries.add(w -> w.solver.isUnsat(f));
+    }
+    return runBatch(queries);
+  }
+
+  /**
+   * Check for each pair (a, b) whether a implies b.
+   *
+   * @return the results in the same order as the input pairs
+   */
+  ImmutableList<Boolean> implies(List<Pair<BooleanFormula, BooleanFormula>> pImplications)
+      throws CPAException, SolverException, InterruptedException {
+    List<Query<Boolean>> queries = new ArrayList<>(pImplications.size());
+    for (int i = 0; i < pImplications.size(); i++) {
+      Worker worker = workerFor(i);
+      BooleanFormula a = worker.fmgr.translateFrom(pImplications.get(i).getFirst(), mainFmgr);
+      BooleanFormula b = worker.fmgr.translateFrom(pImplications.get(i).getSecond(), mainFmgr);
+      queries.add(w -> w.solver.implies(a, b));
+    }
+    return runBatch(queries);
+  }
+
+  /**
+   * Compute interpolation sequences for several independent lists of formulas, cf. {@link
+   * InterpolationManager#interpolate(List)}.
+   *
+   * @return for each input list either the interpolation sequence (translated back into the main
+   *     solver context), or an empty optional if the conjunction of the formulas is satisfiable
+   */
+  ImmutableList<Optional<ImmutableList<BooleanFormula>>> interpolate(
+      List<? extends List<BooleanFormula>> pFormulaLists)
+      throws CPAException, SolverException, InterruptedException {
+    List<Query<Optional<ImmutableList<BooleanFormula>>>> queries =
+        new ArrayList<>(pFormulaLists.size());
+    for (int i = 0; i < pFormulaLists.size(); i++) {
+      Worker worker = workerFor(i);
+      ImmutableList.Builder<BooleanFormula> translated = ImmutableList.builder();
+      for (BooleanFormula f : pFormulaLists.get(i)) {
+        translated.add(worker.fmgr.translateFrom(f, mainFmgr));
+      }
+      ImmutableList<BooleanFormula> formulas = translated.build();
+      queries.add(w -> w.itpMgr.interpolate(formulas));
+    }
+
+    ImmutableList<Optional<ImmutableList<BooleanFormula>>> results = runBatch(queries);
+
+    ImmutableList.Builder<Optional<ImmutableList<BooleanFormula>>> translatedResults =
+        ImmutableList.builderWithExpectedSize(results.size());
+    for (int i = 0; i < results.size(); i++) {
+      Worker worker = workerFor(i);
+      Optional<ImmutableList<BooleanFormula>> itps = results.get(i);
+      if (itps.isPresent()) {
+        ImmutableList.Builder<BooleanFormula> translated = ImmutableList.builder();
+        for (BooleanFormula itp : itps.orElseThrow()) {
+          translated.add(mainFmgr.translateFrom(itp, worker.fmgr));
+        }
+        translatedResults.add(Optional.of(translated.build()));
+      } else {
+        translatedResults.add(Optional.empty());
+      }
+    }
+    return translatedResults.build();
+  }
+
+  /** The i-th query of every batch is always executed by this worker. */
+  private Worker workerFor(int i) {
+    return workers.get(i % workers.size());
+  }
+
+  /**
+   * Execute all queries and wait until all of them have finished, even if one of them fails. This
+   * guarantees that no worker is still busy once this method returns.
+   */
+  private <T> ImmutableList<T> runBatch(List<Query<T>> pQueries)
+      throws CPAException, SolverException, InterruptedException {
+    stats.parallelSolverBatches.start();
+    try {
+      final int numberOfActiveWorkers = Math.min(workers.size(), pQueries.size());
+      List<ListenableFuture<List<T>>> futures = new ArrayList<>(numberOfActiveWorkers);
+      for (int w = 0; w < numberOfActiveWorkers; w++) {
+        final Worker worker = workers.get(w);
+        final List<Query<T>> assignedQueries = new ArrayList<>();
+        for (int i = w; i < pQueries.size(); i += workers.size()) {
+          assignedQueries.add(pQueries.get(i));
+        }
+        futures.add(
+            executor.submit(
+                () -> {
+                  worker.busyTime.start();
+                  try {
+                    List<T> results = new ArrayList<>(assignedQueries.size());
+                    for (Query<T> query : assignedQueries) {
+                      results.add(query.runOn(worker));
+                    }
+                    return results;
+                  } finally {
+                    worker.busyTime.stop();
+                  }
+                }));
+      }
+
+      List<List<T>> resultsPerWorker = new ArrayList<>(numberOfActiveWorkers);
+      Throwable failure = null;
+      for (ListenableFuture<List<T>> future : futures) {
+        try {
+          resultsPerWorker.add(Uninterruptibles.getUninterruptibly(future));
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause();
+          } else {
+            failure.addSuppressed(e.getCause());
+          }
+          resultsPerWorker.add(null);
+        }
+      }
+      if (failure != null) {
+        Throwables.throwIfInstanceOf(failure, CPAException.class);
+        Throwables.throwIfInstanceOf(failure, SolverException.class);
+        Throwables.throwIfInstanceOf(failure, InterruptedException.class);
+        Throwables.throwIfUnchecked(failure);
+        throw new UnexpectedCheckedException("parallel solver query", failure);
+      }
+
+      // all futures are done, so the timers of the workers can be read safely
+      TimeSpan busyTime = stats.parallelSolverBusyTime;
+      for (int w = 0; w < numberOfActiveWorkers; w++) {
+        busyTime = TimeSpan.sum(busyTime, workers.get(w).busyTime.getLengthOfLastInterval());
+      }
+      stats.parallelSolverBusyTime = busyTime;
+      stats.numOfParallelSolverQueries += pQueries.size();
+
+      ImmutableList.Builder<T> results = ImmutableList.builderWithExpectedSize(pQueries.size());
+      for (int i = 0; i < pQueries.size(); i++) {
+        results.add(resultsPerWorker.get(i % workers.size()).get(i / workers.size()));
+      }
+      return results.build();
+    } finally {
+      stats.parallelSolverBatches.stop();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    if (!Uninterruptibles.awaitTerminationUninterruptibly(executor, 8, TimeUnit.SECONDS)) {
+      // Closing a solver context that is still in use could crash the JVM.
+      logger.log(Level.WARNING, "Solver workers did not terminate, not closing their contexts.");
+      return;
+    }
+    for (Worker worker : workers) {
+      worker.solver.close();
+    }
+  }
+}
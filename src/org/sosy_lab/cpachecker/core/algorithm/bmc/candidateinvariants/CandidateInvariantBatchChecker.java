@@ -0,0 +1,203 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Statistics;
+import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
+import org.sosy_lab.cpachecker.exceptions.CPATransferException;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
+import org.sosy_lab.cpachecker.util.predicates.smt.BooleanFormulaManagerView;
+import org.sosy_lab.cpachecker.util.predicates.smt.FormulaManagerView;
+import org.sosy_lab.cpachecker.util.statistics.StatCounter;
+import org.sosy_lab.cpachecker.util.statistics.StatTimer;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
+import org.sosy_lab.java_smt.api.BasicProverEnvironment;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.Model;
+import org.sosy_lab.java_smt.api.SolverException;
+
+/**
+ * Checks many candidate invariants over the same reached set with a small number of solver queries,
+ * in the style of the Houdini algorithm.
+ *
+ * <p>Each candidate gets a fresh boolean selector variable, and the disjunction of all violations
+ * guarded by their selectors is asserted once. Every satisfying assignment found by the solver
+ * refutes at least one candidate; the refuted candidates are read off the model and disabled by
+ * asserting the negation of their selectors on top of the solver stack. This is repeated until the
+ * query becomes unsatisfiable, at which point all remaining candidates hold. Compared to checking
+ * each candidate separately, the number of queries only depends on the number of rounds in which
+ * candidates are refuted, and the solver can reuse what it learned between the rounds.
+ *
+ * <p>The selector variables are named after the position of their candidate in the batch, such that
+ * later batches reuse the variables of earlier ones instead of declaring new ones in the solver.
+ */
+public final class CandidateInvariantBatchChecker implements Statistics {
+
+  private static final String SELECTOR_PREFIX = "__candidate_selector_";
+
+  private record Entry<T>(T candidate, BooleanFormula selector, BooleanFormula violation) {}
+
+  private final FormulaManagerView fmgr;
+  private final BooleanFormulaManagerView bfmgr;
+  private final PathFormulaManager pfmgr;
+  private final LogManager logger;
+  private final ShutdownNotifier shutdownNotifier;
+  private final boolean simplifyViolations;
+
+  private final StatTimer checkTime = new StatTimer("Time for batched candidate checks");
+  private final StatCounter numberOfBatches = new StatCounter("Number of candidate batches");
+  private final StatCounter numberOfQueries = new StatCounter("Number of solver queries");
+  private final StatCounter numberOfCandidates = new StatCounter("Number of checked candidates");
+  private final StatCounter numberOfRefutedCandidates =
+      new StatCounter("Number of refuted candidates");
+
+  public CandidateInvariantBatchChecker(
+      FormulaManagerView pFmgr,
+      PathFormulaManager pPfmgr,
+      LogManager pLogger,
+      ShutdownNotifier pShutdownNotifier,
+      boolean pSimplifyViolations) {
+    fmgr = pFmgr;
+    bfmgr = pFmgr.getBooleanFormulaManager();
+    pfmgr = pPfmgr;
+    logger = pLogger;
+    shutdownNotifier = pShutdownNotifier;
+    simplifyViolations = pSimplifyViolations;
+  }
+
+  /**
+   * Determine which of the given candidate invariants are violated in the given reached set.
+   *
+   * <p>The given prover must have been created with model generation enabled. Its stack is left
+   * unchanged by this method.
+   *
+   * @param pReachedSet the reached set to assert the candidates over.
+   * @param pProver the prover to use for the check.
+   * @param pCandidates the candidates to check.
+   * @return the violated candidates. All other given candidates hold in the given reached set.
+   * @throws CPATransferException if a CPA transfer required to produce an assertion failed.
+   * @throws InterruptedException if the check was interrupted.
+   * @throws SolverException if the solver failed.
+   */
+  public <T extends CandidateInvariant> ImmutableSet<T> findViolatedCandidates(
+      Iterable<AbstractState> pReachedSet,
+      BasicProverEnvironment<?> pProver,
+      Collection<T> pCandidates)
+      throws CPATransferException, InterruptedException, SolverException {
+    checkTime.start();
+    try {
+      numberOfBatches.inc();
+      numberOfCandidates.add(pCandidates.size());
+
+      List<Entry<T>> entries = new ArrayList<>(pCandidates.size());
+      for (T candidate : pCandidates) {
+        BooleanFormula assertion = candidate.getAssertion(pReachedSet, fmgr, pfmgr);
+        if (!bfmgr.isTrue(assertion)) {
+          BooleanFormula violation = bfmgr.not(assertion);
+          if (simplifyViolations) {
+            violation = fmgr.simplifyBooleanFormula(violation);
+          }
+          entries.add(
+              new Entry<>(
+                  candidate, bfmgr.makeVariable(SELECTOR_PREFIX + entries.size()), violation));
+        }
+      }
+      if (entries.isEmpty()) {
+        return ImmutableSet.of();
+      }
+
+      Set<T> violated = new LinkedHashSet<>();
+      int pushes = 0;
+      try {
+        pProver.push(
+            bfmgr.or(entries.stream().map(e -> bfmgr.and(e.selector(), e.violation())).toList()));
+        pushes++;
+
+        while (violated.size() < entries.size()) {
+          shutdownNotifier.shutdownIfNecessary();
+          numberOfQueries.inc();
+          if (pProver.isUnsat()) {
+            break;
+          }
+
+          List<Entry<T>> refuted = new ArrayList<>();
+          try (Model model = pProver.getModel()) {
+            for (Entry<T> entry : entries) {
+              if (!violated.contains(entry.candidate())
+                  && Boolean.TRUE.equals(model.evaluate(entry.violation()))) {
+                refuted.add(entry);
+              }
+            }
+          }
+
+          if (refuted.isEmpty()) {
+            // Should not happen, because the model satisfies at least one enabled violation.
+            // Dropping candidates is always sound, so give up on the remaining ones.
+            logger.log(
+                Level.WARNING,
+                "Could not identify refuted candidate invariants from model,"
+                    + " dropping all remaining candidates of the batch.");
+            entries.forEach(e -> violated.add(e.candidate()));
+            break;
+          }
+
+          for (Entry<T> entry : refuted) {
+            violated.add(entry.candidate());
+          }
+          pProver.push(bfmgr.and(refuted.stream().map(e -> bfmgr.not(e.selector())).toList()));
+          pushes++;
+        }
+      } finally {
+        for (int i = 0; i < pushes; i++) {
+          pProver.pop();
+        }
+      }
+
+      numberOfRefutedCandidates.add(violated.size());
+      return ImmutableSet.copyOf(violated);
+    } finally {
+      checkTime.stop();
+    }
+  }
+
+  @Override
+  public void printStatistics(PrintStream pOut, Result pResult, UnmodifiableReachedSet pReached) {
+    if (checkTime.getUpdateCount() == 0) {
+      return;
+    }
+    double seconds = checkTime.getConsumedTime().asMillis() / 1000.0;
+    StatisticsWriter.writingStatisticsTo(pOut)
+        .put(checkTime)
+        .put(numberOfBatches)
+        .put(numberOfQueries)
+        .put(numberOfCandidates)
+        .put(numberOfRefutedCandidates)
+        .putIf(
+            seconds > 0,
+            "Checked candidates per second",
+            String.format("%.1f", numberOfCandidates.getValue() / seconds));
+  }
+
+  @Override
+  public String getName() {
+    return "Batched candidate-invariant checks";
+  }
+}
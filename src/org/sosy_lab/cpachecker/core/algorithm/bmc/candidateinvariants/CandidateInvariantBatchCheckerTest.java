@@ -0,0 +1,156 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormula;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
+import org.sosy_lab.cpachecker.util.predicates.smt.FormulaManagerView;
+import org.sosy_lab.cpachecker.util.predicates.smt.SolverViewBasedTest0;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.NumeralFormula.IntegerFormula;
+import org.sosy_lab.java_smt.api.ProverEnvironment;
+import org.sosy_lab.java_smt.api.SolverContext.ProverOptions;
+
+public class CandidateInvariantBatchCheckerTest extends SolverViewBasedTest0 {
+
+  /** A candidate that asserts a fixed formula, independently of the reached set. */
+  private record FormulaCandidate(String name, BooleanFormula formula)
+      implements CandidateInvariant {
+
+    @Override
+    public BooleanFormula getFormula(
+        FormulaManagerView pFMGR, PathFormulaManager pPFMGR, @Nullable PathFormula pContext) {
+      return formula;
+    }
+
+    @Override
+    public BooleanFormula getAssertion(
+        Iterable<AbstractState> pReachedSet, FormulaManagerView pFMGR, PathFormulaManager pPFMGR) {
+      return formula;
+    }
+
+    @Override
+    public void assumeTruth(ReachedSet pReachedSet) {}
+
+    @Override
+    public boolean appliesTo(CFANode pLocation) {
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private CandidateInvariantBatchChecker batchChecker;
+  private IntegerFormula x;
+
+  @Before
+  public void setUp() {
+    requireIntegers();
+    batchChecker =
+        new CandidateInvariantBatchChecker(
+            mgrv, mock(PathFormulaManager.class), logger, ShutdownNotifier.createDummy(), false);
+    x = imgrv.makeVariable("x");
+  }
+
+  private FormulaCandidate atLeast(int pValue) {
+    return new FormulaCandidate(
+        "x >= " + pValue, imgrv.greaterOrEquals(x, imgrv.makeNumber(pValue)));
+  }
+
+  private FormulaCandidate atMost(int pValue) {
+    return new FormulaCandidate("x <= " + pValue, imgrv.lessOrEquals(x, imgrv.makeNumber(pValue)));
+  }
+
+  private FormulaCandidate notEqual(int pValue) {
+    return new FormulaCandidate(
+        "x != " + pValue, bmgrv.not(imgrv.equal(x, imgrv.makeNumber(pValue))));
+  }
+
+  @Test
+  public void testViolatedCandidatesAreRemoved() throws Exception {
+    FormulaCandidate lowerBound = atLeast(0);
+    FormulaCandidate upperBound = atMost(10);
+    FormulaCandidate weakUpperBound = atMost(20);
+    FormulaCandidate tooStrongLowerBound = atLeast(5);
+    FormulaCandidate tooStrongUpperBound = atMost(9);
+    FormulaCandidate excludedValue = notEqual(3);
+    FormulaCandidate trivial = new FormulaCandidate("true", bmgrv.makeTrue());
+
+    try (ProverEnvironment prover = context.newProverEnvironment(ProverOptions.GENERATE_MODELS)) {
+      // the "program": 0 <= x <= 10
+      prover.push(bmgrv.and(lowerBound.formula(), upperBound.formula()));
+
+      // each of the violated candidates can be refuted in a different round
+      assertThat(
+              batchChecker.findViolatedCandidates(
+                  ImmutableList.of(),
+                  prover,
+                  ImmutableList.of(
+                      tooStrongLowerBound,
+                      lowerBound,
+                      excludedValue,
+                      upperBound,
+                      trivial,
+                      tooStrongUpperBound,
+                      weakUpperBound)))
+          .containsExactly(tooStrongLowerBound, excludedValue, tooStrongUpperBound);
+
+      // the stack of the prover is unchanged
+      assertThat(prover.isUnsat()).isFalse();
+      prover.push(bmgrv.not(upperBound.formula()));
+      assertThat(prover.isUnsat()).isTrue();
+    }
+  }
+
+  @Test
+  public void testAllCandidatesHold() throws Exception {
+    try (ProverEnvironment prover = context.newProverEnvironment(ProverOptions.GENERATE_MODELS)) {
+      prover.push(imgrv.equal(x, imgrv.makeNumber(7)));
+
+      assertThat(
+              batchChecker.findViolatedCandidates(
+                  ImmutableList.of(), prover, ImmutableList.of(atLeast(0), atMost(7), notEqual(3))))
+          .isEmpty();
+    }
+  }
+
+  @Test
+  public void testSelectorsOfEarlierBatchesDoNotInterfere() throws Exception {
+    try (ProverEnvironment prover = context.newProverEnvironment(ProverOptions.GENERATE_MODELS)) {
+      prover.push(bmgrv.and(atLeast(0).formula(), atMost(10).formula()));
+
+      FormulaCandidate firstViolated = atLeast(1);
+      assertThat(
+              batchChecker.findViolatedCandidates(
+                  ImmutableList.of(), prover, ImmutableList.of(firstViolated, atMost(10))))
+          .containsExactly(firstViolated);
+
+      // the second batch uses the same selector variables for other candidates
+      FormulaCandidate secondViolated = atMost(5);
+      assertThat(
+              batchChecker.findViolatedCandidates(
+                  ImmutableList.of(), prover, ImmutableList.of(atLeast(0), secondViolated)))
+          .containsExactly(secondViolated);
+    }
+  }
+}
@@ -10,17 +10,24 @@ package org.sosy_lab.cpachecker.core.defaults;
 
 import java.util.Collection;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
+import org.sosy_lab.cpachecker.core.interfaces.IndexableStopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
 
 /** Stop operator, which returns whether an identical abstract state was already found. */
-public class StopEqualsOperator implements StopOperator {
+public class StopEqualsOperator implements IndexableStopOperator {
 
   @Override
   public boolean stop(AbstractState state, Collection<AbstractState> reached, Precision precision) {
     return reached.contains(state);
   }
 
+  @Override
+  public CoverageSignature getCoverageSignature(AbstractState pState) {
+    return CoverageSignature.ofKey(pState);
+  }
+
   private static final StopOperator instance = new StopEqualsOperator();
 
   public static StopOperator getInstance() {
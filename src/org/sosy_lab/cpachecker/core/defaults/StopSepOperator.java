@@ -9,20 +9,34 @@
 package org.sosy_lab.cpachecker.core.defaults;
 
 import java.util.Collection;
+import java.util.function.Function;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
+import org.sosy_lab.cpachecker.core.interfaces.IndexableStopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
-import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 
 /** Standard stop-sep operator */
-public class StopSepOperator implements StopOperator {
+public class StopSepOperator implements IndexableStopOperator {
 
   private final AbstractDomain domain;
+  private final Function<AbstractState, CoverageSignature> signatureFunction;
 
   /** Creates a stop-sep operator based on the given partial order */
   public StopSepOperator(AbstractDomain d) {
+    this(d, state -> CoverageSignature.NONE);
+  }
+
+  /**
+   * Creates a stop-sep operator based on the given partial order, with a function that computes
+   * coverage signatures of abstract states that are consistent with the partial order (cf. {@link
+   * IndexableStopOperator#getCoverageSignature(AbstractState)}).
+   */
+  public StopSepOperator(
+      AbstractDomain d, Function<AbstractState, CoverageSignature> pSignatureFunction) {
     domain = d;
+    signatureFunction = pSignatureFunction;
   }
 
   @Override
@@ -36,4 +50,9 @@ public class StopSepOperator implements StopOperator {
     }
     return false;
   }
+
+  @Override
+  public CoverageSignature getCoverageSignature(AbstractState pState) {
+    return signatureFunction.apply(pState);
+  }
 }
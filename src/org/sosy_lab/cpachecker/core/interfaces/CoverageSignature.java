@@ -0,0 +1,85 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.interfaces;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A coarse signature of an abstract state that is provided by an {@link IndexableStopOperator}. A
+ * state with signature {@code s} can only be covered by a state with signature {@code s'} if {@link
+ * #mayBeCoveredBy(CoverageSignature) s.mayBeCoveredBy(s')} holds, i.e., if
+ *
+ * <ul>
+ *   <li>both keys are equal, and
+ *   <li>the rank of {@code s'} is smaller than the rank of {@code s}, or both ranks are equal and
+ *       both equal-rank keys are equal.
+ * </ul>
+ *
+ * The keys allow to look up the candidates for covering a state in a hash map, the rank allows to
+ * express that states with more information (e.g., more tracked variables) cannot cover states with
+ * less information.
+ *
+ * @param key an object that is equal for a state and all states that may cover it
+ * @param rank a non-negative number that is less or equal for all states that may cover a state
+ * @param equalRankKey an object that is equal for a state and all states with the same rank that
+ *     may cover it
+ */
+@javax.annotation.concurrent.Immutable // cannot prove deep immutability
+public record CoverageSignature(@Nullable Object key, int rank, @Nullable Object equalRankKey) {
+
+  /** The signature that does not exclude any state from covering another state. */
+  public static final CoverageSignature NONE = new CoverageSignature(null, 0, null);
+
+  public CoverageSignature {
+    checkArgument(rank >= 0, "negative rank %s", rank);
+  }
+
+  /** Creates a signature that only allows states with an equal key to cover each other. */
+  public static CoverageSignature ofKey(@Nullable Object pKey) {
+    return new CoverageSignature(pKey, 0, null);
+  }
+
+  /**
+   * Returns whether a state with this signature may be covered by a state with the given signature.
+   */
+  public boolean mayBeCoveredBy(CoverageSignature pOther) {
+    return Objects.equals(key, pOther.key)
+        && (pOther.rank < rank
+            || (pOther.rank == rank && Objects.equals(equalRankKey, pOther.equalRankKey)));
+  }
+
+  /**
+   * Combines the signatures of the components of a product state, e.g., of a composite state, where
+   * a state is covered by another state only if each component is covered by the respective
+   * component.
+   *
+   * <p>The keys of the components are combined, and the ranks are added up: the sum of the ranks of
+   * the covering state can only be equal to the sum of the ranks of the covered state if all
+   * components have the same rank, so the equal-rank keys of all components can be combined, too.
+   */
+  public static CoverageSignature ofComponents(List<CoverageSignature> pSignatures) {
+    List<@Nullable Object> keys = new ArrayList<>(pSignatures.size());
+    List<@Nullable Object> equalRankKeys = new ArrayList<>(pSignatures.size());
+    int rank = 0;
+    for (CoverageSignature signature : pSignatures) {
+      keys.add(signature.key);
+      rank = Math.addExact(rank, signature.rank);
+      equalRankKeys.add(signature.equalRankKey);
+    }
+    // ImmutableList does not allow null elements
+    return new CoverageSignature(
+        Collections.unmodifiableList(keys), rank, Collections.unmodifiableList(equalRankKeys));
+  }
+}
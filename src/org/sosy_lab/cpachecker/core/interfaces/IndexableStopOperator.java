@@ -0,0 +1,28 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.interfaces;
+
+import java.util.Collection;
+
+/**
+ * A stop operator that provides cheap {@link CoverageSignature coverage signatures} of abstract
+ * states, such that the reached set can keep an index of its states and filter the candidates for
+ * covering a new state before {@link #stop(AbstractState, Collection, Precision)} is called.
+ */
+public interface IndexableStopOperator extends StopOperator {
+
+  /**
+   * Returns the coverage signature of an abstract state. For all abstract states {@code e} and
+   * {@code e'} and every precision {@code p}, {@code stop(e, Collections.singleton(e'), p)} may
+   * only return true if {@code getCoverageSignature(e).mayBeCoveredBy(getCoverageSignature(e'))}
+   * holds, and {@code stop(e, reached, p)} may only return true if this holds for at least one
+   * state in {@code reached}. Return {@link CoverageSignature#NONE} if nothing is known.
+   */
+  CoverageSignature getCoverageSignature(AbstractState state);
+}
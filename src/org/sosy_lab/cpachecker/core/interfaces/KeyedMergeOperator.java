@@ -0,0 +1,38 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.interfaces;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A merge operator that provides cheap merge keys of abstract states, which declare that two states
+ * are definitely not merged. This allows the reached set to keep an index of its states and to skip
+ * the calls to {@link #merge(AbstractState, AbstractState, Precision)} for all reached states with
+ * a different key in bulk.
+ */
+public interface KeyedMergeOperator extends MergeOperator {
+
+  /**
+   * Returns the merge key of an abstract state, which needs to provide meaningful equals() and
+   * hashCode() implementations and must not change during the lifetime of the state.
+   *
+   * <p>For all abstract states {@code e} and {@code e'} with different merge keys and every
+   * precision {@code p}, {@code merge(e, e', p)} must return {@code e'}.
+   *
+   * <p>Wrapping merge operators may combine the keys of their components, even if they merge
+   * whenever each component either merges or covers the new state (like the merge-agree operator of
+   * CompositeCPA). If the stop operator of a component considers {@code e} to be covered by {@code
+   * e'} despite different keys, such a merge is then skipped. This is acceptable, because skipping
+   * a merge is always sound: the states are kept apart, which preserves precision but may increase
+   * the number of states. Keys should be chosen such that it happens rarely.
+   *
+   * <p>The same key (e.g., null) can be returned for all states if nothing is known.
+   */
+  @Nullable Object getMergeKey(AbstractState state);
+}
@@ -72,6 +72,18 @@ public class ForwardingReachedSet implements ReachedSet, StatisticsProvider {
     return delegate.getReached(pState);
   }
 
+  @Override
+  public Collection<AbstractState> getCoverageCandidates(AbstractState pState)
+      throws UnsupportedOperationException {
+    return delegate.getCoverageCandidates(pState);
+  }
+
+  @Override
+  public Collection<AbstractState> getMergeCandidates(AbstractState pState)
+      throws UnsupportedOperationException {
+    return delegate.getMergeCandidates(pState);
+  }
+
   @Override
   public Collection<AbstractState> getReached(CFANode pLocation) {
     return delegate.getReached(pLocation);
@@ -0,0 +1,174 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.reachedset;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
+import org.sosy_lab.cpachecker.core.interfaces.IndexableStopOperator;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
+import org.sosy_lab.cpachecker.core.waitlist.Waitlist.WaitlistFactory;
+
+/**
+ * Special implementation of the partitioned reached set {@link PartitionedReachedSet} that
+ * additionally indexes the states of each partition by their {@link CoverageSignature}, if the stop
+ * operator of the CPA is an {@link IndexableStopOperator}, and by their merge key, if the merge
+ * operator of the CPA is a {@link KeyedMergeOperator}.
+ *
+ * <p>The method {@link #getReached(AbstractState)} behaves as in {@link PartitionedReachedSet}, but
+ * {@link #getCoverageCandidates(AbstractState)} returns only those states of the partition that may
+ * cover the given state according to their signatures, and {@link
+ * #getMergeCandidates(AbstractState)} returns only those states of the partition with the same
+ * merge key as the given state. In contrast to {@link PseudoPartitionedReachedSet}, the signatures
+ * and keys are defined by the stop and merge operators and not by the abstract states, so they are
+ * guaranteed to be consistent with the operators that are actually used.
+ *
+ * <p>Note that the coverage candidates are not necessarily returned in the order in which they were
+ * added.
+ */
+public class IndexedReachedSet extends PartitionedReachedSet {
+
+  /** The partition and the signature key or merge key of the states in one bucket of an index. */
+  private record Bucket(@Nullable Object partitionKey, @Nullable Object signatureKey) {}
+
+  private final @Nullable IndexableStopOperator stopOperator;
+
+  /** the index: bucket, rank, equal-rank key -> states */
+  private final Map<Bucket, NavigableMap<Integer, SetMultimap<Object, AbstractState>>> index =
+      new HashMap<>();
+
+  /** The signatures of all indexed states, such that removal does not depend on their stability. */
+  private final Map<AbstractState, CoverageSignature> signatures = new HashMap<>();
+
+  private final @Nullable KeyedMergeOperator mergeOperator;
+
+  /** the merge index: partition and merge key -> states */
+  private final SetMultimap<Bucket, AbstractState> mergeIndex = LinkedHashMultimap.create();
+
+  /** The merge keys of all indexed states, such that removal does not depend on their stability. */
+  private final Map<AbstractState, Bucket> mergeBuckets = new HashMap<>();
+
+  public IndexedReachedSet(ConfigurableProgramAnalysis pCpa, WaitlistFactory waitlistFactory) {
+    super(pCpa, waitlistFactory);
+    StopOperator stop = pCpa.getStopOperator();
+    stopOperator = stop instanceof IndexableStopOperator indexableStop ? indexableStop : null;
+    MergeOperator merge = pCpa.getMergeOperator();
+    mergeOperator = merge instanceof KeyedMergeOperator keyedMerge ? keyedMerge : null;
+  }
+
+  @Override
+  public void add(AbstractState pState, Precision pPrecision) {
+    super.add(pState, pPrecision);
+
+    if (stopOperator != null && !signatures.containsKey(pState)) {
+      CoverageSignature signature = stopOperator.getCoverageSignature(pState);
+      signatures.put(pState, signature);
+      index
+          .computeIfAbsent(getBucket(pState, signature), k -> new TreeMap<>())
+          .computeIfAbsent(signature.rank(), k -> LinkedHashMultimap.create())
+          .put(signature.equalRankKey(), pState);
+    }
+
+    if (mergeOperator != null && !mergeBuckets.containsKey(pState)) {
+      Bucket bucket = getMergeBucket(pState, mergeOperator);
+      mergeBuckets.put(pState, bucket);
+      mergeIndex.put(bucket, pState);
+    }
+  }
+
+  @Override
+  public void remove(AbstractState pState) {
+    super.remove(pState);
+
+    CoverageSignature signature = signatures.remove(pState);
+    if (signature != null) {
+      Bucket bucket = getBucket(pState, signature);
+      NavigableMap<Integer, SetMultimap<Object, AbstractState>> ranks = index.get(bucket);
+      SetMultimap<Object, AbstractState> states = ranks.get(signature.rank());
+      states.remove(signature.equalRankKey(), pState);
+      if (states.isEmpty()) {
+        ranks.remove(signature.rank());
+        if (ranks.isEmpty()) {
+          index.remove(bucket);
+        }
+      }
+    }
+
+    Bucket mergeBucket = mergeBuckets.remove(pState);
+    if (mergeBucket != null) {
+      mergeIndex.remove(mergeBucket, pState);
+    }
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+
+    index.clear();
+    signatures.clear();
+    mergeIndex.clear();
+    mergeBuckets.clear();
+  }
+
+  @Override
+  public Collection<AbstractState> getCoverageCandidates(AbstractState pState) {
+    if (stopOperator == null) {
+      return getReached(pState);
+    }
+
+    CoverageSignature signature = stopOperator.getCoverageSignature(pState);
+    NavigableMap<Integer, SetMultimap<Object, AbstractState>> ranks =
+        index.get(getBucket(pState, signature));
+    if (ranks == null) {
+      return ImmutableList.of();
+    }
+
+    List<AbstractState> candidates = new ArrayList<>();
+    for (SetMultimap<Object, AbstractState> states :
+        ranks.headMap(signature.rank(), false).values()) {
+      candidates.addAll(states.values());
+    }
+    SetMultimap<Object, AbstractState> statesWithEqualRank = ranks.get(signature.rank());
+    if (statesWithEqualRank != null) {
+      candidates.addAll(statesWithEqualRank.get(signature.equalRankKey()));
+    }
+    return Collections.unmodifiableList(candidates);
+  }
+
+  @Override
+  public Collection<AbstractState> getMergeCandidates(AbstractState pState) {
+    if (mergeOperator == null) {
+      return getReached(pState);
+    }
+    return Collections.unmodifiableSet(mergeIndex.get(getMergeBucket(pState, mergeOperator)));
+  }
+
+  private Bucket getMergeBucket(AbstractState pState, KeyedMergeOperator pMergeOperator) {
+    return new Bucket(getPartitionKey(pState), pMergeOperator.getMergeKey(pState));
+  }
+
+  private Bucket getBucket(AbstractState pState, CoverageSignature pSignature) {
+    return new Bucket(getPartitionKey(pState), pSignature.key());
+  }
+}
@@ -0,0 +1,143 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.reachedset;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.core.defaults.SingletonPrecision;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
+import org.sosy_lab.cpachecker.core.interfaces.IndexableStopOperator;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.Partitionable;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.waitlist.Waitlist.TraversalMethod;
+
+public class IndexedReachedSetTest {
+
+  private record TestState(Object partition, CoverageSignature signature)
+      implements AbstractState, Partitionable {
+
+    @Override
+    public Object getPartitionKey() {
+      return partition;
+    }
+  }
+
+  private static final class TestStopOperator implements IndexableStopOperator {
+
+    @Override
+    public boolean stop(
+        AbstractState pState, Collection<AbstractState> pReached, Precision pPrecision) {
+      return pReached.contains(pState);
+    }
+
+    @Override
+    public CoverageSignature getCoverageSignature(AbstractState pState) {
+      return ((TestState) pState).signature();
+    }
+  }
+
+  private static final class TestMergeOperator implements KeyedMergeOperator {
+
+    @Override
+    public AbstractState merge(AbstractState pState1, AbstractState pState2, Precision pPrecision) {
+      return pState2;
+    }
+
+    @Override
+    public Object getMergeKey(AbstractState pState) {
+      return ((TestState) pState).signature().key();
+    }
+  }
+
+  private IndexedReachedSet reached;
+
+  @Before
+  public void setUp() {
+    ConfigurableProgramAnalysis cpa = mock(ConfigurableProgramAnalysis.class);
+    when(cpa.getStopOperator()).thenReturn(new TestStopOperator());
+    when(cpa.getMergeOperator()).thenReturn(new TestMergeOperator());
+    reached = new IndexedReachedSet(cpa, TraversalMethod.DFS);
+  }
+
+  private TestState addState(Object pPartition, Object pKey, int pRank, Object pEqualRankKey) {
+    TestState state = new TestState(pPartition, new CoverageSignature(pKey, pRank, pEqualRankKey));
+    reached.add(state, SingletonPrecision.getInstance());
+    return state;
+  }
+
+  @Test
+  public void testCoverageCandidates() {
+    TestState smallerRank = addState("l1", "k", 1, "x");
+    TestState otherEqualRankKey = addState("l1", "k", 2, "y");
+    TestState sameSignature = addState("l1", "k", 2, "z");
+    TestState greaterRank = addState("l1", "k", 3, "z");
+    TestState otherKey = addState("l1", "other", 1, "z");
+    addState("l2", "k", 1, "z");
+
+    TestState state = new TestState("l1", new CoverageSignature("k", 2, "z"));
+    assertThat(reached.getCoverageCandidates(state)).containsExactly(smallerRank, sameSignature);
+    assertThat(reached.getReached(state))
+        .containsExactly(smallerRank, otherEqualRankKey, sameSignature, greaterRank, otherKey);
+
+    reached.remove(sameSignature);
+    reached.remove(smallerRank);
+    assertThat(reached.getCoverageCandidates(state)).isEmpty();
+    assertThat(reached.getCoverageCandidates(greaterRank)).containsExactly(otherEqualRankKey);
+
+    reached.clear();
+    assertThat(reached.getCoverageCandidates(greaterRank)).isEmpty();
+  }
+
+  @Test
+  public void testMergeCandidates() {
+    TestState first = addState("l1", "k", 1, "x");
+    TestState second = addState("l1", "k", 2, "y");
+    addState("l1", "other", 1, "x");
+    addState("l2", "k", 1, "x");
+
+    TestState state = new TestState("l1", CoverageSignature.ofKey("k"));
+    assertThat(reached.getMergeCandidates(state)).containsExactly(first, second).inOrder();
+
+    reached.remove(first);
+    assertThat(reached.getMergeCandidates(state)).containsExactly(second);
+
+    reached.clear();
+    assertThat(reached.getMergeCandidates(state)).isEmpty();
+  }
+
+  @Test
+  public void testCombinedSignatures() {
+    CoverageSignature state =
+        CoverageSignature.ofComponents(
+            ImmutableList.of(new CoverageSignature(null, 2, "a"), CoverageSignature.ofKey("k")));
+    CoverageSignature sameRanks =
+        CoverageSignature.ofComponents(
+            ImmutableList.of(new CoverageSignature(null, 2, "a"), CoverageSignature.ofKey("k")));
+    CoverageSignature smallerRank =
+        CoverageSignature.ofComponents(
+            ImmutableList.of(new CoverageSignature(null, 1, "b"), CoverageSignature.ofKey("k")));
+    CoverageSignature otherKey =
+        CoverageSignature.ofComponents(
+            ImmutableList.of(new CoverageSignature(null, 1, "b"), CoverageSignature.ofKey("l")));
+
+    assertThat(state.mayBeCoveredBy(sameRanks)).isTrue();
+    assertThat(state.mayBeCoveredBy(smallerRank)).isTrue();
+    assertThat(smallerRank.mayBeCoveredBy(state)).isFalse();
+    assertThat(state.mayBeCoveredBy(otherKey)).isFalse();
+  }
+}
@@ -48,6 +48,7 @@ public class ReachedSetFactory {
     LOCATIONMAPPED,
     PARTITIONED,
     PSEUDOPARTITIONED,
+    INDEXED,
     USAGE
   }
 
@@ -169,7 +170,12 @@ public class ReachedSetFactory {
               + " locations cannot be merged)\n"
               + "PARTITIONED: partitioning depending on CPAs (e.g. Location, Callstack etc.)\n"
               + "PSEUDOPARTITIONED: based on PARTITIONED, uses additional info about the states'"
-              + " lattice (maybe faster for some special analyses which use merge_sep and stop_sep")
+              + " lattice (maybe faster for some special analyses which use merge_sep and"
+              + " stop_sep\n"
+              + "INDEXED: based on PARTITIONED, additionally indexes the states by signatures"
+              + " provided by the stop operator and keys provided by the merge operator, such that"
+              + " fewer states are checked for coverage and merging (faster for analyses with many"
+              + " states per location, e.g., value analysis or predicate analysis with ABE)")
   private ReachedSetType reachedSet = ReachedSetType.PARTITIONED;
 
   @Option(
@@ -269,6 +275,7 @@ public class ReachedSetFactory {
         switch (reachedSet) {
           case PARTITIONED -> new PartitionedReachedSet(cpa, waitlistFactory);
           case PSEUDOPARTITIONED -> new PseudoPartitionedReachedSet(cpa, waitlistFactory);
+          case INDEXED -> new IndexedReachedSet(cpa, waitlistFactory);
           case LOCATIONMAPPED -> new LocationMappedReachedSet(cpa, waitlistFactory);
           case USAGE -> new UsageReachedSet(cpa, waitlistFactory, usageConfig, logger);
           case NORMAL -> new DefaultReachedSet(cpa, waitlistFactory);
@@ -50,6 +50,44 @@ public interface UnmodifiableReachedSet extends Iterable<AbstractState> {
    */
   Collection<AbstractState> getReached(AbstractState state) throws UnsupportedOperationException;
 
+  /**
+   * Returns a subset of {@link #getReached(AbstractState)}, which contains at least all abstract
+   * states that may cover the given state according to the {@link
+   * org.sosy_lab.cpachecker.core.interfaces.StopOperator} of the CPA. Reached sets that have an
+   * index of their states (cf. {@link IndexedReachedSet}) can return much fewer states here than in
+   * {@link #getReached(AbstractState)}, so this method should be used to get the reached states
+   * that are passed to the stop operator.
+   *
+   * <p>The returned collection is unmodifiable, but it is not necessarily a view of the actual
+   * data.
+   *
+   * @param state An abstract state for which the candidates for covering it should be retrieved.
+   * @return A subset of the reached set.
+   */
+  default Collection<AbstractState> getCoverageCandidates(AbstractState state)
+      throws UnsupportedOperationException {
+    return getReached(state);
+  }
+
+  /**
+   * Returns a subset of {@link #getReached(AbstractState)}, which contains at least all abstract
+   * states that may be merged with the given state according to the keys of the {@link
+   * org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator} of the CPA. Reached sets that have
+   * an index of their states (cf. {@link IndexedReachedSet}) can return much fewer states here than
+   * in {@link #getReached(AbstractState)}, so this method should be used to get the reached states
+   * that are passed to the merge operator.
+   *
+   * <p>The returned collection is unmodifiable, but it may be a view of the actual data, so it must
+   * not be iterated while the reached set is modified.
+   *
+   * @param state An abstract state for which the candidates for merging should be retrieved.
+   * @return A subset of the reached set.
+   */
+  default Collection<AbstractState> getMergeCandidates(AbstractState state)
+      throws UnsupportedOperationException {
+    return getReached(state);
+  }
+
   /**
    * Returns a subset of the reached set, which contains at least all abstract states belonging to
    * given location. It may even return an empty set if there are no such states. Note that it may
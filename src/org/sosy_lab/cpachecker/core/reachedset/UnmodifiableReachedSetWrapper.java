@@ -56,6 +56,18 @@ public class UnmodifiableReachedSetWrapper implements UnmodifiableReachedSet {
     return Collections.unmodifiableCollection(delegate.getReached(pState));
   }
 
+  @Override
+  public Collection<AbstractState> getCoverageCandidates(AbstractState pState)
+      throws UnsupportedOperationException {
+    return Collections.unmodifiableCollection(delegate.getCoverageCandidates(pState));
+  }
+
+  @Override
+  public Collection<AbstractState> getMergeCandidates(AbstractState pState)
+      throws UnsupportedOperationException {
+    return Collections.unmodifiableCollection(delegate.getMergeCandidates(pState));
+  }
+
   @Override
   public Collection<AbstractState> getReached(CFANode pLocation) {
     return Collections.unmodifiableCollection(delegate.getReached(pLocation));
@@ -23,12 +23,13 @@ import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
 import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.util.AbstractStates;
 
-public class ARGMergeJoin implements MergeOperator {
+public class ARGMergeJoin implements KeyedMergeOperator {
 
   @Options(prefix = "cpa.arg")
   static class MergeOptions {
@@ -84,6 +85,20 @@ public class ARGMergeJoin implements MergeOperator {
     options = checkNotNull(pOptions);
   }
 
+  /**
+   * Delegates to the wrapped merge operator, unless states are also merged on subsumption of the
+   * wrapped states, which is not excluded by different keys of the wrapped merge operator and would
+   * be skipped.
+   */
+  @Override
+  public @Nullable Object getMergeKey(AbstractState pState) {
+    if (options.mergeOnWrappedSubsumption
+        || !(wrappedMerge instanceof KeyedMergeOperator keyedMerge)) {
+      return null;
+    }
+    return keyedMerge.getMergeKey(((ARGState) pState).getWrappedState());
+  }
+
   @Override
   public AbstractState merge(AbstractState pElement1, AbstractState pElement2, Precision pPrecision)
       throws CPAException, InterruptedException {
@@ -0,0 +1,82 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.arg;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.defaults.MergeSepOperator;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.util.test.TestUtils;
+
+public class ARGMergeJoinTest {
+
+  private record TestState(String key) implements AbstractState {}
+
+  private static final class TestMergeOperator implements KeyedMergeOperator {
+
+    @Override
+    public AbstractState merge(AbstractState pState1, AbstractState pState2, Precision pPrecision) {
+      return pState2;
+    }
+
+    @Override
+    public Object getMergeKey(AbstractState pState) {
+      return ((TestState) pState).key();
+    }
+  }
+
+  private static ARGMergeJoin createMergeOperator(
+      MergeOperator pWrappedMerge, boolean pMergeOnWrappedSubsumption) throws Exception {
+    Configuration config =
+        TestUtils.configurationForTest()
+            .setOption(
+                "cpa.arg.mergeOnWrappedSubsumption", Boolean.toString(pMergeOnWrappedSubsumption))
+            .build();
+    return new ARGMergeJoin(
+        pWrappedMerge,
+        mock(AbstractDomain.class),
+        LogManager.createTestLogManager(),
+        new ARGMergeJoin.MergeOptions(config));
+  }
+
+  @Test
+  public void testMergeKeysOfWrappedStates() throws Exception {
+    ARGMergeJoin merge = createMergeOperator(new TestMergeOperator(), false);
+    ARGState state1 = new ARGState(new TestState("a"), null);
+    ARGState state2 = new ARGState(new TestState("a"), null);
+    ARGState state3 = new ARGState(new TestState("b"), null);
+
+    assertThat(merge.getMergeKey(state1)).isEqualTo("a");
+    assertThat(merge.getMergeKey(state1)).isEqualTo(merge.getMergeKey(state2));
+    assertThat(merge.getMergeKey(state1)).isNotEqualTo(merge.getMergeKey(state3));
+  }
+
+  @Test
+  public void testNoMergeKeysOnWrappedSubsumption() throws Exception {
+    ARGMergeJoin merge = createMergeOperator(new TestMergeOperator(), true);
+
+    assertThat(merge.getMergeKey(new ARGState(new TestState("a"), null))).isNull();
+    assertThat(merge.getMergeKey(new ARGState(new TestState("b"), null))).isNull();
+  }
+
+  @Test
+  public void testNoMergeKeysForUnkeyedWrappedMerge() throws Exception {
+    ARGMergeJoin merge = createMergeOperator(MergeSepOperator.getInstance(), false);
+
+    assertThat(merge.getMergeKey(new ARGState(new TestState("a"), null))).isNull();
+  }
+}
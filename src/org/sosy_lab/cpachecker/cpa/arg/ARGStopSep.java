@@ -14,12 +14,14 @@ import java.util.Objects;
 import java.util.logging.Level;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
 import org.sosy_lab.cpachecker.core.interfaces.ForcedCoveringStopOperator;
+import org.sosy_lab.cpachecker.core.interfaces.IndexableStopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 
-public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
+public class ARGStopSep implements ForcedCoveringStopOperator, IndexableStopOperator {
 
   private final boolean keepCoveredStatesInReached;
   private final boolean inCPAEnabledAnalysis;
@@ -152,6 +154,15 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
     return stop;
   }
 
+  @Override
+  public CoverageSignature getCoverageSignature(AbstractState pState) {
+    // all coverage checks are delegated to the wrapped stop operator
+    if (wrappedStop instanceof IndexableStopOperator indexableStop) {
+      return indexableStop.getCoverageSignature(((ARGState) pState).getWrappedState());
+    }
+    return CoverageSignature.NONE;
+  }
+
   @Override
   public boolean isForcedCoveringPossible(
       AbstractState pElement, AbstractState pReachedState, Precision pPrecision)
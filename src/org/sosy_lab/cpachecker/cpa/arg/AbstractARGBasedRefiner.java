@@ -39,7 +39,7 @@ import org.sosy_lab.cpachecker.util.CPAs;
  * <p>To use this, implement {@link ARGBasedRefiner} and call {@link
  * AbstractARGBasedRefiner#forARGBasedRefiner(ARGBasedRefiner, ConfigurableProgramAnalysis)}.
  */
-public class AbstractARGBasedRefiner implements Refiner, StatisticsProvider {
+public class AbstractARGBasedRefiner implements Refiner, StatisticsProvider, AutoCloseable {
 
   private int refinementNumber;
 
@@ -188,4 +188,9 @@ public class AbstractARGBasedRefiner implements Refiner, StatisticsProvider {
   public String toString() {
     return refiner.toString();
   }
+
+  @Override
+  public void close() {
+    CPAs.closeIfPossible(refiner, logger);
+  }
 }
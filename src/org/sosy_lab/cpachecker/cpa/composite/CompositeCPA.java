@@ -14,10 +14,16 @@ import static org.sosy_lab.common.collect.Collections3.transformedImmutableListC
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.collect.Collections3;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
@@ -51,7 +57,11 @@ import org.sosy_lab.cpachecker.exceptions.CPATransferException;
 
 @Options(prefix = "cpa.composite")
 public final class CompositeCPA
-    implements StatisticsProvider, WrapperCPA, ConfigurableProgramAnalysisWithBAM, ProofChecker {
+    implements StatisticsProvider,
+        WrapperCPA,
+        ConfigurableProgramAnalysisWithBAM,
+        ProofChecker,
+        AutoCloseable {
 
   @Option(
       secure = true,
@@ -82,6 +92,26 @@ public final class CompositeCPA
               + " ARGState but it may instead be a list.")
   private boolean aggregateBasicBlocks = false;
 
+  @Option(
+      secure = true,
+      description =
+          "Compute the abstract successors of the components in parallel threads, and strengthen"
+              + " them afterwards in the usual order. This only pays off if several components"
+              + " have expensive transfer relations, and it must only be used if the transfer"
+              + " relations of the components do not share any state that is not thread-safe.")
+  private boolean parallelSuccessors = false;
+
+  @Option(
+      secure = true,
+      description =
+          "The components whose successors are computed in separate threads if"
+              + " cpa.composite.parallelSuccessors is enabled, given by the simple class names of"
+              + " their CPAs (e.g., PredicateCPA). The successors of all other components are"
+              + " computed in the calling thread beforehand, and the separate threads are only"
+              + " used if all of these components have successors. If empty, all components are"
+              + " computed in separate threads.")
+  private Set<String> parallelSuccessorCPAs = ImmutableSet.of();
+
   private static class CompositeCPAFactory extends AbstractCPAFactory {
 
     private CFA cfa = null;
@@ -127,6 +157,17 @@ public final class CompositeCPA
   private final ImmutableList<ConfigurableProgramAnalysis> cpas;
   private final CFA cfa;
   private final Supplier<MergeOperator> mergeSupplier;
+  private final CompositeTransferStatistics transferStats;
+
+  /** The indices of the components whose successors are computed in parallel. */
+  private final ImmutableSet<Integer> parallelComponents;
+
+  /**
+   * The executor for the parallel successor computation, shared by all transfer relations, or
+   * {@code null} if it is disabled. It is shut down when the CPA is closed, and its threads are
+   * daemon threads in case the CPA is never closed.
+   */
+  private final @Nullable ExecutorService executor;
 
   private CompositeCPA(
       Configuration config, CFA pCfa, ImmutableList<ConfigurableProgramAnalysis> cpas)
@@ -135,6 +176,42 @@ public final class CompositeCPA
     cfa = pCfa;
     this.cpas = cpas;
     mergeSupplier = buildMergeOperatorSupplier();
+    transferStats = new CompositeTransferStatistics(cpas);
+    parallelComponents = getParallelComponents();
+    executor =
+        parallelComponents.isEmpty()
+            ? null
+            : Executors.newFixedThreadPool(
+                parallelComponents.size(),
+                Thread.ofPlatform().daemon().name("CompositeCPA-successors-", 0).factory());
+  }
+
+  private ImmutableSet<Integer> getParallelComponents() throws InvalidConfigurationException {
+    if (!parallelSuccessors || cpas.size() < 2) {
+      return ImmutableSet.of();
+    }
+    List<String> names = transformedImmutableListCopy(cpas, cpa -> cpa.getClass().getSimpleName());
+    Set<String> unknownNames = Sets.difference(parallelSuccessorCPAs, ImmutableSet.copyOf(names));
+    if (!unknownNames.isEmpty()) {
+      throw new InvalidConfigurationException(
+          "Option cpa.composite.parallelSuccessorCPAs contains CPAs that are not components of"
+              + " the CompositeCPA: "
+              + unknownNames);
+    }
+    ImmutableSet.Builder<Integer> result = ImmutableSet.builder();
+    for (int i = 0; i < names.size(); i++) {
+      if (parallelSuccessorCPAs.isEmpty() || parallelSuccessorCPAs.contains(names.get(i))) {
+        result.add(i);
+      }
+    }
+    return result.build();
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
   }
 
   @Override
@@ -148,7 +225,10 @@ public final class CompositeCPA
     return new CompositeTransferRelation(
         transformedImmutableListCopy(cpas, ConfigurableProgramAnalysis::getTransferRelation),
         cfa,
-        aggregateBasicBlocks);
+        aggregateBasicBlocks,
+        transferStats,
+        executor,
+        parallelComponents);
   }
 
   @Override
@@ -267,6 +347,7 @@ public final class CompositeCPA
 
   @Override
   public void collectStatistics(Collection<Statistics> pStatsCollection) {
+    pStatsCollection.add(transferStats);
     from(cpas)
         .filter(StatisticsProvider.class)
         .forEach(cpa -> cpa.collectStatistics(pStatsCollection));
@@ -12,9 +12,13 @@ import static com.google.common.base.Predicates.instanceOf;
 import static com.google.common.collect.FluentIterable.from;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
 import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
 import org.sosy_lab.cpachecker.core.interfaces.NonMergeableAbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
@@ -32,7 +36,7 @@ import org.sosy_lab.cpachecker.exceptions.CPAException;
  * <p>Note that the definition of MergeOperator already requires that the returned state covers the
  * second input state. This implementation relies on that guarantee and always assumes this is true.
  */
-class CompositeMergeAgreeOperator implements MergeOperator {
+class CompositeMergeAgreeOperator implements KeyedMergeOperator {
 
   private final ImmutableList<MergeOperator> mergeOperators;
   private final ImmutableList<StopOperator> stopOperators;
@@ -101,6 +105,27 @@ class CompositeMergeAgreeOperator implements MergeOperator {
     }
   }
 
+  /**
+   * If the keys of a component differ, the component does not merge, and usually its stop operator
+   * also does not cover the successor state, so this operator returns the reached state, too. Thus
+   * the keys of all components with a {@link KeyedMergeOperator} are combined. In the rare cases
+   * where such a component still covers the successor state, a merge of the other components is
+   * skipped. This keeps the states apart, which preserves precision but may increase the number of
+   * states.
+   */
+  @Override
+  public @Nullable Object getMergeKey(AbstractState pState) {
+    List<AbstractState> states = ((CompositeState) pState).getWrappedStates();
+    List<@Nullable Object> keys = new ArrayList<>();
+    for (int i = 0; i < mergeOperators.size(); i++) {
+      if (mergeOperators.get(i) instanceof KeyedMergeOperator keyedMerge) {
+        keys.add(keyedMerge.getMergeKey(states.get(i)));
+      }
+    }
+    // ImmutableList does not allow null elements
+    return Collections.unmodifiableList(keys);
+  }
+
   private static boolean hasNonMergeableState(CompositeState state) {
     return from(state.getWrappedStates()).anyMatch(instanceOf(NonMergeableAbstractState.class));
   }
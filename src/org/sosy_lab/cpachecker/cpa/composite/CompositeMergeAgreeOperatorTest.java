@@ -0,0 +1,97 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.composite;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.core.defaults.MergeSepOperator;
+import org.sosy_lab.cpachecker.core.defaults.SingletonPrecision;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
+
+public class CompositeMergeAgreeOperatorTest {
+
+  /** A state that is merged with all states with the same key. */
+  private record TestState(String key, int value) implements AbstractState {}
+
+  private static final class TestMergeOperator implements KeyedMergeOperator {
+
+    @Override
+    public AbstractState merge(AbstractState pState1, AbstractState pState2, Precision pPrecision) {
+      TestState state1 = (TestState) pState1;
+      TestState state2 = (TestState) pState2;
+      if (!state1.key().equals(state2.key())) {
+        return state2;
+      }
+      return new TestState(state2.key(), Math.max(state1.value(), state2.value()));
+    }
+
+    @Override
+    public Object getMergeKey(AbstractState pState) {
+      return ((TestState) pState).key();
+    }
+  }
+
+  /** A stop operator where states are only covered by states with the same key. */
+  private static final class TestStopOperator implements StopOperator {
+
+    @Override
+    public boolean stop(
+        AbstractState pState, Collection<AbstractState> pReached, Precision pPrecision) {
+      TestState state = (TestState) pState;
+      return pReached.stream()
+          .map(TestState.class::cast)
+          .anyMatch(other -> other.key().equals(state.key()) && other.value() >= state.value());
+    }
+  }
+
+  private static final CompositePrecision PRECISION =
+      new CompositePrecision(
+          ImmutableList.of(SingletonPrecision.getInstance(), SingletonPrecision.getInstance()));
+
+  private final CompositeMergeAgreeOperator merge =
+      new CompositeMergeAgreeOperator(
+          ImmutableList.of(new TestMergeOperator(), MergeSepOperator.getInstance()),
+          ImmutableList.of(new TestStopOperator(), new TestStopOperator()));
+
+  private static CompositeState state(String pKey, int pValue, AbstractState pOther) {
+    return new CompositeState(ImmutableList.of(new TestState(pKey, pValue), pOther));
+  }
+
+  @Test
+  public void testMergeKeysOfKeyedComponents() {
+    AbstractState other = new TestState("x", 0);
+    CompositeState state1 = state("a", 1, other);
+    CompositeState state2 = state("a", 2, new TestState("y", 0));
+    CompositeState state3 = state("b", 1, other);
+
+    // only the keyed component contributes to the key
+    assertThat(merge.getMergeKey(state1)).isEqualTo(merge.getMergeKey(state2));
+    assertThat(merge.getMergeKey(state1)).isNotEqualTo(merge.getMergeKey(state3));
+  }
+
+  @Test
+  public void testNoMergeForDifferentKeys() throws Exception {
+    AbstractState other = new TestState("x", 0);
+    CompositeState state1 = state("a", 1, other);
+    CompositeState state2 = state("a", 2, other);
+    CompositeState state3 = state("b", 2, other);
+
+    assertThat(merge.merge(state1, state3, PRECISION)).isSameInstanceAs(state3);
+    AbstractState merged = merge.merge(state2, state1, PRECISION);
+    assertThat(((CompositeState) merged).getWrappedStates())
+        .containsExactly(new TestState("a", 2), other)
+        .inOrder();
+  }
+}
@@ -11,18 +11,21 @@ package org.sosy_lab.cpachecker.cpa.composite;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
 import org.sosy_lab.cpachecker.core.interfaces.ForcedCoveringStopOperator;
+import org.sosy_lab.cpachecker.core.interfaces.IndexableStopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.pcc.ProofChecker;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 
-class CompositeStopOperator implements StopOperator, ForcedCoveringStopOperator {
+class CompositeStopOperator implements ForcedCoveringStopOperator, IndexableStopOperator {
 
   private final ImmutableList<StopOperator> stopOperators;
 
@@ -71,6 +74,24 @@ class CompositeStopOperator implements StopOperator, ForcedCoveringStopOperator
     return true;
   }
 
+  /**
+   * Combines the coverage signatures of the components, which is possible because a composite state
+   * is only covered by another state if each component is covered by the respective component.
+   * Components without an {@link IndexableStopOperator} do not restrict the coverage.
+   */
+  @Override
+  public CoverageSignature getCoverageSignature(AbstractState pState) {
+    List<AbstractState> componentStates = ((CompositeState) pState).getWrappedStates();
+    List<CoverageSignature> signatures = new ArrayList<>(stopOperators.size());
+    for (int idx = 0; idx < stopOperators.size(); idx++) {
+      signatures.add(
+          stopOperators.get(idx) instanceof IndexableStopOperator indexableStop
+              ? indexableStop.getCoverageSignature(componentStates.get(idx))
+              : CoverageSignature.NONE);
+    }
+    return CoverageSignature.ofComponents(signatures);
+  }
+
   boolean isCoveredBy(
       AbstractState pElement, AbstractState pOtherElement, List<ConfigurableProgramAnalysis> cpas)
       throws CPAException, InterruptedException {
@@ -17,9 +17,11 @@ import static org.sosy_lab.cpachecker.util.AbstractStates.extractStateByType;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicates;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,7 +29,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.ast.c.CFunctionCall;
 import org.sosy_lab.cpachecker.cfa.ast.c.CSimpleDeclaration;
@@ -59,13 +65,31 @@ final class CompositeTransferRelation implements WrapperTransferRelation {
   private final int size;
   private final boolean predicatesPresent;
   private final boolean aggregateBasicBlocks;
+  private final CompositeTransferStatistics stats;
+
+  /**
+   * The executor for computing the successors of the components in parallel, or {@code null} if the
+   * successors are computed sequentially.
+   */
+  private final @Nullable ExecutorService executor;
+
+  /** The indices of the components whose successors are computed by the executor. */
+  private final ImmutableSet<Integer> parallelComponents;
 
   CompositeTransferRelation(
-      ImmutableList<TransferRelation> pTransferRelations, CFA pCFA, boolean pAggregateBasicBlocks) {
+      ImmutableList<TransferRelation> pTransferRelations,
+      CFA pCFA,
+      boolean pAggregateBasicBlocks,
+      CompositeTransferStatistics pStats,
+      @Nullable ExecutorService pExecutor,
+      ImmutableSet<Integer> pParallelComponents) {
     transferRelations = pTransferRelations;
     cfa = pCFA;
     size = pTransferRelations.size();
     aggregateBasicBlocks = pAggregateBasicBlocks;
+    stats = pStats;
+    executor = pExecutor;
+    parallelComponents = pParallelComponents;
 
     // prepare special case handling if both predicates and assumptions are used
     predicatesPresent =
@@ -290,16 +314,17 @@ final class CompositeTransferRelation implements WrapperTransferRelation {
     List<AbstractState> componentElements = compositeState.getWrappedStates();
     checkArgument(
         componentElements.size() == size, "State with wrong number of component states given");
+    if (executor != null) {
+      return callTransferRelationInParallel(componentElements, compositePrecision, cfaEdge);
+    }
     List<Collection<? extends AbstractState>> allComponentsSuccessors = new ArrayList<>(size);
 
     for (int i = 0; i < size; i++) {
-      TransferRelation lCurrentTransfer = transferRelations.get(i);
       AbstractState lCurrentElement = componentElements.get(i);
       Precision lCurrentPrecision = compositePrecision.get(i);
 
       Collection<? extends AbstractState> componentSuccessors =
-          lCurrentTransfer.getAbstractSuccessorsForEdge(
-              lCurrentElement, lCurrentPrecision, cfaEdge);
+          getComponentSuccessors(i, lCurrentElement, lCurrentPrecision, cfaEdge);
       resultCount *= componentSuccessors.size();
 
       if (resultCount == 0) {
@@ -314,6 +339,101 @@ final class CompositeTransferRelation implements WrapperTransferRelation {
     return createCartesianProduct(allComponentsSuccessors, resultCount);
   }
 
+  /**
+   * Computes the successors of the components like {@link #callTransferRelation}, but the
+   * successors of the components in {@link #parallelComponents} are computed by the executor. The
+   * successors of the other components are computed first in the current thread, and if one of them
+   * has no successor, the (usually more expensive) parallel components are not called at all, like
+   * in the sequential case. The components are independent until they are strengthened, which
+   * happens afterwards in the usual order.
+   */
+  private Collection<List<AbstractState>> callTransferRelationInParallel(
+      final List<AbstractState> componentElements,
+      final CompositePrecision compositePrecision,
+      final CFAEdge cfaEdge)
+      throws CPATransferException, InterruptedException {
+    List<@Nullable Collection<? extends AbstractState>> allComponentsSuccessors =
+        new ArrayList<>(size);
+    int resultCount = 1;
+    for (int i = 0; i < size; i++) {
+      if (parallelComponents.contains(i)) {
+        allComponentsSuccessors.add(null);
+        continue;
+      }
+      Collection<? extends AbstractState> componentSuccessors =
+          getComponentSuccessors(i, componentElements.get(i), compositePrecision.get(i), cfaEdge);
+      resultCount *= componentSuccessors.size();
+      if (resultCount == 0) {
+        // shortcut
+        return ImmutableSet.of();
+      }
+      allComponentsSuccessors.add(componentSuccessors);
+    }
+
+    stats.parallelSuccessorComputations.increment();
+    List<Future<Collection<? extends AbstractState>>> futures = new ArrayList<>(size);
+    try {
+      for (int i : parallelComponents) {
+        final int component = i;
+        futures.add(
+            executor.submit(
+                () ->
+                    getComponentSuccessors(
+                        component,
+                        componentElements.get(component),
+                        compositePrecision.get(component),
+                        cfaEdge)));
+      }
+
+      Iterator<Future<Collection<? extends AbstractState>>> futureIterator = futures.iterator();
+      for (int i : parallelComponents) {
+        Collection<? extends AbstractState> componentSuccessors =
+            getComponentSuccessors(futureIterator.next());
+        resultCount *= componentSuccessors.size();
+        allComponentsSuccessors.set(i, componentSuccessors);
+      }
+      return createCartesianProduct(allComponentsSuccessors, resultCount);
+
+    } finally {
+      // A component must never compute two successors at the same time, so even if a computation
+      // failed, all other computations need to finish before the next successor computation.
+      for (Future<?> future : futures) {
+        try {
+          Uninterruptibles.getUninterruptibly(future);
+        } catch (ExecutionException e) {
+          // the first failure is already propagated, further ones are irrelevant
+        }
+      }
+    }
+  }
+
+  private Collection<? extends AbstractState> getComponentSuccessors(
+      Future<Collection<? extends AbstractState>> pFuture)
+      throws CPATransferException, InterruptedException {
+    try {
+      return Uninterruptibles.getUninterruptibly(pFuture);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      Throwables.throwIfInstanceOf(cause, CPATransferException.class);
+      Throwables.throwIfInstanceOf(cause, InterruptedException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new UnexpectedCheckedException("parallel successor computation", cause);
+    }
+  }
+
+  private Collection<? extends AbstractState> getComponentSuccessors(
+      int pComponent, AbstractState pState, Precision pPrecision, CFAEdge pCfaEdge)
+      throws CPATransferException, InterruptedException {
+    long start = System.nanoTime();
+    try {
+      return transferRelations
+          .get(pComponent)
+          .getAbstractSuccessorsForEdge(pState, pPrecision, pCfaEdge);
+    } finally {
+      stats.getSuccessorLatency(pComponent).record(start);
+    }
+  }
+
   private Collection<List<AbstractState>> callStrengthen(
       final List<AbstractState> reachedState,
       final CompositePrecision compositePrecision,
@@ -328,8 +448,14 @@ final class CompositeTransferRelation implements WrapperTransferRelation {
       AbstractState lCurrentElement = reachedState.get(i);
       Precision lCurrentPrecision = compositePrecision.get(i);
 
-      Collection<? extends AbstractState> lResultsList =
-          lCurrentTransfer.strengthen(lCurrentElement, reachedState, cfaEdge, lCurrentPrecision);
+      long start = System.nanoTime();
+      Collection<? extends AbstractState> lResultsList;
+      try {
+        lResultsList =
+            lCurrentTransfer.strengthen(lCurrentElement, reachedState, cfaEdge, lCurrentPrecision);
+      } finally {
+        stats.getStrengthenLatency(i).record(start);
+      }
 
       resultCount *= lResultsList.size();
       if (resultCount == 0) {
@@ -0,0 +1,194 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.composite;
+
+import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.After;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.core.defaults.SingleEdgeTransferRelation;
+import org.sosy_lab.cpachecker.core.defaults.SingletonPrecision;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.TransferRelation;
+import org.sosy_lab.cpachecker.exceptions.CPATransferException;
+
+public class CompositeTransferRelationTest {
+
+  private record TestState(String name) implements AbstractState {}
+
+  /** A transfer relation that returns fixed successors or fails with a fixed exception. */
+  private static final class TestTransferRelation extends SingleEdgeTransferRelation {
+
+    private final ImmutableList<TestState> successors;
+    private final @Nullable CPATransferException failure;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private TestTransferRelation(
+        ImmutableList<TestState> pSuccessors, @Nullable CPATransferException pFailure) {
+      successors = pSuccessors;
+      failure = pFailure;
+    }
+
+    static TestTransferRelation returning(String... pSuccessors) {
+      return new TestTransferRelation(from(pSuccessors).transform(TestState::new).toList(), null);
+    }
+
+    static TestTransferRelation failingWith(CPATransferException pFailure) {
+      return new TestTransferRelation(ImmutableList.of(), pFailure);
+    }
+
+    @Override
+    public Collection<? extends AbstractState> getAbstractSuccessorsForEdge(
+        AbstractState pState, Precision pPrecision, CFAEdge pCfaEdge) throws CPATransferException {
+      calls.incrementAndGet();
+      if (failure != null) {
+        throw failure;
+      }
+      return successors;
+    }
+  }
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static CompositeTransferStatistics createStatistics(int pSize) {
+    return new CompositeTransferStatistics(
+        ImmutableList.copyOf(Collections.nCopies(pSize, mock(ConfigurableProgramAnalysis.class))));
+  }
+
+  private static ImmutableList<List<AbstractState>> computeSuccessors(
+      CompositeTransferRelation pTransferRelation, int pSize)
+      throws CPATransferException, InterruptedException {
+    CompositeState state =
+        new CompositeState(ImmutableList.copyOf(Collections.nCopies(pSize, new TestState("init"))));
+    CompositePrecision precision =
+        new CompositePrecision(
+            ImmutableList.copyOf(Collections.nCopies(pSize, SingletonPrecision.getInstance())));
+    return from(pTransferRelation.getAbstractSuccessorsForEdge(
+            state, precision, mock(CFAEdge.class)))
+        .<List<AbstractState>>transform(CompositeState::getWrappedStates)
+        .toList();
+  }
+
+  private CompositeTransferRelation createTransferRelation(
+      ImmutableList<TransferRelation> pTransferRelations,
+      CompositeTransferStatistics pStats,
+      boolean pParallel,
+      ImmutableSet<Integer> pParallelComponents) {
+    return new CompositeTransferRelation(
+        pTransferRelations,
+        mock(CFA.class),
+        false,
+        pStats,
+        pParallel ? executor : null,
+        pParallel ? pParallelComponents : ImmutableSet.of());
+  }
+
+  @Test
+  public void testParallelSuccessorsEqualSequentialSuccessors() throws Exception {
+    ImmutableList<TransferRelation> transferRelations =
+        ImmutableList.of(
+            TestTransferRelation.returning("a1", "a2"),
+            TestTransferRelation.returning("b1", "b2"),
+            TestTransferRelation.returning("c1"),
+            TestTransferRelation.returning("d1", "d2"));
+    ImmutableSet<Integer> parallelComponents = ImmutableSet.of(1, 3);
+    CompositeTransferStatistics stats = createStatistics(transferRelations.size());
+
+    ImmutableList<List<AbstractState>> sequentialSuccessors =
+        computeSuccessors(
+            createTransferRelation(transferRelations, stats, false, parallelComponents),
+            transferRelations.size());
+    ImmutableList<List<AbstractState>> parallelSuccessors =
+        computeSuccessors(
+            createTransferRelation(transferRelations, stats, true, parallelComponents),
+            transferRelations.size());
+
+    assertThat(sequentialSuccessors).hasSize(8);
+    assertThat(parallelSuccessors).containsExactlyElementsIn(sequentialSuccessors).inOrder();
+    assertThat(stats.parallelSuccessorComputations.sum()).isEqualTo(1);
+  }
+
+  @Test
+  public void testFailureOfParallelComponentIsPropagated() {
+    CPATransferException failure = new CPATransferException("test failure");
+    ImmutableList<TransferRelation> transferRelations =
+        ImmutableList.of(
+            TestTransferRelation.returning("a1"),
+            TestTransferRelation.failingWith(failure),
+            TestTransferRelation.returning("c1"));
+    CompositeTransferRelation transferRelation =
+        createTransferRelation(
+            transferRelations,
+            createStatistics(transferRelations.size()),
+            true,
+            ImmutableSet.of(1, 2));
+
+    CPATransferException thrown =
+        assertThrows(
+            CPATransferException.class,
+            () -> computeSuccessors(transferRelation, transferRelations.size()));
+    assertThat(thrown).isSameInstanceAs(failure);
+  }
+
+  @Test
+  public void testFailureOfInThreadComponentIsPropagated() {
+    CPATransferException failure = new CPATransferException("test failure");
+    TestTransferRelation parallelComponent = TestTransferRelation.returning("b1");
+    ImmutableList<TransferRelation> transferRelations =
+        ImmutableList.of(TestTransferRelation.failingWith(failure), parallelComponent);
+    CompositeTransferRelation transferRelation =
+        createTransferRelation(
+            transferRelations,
+            createStatistics(transferRelations.size()),
+            true,
+            ImmutableSet.of(1));
+
+    CPATransferException thrown =
+        assertThrows(
+            CPATransferException.class,
+            () -> computeSuccessors(transferRelation, transferRelations.size()));
+    assertThat(thrown).isSameInstanceAs(failure);
+    assertThat(parallelComponent.calls.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void testParallelComponentsAreSkippedWithoutSuccessors() throws Exception {
+    TestTransferRelation parallelComponent = TestTransferRelation.returning("a1");
+    ImmutableList<TransferRelation> transferRelations =
+        ImmutableList.of(parallelComponent, TestTransferRelation.returning());
+    CompositeTransferStatistics stats = createStatistics(transferRelations.size());
+    CompositeTransferRelation transferRelation =
+        createTransferRelation(transferRelations, stats, true, ImmutableSet.of(0));
+
+    assertThat(computeSuccessors(transferRelation, transferRelations.size())).isEmpty();
+    assertThat(parallelComponent.calls.get()).isEqualTo(0);
+    assertThat(stats.parallelSuccessorComputations.sum()).isEqualTo(0);
+  }
+}
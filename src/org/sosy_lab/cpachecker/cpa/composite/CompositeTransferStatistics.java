@@ -0,0 +1,105 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.composite;
+
+import static org.sosy_lab.common.collect.Collections3.transformedImmutableListCopy;
+
+import com.google.common.collect.ImmutableList;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.sosy_lab.common.time.TimeSpan;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.Statistics;
+import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
+
+/**
+ * Statistics about the time that each component of a {@link CompositeCPA} spends in its transfer
+ * relation. The times are accumulated without locks, because the successors of the components may
+ * be computed in parallel.
+ */
+final class CompositeTransferStatistics implements Statistics {
+
+  /** The accumulated latency of one operation of one component. */
+  static final class Latency {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long pStartNanos) {
+      long nanos = System.nanoTime() - pStartNanos;
+      calls.increment();
+      sumNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+    }
+
+    private long getCalls() {
+      return calls.sum();
+    }
+
+    @Override
+    public String toString() {
+      long count = calls.sum();
+      long sum = sumNanos.sum();
+      return String.format(
+          "%s (avg: %s, max: %s, calls: %d)",
+          TimeSpan.ofNanos(sum).formatAs(TimeUnit.SECONDS),
+          TimeSpan.ofNanos(count == 0 ? 0 : sum / count).formatAs(TimeUnit.SECONDS),
+          TimeSpan.ofNanos(maxNanos.get()).formatAs(TimeUnit.SECONDS),
+          count);
+    }
+  }
+
+  private final ImmutableList<String> componentNames;
+  private final ImmutableList<Latency> successorLatencies;
+  private final ImmutableList<Latency> strengthenLatencies;
+
+  /** The number of successor computations whose components were run in parallel. */
+  final LongAdder parallelSuccessorComputations = new LongAdder();
+
+  CompositeTransferStatistics(List<ConfigurableProgramAnalysis> pCpas) {
+    componentNames = transformedImmutableListCopy(pCpas, cpa -> cpa.getClass().getSimpleName());
+    successorLatencies = transformedImmutableListCopy(pCpas, cpa -> new Latency());
+    strengthenLatencies = transformedImmutableListCopy(pCpas, cpa -> new Latency());
+  }
+
+  Latency getSuccessorLatency(int pComponent) {
+    return successorLatencies.get(pComponent);
+  }
+
+  Latency getStrengthenLatency(int pComponent) {
+    return strengthenLatencies.get(pComponent);
+  }
+
+  @Override
+  public String getName() {
+    return "CompositeCPA";
+  }
+
+  @Override
+  public void printStatistics(PrintStream pOut, Result pResult, UnmodifiableReachedSet pReached) {
+    StatisticsWriter writer = StatisticsWriter.writingStatisticsTo(pOut);
+    long parallel = parallelSuccessorComputations.sum();
+    writer.putIf(parallel > 0, "Number of parallel successor computations", parallel);
+    for (int i = 0; i < componentNames.size(); i++) {
+      Latency successorLatency = successorLatencies.get(i);
+      Latency strengthenLatency = strengthenLatencies.get(i);
+      writer
+          .put("Time for successors of " + componentNames.get(i), successorLatency)
+          .beginLevel()
+          .putIf(strengthenLatency.getCalls() > 0, "Time for strengthening", strengthenLatency)
+          .endLevel();
+    }
+  }
+}
@@ -78,6 +78,9 @@ public class ConstraintsStatistics implements Statistics {
       new StatCounter(
           "Number of times the persistent provers stack removed constraints from the top of the"
               + " stack and then pushed new constraints (that were not removed in the pop)");
+  public final StatCounter guardedConstraintsAdded =
+      new StatCounter(
+          "Number of constraints added to the persistent prover behind a guard literal");
   public StatDouble reuseRatio =
       new StatDouble(
           StatKind.AVG,
@@ -142,7 +145,8 @@ public class ConstraintsStatistics implements Statistics {
         .put(persistentProverUsed)
         .put(persistentProverUsedIncrementallyFormulasPopdAndRepushed)
         .put(persistentProverUsedIncrementallyFormulasPopdAndNotRepushed)
-        .put(persistentProverUsedIncrementallyPushedWithoutPop);
+        .put(persistentProverUsedIncrementallyPushedWithoutPop)
+        .putIfUpdatedAtLeastOnce(guardedConstraintsAdded);
   }
 
   @Nullable
@@ -35,11 +35,15 @@ import org.sosy_lab.java_smt.api.Formula;
  * <p>The properties responsible for the behaviour of PredicateCPA's formula handling influence the
  * behaviour of this class, too. A number of important properties can be found in the classes {@link
  * CFormulaEncodingOptions} and {@link FormulaManagerView}.
+ *
+ * <p>The transformation of symbolic expressions into C expressions is memoized over the lifetime of
+ * a creator, so a creator should be reused for all constraints of a function.
  */
 public class FormulaCreatorUsingCConverter implements FormulaCreator {
 
   private final MachineModel machineModel;
   private final CtoFormulaConverter toFormulaTransformer;
+  private final SymbolicExpressionToCExpressionTransformer toExpressionTransformer;
 
   private final String functionName;
 
@@ -50,15 +54,12 @@ public class FormulaCreatorUsingCConverter implements FormulaCreator {
     machineModel = pMachineModel;
     toFormulaTransformer = pConverter;
     functionName = pFunctionName;
+    toExpressionTransformer = new SymbolicExpressionToCExpressionTransformer(machineModel);
   }
 
   @Override
   public BooleanFormula createFormula(final Constraint pConstraint)
       throws UnrecognizedCodeException, InterruptedException {
-
-    final SymbolicExpressionToCExpressionTransformer toExpressionTransformer =
-        new SymbolicExpressionToCExpressionTransformer(machineModel);
-
     CExpression constraintExpression = pConstraint.accept(toExpressionTransformer);
 
     return toFormulaTransformer.makePredicate(
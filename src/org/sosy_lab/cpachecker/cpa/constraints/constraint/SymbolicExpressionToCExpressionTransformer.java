@@ -8,6 +8,8 @@
 
 package org.sosy_lab.cpachecker.cpa.constraints.constraint;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.ast.FileLocation;
 import org.sosy_lab.cpachecker.cfa.ast.c.CBinaryExpression;
@@ -60,6 +62,15 @@ import org.sosy_lab.cpachecker.exceptions.UnrecognizedCodeException;
 /**
  * Transforms {@link SymbolicExpression}s into {@link CExpression}s.
  *
+ * <p>Results for subexpressions are memoized for the lifetime of a transformer object. The memo is
+ * keyed by identity, as {@link SymbolicExpression#equals(Object)} does not consider all details
+ * relevant for the transformation (e.g., calculation types). Thus it only contains expressions
+ * without represented location or state, which are hash-consed by {@link
+ * org.sosy_lab.cpachecker.cpa.value.symbolic.type.SymbolicValueFactory}. Other expressions, e.g.,
+ * the values of program variables, are transformed again each time, but their operands are usually
+ * shared and found in the memo. The memo is bounded and references its keys only weakly, so it does
+ * not keep expressions alive that are no longer used.
+ *
  * @see org.sosy_lab.cpachecker.cpa.value.symbolic.ExpressionTransformer
  */
 public class SymbolicExpressionToCExpressionTransformer
@@ -68,6 +79,11 @@ public class SymbolicExpressionToCExpressionTransformer
   private static final FileLocation DUMMY_LOCATION = FileLocation.DUMMY;
   private final MachineModel machineModel;
 
+  private static final int MAX_MEMOIZED_EXPRESSIONS = 10_000;
+
+  private final Cache<SymbolicExpression, CExpression> transformedExpressions =
+      CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_MEMOIZED_EXPRESSIONS).build();
+
   public SymbolicExpressionToCExpressionTransformer(MachineModel pMachineModel) {
     machineModel = pMachineModel;
   }
@@ -154,6 +170,19 @@ public class SymbolicExpressionToCExpressionTransformer
     }
   }*/
 
+  private CExpression transform(SymbolicExpression pExpression) {
+    if (pExpression.getRepresentedLocation().isPresent() || pExpression.hasAbstractState()) {
+      // not shared, so a memoized result would never be found again
+      return pExpression.accept(this);
+    }
+    CExpression result = transformedExpressions.getIfPresent(pExpression);
+    if (result == null) {
+      result = pExpression.accept(this);
+      transformedExpressions.put(pExpression, result);
+    }
+    return result;
+  }
+
   private CType getCType(Type pType) {
     if (pType instanceof CType cType) {
       while (cType instanceof CTypedefType pTypedefType) {
@@ -193,8 +222,8 @@ public class SymbolicExpressionToCExpressionTransformer
         DUMMY_LOCATION,
         getCType(pExpression.getType()),
         getCType(pExpression.getCalculationType()),
-        pExpression.getOperand1().accept(this),
-        pExpression.getOperand2().accept(this),
+        transform(pExpression.getOperand1()),
+        transform(pExpression.getOperand2()),
         pOperator);
   }
 
@@ -203,7 +232,7 @@ public class SymbolicExpressionToCExpressionTransformer
     return new CUnaryExpression(
         DUMMY_LOCATION,
         getCType(pExpression.getType()),
-        pExpression.getOperand().accept(this),
+        transform(pExpression.getOperand()),
         pOperator);
   }
 
@@ -267,7 +296,7 @@ public class SymbolicExpressionToCExpressionTransformer
     SymbolicExpression operand = pExpression.getOperand();
 
     if (operand instanceof LogicalNotExpression logicalNotExpression) {
-      return logicalNotExpression.getOperand().accept(this);
+      return transform(logicalNotExpression.getOperand());
 
     } else {
       try {
@@ -275,7 +304,7 @@ public class SymbolicExpressionToCExpressionTransformer
         BinarySymbolicExpression innerExpression = (BinarySymbolicExpression) operand;
 
         return new CBinaryExpressionBuilder(machineModel, LogManager.createNullLogManager())
-            .negateExpressionAndSimplify(innerExpression.accept(this));
+            .negateExpressionAndSimplify(transform(innerExpression));
 
       } catch (UnrecognizedCodeException urce) {
         // This may only happen for unhandled cases in negateExpressionAndSimplify() or invalid
@@ -313,7 +342,7 @@ public class SymbolicExpressionToCExpressionTransformer
   @Override
   public CExpression visit(CastExpression pExpression) {
     CType cType = getCType(pExpression.getType());
-    CExpression operandExpression = pExpression.getOperand().accept(this);
+    CExpression operandExpression = transform(pExpression.getOperand());
 
     return new CCastExpression(DUMMY_LOCATION, cType, operandExpression);
   }
@@ -321,7 +350,7 @@ public class SymbolicExpressionToCExpressionTransformer
   @Override
   public CExpression visit(PointerExpression pExpression) {
     CType cType = getCType(pExpression.getType());
-    CExpression operandExpression = pExpression.getOperand().accept(this);
+    CExpression operandExpression = transform(pExpression.getOperand());
 
     return new CPointerExpression(DUMMY_LOCATION, cType, operandExpression);
   }
@@ -15,6 +15,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import java.util.ArrayDeque;
@@ -124,6 +125,18 @@ public class ConstraintsSolver {
       name = "reuseSolver")
   private boolean reuseSolver = true;
 
+  @Option(
+      secure = true,
+      description =
+          "When reusing the solver, do not push and pop constraints, but add each constraint only"
+              + " once, guarded by a fresh boolean literal, and check satisfiability under the"
+              + " assumption of the literals of the relevant constraints. This avoids re-pushing"
+              + " constraints when checking states of different branches.",
+      name = "useAssumptionLiterals")
+  private boolean useAssumptionLiterals = false;
+
+  private static final String GUARD_LITERAL_PREFIX = "__constraint_guard_";
+
   private final ConstraintsCache cache;
   private final Solver solver;
   private final ProverEnvironment persistentProver;
@@ -136,12 +149,21 @@ public class ConstraintsSolver {
   /** Table of id constraints set, id identifier assignment, formula */
   private final Map<Constraint, BooleanFormula> constraintFormulas = new HashMap<>();
 
+  /** Formula creators per function name, reused to benefit from their memoization. */
+  private final Map<String, FormulaCreator> formulaCreators = new HashMap<>();
+
   private final BooleanFormula literalForSingleAssignment;
 
   private final ConstraintsStatistics stats;
 
   private final Deque<BooleanFormula> currentConstraintsOnProver = new ArrayDeque<>();
 
+  /**
+   * Guard literals of the constraints that were added to {@link #persistentProver} if {@link
+   * #useAssumptionLiterals} is enabled.
+   */
+  private final Map<BooleanFormula, BooleanFormula> guardLiterals = new HashMap<>();
+
   private final MachineModel machineModel;
 
   public ConstraintsSolver(
@@ -320,11 +342,26 @@ public class ConstraintsSolver {
             return handleSolverResult(
                 isUnsat(prover),
                 prover,
+                ImmutableList.of(),
                 relevantConstraints,
                 constraintsAsFormulas,
                 pConstraintsToCheck);
           }
 
+        } else if (useAssumptionLiterals) {
+          // Incremental with guarded constraints, the stack of the prover is not changed
+          stats.persistentProverUsed.inc();
+          ImmutableList<BooleanFormula> guards = getGuardLiterals(constraintsAsFormulas);
+          stats.timeForProverPreparation.stop();
+
+          return handleSolverResult(
+              isUnsatWithAssumptions(persistentProver, guards),
+              persistentProver,
+              guards,
+              relevantConstraints,
+              constraintsAsFormulas,
+              pConstraintsToCheck);
+
         } else {
           // Incremental
           stats.persistentProverUsed.inc();
@@ -344,6 +381,7 @@ public class ConstraintsSolver {
           return handleSolverResult(
               unsat,
               persistentProver,
+              ImmutableList.of(),
               relevantConstraints,
               constraintsAsFormulas,
               pConstraintsToCheck);
@@ -364,16 +402,76 @@ public class ConstraintsSolver {
     }
   }
 
+  private boolean isUnsatWithAssumptions(
+      ProverEnvironment prover, Collection<BooleanFormula> pAssumptions)
+      throws SolverException, InterruptedException {
+    try {
+      stats.timeForSatCheck.start();
+      return prover.isUnsatWithAssumptions(pAssumptions);
+    } finally {
+      stats.timeForSatCheck.stop();
+    }
+  }
+
+  /**
+   * Returns the guard literals for the given constraints. Constraints that were not seen before are
+   * added to the persistent prover as implication from a new guard literal.
+   */
+  private ImmutableList<BooleanFormula> getGuardLiterals(
+      ImmutableSet<BooleanFormula> pConstraintsToCheck) throws InterruptedException {
+    ImmutableList.Builder<BooleanFormula> guards =
+        ImmutableList.builderWithExpectedSize(pConstraintsToCheck.size());
+    for (BooleanFormula constraint : pConstraintsToCheck) {
+      BooleanFormula guard = guardLiterals.get(constraint);
+      if (guard == null) {
+        guard = booleanFormulaManager.makeVariable(GUARD_LITERAL_PREFIX + guardLiterals.size());
+        persistentProver.addConstraint(createLiteralLabel(guard, constraint));
+        guardLiterals.put(constraint, guard);
+        stats.guardedConstraintsAdded.inc();
+      }
+      guards.add(guard);
+    }
+    return guards.build();
+  }
+
+  /**
+   * Returns the satisfying model of the last check. If guard literals are used, the prover also
+   * knows constraints that were not part of the check, so the model is restricted to the variables
+   * of the checked constraints.
+   */
+  private ImmutableList<ValueAssignment> getModelAssignments(
+      ProverEnvironment prover,
+      Collection<BooleanFormula> pAssumptions,
+      Collection<BooleanFormula> constraintsAsFormulas)
+      throws SolverException {
+    ImmutableList<ValueAssignment> model = prover.getModelAssignments();
+    if (pAssumptions.isEmpty()) {
+      return model;
+    }
+    Set<String> relevantVariables = new HashSet<>();
+    for (BooleanFormula constraint : constraintsAsFormulas) {
+      relevantVariables.addAll(formulaManager.extractVariableNames(constraint));
+    }
+    return ImmutableList.copyOf(
+        Iterables.filter(model, assignment -> relevantVariables.contains(assignment.getName())));
+  }
+
+  /**
+   * @param pAssumptions the guard literals under which the check was done, or an empty collection
+   *     if all relevant constraints are on the stack of the prover
+   */
   private SolverResult handleSolverResult(
       boolean unsat,
       ProverEnvironment prover,
+      Collection<BooleanFormula> pAssumptions,
       ImmutableSet<Constraint> relevantConstraints,
       Collection<BooleanFormula> constraintsAsFormulas,
       ConstraintsState pConstraintsToCheck)
       throws SolverException, InterruptedException {
 
     if (!unsat) {
-      ImmutableList<ValueAssignment> satisfyingModel = prover.getModelAssignments();
+      ImmutableList<ValueAssignment> satisfyingModel =
+          getModelAssignments(prover, pAssumptions, constraintsAsFormulas);
       cache.addSat(constraintsAsFormulas, satisfyingModel);
 
       // doing this while the complete formula is still on the prover environment stack is
@@ -382,7 +480,7 @@ public class ConstraintsSolver {
       // to be removed later on
       if (resolveDefinites) {
         ImmutableCollection<ValueAssignment> definiteAssignmentsInModel =
-            resolveDefiniteAssignments(pConstraintsToCheck, satisfyingModel, prover);
+            resolveDefiniteAssignments(pConstraintsToCheck, satisfyingModel, prover, pAssumptions);
         assert satisfyingModel.containsAll(definiteAssignmentsInModel)
             : "Model does not imply definites: "
                 + satisfyingModel
@@ -567,12 +665,15 @@ public class ConstraintsSolver {
   }
 
   private ImmutableCollection<ValueAssignment> resolveDefiniteAssignments(
-      ConstraintsState pConstraints, List<ValueAssignment> pModel, ProverEnvironment prover)
+      ConstraintsState pConstraints,
+      List<ValueAssignment> pModel,
+      ProverEnvironment prover,
+      Collection<BooleanFormula> pAssumptions)
       throws InterruptedException, SolverException {
     try {
       stats.timeForDefinitesComputation.start();
 
-      return computeDefiniteAssignment(pConstraints, pModel, prover);
+      return computeDefiniteAssignment(pConstraints, pModel, prover, pAssumptions);
 
     } finally {
       stats.timeForDefinitesComputation.stop();
@@ -580,7 +681,10 @@ public class ConstraintsSolver {
   }
 
   private ImmutableCollection<ValueAssignment> computeDefiniteAssignment(
-      ConstraintsState pState, List<ValueAssignment> pModel, ProverEnvironment prover)
+      ConstraintsState pState,
+      List<ValueAssignment> pModel,
+      ProverEnvironment prover,
+      Collection<BooleanFormula> pAssumptions)
       throws SolverException, InterruptedException {
 
     ImmutableCollection<ValueAssignment> existingDefinites = pState.getDefiniteAssignment();
@@ -588,7 +692,8 @@ public class ConstraintsSolver {
 
     for (ValueAssignment val : pModel) {
       if (SymbolicValues.isSymbolicTerm(val.getName())
-          && (existingDefinites.contains(val) || isOnlySatisfyingAssignment(val, prover))) {
+          && (existingDefinites.contains(val)
+              || isOnlySatisfyingAssignment(val, prover, pAssumptions))) {
         stats.definiteAssignmentsFound.inc();
         newDefinites.add(val);
       }
@@ -602,7 +707,8 @@ public class ConstraintsSolver {
   //  automatically, but it should be assumed that this is only the case as long as the stack is
   //  not popped.
   //  https://gitlab.com/sosy-lab/software/cpachecker/-/issues/1350
-  private boolean isOnlySatisfyingAssignment(ValueAssignment pTerm, ProverEnvironment prover)
+  private boolean isOnlySatisfyingAssignment(
+      ValueAssignment pTerm, ProverEnvironment prover, Collection<BooleanFormula> pAssumptions)
       throws SolverException, InterruptedException {
 
     BooleanFormula prohibitAssignment = formulaManager.makeNot(pTerm.getAssignmentAsFormula());
@@ -610,14 +716,20 @@ public class ConstraintsSolver {
     prohibitAssignment = createLiteralLabel(literalForSingleAssignment, prohibitAssignment);
     prover.push(prohibitAssignment);
     boolean isUnsat =
-        prover.isUnsatWithAssumptions(Collections.singleton(literalForSingleAssignment));
+        prover.isUnsatWithAssumptions(
+            ImmutableList.<BooleanFormula>builder()
+                .add(literalForSingleAssignment)
+                .addAll(pAssumptions)
+                .build());
     prover.pop();
 
     return isUnsat;
   }
 
   private FormulaCreator getFormulaCreator(String pFunctionName) {
-    return new FormulaCreatorUsingCConverter(machineModel, converter, pFunctionName);
+    return formulaCreators.computeIfAbsent(
+        pFunctionName,
+        functionName -> new FormulaCreatorUsingCConverter(machineModel, converter, functionName));
   }
 
   /**
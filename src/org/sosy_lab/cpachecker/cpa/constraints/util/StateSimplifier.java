@@ -10,6 +10,10 @@ package org.sosy_lab.cpachecker.cpa.constraints.util;
 
 import static com.google.common.collect.FluentIterable.from;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import java.util.Collection;
 import java.util.HashMap;
@@ -52,6 +56,30 @@ public class StateSimplifier {
 
   private final ConstraintsStatistics stats;
 
+  private static final int MAX_CACHED_CONSTRAINTS = 10_000;
+
+  /**
+   * Memoized results of the simplification checks per constraint. Constraints are immutable and the
+   * same constraints are simplified again for each new state they occur in. Both results only
+   * depend on what {@link Constraint#equals(Object)} compares, so the caches are keyed by equality
+   * and also hit for equal constraints that are not shared, e.g., because they carry a represented
+   * location. The caches are bounded, so they do not keep arbitrarily many constraints alive.
+   */
+  private final LoadingCache<Constraint, Boolean> trivialConstraints =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHED_CONSTRAINTS)
+          .build(
+              CacheLoader.from(constraint -> constraint.accept(new ConstraintTrivialityChecker())));
+
+  private final LoadingCache<Constraint, ImmutableSet<SymbolicIdentifier>> containedIdentifiers =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHED_CONSTRAINTS)
+          .build(
+              CacheLoader.from(
+                  constraint ->
+                      ImmutableSet.copyOf(
+                          SymbolicValues.getContainedSymbolicIdentifiers(constraint))));
+
   public StateSimplifier(final Configuration pConfig, final ConstraintsStatistics pStats)
       throws InvalidConfigurationException {
     pConfig.inject(this);
@@ -103,9 +131,11 @@ public class StateSimplifier {
   }
 
   private boolean isTrivial(Constraint pConstraint) {
-    final ConstraintTrivialityChecker trivialityChecker = new ConstraintTrivialityChecker();
+    return trivialConstraints.getUnchecked(pConstraint);
+  }
 
-    return pConstraint.accept(trivialityChecker);
+  private Collection<SymbolicIdentifier> getContainedSymbolicIdentifiers(Constraint pConstraint) {
+    return containedIdentifiers.getUnchecked(pConstraint);
   }
 
   /**
@@ -236,8 +266,7 @@ public class StateSimplifier {
     Map<ActivityInfo, Set<ActivityInfo>> activityMap = new HashMap<>();
 
     for (Constraint c : pState) {
-      final Collection<SymbolicIdentifier> usedIdentifiers =
-          SymbolicValues.getContainedSymbolicIdentifiers(c);
+      final Collection<SymbolicIdentifier> usedIdentifiers = getContainedSymbolicIdentifiers(c);
 
       for (SymbolicIdentifier i : usedIdentifiers) {
         Set<SymbolicIdentifier> otherIdentifiers = new HashSet<>(usedIdentifiers);
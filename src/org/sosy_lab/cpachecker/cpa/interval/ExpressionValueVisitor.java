@@ -66,7 +66,7 @@ class ExpressionValueVisitor extends DefaultCExpressionVisitor<Interval, Unrecog
       case EQUALS -> {
         if (!interval1.intersects(interval2)) {
           return Interval.ZERO;
-        } else if (interval1.getLow().equals(interval1.getHigh()) && interval1.equals(interval2)) {
+        } else if (interval1.isSingular() && interval1.equals(interval2)) {
           // singular interval, [5;5]==[5;5]
           return Interval.ONE;
         } else {
@@ -76,7 +76,7 @@ class ExpressionValueVisitor extends DefaultCExpressionVisitor<Interval, Unrecog
       case NOT_EQUALS -> {
         if (!interval1.intersects(interval2)) {
           return Interval.ONE;
-        } else if (interval1.getLow().equals(interval1.getHigh()) && interval1.equals(interval2)) {
+        } else if (interval1.isSingular() && interval1.equals(interval2)) {
           // singular interval, [5;5]!=[5;5]
           return Interval.ZERO;
         } else {
@@ -158,12 +158,8 @@ class ExpressionValueVisitor extends DefaultCExpressionVisitor<Interval, Unrecog
       return getIntervalFor(enumConstant);
     }
 
-    final String variableName = identifier.getDeclaration().getQualifiedName();
-    if (readableState.contains(variableName)) {
-      return readableState.getInterval(variableName);
-    } else {
-      return Interval.UNBOUND;
-    }
+    // untracked variables are unbound
+    return readableState.getInterval(identifier.getDeclaration().getQualifiedName());
   }
 
   @Override
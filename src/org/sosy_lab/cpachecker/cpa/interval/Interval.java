@@ -12,21 +12,24 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.math.LongMath.saturatedAdd;
 import static com.google.common.math.LongMath.saturatedMultiply;
 
-import com.google.common.primitives.Longs;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Objects;
 
+/**
+ * Immutable interval of long values. The bounds are stored as primitive values, so that computing
+ * with intervals does not need to box the bounds. The empty interval is represented by a lower
+ * bound that is larger than the upper bound.
+ */
 public final class Interval implements Serializable {
-  @Serial private static final long serialVersionUID = 4223098080993616295L;
+  @Serial private static final long serialVersionUID = -6271398240377428457L;
 
   /** the lower bound of the interval */
-  private final Long low;
+  private final long low;
 
   /** the upper bound of the interval */
-  private final Long high;
+  private final long high;
 
-  private static final Interval EMPTY = new Interval(null, null);
+  private static final Interval EMPTY = new Interval();
   public static final Interval UNBOUND = new Interval(Long.MIN_VALUE, Long.MAX_VALUE);
   public static final Interval BOOLEAN_INTERVAL = new Interval(0L, 1L);
   public static final Interval ZERO = new Interval(0L, 0L);
@@ -37,12 +40,10 @@ public final class Interval implements Serializable {
    *
    * @param value for the lower and upper bound
    */
-  public Interval(Long value) {
+  public Interval(long value) {
     low = value;
 
     high = value;
-
-    isSane();
   }
 
   /**
@@ -51,51 +52,61 @@ public final class Interval implements Serializable {
    * @param low the lower bound
    * @param high the upper bound
    */
-  public Interval(Long low, Long high) {
+  public Interval(long low, long high) {
+    checkState(low <= high, "low cannot be larger than high");
+
     this.low = low;
 
     this.high = high;
-
-    isSane();
   }
 
-  private boolean isSane() {
-    checkState((low == null) == (high == null), "invalid empty interval");
-    checkState(low == null || low <= high, "low cannot be larger than high");
-
-    return true;
+  /** Constructor for the empty interval. */
+  private Interval() {
+    low = Long.MAX_VALUE;
+    high = Long.MIN_VALUE;
   }
 
   /**
-   * This method returns the lower bound of the interval.
+   * This method returns the lower bound of the interval. The result is meaningless for the empty
+   * interval.
    *
    * @return the lower bound
    */
-  public Long getLow() {
+  public long getLow() {
     return low;
   }
 
   /**
-   * This method returns the upper bound of the interval.
+   * This method returns the upper bound of the interval. The result is meaningless for the empty
+   * interval.
    *
    * @return the upper bound
    */
-  public Long getHigh() {
+  public long getHigh() {
     return high;
   }
 
+  /**
+   * This method determines whether the interval contains exactly one value.
+   *
+   * @return whether the lower and upper bound are equal
+   */
+  public boolean isSingular() {
+    return low == high;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || getClass() != other.getClass()) {
       return false;
     }
     Interval another = (Interval) other;
-    return Objects.equals(low, another.low) && Objects.equals(high, another.high);
+    return low == another.low && high == another.high;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(low, high);
+    return 31 * Long.hashCode(low) + Long.hashCode(high);
   }
 
   /**
@@ -190,13 +201,18 @@ public final class Interval implements Serializable {
    * @return the new interval with the respective bounds.
    */
   public Interval modulo(Interval other) {
-    if (other.contains(ZERO)) {
+    if (isEmpty() || other.isEmpty()) {
+      return EMPTY;
+    }
+    if (other.contains(ZERO) || other.low == Long.MIN_VALUE) {
       return Interval.UNBOUND;
     }
 
     // The interval doesn't contain zero, hence low and high has to be of the same sign.
     // In that case we can call an absolute value on both, as "% (-x)" is the same as "% x".
-    other = new Interval(Math.abs(other.low), Math.abs(other.high));
+    // Note that the order of the bounds flips for negative intervals.
+    long otherLow = Math.min(Math.abs(other.low), Math.abs(other.high));
+    long otherHigh = Math.max(Math.abs(other.low), Math.abs(other.high));
 
     long newHigh;
     long newLow;
@@ -215,14 +231,14 @@ public final class Interval implements Serializable {
         top = Math.max(Math.abs(low), high);
       }
     }
-    newHigh = Math.min(top, other.high - 1);
+    newHigh = Math.min(top, otherHigh - 1);
 
     // Separate consideration for the case where the divisible number can be negative.
     if (low >= 0) { // If the divisible interval is all positive, the lowest we can ever get is 0.
 
       // We can only get zero if we include 0 or the number higher than the smallest value of the
       // other interval.
-      if (low == 0 || high >= other.low) {
+      if (low == 0 || high >= otherLow) {
         newLow = 0;
       } else {
         newLow = low;
@@ -234,7 +250,7 @@ public final class Interval implements Serializable {
       // (e.g. X mod 14 can not be lower than -13)
 
       // Remember, <low> is negative in this branch.
-      newLow = Math.max(low, 1 - other.high);
+      newLow = Math.max(low, 1 - otherHigh);
     }
 
     Interval out = new Interval(newLow, newHigh);
@@ -333,8 +349,12 @@ public final class Interval implements Serializable {
    * @param offset the constant offset to add
    * @return a new interval with the respective bounds
    */
-  public Interval plus(Long offset) {
-    return plus(new Interval(offset, offset));
+  public Interval plus(long offset) {
+    if (isEmpty()) {
+      return EMPTY;
+    }
+
+    return new Interval(saturatedAdd(low, offset), saturatedAdd(high, offset));
   }
 
   /**
@@ -345,7 +365,14 @@ public final class Interval implements Serializable {
    * @return a new interval with the respective bounds
    */
   public Interval minus(Interval other) {
-    return plus(other.negate());
+    if (isEmpty() || other.isEmpty()) {
+      return EMPTY;
+    }
+
+    // same as plus(other.negate()), but without creating the intermediate interval
+    return new Interval(
+        saturatedAdd(low, saturatedMultiply(other.high, -1L)),
+        saturatedAdd(high, saturatedMultiply(other.low, -1L)));
   }
 
   /**
@@ -355,7 +382,7 @@ public final class Interval implements Serializable {
    * @param offset the constant offset to subtract
    * @return a new interval with the respective bounds
    */
-  public Interval minus(Long offset) {
+  public Interval minus(long offset) {
     return plus(-offset);
   }
 
@@ -367,14 +394,17 @@ public final class Interval implements Serializable {
    * @return new interval that represents the result of the multiplication of the two intervals
    */
   public Interval times(Interval other) {
-    long[] values = {
-      saturatedMultiply(low, other.low),
-      saturatedMultiply(low, other.high),
-      saturatedMultiply(high, other.low),
-      saturatedMultiply(high, other.high),
-    };
+    if (isEmpty() || other.isEmpty()) {
+      return EMPTY;
+    }
+
+    long ll = saturatedMultiply(low, other.low);
+    long lh = saturatedMultiply(low, other.high);
+    long hl = saturatedMultiply(high, other.low);
+    long hh = saturatedMultiply(high, other.high);
 
-    return new Interval(Longs.min(values), Longs.max(values));
+    return new Interval(
+        Math.min(Math.min(ll, lh), Math.min(hl, hh)), Math.max(Math.max(ll, lh), Math.max(hl, hh)));
   }
 
   /**
@@ -385,13 +415,21 @@ public final class Interval implements Serializable {
    * @return new interval that represents the result of the division of the two intervals
    */
   public Interval divide(Interval other) {
+    if (isEmpty() || other.isEmpty()) {
+      return EMPTY;
+    }
     // other interval contains "0", return unbound interval
     if (other.contains(ZERO)) {
       return UNBOUND;
     } else {
-      long[] values = {low / other.low, low / other.high, high / other.low, high / other.high};
-
-      return new Interval(Longs.min(values), Longs.max(values));
+      long ll = low / other.low;
+      long lh = low / other.high;
+      long hl = high / other.low;
+      long hh = high / other.high;
+
+      return new Interval(
+          Math.min(Math.min(ll, lh), Math.min(hl, hh)),
+          Math.max(Math.max(ll, lh), Math.max(hl, hh)));
     }
   }
 
@@ -403,17 +441,20 @@ public final class Interval implements Serializable {
    * @return new interval that represents the result of the arithmetical left shift
    */
   public Interval shiftLeft(Interval offset) {
+    if (isEmpty() || offset.isEmpty()) {
+      return EMPTY;
+    }
     // create an unbound interval upon trying to shift by a possibly negative offset
     if (ZERO.mayBeGreaterThan(offset)) {
       return UNBOUND;
     } else {
       // if lower bound is negative, shift it by upper bound of offset, else by lower bound of
       // offset
-      Long newLow = low << ((low < 0L) ? offset.high : offset.low);
+      long newLow = low << ((low < 0L) ? offset.high : offset.low);
 
       // if upper bound is negative, shift it by lower bound of offset, else by upper bound of
       // offset
-      Long newHigh = high << ((high < 0L) ? offset.low : offset.high);
+      long newHigh = high << ((high < 0L) ? offset.low : offset.high);
 
       if ((low < 0 && newLow > low) || (high > 0 && newHigh < high)) {
         return UNBOUND;
@@ -431,17 +472,20 @@ public final class Interval implements Serializable {
    * @return new interval that represents the result of the arithmetical right shift
    */
   public Interval shiftRight(Interval offset) {
+    if (isEmpty() || offset.isEmpty()) {
+      return EMPTY;
+    }
     // create an unbound interval upon trying to shift by a possibly negative offset
     if (ZERO.mayBeGreaterThan(offset)) {
       return UNBOUND;
     } else {
       // if lower bound is negative, shift it by lower bound of offset, else by upper bound of
       // offset
-      Long newLow = low >> ((low < 0L) ? offset.low : offset.high);
+      long newLow = low >> ((low < 0L) ? offset.low : offset.high);
 
       // if upper bound is negative, shift it by upper bound of offset, else by lower bound of
       // offset
-      Long newHigh = high >> ((high < 0L) ? offset.high : offset.low);
+      long newHigh = high >> ((high < 0L) ? offset.high : offset.low);
 
       return new Interval(newLow, newHigh);
     }
@@ -453,16 +497,19 @@ public final class Interval implements Serializable {
    * @return new negated interval
    */
   public Interval negate() {
+    if (isEmpty()) {
+      return EMPTY;
+    }
     return new Interval(saturatedMultiply(high, -1L), saturatedMultiply(low, -1L));
   }
 
   /**
    * This method determines whether the interval is empty or not.
    *
-   * @return whether the interval is empty, i.e. the lower and upper bounds are null
+   * @return whether the interval is empty, i.e. the lower bound is larger than the upper bound
    */
   public boolean isEmpty() {
-    return low == null && high == null;
+    return low > high;
   }
 
   public boolean isUnbound() {
@@ -471,7 +518,7 @@ public final class Interval implements Serializable {
 
   @Override
   public String toString() {
-    return "[" + (low == null ? "" : low) + "; " + (high == null ? "" : high) + "]";
+    return isEmpty() ? "[; ]" : "[" + low + "; " + high + "]";
   }
 
   /**
@@ -481,7 +528,7 @@ public final class Interval implements Serializable {
    * @return a lower bounded interval, i.e. the lower bound is set to the given lower bound, the
    *     upper bound is set to Long.MAX_VALUE
    */
-  public static Interval createLowerBoundedInterval(Long lowerBound) {
+  public static Interval createLowerBoundedInterval(long lowerBound) {
     return new Interval(lowerBound, Long.MAX_VALUE);
   }
 
@@ -492,7 +539,7 @@ public final class Interval implements Serializable {
    * @return an upper bounded interval, i.e. the lower bound is set to Long.MIN_VALUE, the upper
    *     bound is set to the given upper bound
    */
-  public static Interval createUpperBoundedInterval(Long upperBound) {
+  public static Interval createUpperBoundedInterval(long upperBound) {
     return new Interval(Long.MIN_VALUE, upperBound);
   }
 }
@@ -28,6 +28,7 @@ import org.sosy_lab.cpachecker.cfa.model.FunctionEntryNode;
 import org.sosy_lab.cpachecker.cfa.model.FunctionExitNode;
 import org.sosy_lab.cpachecker.core.defaults.LatticeAbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractQueryableState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
 import org.sosy_lab.cpachecker.core.interfaces.FormulaReportingState;
 import org.sosy_lab.cpachecker.core.interfaces.Graphable;
 import org.sosy_lab.cpachecker.core.interfaces.PseudoPartitionable;
@@ -122,7 +123,7 @@ public class IntervalAnalysisState
       return removeInterval(variableName);
     }
     // only add the interval if it is not already present
-    if (!intervals.containsKey(variableName) || !intervals.get(variableName).equals(interval)) {
+    if (!interval.equals(intervals.get(variableName))) {
       int referenceCount = getReferenceCount(variableName);
 
       if (pThreshold == -1 || referenceCount < pThreshold) {
@@ -435,12 +436,12 @@ public class IntervalAnalysisState
                     : (entry.getKey().contains("::")
                         ? entry.getKey().substring(entry.getKey().indexOf("::") + 2)
                         : entry.getKey()));
-        Long low = interval.getLow();
-        Long high = interval.getHigh();
-        if (low != null && low != Long.MIN_VALUE) { // check for unbound interval
+        long low = interval.getLow();
+        long high = interval.getHigh();
+        if (low != Long.MIN_VALUE) { // check for unbound interval
           result.add(pMgr.makeLessOrEqual(nfmgr.makeNumber(low), var, true));
         }
-        if (high != null && high != Long.MIN_VALUE) { // check for unbound interval
+        if (high != Long.MIN_VALUE) { // check for unbound interval
           result.add(pMgr.makeGreaterOrEqual(nfmgr.makeNumber(high), var, true));
         }
       }
@@ -460,8 +461,11 @@ public class IntervalAnalysisState
     // Be aware of overflows! -> we use BigInteger, and zero should be a sound value.
     BigInteger absDistance = BigInteger.ZERO;
     for (Interval i : intervals.values()) {
-      long high = i.getHigh() == null ? 0 : i.getHigh();
-      long low = i.getLow() == null ? 0 : i.getLow();
+      if (i.isEmpty()) {
+        continue;
+      }
+      long high = i.getHigh();
+      long low = i.getLow();
       checkArgument(low <= high, "LOW greater than HIGH: %s", i);
       absDistance = absDistance.add(BigInteger.valueOf(high).subtract(BigInteger.valueOf(low)));
     }
@@ -473,6 +477,15 @@ public class IntervalAnalysisState
     return this;
   }
 
+  /**
+   * Returns the coverage signature of this state for {@link #isLessOrEqual(IntervalAnalysisState)}:
+   * a state can only be covered by states with at most as many variables, and by states with as
+   * many variables only if they track the same variables.
+   */
+  CoverageSignature getCoverageSignature() {
+    return new CoverageSignature(null, intervals.size(), intervals.keySet());
+  }
+
   /** Just a pair of values, can be compared alphabetically. */
   private static final class IntervalPseudoPartitionKey
       implements Comparable<IntervalPseudoPartitionKey> {
@@ -261,10 +261,10 @@ public class IntervalAnalysisTransferRelation
       case NOT_EQUALS -> {
         // Splitting depends on the fact that one operand is a literal.
         // Then we try to split into two intervals.
-        if (interval2.getLow().equals(interval2.getHigh())) {
+        if (interval2.isSingular()) {
           return splitInterval(newState, operand1, interval1, interval2);
 
-        } else if (interval1.getLow().equals(interval1.getHigh())) {
+        } else if (interval1.isSingular()) {
           return splitInterval(newState, operand2, interval2, interval1);
 
         } else {
@@ -291,14 +291,14 @@ public class IntervalAnalysisTransferRelation
   private Collection<IntervalAnalysisState> splitInterval(
       IntervalAnalysisState newState, CExpression lhs, Interval interval, Interval splitPoint) {
 
-    assert splitPoint.getLow().equals(splitPoint.getHigh()) : "invalid splitpoint for interval";
+    assert splitPoint.isSingular() : "invalid splitpoint for interval";
 
     // we split in following cases:
     // - either always because of the option 'splitIntervals'
     // - or if the splitPoint is the bound of the interval and thus we can shrink the interval.
     if (splitIntervals
-        || interval.getLow().equals(splitPoint.getHigh())
-        || interval.getHigh().equals(splitPoint.getHigh())) {
+        || interval.getLow() == splitPoint.getHigh()
+        || interval.getHigh() == splitPoint.getHigh()) {
 
       Collection<IntervalAnalysisState> successors = new ArrayList<>();
 
@@ -0,0 +1,321 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.interval;
+
+import static com.google.common.math.LongMath.saturatedAdd;
+import static com.google.common.math.LongMath.saturatedMultiply;
+
+import com.google.common.primitives.Longs;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
+import org.sosy_lab.common.collect.PersistentMap;
+
+/**
+ * Benchmark for the interval domain that mimics the analysis of a loop like {@code for (i = 0; i <
+ * bound; i++) { s = i * 2; }} with some additional variables that are tracked but not changed in
+ * the loop: every iteration evaluates the loop condition, refines the state with it, updates the
+ * loop variables, and then joins the result into the state at the loop head until a fixed point is
+ * reached. Run with {@code ant microbenchmarks -Djmh.args="IntervalBenchmark -prof gc"}.
+ *
+ * <p>{@link #loopFixedPointBaseline} runs the same loop on a copy of the previous representation,
+ * i.e., intervals with boxed bounds and a state with a redundant lookup per update, such that both
+ * representations can be compared in one run. Both states use the same sorted persistent map.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalBenchmark {
+
+  private static final String LOOP_VARIABLE = "main::i";
+  private static final String SUM_VARIABLE = "main::s";
+
+  @Param({"10", "100", "1000"})
+  public int loopBound;
+
+  @Param({"0", "50"})
+  public int otherVariables;
+
+  private IntervalAnalysisState initialState;
+  private BaselineState initialBaselineState;
+
+  @Setup
+  public void buildInitialState() {
+    IntervalAnalysisState state = new IntervalAnalysisState();
+    for (int i = 0; i < otherVariables; i++) {
+      state = state.addInterval("main::v" + i, new Interval(i, 2L * i), -1);
+    }
+    initialState =
+        state
+            .addInterval(LOOP_VARIABLE, Interval.ZERO, -1)
+            .addInterval(SUM_VARIABLE, Interval.ZERO, -1);
+
+    BaselineState baselineState = new BaselineState();
+    for (int i = 0; i < otherVariables; i++) {
+      baselineState =
+          baselineState.addInterval("main::v" + i, new BoxedInterval((long) i, 2L * i), -1);
+    }
+    initialBaselineState =
+        baselineState
+            .addInterval(LOOP_VARIABLE, BoxedInterval.ZERO, -1)
+            .addInterval(SUM_VARIABLE, BoxedInterval.ZERO, -1);
+  }
+
+  @Benchmark
+  public IntervalAnalysisState loopFixedPoint() {
+    Interval bound = new Interval(loopBound);
+    IntervalAnalysisState loopHead = initialState;
+    while (true) {
+      // assume(i < bound)
+      Interval i = loopHead.getInterval(LOOP_VARIABLE);
+      if (i.isGreaterOrEqualThan(bound)) {
+        return loopHead;
+      }
+      i = i.limitUpperBoundBy(bound.minus(1L));
+      IntervalAnalysisState successor = loopHead.addInterval(LOOP_VARIABLE, i, -1);
+
+      // s = i * 2; i = i + 1;
+      Interval s = i.times(new Interval(2));
+      successor =
+          successor.addInterval(SUM_VARIABLE, s, -1).addInterval(LOOP_VARIABLE, i.plus(1L), -1);
+
+      IntervalAnalysisState joined = successor.join(loopHead);
+      if (joined.isLessOrEqual(loopHead)) {
+        return loopHead;
+      }
+      loopHead = joined;
+    }
+  }
+
+  @Benchmark
+  public BaselineState loopFixedPointBaseline() {
+    BoxedInterval bound = new BoxedInterval((long) loopBound, (long) loopBound);
+    BaselineState loopHead = initialBaselineState;
+    while (true) {
+      // assume(i < bound)
+      BoxedInterval i = loopHead.getInterval(LOOP_VARIABLE);
+      if (i.isGreaterOrEqualThan(bound)) {
+        return loopHead;
+      }
+      i = i.limitUpperBoundBy(bound.minus(1L));
+      BaselineState successor = loopHead.addInterval(LOOP_VARIABLE, i, -1);
+
+      // s = i * 2; i = i + 1;
+      BoxedInterval s = i.times(new BoxedInterval(2L, 2L));
+      successor =
+          successor.addInterval(SUM_VARIABLE, s, -1).addInterval(LOOP_VARIABLE, i.plus(1L), -1);
+
+      BaselineState joined = successor.join(loopHead);
+      if (joined.isLessOrEqual(loopHead)) {
+        return loopHead;
+      }
+      loopHead = joined;
+    }
+  }
+
+  /** The operations of {@link Interval} used above, with boxed bounds as before. */
+  private static final class BoxedInterval {
+
+    private static final BoxedInterval EMPTY = new BoxedInterval(null, null);
+    private static final BoxedInterval UNBOUND = new BoxedInterval(Long.MIN_VALUE, Long.MAX_VALUE);
+    private static final BoxedInterval ZERO = new BoxedInterval(0L, 0L);
+
+    private final @Nullable Long low;
+    private final @Nullable Long high;
+
+    private BoxedInterval(@Nullable Long pLow, @Nullable Long pHigh) {
+      low = pLow;
+      high = pHigh;
+    }
+
+    private boolean isEmpty() {
+      return low == null && high == null;
+    }
+
+    private boolean isUnbound() {
+      return !isEmpty() && low == Long.MIN_VALUE && high == Long.MAX_VALUE;
+    }
+
+    private BoxedInterval union(BoxedInterval other) {
+      if (isEmpty() || other.isEmpty()) {
+        return EMPTY;
+      } else if (low <= other.low && high >= other.high) {
+        return this;
+      } else if (low >= other.low && high <= other.high) {
+        return other;
+      } else {
+        return new BoxedInterval(Math.min(low, other.low), Math.max(high, other.high));
+      }
+    }
+
+    private boolean isGreaterOrEqualThan(BoxedInterval other) {
+      return !isEmpty() && !other.isEmpty() && low >= other.high;
+    }
+
+    private boolean contains(BoxedInterval other) {
+      return !isEmpty() && !other.isEmpty() && low <= other.low && other.high <= high;
+    }
+
+    private BoxedInterval limitUpperBoundBy(BoxedInterval other) {
+      if (isEmpty() || other.isEmpty() || low > other.high) {
+        return EMPTY;
+      }
+      return new BoxedInterval(low, Math.min(high, other.high));
+    }
+
+    private BoxedInterval plus(BoxedInterval other) {
+      if (isEmpty() || other.isEmpty()) {
+        return EMPTY;
+      }
+      return new BoxedInterval(saturatedAdd(low, other.low), saturatedAdd(high, other.high));
+    }
+
+    private BoxedInterval plus(Long offset) {
+      return plus(new BoxedInterval(offset, offset));
+    }
+
+    private BoxedInterval minus(Long offset) {
+      return plus(-offset);
+    }
+
+    private BoxedInterval times(BoxedInterval other) {
+      long[] values = {
+        saturatedMultiply(low, other.low),
+        saturatedMultiply(low, other.high),
+        saturatedMultiply(high, other.low),
+        saturatedMultiply(high, other.high),
+      };
+      return new BoxedInterval(Longs.min(values), Longs.max(values));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+      return other instanceof BoxedInterval another
+          && Objects.equals(low, another.low)
+          && Objects.equals(high, another.high);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(low, high);
+    }
+  }
+
+  /** The operations of {@link IntervalAnalysisState} used above, for {@link BoxedInterval}. */
+  public static final class BaselineState {
+
+    private final PersistentMap<String, BoxedInterval> intervals;
+    private final PersistentMap<String, Integer> referenceCounts;
+
+    private BaselineState() {
+      this(PathCopyingPersistentTreeMap.of(), PathCopyingPersistentTreeMap.of());
+    }
+
+    private BaselineState(
+        PersistentMap<String, BoxedInterval> pIntervals,
+        PersistentMap<String, Integer> pReferenceCounts) {
+      intervals = pIntervals;
+      referenceCounts = pReferenceCounts;
+    }
+
+    private BoxedInterval getInterval(String variableName) {
+      return intervals.getOrDefault(variableName, BoxedInterval.UNBOUND);
+    }
+
+    private int getReferenceCount(String variableName) {
+      return referenceCounts.getOrDefault(variableName, 0);
+    }
+
+    private BaselineState addInterval(String variableName, BoxedInterval interval, int pThreshold) {
+      if (interval.isUnbound()) {
+        return removeInterval(variableName);
+      }
+      if (!intervals.containsKey(variableName) || !intervals.get(variableName).equals(interval)) {
+        int referenceCount = getReferenceCount(variableName);
+        if (pThreshold == -1 || referenceCount < pThreshold) {
+          return new BaselineState(
+              intervals.putAndCopy(variableName, interval),
+              referenceCounts.putAndCopy(variableName, referenceCount + 1));
+        } else {
+          return removeInterval(variableName);
+        }
+      }
+      return this;
+    }
+
+    private BaselineState removeInterval(String variableName) {
+      if (intervals.containsKey(variableName)) {
+        return new BaselineState(intervals.removeAndCopy(variableName), referenceCounts);
+      }
+      return this;
+    }
+
+    private BaselineState join(BaselineState reachedState) {
+      boolean changed = false;
+      PersistentMap<String, BoxedInterval> newIntervals = PathCopyingPersistentTreeMap.of();
+      PersistentMap<String, Integer> newReferences = referenceCounts;
+
+      for (String variableName : reachedState.intervals.keySet()) {
+        int otherRefCount = reachedState.getReferenceCount(variableName);
+        BoxedInterval otherInterval = reachedState.getInterval(variableName);
+        if (intervals.containsKey(variableName)) {
+          BoxedInterval mergedInterval = getInterval(variableName).union(otherInterval);
+          if (mergedInterval != otherInterval) {
+            changed = true;
+          }
+          if (!mergedInterval.isUnbound()) {
+            newIntervals = newIntervals.putAndCopy(variableName, mergedInterval);
+          }
+          int thisRefCount = getReferenceCount(variableName);
+          if (mergedInterval != otherInterval && thisRefCount > otherRefCount) {
+            changed = true;
+            newReferences = newReferences.putAndCopy(variableName, thisRefCount);
+          } else {
+            newReferences = newReferences.putAndCopy(variableName, otherRefCount);
+          }
+        } else {
+          newReferences = newReferences.putAndCopy(variableName, otherRefCount);
+          changed = true;
+        }
+      }
+      return changed ? new BaselineState(newIntervals, newReferences) : reachedState;
+    }
+
+    private boolean isLessOrEqual(BaselineState reachedState) {
+      if (intervals.equals(reachedState.intervals)) {
+        return true;
+      }
+      if (intervals.size() < reachedState.intervals.size()) {
+        return false;
+      }
+      for (String variableName : reachedState.intervals.keySet()) {
+        if (!intervals.containsKey(variableName)
+            || !reachedState.getInterval(variableName).contains(getInterval(variableName))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
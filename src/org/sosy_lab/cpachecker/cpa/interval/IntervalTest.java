@@ -0,0 +1,68 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.interval;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class IntervalTest {
+
+  private static final Interval EMPTY = new Interval(1, 2).intersect(new Interval(3, 4));
+
+  @Test
+  public void testEmpty() {
+    assertThat(EMPTY.isEmpty()).isTrue();
+    assertThat(EMPTY.isSingular()).isFalse();
+    assertThat(EMPTY.isUnbound()).isFalse();
+    assertThat(EMPTY.toString()).isEqualTo("[; ]");
+    assertThat(EMPTY.plus(Interval.ONE).isEmpty()).isTrue();
+    assertThat(Interval.ONE.minus(EMPTY).isEmpty()).isTrue();
+    assertThat(EMPTY.times(Interval.ONE).isEmpty()).isTrue();
+    assertThat(EMPTY.negate().isEmpty()).isTrue();
+    assertThat(Interval.UNBOUND.contains(EMPTY)).isFalse();
+    assertThat(new Interval(5, 5).limitUpperBoundBy(new Interval(1, 4))).isEqualTo(EMPTY);
+  }
+
+  @Test
+  public void testArithmetic() {
+    Interval a = new Interval(-3, 5);
+    Interval b = new Interval(2, 4);
+    assertThat(a.plus(b)).isEqualTo(new Interval(-1, 9));
+    assertThat(a.minus(b)).isEqualTo(new Interval(-7, 3));
+    assertThat(a.minus(b)).isEqualTo(a.plus(b.negate()));
+    assertThat(a.plus(2L)).isEqualTo(new Interval(-1, 7));
+    assertThat(a.minus(2L)).isEqualTo(new Interval(-5, 3));
+    assertThat(a.times(b)).isEqualTo(new Interval(-12, 20));
+    assertThat(a.divide(b)).isEqualTo(new Interval(-1, 2));
+    assertThat(a.divide(a)).isEqualTo(Interval.UNBOUND);
+    assertThat(b.shiftLeft(Interval.ONE)).isEqualTo(new Interval(4, 8));
+    assertThat(b.shiftRight(Interval.ONE)).isEqualTo(new Interval(1, 2));
+    assertThat(new Interval(7, 9).isSingular()).isFalse();
+    assertThat(new Interval(7).isSingular()).isTrue();
+  }
+
+  @Test
+  public void testSaturation() {
+    Interval max = new Interval(Long.MAX_VALUE);
+    assertThat(max.plus(Interval.ONE)).isEqualTo(max);
+    assertThat(max.times(new Interval(2))).isEqualTo(max);
+    assertThat(new Interval(Long.MIN_VALUE).negate()).isEqualTo(max);
+    assertThat(Interval.UNBOUND.minus(Interval.ONE))
+        .isEqualTo(new Interval(Long.MIN_VALUE, Long.MAX_VALUE - 1));
+  }
+
+  @Test
+  public void testModulo() {
+    assertThat(new Interval(0, 20).modulo(new Interval(5, 7))).isEqualTo(new Interval(0, 6));
+    assertThat(new Interval(0, 20).modulo(new Interval(-7, -5))).isEqualTo(new Interval(0, 6));
+    assertThat(new Interval(-20, 3).modulo(new Interval(5, 7))).isEqualTo(new Interval(-6, 6));
+    assertThat(new Interval(0, 20).modulo(new Interval(-1, 1))).isEqualTo(Interval.UNBOUND);
+  }
+}
@@ -13,8 +13,10 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.math.IntMath;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -27,10 +29,24 @@ import org.sosy_lab.cpachecker.cpa.invariants.operators.bitvector.ISCOperatorFac
 @SuppressWarnings("AmbiguousMethodReference")
 public final class CompoundBitVectorInterval implements CompoundIntegralInterval, BitVectorType {
 
+  private static final long[] NO_BOUNDS = new long[0];
+
   private final BitVectorInfo info;
 
-  /** The list of intervals this state is composed from. */
-  private final ImmutableList<BitVectorInterval> intervals;
+  /**
+   * The bounds of the intervals this state is composed from as consecutive pairs of lower and upper
+   * bound, if all values of the bit vector type fit into a primitive long, or {@code null}
+   * otherwise. If present, union, intersection, containment checks and addition are computed
+   * directly on the packed bounds without creating {@link BitVectorInterval} and {@link BigInteger}
+   * objects.
+   */
+  private final long @Nullable [] bounds;
+
+  /**
+   * The list of intervals this state is composed from. If the bounds are packed, the list is only
+   * created on demand.
+   */
+  @LazyInit private @Nullable ImmutableList<BitVectorInterval> intervals;
 
   /**
    * Constructs the bottom state.
@@ -41,6 +57,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     Preconditions.checkNotNull(pInfo);
     info = pInfo;
     intervals = ImmutableList.of();
+    bounds = fitsInLong(pInfo) ? NO_BOUNDS : null;
   }
 
   /**
@@ -52,6 +69,12 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
   private CompoundBitVectorInterval(BitVectorInterval pInterval) {
     info = pInterval.getTypeInfo();
     intervals = ImmutableList.of(pInterval);
+    bounds =
+        fitsInLong(info)
+            ? new long[] {
+              pInterval.getLowerBound().longValueExact(), pInterval.getUpperBound().longValueExact()
+            }
+            : null;
   }
 
   /**
@@ -68,6 +91,20 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     Preconditions.checkNotNull(pIntervals);
     info = pInfo;
     intervals = pIntervals;
+    bounds = fitsInLong(pInfo) ? pack(pIntervals) : null;
+  }
+
+  /**
+   * Creates a new compound state from the given packed bounds. This should only be invoked via the
+   * {@link CompoundBitVectorInterval#getInternal} functions.
+   *
+   * @param pInfo the bit vector information, which must fit into primitive longs.
+   * @param pBounds the bounds of the intervals to compose this state from, as consecutive pairs of
+   *     lower and upper bound of disjoint intervals that do not touch, in ascending order.
+   */
+  private CompoundBitVectorInterval(BitVectorInfo pInfo, long[] pBounds) {
+    info = pInfo;
+    bounds = pBounds;
   }
 
   /**
@@ -98,6 +135,59 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     return new CompoundBitVectorInterval(pInfo, pIntervals);
   }
 
+  /**
+   * Gets a compound interval represented by the given packed bounds. Use this factory method over
+   * the constructor.
+   *
+   * @param pInfo the bit vector information, which must fit into primitive longs.
+   * @param pBounds the bounds of the intervals to compose this state from, as consecutive pairs of
+   *     lower and upper bound of disjoint intervals that do not touch, in ascending order.
+   * @return a compound interval as represented by the given bounds.
+   */
+  private static CompoundBitVectorInterval getInternal(BitVectorInfo pInfo, long[] pBounds) {
+    if (pBounds.length == 0) {
+      return bottom(pInfo);
+    }
+    return new CompoundBitVectorInterval(pInfo, pBounds);
+  }
+
+  /**
+   * Checks whether all values of the given bit vector type can be represented by primitive longs.
+   *
+   * @param pInfo the bit vector information.
+   * @return {@code true} if all values of the type fit into primitive longs, {@code false}
+   *     otherwise.
+   */
+  private static boolean fitsInLong(BitVectorInfo pInfo) {
+    return pInfo.getSize() < Long.SIZE || (pInfo.getSize() == Long.SIZE && pInfo.isSigned());
+  }
+
+  private static long[] pack(List<BitVectorInterval> pIntervals) {
+    long[] result = new long[2 * pIntervals.size()];
+    int index = 0;
+    for (BitVectorInterval interval : pIntervals) {
+      result[index++] = interval.getLowerBound().longValueExact();
+      result[index++] = interval.getUpperBound().longValueExact();
+    }
+    return result;
+  }
+
+  private ImmutableList<BitVectorInterval> intervals() {
+    ImmutableList<BitVectorInterval> result = intervals;
+    if (result == null) {
+      ImmutableList.Builder<BitVectorInterval> builder =
+          ImmutableList.builderWithExpectedSize(bounds.length / 2);
+      for (int i = 0; i < bounds.length; i += 2) {
+        builder.add(
+            BitVectorInterval.of(
+                info, BigInteger.valueOf(bounds[i]), BigInteger.valueOf(bounds[i + 1])));
+      }
+      result = builder.build();
+      intervals = result;
+    }
+    return result;
+  }
+
   @Override
   public BitVectorInfo getTypeInfo() {
     return info;
@@ -109,7 +199,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    * @return the number of intervals.
    */
   public int getNumberOfIntervals() {
-    return intervals.size();
+    if (bounds != null) {
+      return bounds.length / 2;
+    }
+    return intervals().size();
   }
 
   /**
@@ -118,7 +211,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    * @return an immutable list containing the intervals this compound state consists of.
    */
   public ImmutableList<BitVectorInterval> getBitVectorIntervals() {
-    return intervals;
+    return intervals();
   }
 
   /**
@@ -129,7 +222,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
   @Override
   public List<SimpleInterval> getIntervals() {
     return Lists.transform(
-        intervals,
+        intervals(),
         pBitVectorInterval ->
             SimpleInterval.of(
                 pBitVectorInterval.getLowerBound(), pBitVectorInterval.getUpperBound()));
@@ -137,7 +230,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
 
   @Override
   public List<CompoundBitVectorInterval> splitIntoIntervals() {
-    return Lists.transform(intervals, CompoundBitVectorInterval::of);
+    return Lists.transform(intervals(), CompoundBitVectorInterval::of);
   }
 
   public void checkBitVectorCompatibilityWith(BitVectorInfo pOtherInfo) {
@@ -159,8 +252,11 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (pOther.containsAllPossibleValues() || isBottom()) {
       return pOther;
     }
+    if (bounds != null) {
+      return getInternal(info, union(bounds, pOther.bounds));
+    }
     CompoundBitVectorInterval current = this;
-    for (BitVectorInterval interval : pOther.intervals) {
+    for (BitVectorInterval interval : pOther.intervals()) {
       current = current.unionWith(interval);
     }
     return current;
@@ -185,18 +281,18 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     BitVectorInterval lastInterval = null;
     if (pOther.hasLowerBound() && hasUpperBound()) {
       BigInteger pOtherLB = pOther.getLowerBound();
-      BitVectorInterval currentLocal = intervals.get(start);
+      BitVectorInterval currentLocal = intervals().get(start);
       while (currentLocal != null && pOtherLB.compareTo(currentLocal.getUpperBound()) > 0) {
         resultIntervals.add(currentLocal);
         ++start;
         lastInterval = currentLocal;
-        currentLocal = start < intervals.size() ? intervals.get(start) : null;
+        currentLocal = start < intervals().size() ? intervals().get(start) : null;
         assert currentLocal == null || currentLocal.hasUpperBound() : toString();
       }
     }
     boolean inserted = false;
-    for (int index = start; index < intervals.size(); ++index) {
-      BitVectorInterval interval = intervals.get(index);
+    for (int index = start; index < intervals().size(); ++index) {
+      BitVectorInterval interval = intervals().get(index);
       boolean currentInserted = false;
       if (interval.touches(lastInterval)) {
         lastInterval = union(interval, lastInterval);
@@ -265,8 +361,11 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (pOther.contains(this)) {
       return this;
     }
+    if (bounds != null) {
+      return getInternal(info, intersect(bounds, pOther.bounds));
+    }
     CompoundBitVectorInterval result = bottom(info);
-    for (BitVectorInterval otherInterval : pOther.intervals) {
+    for (BitVectorInterval otherInterval : pOther.intervals()) {
       result = result.unionWith(intersectWith(otherInterval));
     }
     return result;
@@ -288,7 +387,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (contains(pOther)) {
       return CompoundBitVectorInterval.of(pOther);
     }
-    if (intervals.size() == 1 && pOther.contains(intervals.getFirst())) {
+    if (intervals().size() == 1 && pOther.contains(intervals().getFirst())) {
       return this;
     }
     CompoundBitVectorInterval result = bottom(info);
@@ -304,10 +403,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       int intervalIndex = intervalIndexOf(pOther.getUpperBound());
       ubIndex = intervalIndex >= 0 ? intervalIndex : (-intervalIndex - 1);
     } else {
-      ubIndex = intervals.size() - 1;
+      ubIndex = intervals().size() - 1;
     }
     for (int i = lbIndex; i <= ubIndex; ++i) {
-      BitVectorInterval interval = intervals.get(i);
+      BitVectorInterval interval = intervals().get(i);
       if (interval.intersectsWith(pOther)) {
         result = result.unionWith(interval.intersectWith(pOther));
       }
@@ -323,6 +422,9 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    *     otherwise.
    */
   public boolean intersectsWith(CompoundBitVectorInterval pOther) {
+    if (bounds != null && pOther.bounds != null) {
+      return intersects(bounds, pOther.bounds);
+    }
     if (contains(pOther)) {
       return !pOther.isBottom();
     }
@@ -357,7 +459,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (this == pState) {
       return true;
     }
-    for (BitVectorInterval interval : pState.intervals) {
+    if (bounds != null && pState.bounds != null) {
+      return contains(bounds, pState.bounds);
+    }
+    for (BitVectorInterval interval : pState.intervals()) {
       if (!contains(interval)) {
         return false;
       }
@@ -387,10 +492,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     BigInteger lb = hasLowerBound ? pInterval.getLowerBound() : null;
     BigInteger ub = hasUpperBound ? pInterval.getUpperBound() : null;
     int leftInclusive = 0;
-    int rightExclusive = intervals.size();
+    int rightExclusive = intervals().size();
     while (leftInclusive < rightExclusive) {
       int index = IntMath.mean(leftInclusive, rightExclusive);
-      BitVectorInterval intervalAtIndex = intervals.get(index);
+      BitVectorInterval intervalAtIndex = intervals().get(index);
       boolean lbIndexLeqLb =
           !intervalAtIndex.hasLowerBound()
               || (hasLowerBound && intervalAtIndex.getLowerBound().compareTo(lb) <= 0);
@@ -417,10 +522,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       return 0;
     }
     int leftInclusive = 0;
-    int rightExclusive = intervals.size();
+    int rightExclusive = intervals().size();
     int index = rightExclusive / 2;
     while (leftInclusive < rightExclusive) {
-      BitVectorInterval intervalAtIndex = intervals.get(index);
+      BitVectorInterval intervalAtIndex = intervals().get(index);
       boolean lbIndexLeqValue =
           !intervalAtIndex.hasLowerBound() || intervalAtIndex.getLowerBound().compareTo(value) <= 0;
       boolean ubIndexGeqValue =
@@ -457,6 +562,9 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (pValue.compareTo(info.getMaxValue()) > 0) {
       return false;
     }
+    if (bounds != null) {
+      return indexOf(bounds, pValue.longValue()) >= 0;
+    }
     return contains(singleton(info, pValue));
   }
 
@@ -471,6 +579,9 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (isBottom()) {
       return false;
     }
+    if (bounds != null) {
+      return indexOf(bounds, pValue) >= 0;
+    }
     BigInteger value = BigInteger.valueOf(pValue);
     return intervalIndexOf(value) >= 0;
   }
@@ -482,7 +593,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    */
   @Override
   public boolean isBottom() {
-    return intervals.isEmpty();
+    if (bounds != null) {
+      return bounds.length == 0;
+    }
+    return intervals().isEmpty();
   }
 
   /**
@@ -492,6 +606,11 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    */
   @Override
   public boolean containsAllPossibleValues() {
+    if (bounds != null) {
+      return bounds.length == 2
+          && bounds[0] == info.getMinValue().longValue()
+          && bounds[1] == info.getMaxValue().longValue();
+    }
     return contains(info.getRange());
   }
 
@@ -502,7 +621,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     }
     StringBuilder sb = new StringBuilder();
     sb.append('{');
-    Joiner.on(", ").appendTo(sb, intervals);
+    Joiner.on(", ").appendTo(sb, intervals());
     sb.append('}');
     return sb.toString();
   }
@@ -536,7 +655,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    */
   @Override
   public BigInteger getLowerBound() {
-    return intervals.getFirst().getLowerBound();
+    if (bounds != null) {
+      return BigInteger.valueOf(bounds[0]);
+    }
+    return intervals().getFirst().getLowerBound();
   }
 
   /**
@@ -546,7 +668,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    */
   @Override
   public BigInteger getUpperBound() {
-    return intervals.getLast().getUpperBound();
+    if (bounds != null) {
+      return BigInteger.valueOf(bounds[bounds.length - 1]);
+    }
+    return intervals().getLast().getUpperBound();
   }
 
   /**
@@ -557,7 +682,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
    */
   @Override
   public boolean isSingleton() {
-    return !isBottom() && intervals.size() == 1 && intervals.getFirst().isSingleton();
+    if (bounds != null) {
+      return bounds.length == 2 && bounds[0] == bounds[1];
+    }
+    return !isBottom() && intervals().size() == 1 && intervals().getFirst().isSingleton();
   }
 
   /**
@@ -575,7 +703,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (containsAllPossibleValues()) {
       return BigInteger.ZERO;
     }
-    for (BitVectorInterval interval : intervals) {
+    for (BitVectorInterval interval : intervals()) {
       if (interval.hasLowerBound()) {
         return interval.getLowerBound();
       }
@@ -591,14 +719,22 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (this == pOther) {
       return true;
     }
-    return pOther instanceof CompoundBitVectorInterval other
-        && info.equals(other.info)
-        && intervals.equals(other.intervals);
+    if (!(pOther instanceof CompoundBitVectorInterval other) || !info.equals(other.info)) {
+      return false;
+    }
+    if (bounds != null) {
+      // the bounds of equal types are either both packed or both not
+      return Arrays.equals(bounds, other.bounds);
+    }
+    return intervals().equals(other.intervals());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(info, intervals);
+    if (bounds != null) {
+      return 31 * info.hashCode() + Arrays.hashCode(bounds);
+    }
+    return Objects.hash(info, intervals());
   }
 
   public CompoundBitVectorInterval cast(
@@ -613,14 +749,14 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (pBitVectorInfo.getRange().contains(info.getRange())) {
       ImmutableList<BitVectorInterval> castedIntervals =
           Collections3.transformedImmutableListCopy(
-              intervals,
+              intervals(),
               pInterval ->
                   BitVectorInterval.of(
                       pBitVectorInfo, pInterval.getLowerBound(), pInterval.getUpperBound()));
       return new CompoundBitVectorInterval(pBitVectorInfo, castedIntervals);
     }
     CompoundBitVectorInterval result = bottom(pBitVectorInfo);
-    for (BitVectorInterval interval : intervals) {
+    for (BitVectorInterval interval : intervals()) {
       result =
           result.unionWith(
               cast(
@@ -794,7 +930,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     CompoundBitVectorInterval result = bottom(info);
     int index = 0;
 
-    BitVectorInterval current = intervals.get(index++);
+    BitVectorInterval current = intervals().get(index++);
 
     // Add the interval before the first of the contained intervals
     if (!current.getLowerBound().equals(info.getMinValue())) {
@@ -806,8 +942,8 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
 
     BigInteger lastUpperBound = current.getUpperBound();
 
-    while (index < intervals.size()) {
-      current = intervals.get(index++);
+    while (index < intervals().size()) {
+      current = intervals().get(index++);
 
       // Add the interval between the last and the current contained interval
       result =
@@ -840,7 +976,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       return this;
     }
     CompoundBitVectorInterval result = bottom(info);
-    for (BitVectorInterval simpleInterval : intervals) {
+    for (BitVectorInterval simpleInterval : intervals()) {
       result =
           result.unionWith(
               negate(info, simpleInterval, pAllowSignedWrapAround, pOverflowEventHandler));
@@ -910,7 +1046,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (isBottom()) {
       return false;
     }
-    for (BitVectorInterval interval : intervals) {
+    for (BitVectorInterval interval : intervals()) {
       if (interval.containsPositive()) {
         return true;
       }
@@ -928,7 +1064,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     if (isBottom()) {
       return false;
     }
-    for (BitVectorInterval interval : intervals) {
+    for (BitVectorInterval interval : intervals()) {
       if (interval.containsNegative()) {
         return true;
       }
@@ -958,9 +1094,9 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       return this;
     }
     ImmutableList.Builder<BitVectorInterval> resultIntervals =
-        ImmutableList.builderWithExpectedSize(intervals.size());
-    resultIntervals.add(intervals.getFirst().extendToMinValue());
-    resultIntervals.addAll(intervals.subList(1, intervals.size()));
+        ImmutableList.builderWithExpectedSize(intervals().size());
+    resultIntervals.add(intervals().getFirst().extendToMinValue());
+    resultIntervals.addAll(intervals().subList(1, intervals().size()));
     return getInternal(info, resultIntervals.build());
   }
 
@@ -977,10 +1113,10 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       return this;
     }
     ImmutableList.Builder<BitVectorInterval> resultIntervals =
-        ImmutableList.builderWithExpectedSize(intervals.size());
-    int index = intervals.size() - 1;
-    resultIntervals.addAll(intervals.subList(0, index));
-    resultIntervals.add(intervals.get(index).extendToMaxValue());
+        ImmutableList.builderWithExpectedSize(intervals().size());
+    int index = intervals().size() - 1;
+    resultIntervals.addAll(intervals().subList(0, index));
+    resultIntervals.add(intervals().get(index).extendToMaxValue());
     return getInternal(info, resultIntervals.build());
   }
 
@@ -994,6 +1130,12 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       final BigInteger pValue,
       boolean pAllowSignedWrapAround,
       final OverflowEventHandler pOverflowEventHandler) {
+    if (bounds != null && pValue.bitLength() < Long.SIZE) {
+      long[] sum = add(bounds, new long[] {pValue.longValue(), pValue.longValue()});
+      if (sum != null) {
+        return getInternal(info, sum);
+      }
+    }
     return applyOperationToAllAndUnite(
         ISCOperatorFactory.INSTANCE.getAdd(pAllowSignedWrapAround, pOverflowEventHandler), pValue);
   }
@@ -1040,6 +1182,12 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       final CompoundBitVectorInterval pState,
       boolean pAllowSignedWrapAround,
       final OverflowEventHandler pOverflowEventHandler) {
+    if (bounds != null && info.equals(pState.info)) {
+      long[] sum = add(bounds, pState.bounds);
+      if (sum != null) {
+        return getInternal(info, sum);
+      }
+    }
     return applyOperationToAllAndUnite(
         IICOperatorFactory.INSTANCE.getAdd(pAllowSignedWrapAround, pOverflowEventHandler), pState);
   }
@@ -1096,8 +1244,8 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       final CompoundBitVectorInterval pState,
       boolean pAllowSignedWrapAround,
       final OverflowEventHandler pOverflowEventHandler) {
-    if (pState.intervals.size() == 1) {
-      return multiply(pState.intervals.getFirst(), pAllowSignedWrapAround, pOverflowEventHandler);
+    if (pState.intervals().size() == 1) {
+      return multiply(pState.intervals().getFirst(), pAllowSignedWrapAround, pOverflowEventHandler);
     }
     return applyOperationToAllAndUnite(
         IICOperatorFactory.INSTANCE.getMultiply(pAllowSignedWrapAround, pOverflowEventHandler),
@@ -1553,7 +1701,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     CompoundBitVectorInterval result;
     if (pState.isSingleton()) {
       result = bottom(info);
-      for (BitVectorInterval interval : intervals) {
+      for (BitVectorInterval interval : intervals()) {
         if (!interval.isSingleton()) {
           // x & 1 always yields either 0 or 1
           return pState.contains(1) ? getZeroToOne(info) : getInternal(pState.info.getRange());
@@ -1660,7 +1808,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     }
     if (pState.isSingleton()) {
       CompoundBitVectorInterval result = bottom(info);
-      for (BitVectorInterval interval : intervals) {
+      for (BitVectorInterval interval : intervals()) {
         if (!interval.isSingleton()) {
           return getInternal(info.getRange());
         }
@@ -1691,7 +1839,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       return bottom(info);
     }
     CompoundBitVectorInterval result = bottom(info);
-    for (BitVectorInterval interval : intervals) {
+    for (BitVectorInterval interval : intervals()) {
       if (!interval.isSingleton()) {
         // TODO maybe a more exact implementation is possible?
         return getInternal(info.getRange());
@@ -1745,7 +1893,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     }
     if (pState.isSingleton()) {
       CompoundBitVectorInterval result = bottom(info);
-      for (BitVectorInterval interval : intervals) {
+      for (BitVectorInterval interval : intervals()) {
         if (!interval.isSingleton()) {
           return getInternal(info.getRange());
         }
@@ -1865,8 +2013,8 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
       final Operator<BitVectorInterval, BitVectorInterval, CompoundBitVectorInterval> pOperator,
       final CompoundBitVectorInterval pOperand) {
     CompoundBitVectorInterval result = bottom(info);
-    for (BitVectorInterval thisInterval : intervals) {
-      for (BitVectorInterval operandInterval : pOperand.intervals) {
+    for (BitVectorInterval thisInterval : intervals()) {
+      for (BitVectorInterval operandInterval : pOperand.intervals()) {
         CompoundBitVectorInterval current = pOperator.apply(thisInterval, operandInterval);
         if (current != null) {
           result = result.unionWith(current);
@@ -1890,7 +2038,7 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
   private <T> CompoundBitVectorInterval applyOperationToAllAndUnite(
       Operator<BitVectorInterval, T, CompoundBitVectorInterval> pOperator, T pOperand) {
     CompoundBitVectorInterval result = bottom(info);
-    for (BitVectorInterval interval : intervals) {
+    for (BitVectorInterval interval : intervals()) {
       CompoundBitVectorInterval current = pOperator.apply(interval, pOperand);
       if (current != null) {
         result = result.unionWith(current);
@@ -1902,6 +2050,175 @@ public final class CompoundBitVectorInterval implements CompoundIntegralInterval
     return result;
   }
 
+  /**
+   * Computes the union of the given packed bounds. Unlike in the canonical representation of a
+   * compound interval, the intervals of each operand may overlap or touch, but they must be ordered
+   * by their lower bounds.
+   *
+   * @param pFirst the packed bounds of the first operand.
+   * @param pSecond the packed bounds of the second operand.
+   * @return the packed bounds of the union of the operands.
+   */
+  private static long[] union(long[] pFirst, long[] pSecond) {
+    long[] result = new long[pFirst.length + pSecond.length];
+    int size = 0;
+    int first = 0;
+    int second = 0;
+    while (first < pFirst.length || second < pSecond.length) {
+      final long lowerBound;
+      final long upperBound;
+      if (second >= pSecond.length || (first < pFirst.length && pFirst[first] <= pSecond[second])) {
+        lowerBound = pFirst[first];
+        upperBound = pFirst[first + 1];
+        first += 2;
+      } else {
+        lowerBound = pSecond[second];
+        upperBound = pSecond[second + 1];
+        second += 2;
+      }
+      if (size > 0 && touchesFromBelow(result[size - 1], lowerBound)) {
+        result[size - 1] = Math.max(result[size - 1], upperBound);
+      } else {
+        result[size++] = lowerBound;
+        result[size++] = upperBound;
+      }
+    }
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+
+  /**
+   * Checks if an interval with the given lower bound, which is not less than the lower bound of an
+   * interval with the given upper bound, overlaps or touches the latter interval.
+   */
+  private static boolean touchesFromBelow(long pUpperBound, long pLowerBound) {
+    return pUpperBound == Long.MAX_VALUE || pLowerBound <= pUpperBound + 1;
+  }
+
+  /**
+   * Computes the intersection of the given packed bounds.
+   *
+   * @param pFirst the packed bounds of the first operand.
+   * @param pSecond the packed bounds of the second operand.
+   * @return the packed bounds of the intersection of the operands.
+   */
+  private static long[] intersect(long[] pFirst, long[] pSecond) {
+    long[] result = new long[pFirst.length + pSecond.length];
+    int size = 0;
+    int first = 0;
+    int second = 0;
+    while (first < pFirst.length && second < pSecond.length) {
+      long lowerBound = Math.max(pFirst[first], pSecond[second]);
+      long upperBound = Math.min(pFirst[first + 1], pSecond[second + 1]);
+      if (lowerBound <= upperBound) {
+        result[size++] = lowerBound;
+        result[size++] = upperBound;
+      }
+      // advance past the interval that ends first
+      if (pFirst[first + 1] < pSecond[second + 1]) {
+        first += 2;
+      } else {
+        second += 2;
+      }
+    }
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+
+  /** Checks if the given packed bounds have a common value. */
+  private static boolean intersects(long[] pFirst, long[] pSecond) {
+    int first = 0;
+    int second = 0;
+    while (first < pFirst.length && second < pSecond.length) {
+      if (Math.max(pFirst[first], pSecond[second])
+          <= Math.min(pFirst[first + 1], pSecond[second + 1])) {
+        return true;
+      }
+      if (pFirst[first + 1] < pSecond[second + 1]) {
+        first += 2;
+      } else {
+        second += 2;
+      }
+    }
+    return false;
+  }
+
+  /** Checks if all values of the second packed bounds are contained in the first packed bounds. */
+  private static boolean contains(long[] pContaining, long[] pContained) {
+    int containing = 0;
+    for (int contained = 0; contained < pContained.length; contained += 2) {
+      // skip the intervals that end before the contained interval starts
+      while (containing < pContaining.length
+          && pContaining[containing + 1] < pContained[contained]) {
+        containing += 2;
+      }
+      if (containing >= pContaining.length
+          || pContaining[containing] > pContained[contained]
+          || pContaining[containing + 1] < pContained[contained + 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the index of the interval in the given packed bounds that contains the given value.
+   *
+   * @return the index of the lower bound of the interval containing the value, or a negative value
+   *     if no interval contains the value.
+   */
+  private static int indexOf(long[] pBounds, long pValue) {
+    int leftInclusive = 0;
+    int rightExclusive = pBounds.length / 2;
+    while (leftInclusive < rightExclusive) {
+      int index = (leftInclusive + rightExclusive) >>> 1;
+      if (pBounds[2 * index + 1] < pValue) {
+        leftInclusive = index + 1;
+      } else if (pBounds[2 * index] > pValue) {
+        rightExclusive = index;
+      } else {
+        return 2 * index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Computes the sums of the given packed bounds, if none of them exceeds the range of the bit
+   * vector type.
+   *
+   * @param pSummands1 the packed bounds of the first summand.
+   * @param pSummands2 the packed bounds of the second summand.
+   * @return the packed bounds of the sum, or {@code null} if a sum exceeds the bit vector range,
+   *     such that the overflow must be handled by the operators for bit vector intervals.
+   */
+  private long @Nullable [] add(long[] pSummands1, long[] pSummands2) {
+    long minValue = info.getMinValue().longValue();
+    long maxValue = info.getMaxValue().longValue();
+    long[] result = NO_BOUNDS;
+    long[] row = new long[pSummands2.length];
+    for (int i = 0; i < pSummands1.length; i += 2) {
+      // the sums of one interval with the ordered intervals of the other summand are ordered, too
+      for (int j = 0; j < pSummands2.length; j += 2) {
+        long lowerBound = pSummands1[i] + pSummands2[j];
+        long upperBound = pSummands1[i + 1] + pSummands2[j + 1];
+        if (overflows(pSummands1[i], pSummands2[j], lowerBound)
+            || overflows(pSummands1[i + 1], pSummands2[j + 1], upperBound)
+            || lowerBound < minValue
+            || upperBound > maxValue) {
+          return null;
+        }
+        row[j] = lowerBound;
+        row[j + 1] = upperBound;
+      }
+      result = union(result, row);
+    }
+    return result;
+  }
+
+  /** Checks if the primitive sum of the given summands overflowed. */
+  private static boolean overflows(long pSummand1, long pSummand2, long pSum) {
+    return ((pSummand1 ^ pSum) & (pSummand2 ^ pSum)) < 0;
+  }
+
   /**
    * Union of two intervals. The intervals must touch each other for this operation to be possible.
    *
@@ -10,6 +10,7 @@ package org.sosy_lab.cpachecker.cpa.invariants;
 
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import org.sosy_lab.cpachecker.cfa.types.MachineModel;
 import org.sosy_lab.cpachecker.cfa.types.Type;
 
@@ -19,6 +20,7 @@ public final class CompoundBitVectorIntervalManagerFactory
   private final boolean allowSignedWrapAround;
   private final Collection<OverflowEventHandler> overflowEventHandlers =
       new CopyOnWriteArrayList<>();
+  private final AtomicLong overflowEventCount = new AtomicLong();
 
   private CompoundBitVectorIntervalManagerFactory(boolean pAllowSignedWrapAround) {
     allowSignedWrapAround = pAllowSignedWrapAround;
@@ -33,6 +35,7 @@ public final class CompoundBitVectorIntervalManagerFactory
   }
 
   private void handleAllOverflowHandlers() {
+    overflowEventCount.incrementAndGet();
     for (OverflowEventHandler component : overflowEventHandlers) {
       component.signedOverflow();
     }
@@ -74,4 +77,16 @@ public final class CompoundBitVectorIntervalManagerFactory
   public void removeOverflowEventHandler(OverflowEventHandler pOverflowEventHandler) {
     overflowEventHandlers.remove(pOverflowEventHandler);
   }
+
+  /**
+   * Gets the number of overflow events that were signaled so far by the managers with overflow
+   * handlers. Callers that cache the results of computations can use this to detect whether a
+   * computation signaled an overflow, because such a computation must be repeated for the handlers
+   * that are registered later.
+   *
+   * @return the number of overflow events that were signaled so far.
+   */
+  public long getOverflowEventCount() {
+    return overflowEventCount.get();
+  }
 }
@@ -0,0 +1,94 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.invariants;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigInteger;
+import org.junit.Test;
+
+public class CompoundBitVectorIntervalTest {
+
+  private static final BitVectorInfo INT = BitVectorInfo.from(32, true);
+
+  private static final BitVectorInfo UNSIGNED_LONG = BitVectorInfo.from(64, false);
+
+  private static CompoundBitVectorInterval interval(BitVectorInfo pInfo, long pLower, long pUpper) {
+    return CompoundBitVectorInterval.of(
+        BitVectorInterval.of(pInfo, BigInteger.valueOf(pLower), BigInteger.valueOf(pUpper)));
+  }
+
+  /** Creates {[0, 2], [5, 6], [10, 20]}. */
+  private static CompoundBitVectorInterval threeIntervals(BitVectorInfo pInfo) {
+    return interval(pInfo, 0, 2)
+        .unionWith(interval(pInfo, 10, 20))
+        .unionWith(interval(pInfo, 5, 6));
+  }
+
+  @Test
+  public void testUnionMergesTouchingIntervals() {
+    for (BitVectorInfo info : new BitVectorInfo[] {INT, UNSIGNED_LONG}) {
+      CompoundBitVectorInterval intervals = threeIntervals(info);
+      assertThat(intervals.getNumberOfIntervals()).isEqualTo(3);
+      assertThat(intervals.unionWith(interval(info, 3, 4)))
+          .isEqualTo(interval(info, 0, 6).unionWith(interval(info, 10, 20)));
+      assertThat(intervals.unionWith(interval(info, 1, 15))).isEqualTo(interval(info, 0, 20));
+    }
+  }
+
+  @Test
+  public void testIntersectionAndContainment() {
+    for (BitVectorInfo info : new BitVectorInfo[] {INT, UNSIGNED_LONG}) {
+      CompoundBitVectorInterval intervals = threeIntervals(info);
+      CompoundBitVectorInterval other = interval(info, 2, 5).unionWith(interval(info, 19, 30));
+      assertThat(intervals.intersectWith(other))
+          .isEqualTo(
+              interval(info, 2, 2)
+                  .unionWith(interval(info, 5, 5))
+                  .unionWith(interval(info, 19, 20)));
+      assertThat(intervals.intersectsWith(other)).isTrue();
+      assertThat(intervals.intersectsWith(interval(info, 3, 4))).isFalse();
+      assertThat(intervals.contains(interval(info, 5, 6).unionWith(interval(info, 12, 13))))
+          .isTrue();
+      assertThat(intervals.contains(other)).isFalse();
+      assertThat(intervals.contains(6)).isTrue();
+      assertThat(intervals.contains(BigInteger.valueOf(7))).isFalse();
+    }
+  }
+
+  @Test
+  public void testAdd() {
+    CompoundBitVectorInterval intervals = threeIntervals(INT);
+    CompoundBitVectorInterval sum =
+        intervals.add(interval(INT, 0, 1), false, OverflowEventHandler.EMPTY);
+    assertThat(sum)
+        .isEqualTo(
+            interval(INT, 0, 3).unionWith(interval(INT, 5, 7)).unionWith(interval(INT, 10, 21)));
+    assertThat(intervals.add(BigInteger.TEN, false, OverflowEventHandler.EMPTY))
+        .isEqualTo(
+            interval(INT, 10, 12)
+                .unionWith(interval(INT, 15, 16))
+                .unionWith(interval(INT, 20, 30)));
+  }
+
+  @Test
+  public void testAddWithOverflow() {
+    long max = INT.getMaxValue().longValueExact();
+    CompoundBitVectorInterval intervals = interval(INT, max - 1, max);
+    int[] overflows = new int[1];
+    CompoundBitVectorInterval sum = intervals.add(BigInteger.ONE, false, () -> overflows[0]++);
+    assertThat(overflows[0]).isGreaterThan(0);
+    assertThat(sum.containsAllPossibleValues()).isTrue();
+
+    CompoundBitVectorInterval wrapped =
+        intervals.add(BigInteger.ONE, true, OverflowEventHandler.EMPTY);
+    assertThat(wrapped.contains(max)).isTrue();
+    assertThat(wrapped.contains(INT.getMinValue())).isTrue();
+  }
+}
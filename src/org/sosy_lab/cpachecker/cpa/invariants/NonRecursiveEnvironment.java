@@ -8,11 +8,14 @@
 
 package org.sosy_lab.cpachecker.cpa.invariants;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
 import java.util.Collection;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentSortedMap;
 import org.sosy_lab.cpachecker.cpa.invariants.formula.CollectVarsVisitor;
@@ -30,12 +33,24 @@ public class NonRecursiveEnvironment
   private static final CollectVarsVisitor<CompoundInterval> COLLECT_VARS_VISITOR =
       new CollectVarsVisitor<>();
 
+  @VisibleForTesting static final int MAX_CACHED_EVALUATIONS = 1_000;
+
   private final PersistentSortedMap<MemoryLocation, NumeralFormula<CompoundInterval>> inner;
 
   private final FormulaEvaluationVisitor<CompoundInterval> formulaEvaluationVisitor;
 
   private final CompoundIntervalManagerFactory compoundIntervalManagerFactory;
 
+  /**
+   * The results of evaluating formulas in this environment, for each evaluation visitor. Because
+   * the environment is immutable, the results stay valid as long as the environment exists. Each
+   * cache is bounded, because the environments of all reached states are kept alive.
+   */
+  private final Map<
+          FormulaEvaluationVisitor<CompoundInterval>,
+          Map<NumeralFormula<CompoundInterval>, CompoundInterval>>
+      evaluationCaches = new ConcurrentHashMap<>(2);
+
   private NonRecursiveEnvironment(
       CompoundIntervalManagerFactory pCompoundIntervalManagerFactory,
       Map<MemoryLocation, NumeralFormula<CompoundInterval>> pInner) {
@@ -218,6 +233,26 @@ public class NonRecursiveEnvironment
     return inner.entrySet();
   }
 
+  /**
+   * Gets the cache for the results of evaluating formulas in this environment with the given
+   * evaluation visitor.
+   *
+   * @param pEvaluationVisitor the evaluation visitor.
+   * @return the mutable cache for the results of the given evaluation visitor, which evicts entries
+   *     once it holds {@value #MAX_CACHED_EVALUATIONS} results.
+   */
+  public Map<NumeralFormula<CompoundInterval>, CompoundInterval> getEvaluationCache(
+      FormulaEvaluationVisitor<CompoundInterval> pEvaluationVisitor) {
+    return evaluationCaches.computeIfAbsent(
+        pEvaluationVisitor,
+        unused ->
+            CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumSize(MAX_CACHED_EVALUATIONS)
+                .<NumeralFormula<CompoundInterval>, CompoundInterval>build()
+                .asMap());
+  }
+
   @Override
   public String toString() {
     return inner.toString();
@@ -0,0 +1,101 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.invariants;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cpa.invariants.formula.FormulaCompoundStateEvaluationVisitor;
+import org.sosy_lab.cpachecker.cpa.invariants.formula.FormulaEvaluationVisitor;
+import org.sosy_lab.cpachecker.cpa.invariants.formula.InvariantsFormulaManager;
+import org.sosy_lab.cpachecker.cpa.invariants.formula.NumeralFormula;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+
+public class NonRecursiveEnvironmentTest {
+
+  private static final BitVectorInfo INT = BitVectorInfo.from(32, true);
+
+  private static final InvariantsFormulaManager FMGR = InvariantsFormulaManager.INSTANCE;
+
+  private final CompoundBitVectorIntervalManagerFactory factory =
+      CompoundBitVectorIntervalManagerFactory.forbidSignedWrapAround();
+
+  private final CompoundIntervalManager cimgr = factory.createCompoundIntervalManager(INT);
+
+  private final FormulaEvaluationVisitor<CompoundInterval> evaluator =
+      new FormulaCompoundStateEvaluationVisitor(factory);
+
+  private final MemoryLocation x = MemoryLocation.forIdentifier("x");
+
+  private final NumeralFormula<CompoundInterval> varX = FMGR.asVariable(INT, x);
+
+  private NumeralFormula<CompoundInterval> constant(long pValue) {
+    return FMGR.asConstant(INT, cimgr.singleton(pValue));
+  }
+
+  @Test
+  public void testEqualFormulasAreShared() {
+    NumeralFormula<CompoundInterval> first = FMGR.add(varX, FMGR.multiply(constant(2), varX));
+    NumeralFormula<CompoundInterval> second = FMGR.add(varX, FMGR.multiply(constant(2), varX));
+    assertThat(second).isSameInstanceAs(first);
+  }
+
+  @Test
+  public void testEvaluationIsCachedPerEnvironment() {
+    NonRecursiveEnvironment environment =
+        NonRecursiveEnvironment.of(factory).putAndCopy(x, constant(3));
+    NumeralFormula<CompoundInterval> product = FMGR.multiply(varX, varX);
+    NumeralFormula<CompoundInterval> sum = FMGR.add(product, product);
+
+    assertThat(sum.accept(evaluator, environment)).isEqualTo(cimgr.singleton(18));
+    assertThat(environment.getEvaluationCache(evaluator))
+        .containsEntry(product, cimgr.singleton(9));
+
+    NonRecursiveEnvironment changed = environment.putAndCopy(x, constant(4));
+    assertThat(sum.accept(evaluator, changed)).isEqualTo(cimgr.singleton(32));
+    assertThat(sum.accept(evaluator, environment)).isEqualTo(cimgr.singleton(18));
+  }
+
+  @Test
+  public void testEvaluationCacheIsBounded() {
+    NonRecursiveEnvironment environment =
+        NonRecursiveEnvironment.of(factory).putAndCopy(x, constant(3));
+    for (int i = 0; i <= 2 * NonRecursiveEnvironment.MAX_CACHED_EVALUATIONS; i++) {
+      NumeralFormula<CompoundInterval> formula = FMGR.multiply(FMGR.add(varX, constant(i)), varX);
+      assertThat(formula.accept(evaluator, environment)).isEqualTo(cimgr.singleton(3 * (3 + i)));
+    }
+    assertThat(environment.getEvaluationCache(evaluator).size())
+        .isAtMost(NonRecursiveEnvironment.MAX_CACHED_EVALUATIONS);
+  }
+
+  @Test
+  public void testOverflowsAreSignaledOnEachEvaluation() {
+    NonRecursiveEnvironment environment =
+        NonRecursiveEnvironment.of(factory)
+            .putAndCopy(x, FMGR.asConstant(INT, cimgr.singleton(INT.getMaxValue())));
+    NumeralFormula<CompoundInterval> overflowing = FMGR.add(varX, constant(1));
+    NumeralFormula<CompoundInterval> formula = FMGR.multiply(overflowing, constant(1));
+
+    AtomicInteger overflows = new AtomicInteger();
+    OverflowEventHandler handler = overflows::incrementAndGet;
+    factory.addOverflowEventHandler(handler);
+    try {
+      formula.accept(evaluator, environment);
+      int overflowsOfFirstEvaluation = overflows.get();
+      assertThat(overflowsOfFirstEvaluation).isGreaterThan(0);
+
+      formula.accept(evaluator, environment);
+      assertThat(overflows.get()).isEqualTo(2 * overflowsOfFirstEvaluation);
+      assertThat(environment.getEvaluationCache(evaluator)).doesNotContainKey(overflowing);
+    } finally {
+      factory.removeOverflowEventHandler(handler);
+    }
+  }
+}
@@ -32,6 +32,9 @@ abstract sealed class AbstractBinaryFormula<ConstantType> extends AbstractFormul
   // isCommutative is TRUE for "=", "+", "*" and FALSE for "-", "/", "<".
   private final boolean isCommutative;
 
+  /** The hash code, which is cached because formulas are deeply nested and often hashed. */
+  private final int hashCode;
+
   /**
    * Creates a new formula with two operands.
    *
@@ -50,6 +53,10 @@ abstract sealed class AbstractBinaryFormula<ConstantType> extends AbstractFormul
     isCommutative = pIsCommutative;
     operand1 = pOperand1;
     operand2 = pOperand2;
+    hashCode =
+        31 * operator.hashCode()
+            + operand1.hashCode() * operand2.hashCode()
+            + 43 * getTypeInfo().hashCode();
   }
 
   public NumeralFormula<ConstantType> getOperand1() {
@@ -72,7 +79,8 @@ abstract sealed class AbstractBinaryFormula<ConstantType> extends AbstractFormul
     }
     AbstractBinaryFormula<?> other = (AbstractBinaryFormula<?>) o;
 
-    if (getTypeInfo().equals(other.getTypeInfo())
+    if (hashCode == other.hashCode
+        && getTypeInfo().equals(other.getTypeInfo())
         && operator.equals(other.operator)
         && isCommutative == other.isCommutative) {
 
@@ -91,9 +99,7 @@ abstract sealed class AbstractBinaryFormula<ConstantType> extends AbstractFormul
 
   @Override
   public final int hashCode() {
-    return 31 * operator.hashCode()
-        + getOperand1().hashCode() * getOperand2().hashCode()
-        + 43 * getTypeInfo().hashCode();
+    return hashCode;
   }
 
   @Override
@@ -8,11 +8,21 @@
 
 package org.sosy_lab.cpachecker.cpa.invariants.formula;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.sosy_lab.cpachecker.cpa.invariants.TypeInfo;
 
 abstract sealed class AbstractFormula<ConstantType> implements NumeralFormula<ConstantType>
     permits AbstractBinaryFormula, BinaryNot, Cast, Constant, Exclusion, IfThenElse, Variable {
 
+  /**
+   * Hash-conses all numeral formulas created by the factory methods, such that formulas are stored
+   * as directed acyclic graphs with one shared instance for all equal sub-formulas. This keeps
+   * equality checks cheap and lets caches that are keyed by formulas hit for each occurrence of a
+   * repeated sub-formula. Formulas are only weakly referenced by the interner.
+   */
+  private static final Interner<AbstractFormula<?>> INTERNER = Interners.newWeakInterner();
+
   private final TypeInfo info;
 
   protected AbstractFormula(TypeInfo pInfo) {
@@ -23,4 +33,17 @@ abstract sealed class AbstractFormula<ConstantType> implements NumeralFormula<Co
   public TypeInfo getTypeInfo() {
     return info;
   }
+
+  /**
+   * Gets the canonical instance of the given formula.
+   *
+   * @param pFormula the newly created formula.
+   * @return the formula that is equal to the given formula and is shared by all its users.
+   */
+  static <F extends AbstractFormula<?>> F intern(F pFormula) {
+    // equal formulas always have the same class
+    @SuppressWarnings("unchecked")
+    F result = (F) INTERNER.intern(pFormula);
+    return result;
+  }
 }
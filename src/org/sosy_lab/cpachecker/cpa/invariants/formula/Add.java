@@ -64,6 +64,6 @@ public final class Add<ConstantType> extends AbstractBinaryFormula<ConstantType>
    */
   static <ConstantType> Add<ConstantType> of(
       NumeralFormula<ConstantType> pSummand1, NumeralFormula<ConstantType> pSummand2) {
-    return new Add<>(pSummand1, pSummand2);
+    return intern(new Add<>(pSummand1, pSummand2));
   }
 }
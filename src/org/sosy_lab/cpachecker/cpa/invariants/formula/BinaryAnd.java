@@ -47,6 +47,6 @@ final class BinaryAnd<ConstantType> extends AbstractBinaryFormula<ConstantType>
    */
   static <ConstantType> BinaryAnd<ConstantType> of(
       NumeralFormula<ConstantType> pOperand1, NumeralFormula<ConstantType> pOperand2) {
-    return new BinaryAnd<>(pOperand1, pOperand2);
+    return intern(new BinaryAnd<>(pOperand1, pOperand2));
   }
 }
@@ -74,6 +74,6 @@ final class BinaryNot<ConstantType> extends AbstractFormula<ConstantType> {
    * @return the binary negation of the given formula.
    */
   static <ConstantType> BinaryNot<ConstantType> of(NumeralFormula<ConstantType> pToFlip) {
-    return new BinaryNot<>(pToFlip);
+    return intern(new BinaryNot<>(pToFlip));
   }
 }
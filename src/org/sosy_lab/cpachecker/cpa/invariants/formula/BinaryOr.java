@@ -46,6 +46,6 @@ final class BinaryOr<ConstantType> extends AbstractBinaryFormula<ConstantType> {
    */
   static <ConstantType> BinaryOr<ConstantType> of(
       NumeralFormula<ConstantType> pOperand1, NumeralFormula<ConstantType> pOperand2) {
-    return new BinaryOr<>(pOperand1, pOperand2);
+    return intern(new BinaryOr<>(pOperand1, pOperand2));
   }
 }
@@ -43,6 +43,6 @@ final class BinaryXor<ConstantType> extends AbstractBinaryFormula<ConstantType>
    */
   static <ConstantType> BinaryXor<ConstantType> of(
       NumeralFormula<ConstantType> pOperand1, NumeralFormula<ConstantType> pOperand2) {
-    return new BinaryXor<>(pOperand1, pOperand2);
+    return intern(new BinaryXor<>(pOperand1, pOperand2));
   }
 }
@@ -58,6 +58,6 @@ final class Cast<ConstantType> extends AbstractFormula<ConstantType> {
 
   public static <ConstantType> Cast<ConstantType> of(
       TypeInfo pTypeInfo, NumeralFormula<ConstantType> pCasted) {
-    return new Cast<>(pTypeInfo, pCasted);
+    return intern(new Cast<>(pTypeInfo, pCasted));
   }
 }
@@ -23,6 +23,8 @@ public final class Constant<T> extends AbstractFormula<T> {
   /** The value of the constant. */
   private final T value;
 
+  private final int hashCode;
+
   /**
    * Creates a new constant with the given value.
    *
@@ -36,6 +38,7 @@ public final class Constant<T> extends AbstractFormula<T> {
       Preconditions.checkArgument(pInfo.equals(typed.getTypeInfo()));
     }
     value = pValue;
+    hashCode = Objects.hash(pInfo, pValue);
   }
 
   /**
@@ -58,13 +61,14 @@ public final class Constant<T> extends AbstractFormula<T> {
       return true;
     }
     return pOther instanceof Constant<?> other
+        && hashCode == other.hashCode
         && getTypeInfo().equals(other.getTypeInfo())
         && getValue().equals(other.getValue());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getTypeInfo(), getValue());
+    return hashCode;
   }
 
   @Override
@@ -86,7 +90,7 @@ public final class Constant<T> extends AbstractFormula<T> {
    * @return an invariants formula representing a constant with the given value.
    */
   static <T> Constant<T> of(TypeInfo pInfo, T pValue) {
-    return new Constant<>(pInfo, pValue);
+    return intern(new Constant<>(pInfo, pValue));
   }
 
   /**
@@ -96,6 +100,6 @@ public final class Constant<T> extends AbstractFormula<T> {
    * @return an invariants formula representing a constant with the given value.
    */
   static <T extends Typed> Constant<T> of(T pValue) {
-    return new Constant<>(pValue.getTypeInfo(), pValue);
+    return intern(new Constant<>(pValue.getTypeInfo(), pValue));
   }
 }
@@ -68,6 +68,6 @@ final class Divide<ConstantType> extends AbstractBinaryFormula<ConstantType> {
    */
   static <ConstantType> Divide<ConstantType> of(
       NumeralFormula<ConstantType> pNumerator, NumeralFormula<ConstantType> pDenominator) {
-    return new Divide<>(pNumerator, pDenominator);
+    return intern(new Divide<>(pNumerator, pDenominator));
   }
 }
@@ -53,6 +53,6 @@ public final class Exclusion<ConstantType> extends AbstractFormula<ConstantType>
 
   public static <ConstantType> NumeralFormula<ConstantType> of(
       NumeralFormula<ConstantType> pToExclude) {
-    return new Exclusion<>(pToExclude);
+    return intern(new Exclusion<>(pToExclude));
   }
 }
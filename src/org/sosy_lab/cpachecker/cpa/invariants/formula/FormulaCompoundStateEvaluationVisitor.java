@@ -14,6 +14,7 @@ import org.sosy_lab.cpachecker.cpa.invariants.CompoundBitVectorIntervalManagerFa
 import org.sosy_lab.cpachecker.cpa.invariants.CompoundInterval;
 import org.sosy_lab.cpachecker.cpa.invariants.CompoundIntervalManager;
 import org.sosy_lab.cpachecker.cpa.invariants.CompoundIntervalManagerFactory;
+import org.sosy_lab.cpachecker.cpa.invariants.NonRecursiveEnvironment;
 import org.sosy_lab.cpachecker.cpa.invariants.TypeInfo;
 import org.sosy_lab.cpachecker.cpa.invariants.Typed;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
@@ -57,14 +58,52 @@ public class FormulaCompoundStateEvaluationVisitor
     return getCompoundIntervalManager(pTyped.getTypeInfo());
   }
 
+  private long getOverflowEventCount() {
+    if (withOverflowEventHandlers
+        && compoundIntervalManagerFactory
+            instanceof
+            CompoundBitVectorIntervalManagerFactory compoundBitVectorIntervalManagerFactory) {
+      return compoundBitVectorIntervalManagerFactory.getOverflowEventCount();
+    }
+    return 0;
+  }
+
+  /**
+   * Evaluates the given sub-formula. Within an immutable {@link NonRecursiveEnvironment}, the
+   * result is looked up in and stored into the evaluation cache of the environment, so that a
+   * sub-formula that is shared by several formulas is only evaluated once per environment. Results
+   * whose computation signaled an overflow are not cached, because the overflow handlers must be
+   * notified again when the formula is evaluated later.
+   */
+  private CompoundInterval evaluate(
+      NumeralFormula<CompoundInterval> pFormula,
+      Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
+    if (pFormula instanceof Constant<CompoundInterval> constant) {
+      return constant.getValue();
+    }
+    if (!(pEnvironment instanceof NonRecursiveEnvironment environment)) {
+      return pFormula.accept(this, pEnvironment);
+    }
+    Map<NumeralFormula<CompoundInterval>, CompoundInterval> cache =
+        environment.getEvaluationCache(this);
+    CompoundInterval result = cache.get(pFormula);
+    if (result == null) {
+      long overflowEventCount = getOverflowEventCount();
+      result = pFormula.accept(this, pEnvironment);
+      if (overflowEventCount == getOverflowEventCount()) {
+        cache.put(pFormula, result);
+      }
+    }
+    return result;
+  }
+
   @Override
   public CompoundInterval visit(
       Add<CompoundInterval> pAdd,
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pAdd)
         .add(
-            pAdd.getSummand1().accept(this, pEnvironment),
-            pAdd.getSummand2().accept(this, pEnvironment));
+            evaluate(pAdd.getSummand1(), pEnvironment), evaluate(pAdd.getSummand2(), pEnvironment));
   }
 
   @Override
@@ -73,15 +112,14 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pAnd)
         .binaryAnd(
-            pAnd.getOperand1().accept(this, pEnvironment),
-            pAnd.getOperand2().accept(this, pEnvironment));
+            evaluate(pAnd.getOperand1(), pEnvironment), evaluate(pAnd.getOperand2(), pEnvironment));
   }
 
   @Override
   public CompoundInterval visit(
       BinaryNot<CompoundInterval> pNot,
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
-    return getCompoundIntervalManager(pNot).binaryNot(pNot.getFlipped().accept(this, pEnvironment));
+    return getCompoundIntervalManager(pNot).binaryNot(evaluate(pNot.getFlipped(), pEnvironment));
   }
 
   @Override
@@ -90,8 +128,7 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pOr)
         .binaryOr(
-            pOr.getOperand1().accept(this, pEnvironment),
-            pOr.getOperand2().accept(this, pEnvironment));
+            evaluate(pOr.getOperand1(), pEnvironment), evaluate(pOr.getOperand2(), pEnvironment));
   }
 
   @Override
@@ -100,8 +137,7 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pXor)
         .binaryXor(
-            pXor.getOperand1().accept(this, pEnvironment),
-            pXor.getOperand2().accept(this, pEnvironment));
+            evaluate(pXor.getOperand1(), pEnvironment), evaluate(pXor.getOperand2(), pEnvironment));
   }
 
   @Override
@@ -117,16 +153,16 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pDivide)
         .divide(
-            pDivide.getNumerator().accept(this, pEnvironment),
-            pDivide.getDenominator().accept(this, pEnvironment));
+            evaluate(pDivide.getNumerator(), pEnvironment),
+            evaluate(pDivide.getDenominator(), pEnvironment));
   }
 
   @Override
   public BooleanConstant<CompoundInterval> visit(
       Equal<CompoundInterval> pEqual,
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
-    CompoundInterval operand1 = pEqual.getOperand1().accept(this, pEnvironment);
-    CompoundInterval operand2 = pEqual.getOperand2().accept(this, pEnvironment);
+    CompoundInterval operand1 = evaluate(pEqual.getOperand1(), pEnvironment);
+    CompoundInterval operand2 = evaluate(pEqual.getOperand2(), pEnvironment);
 
     CompoundInterval result =
         getCompoundIntervalManager(pEqual.getOperand1()).logicalEquals(operand1, operand2);
@@ -185,7 +221,7 @@ public class FormulaCompoundStateEvaluationVisitor
   public CompoundInterval visit(
       Exclusion<CompoundInterval> pExclusion,
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
-    CompoundInterval excluded = pExclusion.getExcluded().accept(this, pEnvironment);
+    CompoundInterval excluded = evaluate(pExclusion.getExcluded(), pEnvironment);
     if (excluded.isSingleton()) {
       return excluded.invert();
     }
@@ -199,8 +235,8 @@ public class FormulaCompoundStateEvaluationVisitor
     CompoundInterval value =
         getCompoundIntervalManager(pLessThan.getOperand1())
             .lessThan(
-                pLessThan.getOperand1().accept(this, pEnvironment),
-                pLessThan.getOperand2().accept(this, pEnvironment));
+                evaluate(pLessThan.getOperand1(), pEnvironment),
+                evaluate(pLessThan.getOperand2(), pEnvironment));
     if (value.isDefinitelyTrue()) {
       return BooleanConstant.getTrue();
     }
@@ -248,8 +284,8 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pModulo)
         .modulo(
-            pModulo.getNumerator().accept(this, pEnvironment),
-            pModulo.getDenominator().accept(this, pEnvironment));
+            evaluate(pModulo.getNumerator(), pEnvironment),
+            evaluate(pModulo.getDenominator(), pEnvironment));
   }
 
   @Override
@@ -258,8 +294,8 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pMultiply)
         .multiply(
-            pMultiply.getFactor1().accept(this, pEnvironment),
-            pMultiply.getFactor2().accept(this, pEnvironment));
+            evaluate(pMultiply.getFactor1(), pEnvironment),
+            evaluate(pMultiply.getFactor2(), pEnvironment));
   }
 
   @Override
@@ -268,8 +304,8 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pShiftLeft)
         .shiftLeft(
-            pShiftLeft.getShifted().accept(this, pEnvironment),
-            pShiftLeft.getShiftDistance().accept(this, pEnvironment));
+            evaluate(pShiftLeft.getShifted(), pEnvironment),
+            evaluate(pShiftLeft.getShiftDistance(), pEnvironment));
   }
 
   @Override
@@ -278,8 +314,8 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pShiftRight)
         .shiftRight(
-            pShiftRight.getShifted().accept(this, pEnvironment),
-            pShiftRight.getShiftDistance().accept(this, pEnvironment));
+            evaluate(pShiftRight.getShifted(), pEnvironment),
+            evaluate(pShiftRight.getShiftDistance(), pEnvironment));
   }
 
   @Override
@@ -288,8 +324,8 @@ public class FormulaCompoundStateEvaluationVisitor
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
     return getCompoundIntervalManager(pUnion)
         .union(
-            pUnion.getOperand1().accept(this, pEnvironment),
-            pUnion.getOperand2().accept(this, pEnvironment));
+            evaluate(pUnion.getOperand1(), pEnvironment),
+            evaluate(pUnion.getOperand2(), pEnvironment));
   }
 
   @Override
@@ -300,7 +336,7 @@ public class FormulaCompoundStateEvaluationVisitor
     if (varState == null) {
       return getCompoundIntervalManager(pVariable).allPossibleValues();
     }
-    return varState.accept(this, pEnvironment);
+    return evaluate(varState, pEnvironment);
   }
 
   @Override
@@ -322,22 +358,22 @@ public class FormulaCompoundStateEvaluationVisitor
     BooleanConstant<CompoundInterval> condition =
         pIfThenElse.getCondition().accept(this, pEnvironment);
     if (BooleanConstant.isTrue(condition)) {
-      return pIfThenElse.getPositiveCase().accept(this, pEnvironment);
+      return evaluate(pIfThenElse.getPositiveCase(), pEnvironment);
     }
     if (BooleanConstant.isFalse(condition)) {
-      return pIfThenElse.getNegativeCase().accept(this, pEnvironment);
+      return evaluate(pIfThenElse.getNegativeCase(), pEnvironment);
     }
     return getCompoundIntervalManager(pIfThenElse)
         .union(
-            pIfThenElse.getPositiveCase().accept(this, pEnvironment),
-            pIfThenElse.getNegativeCase().accept(this, pEnvironment));
+            evaluate(pIfThenElse.getPositiveCase(), pEnvironment),
+            evaluate(pIfThenElse.getNegativeCase(), pEnvironment));
   }
 
   @Override
   public CompoundInterval visit(
       Cast<CompoundInterval> pCast,
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
-    CompoundInterval casted = pCast.getCasted().accept(this, pEnvironment);
+    CompoundInterval casted = evaluate(pCast.getCasted(), pEnvironment);
     return getCompoundIntervalManager(pCast).cast(pCast.getTypeInfo(), casted);
   }
 
@@ -19,6 +19,8 @@ final class IfThenElse<ConstantType> extends AbstractFormula<ConstantType> {
 
   private final NumeralFormula<ConstantType> negativeCase;
 
+  private final int hashCode;
+
   private IfThenElse(
       BooleanFormula<ConstantType> pCondition,
       NumeralFormula<ConstantType> pPositiveCase,
@@ -30,6 +32,7 @@ final class IfThenElse<ConstantType> extends AbstractFormula<ConstantType> {
     condition = pCondition;
     positiveCase = pPositiveCase;
     negativeCase = pNegativeCase;
+    hashCode = Objects.hash(condition, positiveCase, negativeCase);
   }
 
   public BooleanFormula<ConstantType> getCondition() {
@@ -51,7 +54,7 @@ final class IfThenElse<ConstantType> extends AbstractFormula<ConstantType> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(getCondition(), getPositiveCase(), getNegativeCase());
+    return hashCode;
   }
 
   @Override
@@ -60,6 +63,7 @@ final class IfThenElse<ConstantType> extends AbstractFormula<ConstantType> {
       return true;
     }
     return pOther instanceof IfThenElse<?> other
+        && hashCode == other.hashCode
         && getCondition().equals(other.getCondition())
         && getPositiveCase().equals(other.getPositiveCase())
         && getNegativeCase().equals(other.getNegativeCase());
@@ -81,6 +85,6 @@ final class IfThenElse<ConstantType> extends AbstractFormula<ConstantType> {
       BooleanFormula<ConstantType> pCondition,
       NumeralFormula<ConstantType> pPositiveCase,
       NumeralFormula<ConstantType> pNegativeCase) {
-    return new IfThenElse<>(pCondition, pPositiveCase, pNegativeCase);
+    return intern(new IfThenElse<>(pCondition, pPositiveCase, pNegativeCase));
   }
 }
@@ -65,6 +65,6 @@ final class Modulo<ConstantType> extends AbstractBinaryFormula<ConstantType> {
    */
   static <ConstantType> Modulo<ConstantType> of(
       NumeralFormula<ConstantType> pNumerator, NumeralFormula<ConstantType> pDenominator) {
-    return new Modulo<>(pNumerator, pDenominator);
+    return intern(new Modulo<>(pNumerator, pDenominator));
   }
 }
@@ -64,6 +64,6 @@ public final class Multiply<ConstantType> extends AbstractBinaryFormula<Constant
    */
   static <ConstantType> Multiply<ConstantType> of(
       NumeralFormula<ConstantType> pFactor1, NumeralFormula<ConstantType> pFactor2) {
-    return new Multiply<>(pFactor1, pFactor2);
+    return intern(new Multiply<>(pFactor1, pFactor2));
   }
 }
@@ -68,6 +68,6 @@ final class ShiftLeft<ConstantType> extends AbstractBinaryFormula<ConstantType>
    */
   static <ConstantType> ShiftLeft<ConstantType> of(
       NumeralFormula<ConstantType> pToShift, NumeralFormula<ConstantType> pShiftDistance) {
-    return new ShiftLeft<>(pToShift, pShiftDistance);
+    return intern(new ShiftLeft<>(pToShift, pShiftDistance));
   }
 }
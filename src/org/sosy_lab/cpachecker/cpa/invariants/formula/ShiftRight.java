@@ -68,6 +68,6 @@ final class ShiftRight<ConstantType> extends AbstractBinaryFormula<ConstantType>
    */
   static <ConstantType> ShiftRight<ConstantType> of(
       NumeralFormula<ConstantType> pToShift, NumeralFormula<ConstantType> pShiftDistance) {
-    return new ShiftRight<>(pToShift, pShiftDistance);
+    return intern(new ShiftRight<>(pToShift, pShiftDistance));
   }
 }
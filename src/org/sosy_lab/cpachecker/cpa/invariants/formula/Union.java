@@ -46,6 +46,6 @@ public final class Union<ConstantType> extends AbstractBinaryFormula<ConstantTyp
    */
   public static <ConstantType> Union<ConstantType> of(
       NumeralFormula<ConstantType> pOperand1, NumeralFormula<ConstantType> pOperand2) {
-    return new Union<>(pOperand1, pOperand2);
+    return intern(new Union<>(pOperand1, pOperand2));
   }
 }
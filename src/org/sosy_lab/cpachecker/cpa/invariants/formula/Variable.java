@@ -65,6 +65,6 @@ public final class Variable<ConstantType> extends AbstractFormula<ConstantType>
    * @return an invariants formula representing the variable with the given memory location.
    */
   static <ConstantType> Variable<ConstantType> of(TypeInfo pInfo, MemoryLocation pMemoryLocation) {
-    return new Variable<>(pInfo, pMemoryLocation);
+    return intern(new Variable<>(pInfo, pMemoryLocation));
   }
 }
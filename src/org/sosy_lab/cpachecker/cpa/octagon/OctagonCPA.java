@@ -29,6 +29,7 @@ import org.sosy_lab.cpachecker.core.interfaces.StateSpacePartition;
 import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.TransferRelation;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.octagon.JavaOctagonManager;
 import org.sosy_lab.cpachecker.util.octagon.OctagonFloatManager;
 import org.sosy_lab.cpachecker.util.octagon.OctagonIntManager;
 import org.sosy_lab.cpachecker.util.octagon.OctagonManager;
@@ -50,6 +51,15 @@ public final class OctagonCPA implements ConfigurableProgramAnalysis {
               + " library will be changed between floats and ints.")
   private String octagonLibrary = "INT";
 
+  @Option(
+      secure = true,
+      description =
+          "use the octagon implementation in Java instead of the native octagon library,"
+              + " the number representation is still chosen with octagonLibrary."
+              + " It decomposes octagons into independent packs of related variables,"
+              + " which makes the analysis of programs with many variables feasible.")
+  private boolean useJavaImplementation = false;
+
   @Option(
       secure = true,
       name = "initialPrecisionType",
@@ -79,7 +89,9 @@ public final class OctagonCPA implements ConfigurableProgramAnalysis {
     logger = log;
     OctagonDomain octagonDomain = new OctagonDomain(logger);
 
-    if (octagonLibrary.equals("FLOAT")) {
+    if (useJavaImplementation) {
+      octagonManager = new JavaOctagonManager(!octagonLibrary.equals("FLOAT"));
+    } else if (octagonLibrary.equals("FLOAT")) {
       octagonManager = new OctagonFloatManager();
     } else {
       octagonManager = new OctagonIntManager();
@@ -104,6 +104,10 @@ final class PredicateAbstractDomain implements AbstractDomain {
     }
   }
 
+  boolean hasSymbolicCoverageCheck() {
+    return symbolicCoverageCheck;
+  }
+
   @Override
   public AbstractState join(AbstractState pElement1, AbstractState pElement2) throws CPAException {
     throw new UnsupportedOperationException();
@@ -14,6 +14,7 @@ import static com.google.common.base.Predicates.equalTo;
 import com.google.common.base.Functions;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -160,6 +161,15 @@ public final class PredicateAbstractionManager {
   @Option(secure = true, name = "abs.useCache", description = "use caching of abstractions")
   private boolean useCache = true;
 
+  @Option(
+      secure = true,
+      name = "abs.canonicalizeCacheKeys",
+      description =
+          "Use a canonical form of the formulas as key for the caches of abstractions, such that"
+              + " abstraction problems that only differ in the order of operands of commutative"
+              + " operators or in their SSA indices share cache entries.")
+  private boolean canonicalizeCacheKeys = false;
+
   @Option(
       secure = true,
       name = "refinement.splitItpAtoms",
@@ -405,7 +415,7 @@ public final class PredicateAbstractionManager {
       ImmutableSet<BooleanFormula> instantiatedPreds =
           Collections3.transformedImmutableSetCopy(
               remainingPredicates, pred -> instantiator.apply(pred.getSymbolicAtom()));
-      absKey = Pair.of(f, instantiatedPreds);
+      absKey = getAbstractionCacheKey(f, instantiatedPreds);
       AbstractionFormula result = abstractionCache.get(absKey);
 
       if (result != null) {
@@ -430,8 +440,8 @@ public final class PredicateAbstractionManager {
       }
 
       boolean unsatisfiable =
-          unsatisfiabilityCache.contains(symbFormula)
-              || unsatisfiabilityCache.contains(f)
+          unsatisfiabilityCache.contains(getUnsatisfiabilityCacheKey(symbFormula))
+              || unsatisfiabilityCache.contains(getUnsatisfiabilityCacheKey(f))
               || Boolean.TRUE.equals(solver.isUnsatCached(symbFormula))
               || Boolean.TRUE.equals(solver.isUnsatCached(f));
       if (unsatisfiable) {
@@ -505,7 +515,7 @@ public final class PredicateAbstractionManager {
       abstractionCache.put(absKey, result);
 
       if (result.isFalse()) {
-        unsatisfiabilityCache.add(f);
+        unsatisfiabilityCache.add(getUnsatisfiabilityCacheKey(f));
       }
     }
 
@@ -578,6 +588,27 @@ public final class PredicateAbstractionManager {
     return pfmgr.addBitwiseAxiomsIfNeeded(symbFormula, symbFormula);
   }
 
+  /**
+   * The key for the abstraction cache. With canonicalization, the formula and the predicates are
+   * canonicalized together, because the abstraction depends on how their SSA indices relate.
+   */
+  private Pair<BooleanFormula, ImmutableSet<BooleanFormula>> getAbstractionCacheKey(
+      BooleanFormula f, ImmutableSet<BooleanFormula> instantiatedPreds) {
+    if (!canonicalizeCacheKeys) {
+      return Pair.of(f, instantiatedPreds);
+    }
+    List<BooleanFormula> canonicalFormulas =
+        fmgr.canonicalize(
+            ImmutableList.<BooleanFormula>builder().add(f).addAll(instantiatedPreds).build());
+    return Pair.of(
+        canonicalFormulas.getFirst(),
+        ImmutableSet.copyOf(canonicalFormulas.subList(1, canonicalFormulas.size())));
+  }
+
+  private BooleanFormula getUnsatisfiabilityCacheKey(BooleanFormula f) {
+    return canonicalizeCacheKeys ? fmgr.canonicalize(f) : f;
+  }
+
   private @Nullable AbstractionFormula reuseAbstractionIfPossible(
       final AbstractionFormula abstractionFormula,
       final PathFormula pathFormula,
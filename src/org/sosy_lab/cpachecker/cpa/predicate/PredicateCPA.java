@@ -216,7 +216,12 @@ public class PredicateCPA
         switch (mergeType) {
           case "SEP" -> MergeSepOperator.getInstance();
           case "ABE" ->
-              new PredicateMergeOperator(config, logger, pathFormulaManager, predAbsManager);
+              new PredicateMergeOperator(
+                  config,
+                  logger,
+                  pathFormulaManager,
+                  predAbsManager,
+                  !stopType.equals("SEP") || domain.hasSymbolicCoverageCheck());
           default -> throw new AssertionError("Update list of allowed merge operators");
         };
     prec =
@@ -12,13 +12,14 @@ import static org.sosy_lab.cpachecker.cpa.predicate.PredicateAbstractState.mkAbs
 import static org.sosy_lab.cpachecker.cpa.predicate.PredicateAbstractState.mkNonAbstractionStateWithNewPathFormula;
 
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
-import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.KeyedMergeOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.util.predicates.AbstractionFormula;
 import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormula;
@@ -32,7 +33,7 @@ import org.sosy_lab.cpachecker.util.statistics.StatTimer;
  * PredicateAbstractState}'s pathFormula.
  */
 @Options(prefix = "cpa.predicate.merge")
-final class PredicateMergeOperator implements MergeOperator {
+final class PredicateMergeOperator implements KeyedMergeOperator {
 
   @Option(
       secure = true,
@@ -46,6 +47,13 @@ final class PredicateMergeOperator implements MergeOperator {
 
   private final PredicateAbstractionManager predAbsManager;
 
+  /**
+   * Whether non-abstraction states may be covered by abstraction states, e.g., with symbolic
+   * coverage checks. In this case, merge keys would often make merge-agree skip merges of other
+   * CPAs, so they are not provided.
+   */
+  private final boolean coverageOfNonAbstractionStatesByAbstractionStates;
+
   // Statistics
   final StatTimer totalMergeTime = new StatTimer("Time for merge operator");
 
@@ -53,13 +61,33 @@ final class PredicateMergeOperator implements MergeOperator {
       Configuration pConfig,
       LogManager pLogger,
       PathFormulaManager pPfmgr,
-      PredicateAbstractionManager pPredAbsManager)
+      PredicateAbstractionManager pPredAbsManager,
+      boolean pCoverageOfNonAbstractionStatesByAbstractionStates)
       throws InvalidConfigurationException {
     pConfig.inject(this);
     logger = pLogger;
     formulaManager = pPfmgr;
 
     predAbsManager = pPredAbsManager;
+    coverageOfNonAbstractionStatesByAbstractionStates =
+        pCoverageOfNonAbstractionStatesByAbstractionStates;
+  }
+
+  /**
+   * Non-abstraction states are only merged with states of the same block, i.e., with the same
+   * abstraction formula, and abstraction states are only merged with abstraction states. Without
+   * symbolic coverage checks, states of different blocks and states that are not both abstraction
+   * states also usually do not cover each other, only non-abstraction states of different blocks
+   * with equal path formulas do (cf. {@link KeyedMergeOperator#getMergeKey} for why this is
+   * acceptable).
+   */
+  @Override
+  public @Nullable Object getMergeKey(AbstractState pState) {
+    PredicateAbstractState state = (PredicateAbstractState) pState;
+    if (coverageOfNonAbstractionStatesByAbstractionStates || state.isAbstractionState()) {
+      return null;
+    }
+    return state.getAbstractionFormula();
   }
 
   @Override
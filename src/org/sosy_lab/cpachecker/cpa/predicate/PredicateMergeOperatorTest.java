@@ -0,0 +1,78 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.predicate;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.sosy_lab.cpachecker.cpa.predicate.PredicateAbstractState.mkAbstractionState;
+import static org.sosy_lab.cpachecker.cpa.predicate.PredicateAbstractState.mkNonAbstractionState;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.defaults.SingletonPrecision;
+import org.sosy_lab.cpachecker.util.predicates.AbstractionFormula;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormula;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
+import org.sosy_lab.cpachecker.util.test.TestUtils;
+
+public class PredicateMergeOperatorTest {
+
+  private AbstractionFormula block1;
+  private AbstractionFormula block2;
+  private PathFormula pathFormula;
+
+  @Before
+  public void setUp() {
+    block1 = mock(AbstractionFormula.class);
+    block2 = mock(AbstractionFormula.class);
+    pathFormula = mock(PathFormula.class);
+  }
+
+  private static PredicateMergeOperator createMergeOperator(boolean pCoverageByAbstractionStates)
+      throws Exception {
+    return new PredicateMergeOperator(
+        TestUtils.configurationForTest().build(),
+        LogManager.createTestLogManager(),
+        mock(PathFormulaManager.class),
+        mock(PredicateAbstractionManager.class),
+        pCoverageByAbstractionStates);
+  }
+
+  private PredicateAbstractState nonAbstractionState(AbstractionFormula pBlock) {
+    return mkNonAbstractionState(pathFormula, pBlock, PathCopyingPersistentTreeMap.of());
+  }
+
+  @Test
+  public void testMergeKeys() throws Exception {
+    PredicateMergeOperator merge = createMergeOperator(false);
+    PredicateAbstractState state1 = nonAbstractionState(block1);
+    PredicateAbstractState state2 = nonAbstractionState(block2);
+
+    assertThat(merge.getMergeKey(state1)).isEqualTo(merge.getMergeKey(nonAbstractionState(block1)));
+    assertThat(merge.getMergeKey(state1)).isNotEqualTo(merge.getMergeKey(state2));
+    assertThat(
+            merge.getMergeKey(
+                mkAbstractionState(pathFormula, block1, PathCopyingPersistentTreeMap.of())))
+        .isNull();
+
+    // states with different keys are not merged
+    assertThat(merge.merge(state1, state2, SingletonPrecision.getInstance()))
+        .isSameInstanceAs(state2);
+  }
+
+  @Test
+  public void testNoMergeKeysWithCoverageByAbstractionStates() throws Exception {
+    PredicateMergeOperator merge = createMergeOperator(true);
+
+    assertThat(merge.getMergeKey(nonAbstractionState(block1))).isNull();
+    assertThat(merge.getMergeKey(nonAbstractionState(block2))).isNull();
+  }
+}
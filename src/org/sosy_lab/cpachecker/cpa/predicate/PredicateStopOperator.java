@@ -11,6 +11,7 @@ package org.sosy_lab.cpachecker.cpa.predicate;
 import org.sosy_lab.cpachecker.core.defaults.StopSepOperator;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
 import org.sosy_lab.cpachecker.core.interfaces.ForcedCoveringStopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
@@ -18,7 +19,13 @@ import org.sosy_lab.cpachecker.exceptions.CPAException;
 final class PredicateStopOperator extends StopSepOperator implements ForcedCoveringStopOperator {
 
   PredicateStopOperator(AbstractDomain pD) {
-    super(pD);
+    // Abstraction states are only covered by abstraction states,
+    // whereas non-abstraction states may be covered by both.
+    super(
+        pD,
+        state ->
+            new CoverageSignature(
+                null, ((PredicateAbstractState) state).isAbstractionState() ? 0 : 1, null));
   }
 
   @Override
@@ -83,8 +83,11 @@ public class SMGCPA
       secure = true,
       name = "stop",
       toUppercase = true,
-      values = {"SEP", "NEVER", "END_BLOCK"},
-      description = "which stop operator to use for the SMGCPA")
+      values = {"SEP", "NEVER", "END_BLOCK", "INDEXED"},
+      description =
+          "which stop operator to use for the SMGCPA. 'INDEXED' is equivalent to 'SEP', but skips"
+              + " states from reached that can not cover the new state based on a signature of"
+              + " their variables and checks states with the same heap shape first.")
   private String stopType = "SEP";
 
   @Option(
@@ -244,6 +247,7 @@ public class SMGCPA
     return switch (stopType) {
       case "NEVER" -> StopNeverOperator.getInstance();
       case "SEP" -> new StopSepOperator(getAbstractDomain());
+      case "INDEXED" -> new SMGStopOperator(statistics);
       default -> throw new AssertionError("unknown stop-type " + stopType + " for SMGCPA");
     };
   }
@@ -67,6 +67,14 @@ public class SMGCPAStatistics extends ConstraintsStatistics implements Statistic
   private StatCounter successfulMerges = new StatCounter("Number of successful merges");
   private StatCounter mergeAttempts = new StatCounter("Number of merges attempted");
 
+  private final StatTimer totalStopTime = new StatTimer("Time spend on the indexed stop operator");
+  private final StatCounter stopComparisons =
+      new StatCounter("Number of states compared in the indexed stop operator");
+  private final StatCounter stopComparisonsSkipped =
+      new StatCounter("Number of state comparisons skipped due to distinct variable signatures");
+  private final StatCounter stopEqualShapeHits =
+      new StatCounter("Number of states covered by a state with equal heap shape");
+
   private StatCounter assumptions = new StatCounter("Number of assumptions");
   private StatCounter deterministicAssumptions =
       new StatCounter("Number of deterministic assumptions");
@@ -132,6 +140,10 @@ public class SMGCPAStatistics extends ConstraintsStatistics implements Statistic
     writer.put("Max time spent on merging two states: ", totalMergeTime.getMaxTime());
     writer.put("Number of merge attempts: ", mergeAttempts);
     writer.put("Number of successful merges: ", successfulMerges);
+    writer.putIfUpdatedAtLeastOnce(totalStopTime);
+    writer.putIfUpdatedAtLeastOnce(stopComparisons);
+    writer.putIfUpdatedAtLeastOnce(stopComparisonsSkipped);
+    writer.putIfUpdatedAtLeastOnce(stopEqualShapeHits);
 
     writer.put(
         "Total time spent on allocating values in a concrete error-path: ",
@@ -248,6 +260,22 @@ public class SMGCPAStatistics extends ConstraintsStatistics implements Statistic
     mergeAttempts.inc();
   }
 
+  StatTimer getStopTime() {
+    return totalStopTime;
+  }
+
+  void incrementStopComparisons() {
+    stopComparisons.inc();
+  }
+
+  void incrementStopComparisonsSkipped() {
+    stopComparisonsSkipped.inc();
+  }
+
+  void incrementStopEqualShapeHits() {
+    stopEqualShapeHits.inc();
+  }
+
   int getCurrentLevelOfDeterminism() {
     if (assumptions.getValue() == 0) {
       return 100;
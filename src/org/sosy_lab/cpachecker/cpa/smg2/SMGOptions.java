@@ -985,6 +985,15 @@ public class SMGOptions {
         description = "Abstraction of all detected linked lists at loop heads.")
     private boolean abstractLinkedLists = true;
 
+    @Option(
+        secure = true,
+        name = "incrementalListCandidateSearch",
+        description =
+            "Search for list abstraction candidates only in heap objects that changed since the"
+                + " last list abstraction on the current path and in the heap objects pointing to"
+                + " them, instead of the whole heap.")
+    private boolean incrementalListCandidateSearch = false;
+
     @Option(
         secure = true,
         name = "removeUnusedConstraints",
@@ -1049,6 +1058,10 @@ public class SMGOptions {
       return abstractLinkedLists;
     }
 
+    public boolean incrementalListCandidateSearch() {
+      return incrementalListCandidateSearch;
+    }
+
     public int getAbstractConcreteValuesAboveThreshold() {
       Preconditions.checkState(
           abstractConcreteValuesAboveThreshold <= 0,
@@ -185,7 +185,9 @@ public class SMGPrecisionAdjustment implements PrecisionAdjustment {
             new SMGCPAAbstractionManager(
                     resultState,
                     abstractionOptions.getListAbstractionMinimumLengthThreshold(),
-                    stats)
+                    stats,
+                    SMGCPAAbstractionManager.DEFAULT_MAX_TRIES_BEFORE_ABORT,
+                    abstractionOptions.incrementalListCandidateSearch())
                 .findAndAbstractLists();
       } catch (SMGException e) {
         if (abstractionOptions.errorHandling() == STOP_CURRENT) {
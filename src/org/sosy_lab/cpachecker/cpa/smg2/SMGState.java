@@ -736,6 +736,15 @@ public class SMGState
     return Optional.empty();
   }
 
+  /**
+   * Copies the state and forgets which objects of the memory changed, see {@link
+   * SMG#getChangedObjects()}. Returns this state if there are no changed objects.
+   */
+  public SMGState copyAndClearChangedObjects() {
+    SymbolicProgramConfiguration newMemoryModel = memoryModel.copyAndClearChangedObjects();
+    return newMemoryModel == memoryModel ? this : copyAndReplaceMemoryModel(newMemoryModel);
+  }
+
   public SMGState copyAndRemoveStackVariable(String qualifiedName) {
     return copyAndReplaceMemoryModel(memoryModel.copyAndRemoveStackVariable(qualifiedName));
   }
@@ -1336,6 +1345,12 @@ public class SMGState
       return Optional.empty();
     }
 
+    if (memoryModel.getVariableTypeSignature()
+        != pOtherStateFromReached.memoryModel.getVariableTypeSignature()) {
+      // Variables of distinct types can not be merged, see SymbolicProgramConfiguration.merge()
+      return Optional.empty();
+    }
+
     // We may not forget any errors already found
     if (!checkErrorEqualityForTwoStates(pOtherStateFromReached)
         || !copyAndPruneUnreachable()
@@ -1580,6 +1595,11 @@ public class SMGState
       return false;
     }
 
+    // ... and exactly the same memory locations, see checkEqualityOfMemoryForTwoStates()
+    if (memoryModel.getVariableSignature() != pOther.memoryModel.getVariableSignature()) {
+      return false;
+    }
+
     Set<SMGSinglyLinkedListSegment> thisAllAbstr =
         memoryModel.getSmg().getAllValidAbstractedObjects();
     if (!thisAllAbstr.isEmpty()) {
@@ -6620,6 +6640,22 @@ public class SMGState
     return memoryModel.getNumberOfVariables();
   }
 
+  /**
+   * Returns a hash of the memory shape of this state that is invariant under renaming of values and
+   * objects, see {@link SymbolicProgramConfiguration#getHeapShapeHash()}.
+   */
+  int getHeapShapeHash() {
+    return memoryModel.getHeapShapeHash();
+  }
+
+  /**
+   * Returns a hash of the memory locations of all variables. Only states with equal signatures may
+   * be less or equal to each other.
+   */
+  int getVariableSignature() {
+    return memoryModel.getVariableSignature();
+  }
+
   public SMGInterpolant createInterpolant(boolean isMemorySafety) {
     PersistentStack<CFunctionDeclarationAndOptionalValue> funDecls =
         memoryModel.getFunctionDeclarationsFromStackFrames();
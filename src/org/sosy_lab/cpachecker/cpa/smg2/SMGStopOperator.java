@@ -0,0 +1,85 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.smg2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.statistics.StatTimer;
+
+/**
+ * Stop-sep operator for {@link SMGState}s that uses the signatures of the memory models as index
+ * into the reached states (which are already partitioned by location when this operator is used in
+ * a partitioned reached set). States from reached are grouped by their hashes before the expensive
+ * {@link SMGState#isLessOrEqual(SMGState)} is called:
+ *
+ * <ul>
+ *   <li>States with a distinct variable signature can not cover the new state and are skipped.
+ *   <li>States with the same canonical heap shape hash as the new state are compared first, as they
+ *       are most likely equal to it.
+ *   <li>All remaining candidates are compared afterward.
+ * </ul>
+ *
+ * The result is always the same as for the standard stop-sep operator.
+ */
+public class SMGStopOperator implements StopOperator {
+
+  private final SMGCPAStatistics statistics;
+  private final StatTimer totalStopTimer;
+
+  public SMGStopOperator(SMGCPAStatistics pStatistics) {
+    statistics = pStatistics;
+    totalStopTimer = statistics.getStopTime();
+  }
+
+  @Override
+  public boolean stop(
+      AbstractState pState, Collection<AbstractState> pReached, Precision pPrecision)
+      throws CPAException, InterruptedException {
+    SMGState state = (SMGState) pState;
+    totalStopTimer.start();
+    try {
+      int variableSignature = state.getVariableSignature();
+      int heapShapeHash = state.getHeapShapeHash();
+      List<SMGState> remainingCandidates = new ArrayList<>();
+
+      for (AbstractState reachedState : pReached) {
+        SMGState smgStateFromReached = (SMGState) reachedState;
+        // Merged states might cover the new state because of the merge, regardless of signatures
+        if (!smgStateFromReached.isResultOfMerge()
+            && smgStateFromReached.getVariableSignature() != variableSignature) {
+          statistics.incrementStopComparisonsSkipped();
+        } else if (smgStateFromReached.getHeapShapeHash() == heapShapeHash) {
+          statistics.incrementStopComparisons();
+          if (state.isLessOrEqual(smgStateFromReached)) {
+            statistics.incrementStopEqualShapeHits();
+            return true;
+          }
+        } else {
+          remainingCandidates.add(smgStateFromReached);
+        }
+      }
+
+      for (SMGState candidate : remainingCandidates) {
+        statistics.incrementStopComparisons();
+        if (state.isLessOrEqual(candidate)) {
+          return true;
+        }
+      }
+      return false;
+
+    } finally {
+      totalStopTimer.stop();
+    }
+  }
+}
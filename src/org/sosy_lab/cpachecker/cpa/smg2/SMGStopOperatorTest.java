@@ -0,0 +1,99 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.smg2;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import java.math.BigInteger;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.core.defaults.SingletonPrecision;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.cpa.value.type.NumericValue;
+import org.sosy_lab.cpachecker.exceptions.CPATransferException;
+
+/*
+ * Test the signatures of the memory models and their use as index in the SMGStopOperator.
+ */
+public class SMGStopOperatorTest extends SMGCPATest0 {
+
+  private final SMGStopOperator stopOperator = new SMGStopOperator(new SMGCPAStatistics());
+
+  /** Returns a fresh state with one local int variable with the given name and value. */
+  private SMGState stateWithVariable(String pName, int pValue) throws CPATransferException {
+    NumericValue intSize = new NumericValue(machineModel.getSizeofInBits(CNumericTypes.INT));
+    SMGState state = getFreshState().copyAndAddLocalVariable(intSize, pName, CNumericTypes.INT);
+    return state.writeToStackOrGlobalVariable(
+        pName,
+        new NumericValue(BigInteger.ZERO),
+        intSize,
+        new NumericValue(pValue),
+        CNumericTypes.INT,
+        dummyCFAEdge);
+  }
+
+  private boolean stop(SMGState pState, AbstractState... pReached) throws Exception {
+    return stopOperator.stop(
+        pState, ImmutableList.copyOf(pReached), SingletonPrecision.getInstance());
+  }
+
+  @Test
+  public void signaturesOfEqualStatesAreEqualTest() throws Exception {
+    SMGState state = stateWithVariable("x", 1);
+    SMGState equalState = stateWithVariable("x", 1);
+
+    assertThat(state.getVariableSignature()).isEqualTo(equalState.getVariableSignature());
+    assertThat(state.getHeapShapeHash()).isEqualTo(equalState.getHeapShapeHash());
+    assertThat(state.isLessOrEqual(equalState)).isTrue();
+  }
+
+  @Test
+  public void signaturesOfDistinctStatesTest() throws Exception {
+    SMGState state = stateWithVariable("x", 1);
+    SMGState otherValue = stateWithVariable("x", 2);
+    SMGState otherVariable = stateWithVariable("y", 1);
+
+    // The variable signature only depends on the memory locations
+    assertThat(state.getVariableSignature()).isEqualTo(otherValue.getVariableSignature());
+    assertThat(state.getHeapShapeHash()).isNotEqualTo(otherValue.getHeapShapeHash());
+    assertThat(state.getVariableSignature()).isNotEqualTo(otherVariable.getVariableSignature());
+    assertThat(state.isLessOrEqual(otherVariable)).isFalse();
+  }
+
+  @Test
+  public void stopSkipsStatesWithDistinctVariableSignatureTest() throws Exception {
+    SMGState state = spy(stateWithVariable("x", 1));
+    SMGState otherVariable = stateWithVariable("y", 1);
+
+    assertThat(stop(state, otherVariable)).isFalse();
+    verify(state, never()).isLessOrEqual(any());
+  }
+
+  @Test
+  public void stopComparesStatesWithEqualVariableSignatureTest() throws Exception {
+    SMGState state = spy(stateWithVariable("x", 1));
+    SMGState otherVariable = stateWithVariable("y", 1);
+    SMGState otherValue = stateWithVariable("x", 2);
+    SMGState equalState = stateWithVariable("x", 1);
+
+    // States with an equal signature but a distinct heap shape are still compared
+    assertThat(stop(state, otherVariable, otherValue)).isFalse();
+    verify(state).isLessOrEqual(otherValue);
+    verify(state, never()).isLessOrEqual(otherVariable);
+
+    assertThat(stop(state, otherVariable, otherValue, equalState)).isTrue();
+    verify(state).isLessOrEqual(equalState);
+    verify(state, never()).isLessOrEqual(otherVariable);
+  }
+}
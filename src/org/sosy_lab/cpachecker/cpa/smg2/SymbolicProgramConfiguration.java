@@ -161,6 +161,14 @@ public class SymbolicProgramConfiguration {
 
   private final SMGOptions options;
 
+  // Depth up to which pointers are followed when computing the heap shape hash
+  private static final int HEAP_SHAPE_HASH_DEPTH = 3;
+
+  // Lazily computed signatures of this (immutable) memory model, 0 if not yet computed
+  private int variableSignature = 0;
+  private int variableTypeSignature = 0;
+  private int heapShapeHash = 0;
+
   private SymbolicProgramConfiguration(
       SMG pSmg,
       PersistentMap<String, SMGObject> pGlobalVariableMapping,
@@ -2809,7 +2817,7 @@ public class SymbolicProgramConfiguration {
    */
   public static SymbolicProgramConfiguration of(BigInteger sizeOfPtr, SMGOptions pOptions) {
     return new SymbolicProgramConfiguration(
-        new SMG(sizeOfPtr),
+        new SMG(sizeOfPtr, pOptions.getAbstractionOptions().incrementalListCandidateSearch()),
         PathCopyingPersistentTreeMap.of(),
         PersistentStack.of(),
         PersistentStack.of(),
@@ -2948,6 +2956,92 @@ public class SymbolicProgramConfiguration {
     return size;
   }
 
+  /**
+   * Returns a hash of the number of variables and of all {@link MemoryLocation}s of global and
+   * local variables that hold a value (see {@link
+   * #getMemoryLocationsAndValuesForSPCWithoutHeap()}). A state can only be less or equal to another
+   * state if both have exactly the same memory locations, so distinct signatures prove that two
+   * states do not subsume each other. Computed once per memory model.
+   */
+  int getVariableSignature() {
+    if (variableSignature == 0) {
+      variableSignature =
+          nonZero(
+              31 * getNumberOfVariables()
+                  + getMemoryLocationsAndValuesForSPCWithoutHeap().keySet().hashCode());
+    }
+    return variableSignature;
+  }
+
+  /**
+   * Returns a hash of the number of variables and the types of all variables. Two memory models can
+   * only be merged if their variables and variable types are equal, so distinct signatures prove
+   * that a merge fails. Computed once per memory model.
+   */
+  int getVariableTypeSignature() {
+    if (variableTypeSignature == 0) {
+      variableTypeSignature = nonZero(31 * getNumberOfVariables() + variableToTypeMap.hashCode());
+    }
+    return variableTypeSignature;
+  }
+
+  /**
+   * Returns a canonical hash of the shape of the memory reachable from global and local variables.
+   * The hash is invariant under renaming of symbolic values and {@link SMGObject}s: concrete values
+   * are hashed by value, other symbolic values are all treated alike, and pointers are hashed by
+   * their offset and the shape of their target (size, validity, minimal list length and, up to a
+   * fixed depth, its values). Equal states therefore have equal hashes, but states that subsume
+   * each other might not. Computed once per memory model.
+   */
+  int getHeapShapeHash() {
+    if (heapShapeHash == 0) {
+      int result = 0;
+      for (Entry<MemoryLocation, ValueAndValueSize> memLocAndValue :
+          getMemoryLocationsAndValuesForSPCWithoutHeap().entrySet()) {
+        Optional<SMGValue> smgValue = getSMGValueFromValue(memLocAndValue.getValue().getValue());
+        int valueHash = smgValue.isPresent() ? getShapeHash(smgValue.orElseThrow(), 0) : 1;
+        // Sum of the entries, as the iteration order of the edges of an object is not fixed
+        result += memLocAndValue.getKey().hashCode() ^ valueHash;
+      }
+      heapShapeHash = nonZero(result);
+    }
+    return heapShapeHash;
+  }
+
+  private int getShapeHash(SMGValue pValue, int pDepth) {
+    if (smg.isPointer(pValue)) {
+      SMGPointsToEdge pointsToEdge = smg.getPTEdge(pValue).orElseThrow();
+      SMGObject target = pointsToEdge.pointsTo();
+      int result = 31 * getShapeHash(pointsToEdge.getOffset()) + getShapeHash(target.getSize());
+      result = 31 * result + pointsToEdge.targetSpecifier().hashCode();
+      result = 31 * result + (smg.isValid(target) ? 1 : 0);
+      if (target instanceof SMGSinglyLinkedListSegment listSegment) {
+        result = 31 * result + listSegment.getMinLength();
+      }
+      if (pDepth < HEAP_SHAPE_HASH_DEPTH) {
+        int contentHash = 0;
+        for (SMGHasValueEdge valueEdge : smg.getEdges(target)) {
+          contentHash +=
+              (31 * valueEdge.getOffset().hashCode() + valueEdge.getSizeInBits().hashCode())
+                  ^ getShapeHash(valueEdge.hasValue(), pDepth + 1);
+        }
+        result = 31 * result + contentHash;
+      }
+      return result;
+    }
+    Optional<Value> value = getValueFromSMGValue(pValue);
+    return value.isPresent() ? getShapeHash(value.orElseThrow()) : 1;
+  }
+
+  private static int getShapeHash(Value pValue) {
+    // Symbolic values are only equal modulo renaming, so we can not distinguish them
+    return pValue instanceof NumericValue ? pValue.hashCode() : 1;
+  }
+
+  private static int nonZero(int pHash) {
+    return pHash == 0 ? 1 : pHash;
+  }
+
   /**
    * Copies this {@link SymbolicProgramConfiguration} and adds the mapping from the variable
    * identifier pVarName to the {@link SMGObject} pNewObject.
@@ -4002,6 +4096,15 @@ public class SymbolicProgramConfiguration {
         options);
   }
 
+  /**
+   * Copies this {@link SymbolicProgramConfiguration} and forgets which objects of the SMG changed,
+   * see {@link SMG#getChangedObjects()}.
+   */
+  public SymbolicProgramConfiguration copyAndClearChangedObjects() {
+    SMG newSMG = smg.copyAndClearChangedObjects();
+    return newSMG == smg ? this : copyAndReplaceSMG(newSMG);
+  }
+
   /**
    * Copies this {@link SymbolicProgramConfiguration} and replaces the SMG with a new one. Meant for
    * read/write operations. The SMG has to be a successor of the old one.
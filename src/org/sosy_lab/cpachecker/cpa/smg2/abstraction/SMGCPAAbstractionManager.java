@@ -59,8 +59,13 @@ public class SMGCPAAbstractionManager {
 
   private final int maxTriesBeforeAbort;
 
+  public static final int DEFAULT_MAX_TRIES_BEFORE_ABORT = 3;
+
   private final SMGCPAStatistics statistics;
 
+  // Search only the changed objects of the SMG (and the objects pointing to them) for candidates
+  private final boolean incrementalCandidateSearch;
+
   private enum ListType {
     SLL,
     LOOPINGSLL,
@@ -72,13 +77,12 @@ public class SMGCPAAbstractionManager {
 
   public SMGCPAAbstractionManager(
       SMGState pState, int pMinimumLengthForListsForAbstraction, SMGCPAStatistics pStatistics) {
-    state = pState;
-    minimumLengthForListsForAbstraction = pMinimumLengthForListsForAbstraction;
-    statistics = pStatistics;
-    // Set caches for tests
-    equalityCache = EqualityCache.of();
-    objectCache = EqualityCache.of();
-    maxTriesBeforeAbort = 3;
+    this(
+        pState,
+        pMinimumLengthForListsForAbstraction,
+        pStatistics,
+        DEFAULT_MAX_TRIES_BEFORE_ABORT,
+        false);
   }
 
   public SMGCPAAbstractionManager(
@@ -86,6 +90,22 @@ public class SMGCPAAbstractionManager {
       int pMinimumLengthForListsForAbstraction,
       SMGCPAStatistics pStatistics,
       int pMaxTriesBeforeAbort) {
+    this(pState, pMinimumLengthForListsForAbstraction, pStatistics, pMaxTriesBeforeAbort, false);
+  }
+
+  /**
+   * Creates an abstraction manager that, if pIncrementalCandidateSearch is true, only searches
+   * objects for list candidates that changed since the last abstraction (see {@link
+   * SMG#getChangedObjects()}) or that point to changed objects. The returned abstracted states
+   * forget their changed objects in this mode. If the SMG of the state does not track its changed
+   * objects, the whole heap is searched.
+   */
+  public SMGCPAAbstractionManager(
+      SMGState pState,
+      int pMinimumLengthForListsForAbstraction,
+      SMGCPAStatistics pStatistics,
+      int pMaxTriesBeforeAbort,
+      boolean pIncrementalCandidateSearch) {
     state = pState;
     minimumLengthForListsForAbstraction = pMinimumLengthForListsForAbstraction;
     statistics = pStatistics;
@@ -93,6 +113,7 @@ public class SMGCPAAbstractionManager {
     equalityCache = EqualityCache.of();
     objectCache = EqualityCache.of();
     maxTriesBeforeAbort = pMaxTriesBeforeAbort;
+    incrementalCandidateSearch = pIncrementalCandidateSearch;
   }
 
   /*
@@ -146,7 +167,8 @@ public class SMGCPAAbstractionManager {
       statistics.stopTotalListSearchTime();
     }
     if (orderedListCandidatesByNesting.isEmpty()) {
-      return currentState;
+      // Nothing (more) to abstract, the next search only needs to consider new changes
+      return incrementalCandidateSearch ? currentState.copyAndClearChangedObjects() : currentState;
     }
 
     assert currentState.getMemoryModel().checkSMGSanity();
@@ -211,7 +233,8 @@ public class SMGCPAAbstractionManager {
                 currentState,
                 minimumLengthForListsForAbstraction,
                 statistics,
-                maxTriesBeforeAbort - 1)
+                maxTriesBeforeAbort - 1,
+                incrementalCandidateSearch)
             .findAndAbstractLists();
 
     assert candidatesHaveBeenAbstracted(orderedListCandidatesByNesting, currentState);
@@ -286,12 +309,18 @@ public class SMGCPAAbstractionManager {
     PersistentMap<SMGObject, PersistentSet<SMGHasValueEdge>> objsAndHVEs =
         smg.getSMGObjectsWithSMGHasValueEdges();
 
+    @Nullable Set<SMGObject> objectsToSearch =
+        incrementalCandidateSearch && smg.isTrackingChangedObjects()
+            ? getChangedObjectsAndTheirPredecessors(smg, heapObjs)
+            : null;
+
     Set<SMGObject> alreadySeen = new HashSet<>();
     ImmutableSet.Builder<SMGCandidate> foundChains = ImmutableSet.builder();
     for (SMGObject heapObj : heapObjs) {
       if (!smg.isValid(heapObj)
           || !(heapObj.getSize() instanceof NumericValue heapObjSize)
-          || alreadySeen.contains(heapObj)) {
+          || alreadySeen.contains(heapObj)
+          || (objectsToSearch != null && !objectsToSearch.contains(heapObj))) {
         continue;
       }
       if (heapObj instanceof SMGSinglyLinkedListSegment sllHeapObj) {
@@ -409,6 +438,34 @@ public class SMGCPAAbstractionManager {
     return findNestingOfCandidates(foundChainsWRoot.build());
   }
 
+  /**
+   * Returns the changed heap objects of the SMG and all heap objects from which a changed object is
+   * reachable via pointers. Lists consisting of other objects did not change since the last
+   * abstraction, in which they would have been abstracted already if possible. Note: the order of
+   * iteration is kept by the caller by filtering all heap objects.
+   */
+  private Set<SMGObject> getChangedObjectsAndTheirPredecessors(
+      SMG smg, PersistentSet<SMGObject> heapObjs) {
+    Set<SMGObject> result = new HashSet<>();
+    List<SMGObject> waitlist = new ArrayList<>();
+    for (SMGObject changedObj : smg.getChangedObjects()) {
+      if (heapObjs.contains(changedObj) && result.add(changedObj)) {
+        waitlist.add(changedObj);
+      }
+    }
+    while (!waitlist.isEmpty()) {
+      SMGObject current = waitlist.removeLast();
+      for (SMGValue pointer : smg.getPointerValuesForTarget(current)) {
+        for (SMGObject source : smg.getAllObjectsWithValueInThem(pointer)) {
+          if (heapObjs.contains(source) && result.add(source)) {
+            waitlist.add(source);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Candidates might have "bad" roots. We want the leftmost object in the list (assuming next goes
    * right) or roots with external pointers for looping lists.
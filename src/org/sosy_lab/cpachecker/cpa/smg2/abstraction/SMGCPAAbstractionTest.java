@@ -11,6 +11,7 @@ package org.sosy_lab.cpachecker.cpa.smg2.abstraction;
 import static com.google.common.truth.Truth.assertThat;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.math.BigInteger;
@@ -21,12 +22,15 @@ import java.util.Optional;
 import java.util.Set;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
 import org.sosy_lab.cpachecker.cfa.types.c.CPointerType;
 import org.sosy_lab.cpachecker.cfa.types.c.CType;
 import org.sosy_lab.cpachecker.cpa.smg2.SMGCPAStatistics;
 import org.sosy_lab.cpachecker.cpa.smg2.SMGCPATest0;
+import org.sosy_lab.cpachecker.cpa.smg2.SMGOptions;
 import org.sosy_lab.cpachecker.cpa.smg2.SMGState;
 import org.sosy_lab.cpachecker.cpa.smg2.SymbolicProgramConfiguration;
 import org.sosy_lab.cpachecker.cpa.smg2.abstraction.SMGCPAAbstractionManager.SMGCandidate;
@@ -8507,4 +8511,102 @@ public class SMGCPAAbstractionTest extends SMGCPATest0 {
       }
     }
   }
+
+  /** Replaces the current state with an empty state whose SMG tracks its changed objects. */
+  private void resetToStateTrackingChangedObjects() throws InvalidConfigurationException {
+    SMGOptions options =
+        new SMGOptions(
+            Configuration.builder()
+                .setOption("cpa.smg2.abstraction.incrementalListCandidateSearch", "true")
+                .build(),
+            null);
+    currentState =
+        SMGState.of(machineModel, logger, options, evaluator, new SMGCPAStatistics())
+            .copyAndAddDummyStackFrame();
+  }
+
+  private SMGCPAAbstractionManager createAbstractionManager(
+      int pMinimumLength, boolean pIncrementalCandidateSearch) {
+    return new SMGCPAAbstractionManager(
+        currentState,
+        pMinimumLength,
+        new SMGCPAStatistics(),
+        SMGCPAAbstractionManager.DEFAULT_MAX_TRIES_BEFORE_ABORT,
+        pIncrementalCandidateSearch);
+  }
+
+  /** Builds a concrete list in the current state with one pointer from the stack to its head. */
+  private void buildConcreteListWithPointerFromStack(boolean dll, int listLength)
+      throws SMGException, SMGSolverException {
+    Value[] listPtrs = buildConcreteList(dll, dll ? dllSize : sllSize, listLength, false);
+    SMGObjectAndSMGState stackObjAndState =
+        currentState.copyAndAddStackObject(new NumericValue(pointerSizeInBits));
+    currentState =
+        stackObjAndState
+            .getState()
+            .writeValueWithoutChecks(
+                stackObjAndState.getSMGObject(),
+                BigInteger.ZERO,
+                pointerSizeInBits,
+                currentState.getMemoryModel().getSMGValueFromValue(listPtrs[0]).orElseThrow());
+  }
+
+  private static ImmutableSet<SMGObject> getCandidateObjects(SMGCPAAbstractionManager pManager)
+      throws SMGException {
+    return FluentIterable.concat(pManager.getListCandidates())
+        .transform(SMGCandidate::getObject)
+        .toSet();
+  }
+
+  // The incremental candidate search has to find the same lists as the search of the whole heap
+  @Test
+  public void incrementalListCandidateSearchFindsSameListsTest()
+      throws SMGException, SMGSolverException, InvalidConfigurationException {
+    int listLength = 10;
+    for (boolean dll : ImmutableList.of(false, true)) {
+      resetToStateTrackingChangedObjects();
+      buildConcreteListWithPointerFromStack(dll, listLength);
+      assertThat(currentState.getMemoryModel().getSmg().getChangedObjects()).isNotEmpty();
+
+      ImmutableSet<SMGObject> candidates =
+          getCandidateObjects(createAbstractionManager(listLength - 1, false));
+      assertThat(candidates).isNotEmpty();
+      assertThat(getCandidateObjects(createAbstractionManager(listLength - 1, true)))
+          .containsExactlyElementsIn(candidates);
+
+      SMGState abstractedState =
+          createAbstractionManager(listLength - 1, false).findAndAbstractLists();
+      SMGState incrementallyAbstractedState =
+          createAbstractionManager(listLength - 1, true).findAndAbstractLists();
+      assertThat(
+              incrementallyAbstractedState.getMemoryModel().getSmg().getNumberOfAbstractedLists())
+          .isEqualTo(abstractedState.getMemoryModel().getSmg().getNumberOfAbstractedLists());
+    }
+  }
+
+  // Lists that did not change since the last abstraction are not searched again
+  @Test
+  public void incrementalListCandidateSearchAfterAbstractionTest()
+      throws SMGException, SMGSolverException, InvalidConfigurationException {
+    int listLength = 10;
+    resetToStateTrackingChangedObjects();
+    buildConcreteListWithPointerFromStack(false, listLength);
+    currentState = createAbstractionManager(listLength - 1, true).findAndAbstractLists();
+
+    assertThat(currentState.getMemoryModel().getSmg().getChangedObjects()).isEmpty();
+    assertThat(getCandidateObjects(createAbstractionManager(listLength - 1, true))).isEmpty();
+  }
+
+  // Without the option, the SMGs do not track their changes and the whole heap is searched
+  @Test
+  public void noChangedObjectsWithoutIncrementalListCandidateSearchTest()
+      throws SMGException, SMGSolverException {
+    int listLength = 10;
+    buildConcreteListWithPointerFromStack(false, listLength);
+
+    assertThat(currentState.getMemoryModel().getSmg().isTrackingChangedObjects()).isFalse();
+    assertThat(getCandidateObjects(createAbstractionManager(listLength - 1, true)))
+        .containsExactlyElementsIn(
+            getCandidateObjects(createAbstractionManager(listLength - 1, false)));
+  }
 }
@@ -0,0 +1,60 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.smg2.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.cpachecker.cpa.smg2.SMGState;
+import org.sosy_lab.cpachecker.cpa.smg2.util.SMGException;
+import org.sosy_lab.cpachecker.cpa.smg2.util.SMGStateAndOptionalSMGObjectAndOffset;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.smg.util.MergedSMGStateAndMergeStatus;
+
+/**
+ * Benchmarks for the operations of the SMG2 analysis that traverse (parts of) the heap: list
+ * abstraction, materialization, merge, and the coverage check of the stop operator. For the tree
+ * shape, no lists are abstracted, so the numbers show the cost of the searches without results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SMGMacroBenchmark {
+
+  @Benchmark
+  public SMGState abstraction(SMGSyntheticHeap pHeap) throws SMGException {
+    return pHeap.abstractLists(pHeap.concreteState);
+  }
+
+  /** Dereferences the pointer to the first element of the abstracted list. */
+  @Benchmark
+  public List<SMGStateAndOptionalSMGObjectAndOffset> materialization(SMGSyntheticHeap pHeap)
+      throws SMGException {
+    return pHeap.abstractedState.dereferencePointer(pHeap.entryPointer);
+  }
+
+  @Benchmark
+  public Optional<MergedSMGStateAndMergeStatus> merge(SMGSyntheticHeap pHeap) throws CPAException {
+    return pHeap.abstractedState.merge(pHeap.concreteState);
+  }
+
+  @Benchmark
+  public boolean isLessOrEqual(SMGSyntheticHeap pHeap) throws CPAException, InterruptedException {
+    return pHeap.concreteState.isLessOrEqual(pHeap.abstractedState);
+  }
+}
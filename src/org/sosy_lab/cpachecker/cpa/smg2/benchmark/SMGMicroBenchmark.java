@@ -0,0 +1,61 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.smg2.benchmark;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.cpachecker.cpa.smg2.SMGState;
+import org.sosy_lab.cpachecker.util.smg.SMG;
+import org.sosy_lab.cpachecker.util.smg.graph.SMGObject;
+import org.sosy_lab.cpachecker.util.smg.util.SMGAndHasValueEdges;
+
+/**
+ * Benchmarks for single (copy-on-write) updates of the memory model. Their cost should not depend
+ * on the size of the heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SMGMicroBenchmark {
+
+  @Benchmark
+  public SMG writeValue(SMGSyntheticHeap pHeap) {
+    return pHeap
+        .getConcreteSMG()
+        .writeValue(pHeap.entryObject, BigInteger.ZERO, pHeap.pointerSize, pHeap.freshValue);
+  }
+
+  @Benchmark
+  public SMGAndHasValueEdges readValue(SMGSyntheticHeap pHeap) {
+    return pHeap
+        .getConcreteSMG()
+        .readValue(pHeap.entryObject, pHeap.pointerSize, pHeap.pointerSize, false);
+  }
+
+  @Benchmark
+  public SMGState writeValueToState(SMGSyntheticHeap pHeap) {
+    return pHeap.concreteState.writeValueWithoutChecks(
+        pHeap.entryObject, BigInteger.ZERO, pHeap.pointerSize, pHeap.freshValue);
+  }
+
+  @Benchmark
+  public SMGState copyAndAddHeapObject(SMGSyntheticHeap pHeap) {
+    return pHeap.concreteState.copyAndAddObjectToHeap(
+        SMGObject.of(0, pHeap.objectSize, BigInteger.ZERO));
+  }
+}
@@ -0,0 +1,184 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.smg2.benchmark;
+
+import java.math.BigInteger;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.cfa.types.c.CPointerType;
+import org.sosy_lab.cpachecker.cpa.smg2.SMGCPAStatistics;
+import org.sosy_lab.cpachecker.cpa.smg2.SMGCPATest0;
+import org.sosy_lab.cpachecker.cpa.smg2.SMGState;
+import org.sosy_lab.cpachecker.cpa.smg2.abstraction.SMGCPAAbstractionManager;
+import org.sosy_lab.cpachecker.cpa.smg2.util.SMGException;
+import org.sosy_lab.cpachecker.cpa.smg2.util.SMGObjectAndSMGState;
+import org.sosy_lab.cpachecker.cpa.smg2.util.SMGSolverException;
+import org.sosy_lab.cpachecker.cpa.smg2.util.value.ValueAndSMGState;
+import org.sosy_lab.cpachecker.cpa.value.type.NumericValue;
+import org.sosy_lab.cpachecker.cpa.value.type.Value;
+import org.sosy_lab.cpachecker.util.smg.SMG;
+import org.sosy_lab.cpachecker.util.smg.graph.SMGObject;
+import org.sosy_lab.cpachecker.util.smg.graph.SMGValue;
+
+/**
+ * A synthetic heap of the given shape with (approximately) the given number of heap objects,
+ * reachable from a single local pointer variable. The heap is built once per benchmark trial and
+ * all benchmarks work on the persistent states, i.e., every invocation starts from the same heap.
+ */
+@State(Scope.Benchmark)
+public class SMGSyntheticHeap extends SMGCPATest0 {
+
+  public enum HeapShape {
+    /** Singly-linked list with heapSize elements. */
+    SLL,
+    /** Doubly-linked list with heapSize elements. */
+    DLL,
+    /** Singly-linked list of sqrt(heapSize) elements, each with a nested list of the same size. */
+    NESTED_SLL,
+    /** Complete binary tree with at most heapSize nodes (not abstractable). */
+    TREE,
+  }
+
+  @Param({"SLL", "DLL", "NESTED_SLL", "TREE"})
+  public HeapShape shape;
+
+  @Param({"16", "64", "256"})
+  public int heapSize;
+
+  /** The heap before list abstraction. */
+  SMGState concreteState;
+
+  /** The result of list abstraction on {@link #concreteState}. */
+  SMGState abstractedState;
+
+  /** The pointer saved in the local variable, i.e., to the first list element or tree root. */
+  Value entryPointer;
+
+  /** The target of {@link #entryPointer} in {@link #concreteState}. */
+  SMGObject entryObject;
+
+  /** A value not present in the heap. */
+  final SMGValue freshValue = SMGValue.of();
+
+  BigInteger pointerSize;
+  BigInteger objectSize;
+  int minimumListLength;
+
+  @Setup(Level.Trial)
+  public void buildHeap() throws InvalidConfigurationException, SMGException, SMGSolverException {
+    init();
+    pointerSize = pointerSizeInBits;
+    minimumListLength =
+        smgOptions.getAbstractionOptions().getListAbstractionMinimumLengthThreshold();
+
+    switch (shape) {
+      case SLL -> {
+        objectSize = sllSize;
+        entryPointer = buildConcreteList(false, sllSize, heapSize, false)[0];
+      }
+      case DLL -> {
+        objectSize = dllSize;
+        entryPointer = buildConcreteList(true, dllSize, heapSize, false)[0];
+      }
+      case NESTED_SLL -> {
+        objectSize = sllSize;
+        int listLength = Math.max(2, (int) Math.sqrt(heapSize));
+        Value[] topListPointers = buildConcreteList(false, sllSize, listLength, false);
+        addSubListsToList(listLength, topListPointers, false);
+        entryPointer = topListPointers[0];
+      }
+      case TREE -> {
+        objectSize = pointerSizeInBits.multiply(BigInteger.valueOf(3));
+        int depth = 31 - Integer.numberOfLeadingZeros(heapSize + 1);
+        entryPointer = buildTree(depth);
+      }
+    }
+
+    SMGObjectAndSMGState stackObjAndState =
+        currentState.copyAndAddStackObject(numericPointerSizeInBits);
+    currentState = stackObjAndState.getState();
+    SMGObject stackObj = stackObjAndState.getSMGObject();
+    currentState =
+        currentState.copyAndAddLocalVariable(stackObj, "entry", CPointerType.POINTER_TO_VOID);
+    currentState =
+        currentState.writeValueWithChecks(
+            stackObj,
+            new NumericValue(BigInteger.ZERO),
+            numericPointerSizeInBits,
+            entryPointer,
+            CPointerType.POINTER_TO_VOID,
+            dummyCFAEdge);
+
+    concreteState = currentState;
+    entryObject =
+        concreteState
+            .dereferencePointerWithoutMaterilization(entryPointer)
+            .orElseThrow()
+            .getSMGObject();
+    abstractedState = abstractLists(concreteState);
+  }
+
+  SMGState abstractLists(SMGState pState) throws SMGException {
+    return new SMGCPAAbstractionManager(pState, minimumListLength, new SMGCPAStatistics())
+        .findAndAbstractLists();
+  }
+
+  SMG getConcreteSMG() {
+    return concreteState.getMemoryModel().getSmg();
+  }
+
+  /**
+   * Builds a complete binary tree with nodes (data, left, right) and returns the pointer to its
+   * root, or 0 for depth 0.
+   */
+  private Value buildTree(int depth) throws SMGException, SMGSolverException {
+    if (depth == 0) {
+      return new NumericValue(0);
+    }
+    Value left = buildTree(depth - 1);
+    Value right = buildTree(depth - 1);
+
+    SMGObject node = SMGObject.of(0, objectSize, BigInteger.ZERO);
+    currentState = currentState.copyAndAddObjectToHeap(node);
+    currentState =
+        currentState.writeValueWithChecks(
+            node,
+            new NumericValue(hfo),
+            numericPointerSizeInBits,
+            new NumericValue(depth),
+            CNumericTypes.INT,
+            dummyCFAEdge);
+    currentState =
+        currentState.writeValueWithChecks(
+            node,
+            new NumericValue(pointerSizeInBits),
+            numericPointerSizeInBits,
+            left,
+            CPointerType.POINTER_TO_VOID,
+            dummyCFAEdge);
+    currentState =
+        currentState.writeValueWithChecks(
+            node,
+            new NumericValue(pointerSizeInBits.multiply(BigInteger.TWO)),
+            numericPointerSizeInBits,
+            right,
+            CPointerType.POINTER_TO_VOID,
+            dummyCFAEdge);
+
+    ValueAndSMGState pointerAndState =
+        currentState.searchOrCreateAddress(node, CPointerType.POINTER_TO_VOID, BigInteger.ZERO);
+    currentState = pointerAndState.getState();
+    return pointerAndState.getValue();
+  }
+}
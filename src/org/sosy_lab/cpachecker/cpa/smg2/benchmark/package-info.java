@@ -0,0 +1,18 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * JMH benchmarks for the core operations of the SMG2 analysis on synthetic heaps of controlled
+ * shape and size. Run them with {@code ant microbenchmarks}, which also reports the allocation rate
+ * (JMH profiler {@code gc}). A subset can be selected with, e.g., {@code ant microbenchmarks
+ * -Djmh.args="SMGMacroBenchmark.merge -p shape=DLL -prof gc"}.
+ */
+@javax.annotation.ParametersAreNonnullByDefault
+@org.sosy_lab.common.annotations.FieldsAreNonnullByDefault
+@org.sosy_lab.common.annotations.ReturnValuesAreNonnullByDefault
+package org.sosy_lab.cpachecker.cpa.smg2.benchmark;
@@ -45,6 +45,7 @@ public abstract class SMGDelegatingRefiner implements Refiner {
     return AbstractARGBasedRefiner.forARGBasedRefiner(
         new DelegatingARGBasedRefinerWithRefinementSelection(
             config,
+            logger,
             new PrefixSelector(cfa.getVarClassification(), cfa.getLoopStructure(), logger),
             SMGRefiner.create0(cpa),
             new ValueAnalysisPrefixProvider(logger, cfa, config, valueCpa.getShutdownNotifier()),
@@ -566,7 +566,7 @@ public abstract class AbstractExpressionValueVisitor
           long lVal = lNum.getNumber().longValue();
           long rVal = rNum.getNumber().longValue();
           long result = arithmeticOperation(lVal, rVal, op, calculationType, machineModel, logger);
-          yield new NumericValue(result);
+          yield NumericValue.of(result);
         }
         case INT128 -> {
           BigInteger lVal = lNum.bigIntegerValue();
@@ -1923,6 +1923,16 @@ public abstract class AbstractExpressionValueVisitor
         // etc.)
 
         boolean targetIsSigned = machineModel.isSigned(st);
+
+        // Fast path for integer values and targets that fit into a long: truncate without
+        // BigInteger
+        if (size > 0
+            && (size < SIZE_OF_JAVA_LONG || (size == SIZE_OF_JAVA_LONG && targetIsSigned))
+            && isMachineInteger(numericValue.getNumber())) {
+          return NumericValue.of(
+              truncateToBits(numericValue.getNumber().longValue(), size, targetIsSigned));
+        }
+
         BigInteger integerValue;
 
         // Convert the value to integer
@@ -2047,6 +2057,31 @@ public abstract class AbstractExpressionValueVisitor
     }
   }
 
+  /** Check whether the number is an integer that can be converted to a long without loss. */
+  private static boolean isMachineInteger(final Number pNumber) {
+    return pNumber instanceof Long
+        || pNumber instanceof Integer
+        || pNumber instanceof Short
+        || pNumber instanceof Byte
+        || (pNumber instanceof BigInteger bigInt && bigInt.bitLength() < SIZE_OF_JAVA_LONG);
+  }
+
+  /**
+   * Reduce a value to the given number of bits with wrap-around, like {@link #castNumeric} does for
+   * BigIntegers. The result is interpreted as signed or unsigned number, so for unsigned targets
+   * the size needs to be smaller than {@link #SIZE_OF_JAVA_LONG}.
+   */
+  private static long truncateToBits(final long pValue, final int pSize, final boolean pSigned) {
+    if (pSize >= SIZE_OF_JAVA_LONG) {
+      return pValue;
+    }
+    long result = pValue & ((1L << pSize) - 1);
+    if (pSigned && (result >>> (pSize - 1)) != 0) {
+      result -= 1L << pSize;
+    }
+    return result;
+  }
+
   private static Value convertToBool(final NumericValue pValue) {
     Number n = pValue.getNumber();
     if (isBooleanFalseRepresentation(n)) {
@@ -34,6 +34,7 @@ import org.sosy_lab.cpachecker.core.counterexample.ConcreteStatePath;
 import org.sosy_lab.cpachecker.core.defaults.AbstractCPA;
 import org.sosy_lab.cpachecker.core.defaults.AutomaticCPAFactory;
 import org.sosy_lab.cpachecker.core.defaults.DelegateAbstractDomain;
+import org.sosy_lab.cpachecker.core.defaults.StopSepOperator;
 import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.CPAFactory;
@@ -270,6 +271,10 @@ public class ValueAnalysisCPA extends AbstractCPA
 
   @Override
   public StopOperator getStopOperator() {
+    if (stopType.equals("SEP")) {
+      return new StopSepOperator(
+          getAbstractDomain(), state -> ((ValueAnalysisState) state).getCoverageSignature());
+    }
     return buildStopOperator(stopType);
   }
 
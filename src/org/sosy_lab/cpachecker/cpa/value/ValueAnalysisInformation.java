@@ -9,10 +9,10 @@
 package org.sosy_lab.cpachecker.cpa.value;
 
 import java.util.Objects;
-import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentMap;
 import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState.ValueAndType;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.states.PersistentMemoryLocationMap;
 
 /** Information about value assignments needed for symbolic interpolation. */
 public final class ValueAnalysisInformation {
@@ -26,7 +26,7 @@ public final class ValueAnalysisInformation {
   }
 
   private ValueAnalysisInformation() {
-    assignments = PathCopyingPersistentTreeMap.of();
+    assignments = PersistentMemoryLocationMap.of();
   }
 
   public PersistentMap<MemoryLocation, ValueAndType> getAssignments() {
@@ -14,6 +14,7 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicates;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Maps;
 import java.io.Serial;
 import java.io.Serializable;
 import java.math.BigInteger;
@@ -28,7 +29,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentMap;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.ast.AIdExpression;
@@ -56,6 +56,7 @@ import org.sosy_lab.cpachecker.cfa.types.c.CType;
 import org.sosy_lab.cpachecker.cfa.types.c.CTypes;
 import org.sosy_lab.cpachecker.core.defaults.LatticeAbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractQueryableState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageSignature;
 import org.sosy_lab.cpachecker.core.interfaces.ExpressionTreeReportingState;
 import org.sosy_lab.cpachecker.core.interfaces.FormulaReportingState;
 import org.sosy_lab.cpachecker.core.interfaces.Graphable;
@@ -80,6 +81,7 @@ import org.sosy_lab.cpachecker.util.predicates.smt.FloatingPointFormulaManagerVi
 import org.sosy_lab.cpachecker.util.predicates.smt.FormulaManagerView;
 import org.sosy_lab.cpachecker.util.refinement.ForgetfulState;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.states.PersistentMemoryLocationMap;
 import org.sosy_lab.java_smt.api.BitvectorFormula;
 import org.sosy_lab.java_smt.api.BooleanFormula;
 import org.sosy_lab.java_smt.api.BooleanFormulaManager;
@@ -108,7 +110,7 @@ public final class ValueAnalysisState
   /**
    * the map that keeps the name of variables and their constant values (concrete and symbolic ones)
    */
-  private PersistentMap<MemoryLocation, ValueAndType> constantsMap;
+  private PersistentMemoryLocationMap<ValueAndType> constantsMap;
 
   /**
    * hashCode needs to be updated with every change of {@link #constantsMap}.
@@ -121,7 +123,7 @@ public final class ValueAnalysisState
   private final @Nullable MachineModel machineModel;
 
   public ValueAnalysisState(MachineModel pMachineModel) {
-    this(checkNotNull(pMachineModel), PathCopyingPersistentTreeMap.of());
+    this(checkNotNull(pMachineModel), PersistentMemoryLocationMap.of());
   }
 
   public ValueAnalysisState(
@@ -134,7 +136,7 @@ public final class ValueAnalysisState
       @Nullable MachineModel pMachineModel,
       PersistentMap<MemoryLocation, ValueAndType> pConstantsMap) {
     machineModel = pMachineModel;
-    constantsMap = checkNotNull(pConstantsMap);
+    constantsMap = PersistentMemoryLocationMap.copyOf(pConstantsMap);
     hashCode = constantsMap.hashCode();
   }
 
@@ -248,8 +250,8 @@ public final class ValueAnalysisState
     constantsMap = constantsMap.removeAndCopy(pMemoryLocation);
     hashCode -= (pMemoryLocation.hashCode() ^ value.hashCode());
 
-    PersistentMap<MemoryLocation, ValueAndType> valueAssignment = PathCopyingPersistentTreeMap.of();
-    valueAssignment = valueAssignment.putAndCopy(pMemoryLocation, value);
+    PersistentMap<MemoryLocation, ValueAndType> valueAssignment =
+        PersistentMemoryLocationMap.<ValueAndType>of().putAndCopy(pMemoryLocation, value);
 
     return new ValueAnalysisInformation(valueAssignment);
   }
@@ -374,23 +376,27 @@ public final class ValueAnalysisState
    */
   @Override
   public ValueAnalysisState join(ValueAnalysisState reachedState) {
-    PersistentMap<MemoryLocation, ValueAndType> newConstantsMap = PathCopyingPersistentTreeMap.of();
-
-    for (Entry<MemoryLocation, ValueAndType> otherEntry : reachedState.constantsMap.entrySet()) {
-      MemoryLocation key = otherEntry.getKey();
-      ValueAndType value = otherEntry.getValue();
-
-      if (Objects.equals(value, constantsMap.get(key))) {
-        newConstantsMap = newConstantsMap.putAndCopy(key, value);
-      }
-    }
+    // The join contains the entries of the reached state that are equal in this state. Only entries
+    // that differ need to be removed, and the shared parts of both maps are never looked at.
+    List<MemoryLocation> toRemove = new ArrayList<>();
+    constantsMap.visitDifferences(
+        reachedState.constantsMap,
+        (key, thisValue, reachedValue) -> {
+          if (reachedValue != null) {
+            toRemove.add(key);
+          }
+          return true;
+        });
 
     // return the reached state if both maps are equal
-    if (newConstantsMap.size() == reachedState.constantsMap.size()) {
+    if (toRemove.isEmpty()) {
       return reachedState;
-    } else {
-      return new ValueAnalysisState(machineModel, newConstantsMap);
     }
+    PersistentMemoryLocationMap<ValueAndType> newConstantsMap = reachedState.constantsMap;
+    for (MemoryLocation key : toRemove) {
+      newConstantsMap = newConstantsMap.removeAndCopy(key);
+    }
+    return new ValueAnalysisState(machineModel, newConstantsMap);
   }
 
   /**
@@ -419,16 +425,13 @@ public final class ValueAnalysisState
     // }
 
     // the tolerant way: ignore all type information. TODO really correct?
-    for (Entry<MemoryLocation, ValueAndType> otherEntry : other.constantsMap.entrySet()) {
-      MemoryLocation key = otherEntry.getKey();
-      Value otherValue = otherEntry.getValue().getValue();
-      ValueAndType thisValueAndType = constantsMap.get(key);
-      if (thisValueAndType == null || !otherValue.equals(thisValueAndType.getValue())) {
-        return false;
-      }
-    }
-
-    return true;
+    // Only entries that differ between both maps are visited, shared parts are skipped.
+    return constantsMap.visitDifferences(
+        other.constantsMap,
+        (key, thisValueAndType, otherValueAndType) ->
+            otherValueAndType == null
+                || (thisValueAndType != null
+                    && otherValueAndType.getValue().equals(thisValueAndType.getValue())));
   }
 
   @Override
@@ -810,6 +813,16 @@ public final class ValueAnalysisState
     return this;
   }
 
+  /**
+   * Returns the coverage signature of this state for {@link #isLessOrEqual(ValueAnalysisState)}: a
+   * state can only be covered by states with at most as many variables, and by states with as many
+   * variables only if they assign the same values (ignoring the types) to the same variables.
+   */
+  CoverageSignature getCoverageSignature() {
+    return new CoverageSignature(
+        null, constantsMap.size(), Maps.transformValues(constantsMap, ValueAndType::getValue));
+  }
+
   private Optional<CExpression> buildConstraint(CExpression pVar, CType pCType, NumericValue pNum) {
     // TODO: Refactor the whole code to also handle JExpressions i.e. change CExpression to
     //  AExpression
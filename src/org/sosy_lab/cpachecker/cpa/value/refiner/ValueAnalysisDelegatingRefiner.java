@@ -46,6 +46,7 @@ public abstract class ValueAnalysisDelegatingRefiner implements Refiner {
     return AbstractARGBasedRefiner.forARGBasedRefiner(
         new DelegatingARGBasedRefinerWithRefinementSelection(
             config,
+            logger,
             new PrefixSelector(cfa.getVarClassification(), cfa.getLoopStructure(), logger),
             ValueAnalysisRefiner.create0(cpa),
             new ValueAnalysisPrefixProvider(logger, cfa, config, valueCpa.getShutdownNotifier()),
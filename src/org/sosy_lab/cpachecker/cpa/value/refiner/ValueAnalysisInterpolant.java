@@ -16,13 +16,13 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentMap;
 import org.sosy_lab.cpachecker.cpa.arg.ARGState;
 import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState;
 import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState.ValueAndType;
 import org.sosy_lab.cpachecker.util.refinement.Interpolant;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.states.PersistentMemoryLocationMap;
 
 /**
  * This class represents a Value-Analysis interpolant, itself, just a mere wrapper around a map from
@@ -42,7 +42,7 @@ public final class ValueAnalysisInterpolant
 
   /** Constructor for a new, empty interpolant, i.e. the interpolant representing "true" */
   private ValueAnalysisInterpolant() {
-    assignment = PathCopyingPersistentTreeMap.of();
+    assignment = PersistentMemoryLocationMap.of();
   }
 
   /**
@@ -11,6 +11,7 @@ package org.sosy_lab.cpachecker.cpa.value.refiner;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
+import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
 import org.sosy_lab.common.ShutdownNotifier;
@@ -22,6 +23,8 @@ import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
 import org.sosy_lab.cpachecker.cpa.arg.ARGState;
 import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
 import org.sosy_lab.cpachecker.cpa.arg.path.PathIterator;
@@ -41,6 +44,7 @@ import org.sosy_lab.cpachecker.util.refinement.GenericPrefixProvider;
 import org.sosy_lab.cpachecker.util.refinement.StrongestPostOperator;
 import org.sosy_lab.cpachecker.util.refinement.UseDefRelation;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
 
 @Options(prefix = "cpa.value.refinement")
 public class ValueAnalysisPathInterpolator
@@ -69,6 +73,8 @@ public class ValueAnalysisPathInterpolator
 
   private final CFA cfa;
 
+  private final ValueAnalysisEdgeInterpolator edgeInterpolator;
+
   private final ValueAnalysisInterpolantManager interpolantManager;
 
   public ValueAnalysisPathInterpolator(
@@ -81,11 +87,31 @@ public class ValueAnalysisPathInterpolator
       final CFA pCfa)
       throws InvalidConfigurationException {
 
-    super(
+    this(
         new ValueAnalysisEdgeInterpolator(
             pFeasibilityChecker, pStrongestPostOperator, pConfig, pShutdownNotifier, pCfa),
         pFeasibilityChecker,
         pPrefixProvider,
+        pConfig,
+        pLogger,
+        pShutdownNotifier,
+        pCfa);
+  }
+
+  private ValueAnalysisPathInterpolator(
+      final ValueAnalysisEdgeInterpolator pEdgeInterpolator,
+      final FeasibilityChecker<ValueAnalysisState> pFeasibilityChecker,
+      final GenericPrefixProvider<ValueAnalysisState> pPrefixProvider,
+      final Configuration pConfig,
+      final LogManager pLogger,
+      final ShutdownNotifier pShutdownNotifier,
+      final CFA pCfa)
+      throws InvalidConfigurationException {
+
+    super(
+        pEdgeInterpolator,
+        pFeasibilityChecker,
+        pPrefixProvider,
         ValueAnalysisInterpolantManager.getInstance(),
         pConfig,
         pLogger,
@@ -94,6 +120,7 @@ public class ValueAnalysisPathInterpolator
 
     pConfig.inject(this);
     cfa = pCfa;
+    edgeInterpolator = pEdgeInterpolator;
     interpolantManager = ValueAnalysisInterpolantManager.getInstance();
   }
 
@@ -231,4 +258,10 @@ public class ValueAnalysisPathInterpolator
       return Pair.of(firstElem.getAbstractState(), firstElem.getOutgoingEdge());
     }
   }
+
+  @Override
+  public void printStatistics(PrintStream out, Result result, UnmodifiableReachedSet reached) {
+    super.printStatistics(out, result, reached);
+    edgeInterpolator.printStatistics(StatisticsWriter.writingStatisticsTo(out).beginLevel());
+  }
 }
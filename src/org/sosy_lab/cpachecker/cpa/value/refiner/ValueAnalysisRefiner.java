@@ -33,6 +33,7 @@ import java.util.SequencedMap;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
@@ -69,6 +70,7 @@ import org.sosy_lab.cpachecker.util.refinement.GenericPrefixProvider;
 import org.sosy_lab.cpachecker.util.refinement.GenericRefiner;
 import org.sosy_lab.cpachecker.util.refinement.InterpolationTree;
 import org.sosy_lab.cpachecker.util.refinement.PathExtractor;
+import org.sosy_lab.cpachecker.util.refinement.PathInterpolator;
 import org.sosy_lab.cpachecker.util.refinement.StrongestPostOperator;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
 import org.sosy_lab.cpachecker.util.statistics.StatCounter;
@@ -125,6 +127,12 @@ public class ValueAnalysisRefiner
 
   private final ShutdownNotifier shutdownNotifier;
 
+  /** needed for creating independent interpolators for parallel interpolation */
+  private final StrongestPostOperator<ValueAnalysisState> strongestPostOperator;
+
+  private final Configuration config;
+  private final CFA cfa;
+
   // Statistics
   private final StatCounter rootRelocations = new StatCounter("Number of root relocations");
   private final StatCounter repeatedRefinements =
@@ -199,6 +207,28 @@ public class ValueAnalysisRefiner
     concreteErrorPathAllocator =
         new ValueAnalysisConcreteErrorPathAllocator(pConfig, logger, pCfa.getMachineModel());
     shutdownNotifier = pShutdownNotifier;
+    strongestPostOperator = pStrongestPostOperator;
+    config = pConfig;
+    cfa = pCfa;
+  }
+
+  @Override
+  protected @Nullable PathInterpolator<ValueAnalysisInterpolant> createIndependentPathInterpolator()
+      throws InvalidConfigurationException {
+    if (!(strongestPostOperator instanceof ValueAnalysisStrongestPostOperator valuePostOperator)) {
+      return null;
+    }
+
+    // the feasibility checker of the edge interpolator uses the same strongest-post operator
+    final ValueAnalysisStrongestPostOperator postOperator = valuePostOperator.copy();
+    return new ValueAnalysisPathInterpolator(
+        new ValueAnalysisFeasibilityChecker(postOperator, logger, cfa, config),
+        postOperator,
+        new ValueAnalysisPrefixProvider(logger, cfa, config, shutdownNotifier),
+        config,
+        logger,
+        shutdownNotifier,
+        cfa);
   }
 
   @Override
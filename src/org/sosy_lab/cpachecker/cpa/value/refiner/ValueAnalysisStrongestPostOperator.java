@@ -43,9 +43,16 @@ public class ValueAnalysisStrongestPostOperator
 
   private final ValueAnalysisTransferRelation transfer;
 
+  private final LogManager logger;
+  private final Configuration config;
+  private final CFA cfa;
+
   public ValueAnalysisStrongestPostOperator(
       final LogManager pLogger, final Configuration pConfig, final CFA pCfa)
       throws InvalidConfigurationException {
+    logger = pLogger;
+    config = pConfig;
+    cfa = pCfa;
 
     LogManagerWithoutDuplicates loggerWoDupl;
     if (pLogger instanceof LogManagerWithoutDuplicates pLogManagerWithoutDuplicates) {
@@ -64,6 +71,14 @@ public class ValueAnalysisStrongestPostOperator
             null);
   }
 
+  /**
+   * Creates a new operator with the same configuration, which does not share its transfer relation
+   * with this operator and can thus be used concurrently to it.
+   */
+  public ValueAnalysisStrongestPostOperator copy() throws InvalidConfigurationException {
+    return new ValueAnalysisStrongestPostOperator(logger, config, cfa);
+  }
+
   @Override
   public Optional<ValueAnalysisState> getStrongestPost(
       final ValueAnalysisState pOrigin, final Precision pPrecision, final CFAEdge pOperation)
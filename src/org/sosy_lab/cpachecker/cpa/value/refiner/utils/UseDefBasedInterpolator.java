@@ -15,7 +15,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SequencedMap;
-import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentMap;
 import org.sosy_lab.cpachecker.cfa.ast.ASimpleDeclaration;
 import org.sosy_lab.cpachecker.cfa.ast.c.CExpression;
@@ -45,6 +44,7 @@ import org.sosy_lab.cpachecker.util.Pair;
 import org.sosy_lab.cpachecker.util.refinement.PrefixSelector;
 import org.sosy_lab.cpachecker.util.refinement.UseDefRelation;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.states.PersistentMemoryLocationMap;
 
 /** This class allows to obtain interpolants statically from a given ARGPath. */
 public class UseDefBasedInterpolator {
@@ -137,7 +137,7 @@ public class UseDefBasedInterpolator {
    */
   private ValueAnalysisInterpolant createInterpolant(Collection<ASimpleDeclaration> uses) {
     PersistentMap<MemoryLocation, ValueAndType> useDefInterpolant =
-        PathCopyingPersistentTreeMap.of();
+        PersistentMemoryLocationMap.of();
 
     for (ASimpleDeclaration use : uses) {
 
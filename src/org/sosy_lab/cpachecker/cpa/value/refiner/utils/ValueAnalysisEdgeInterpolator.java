@@ -8,24 +8,96 @@
 
 package org.sosy_lab.cpachecker.cpa.value.refiner.utils;
 
+import static com.google.common.base.Verify.verifyNotNull;
+import static org.sosy_lab.cpachecker.util.statistics.StatisticsUtils.toPercent;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Equivalence.Wrapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Deque;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdgeType;
+import org.sosy_lab.cpachecker.cpa.arg.ARGState;
+import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
+import org.sosy_lab.cpachecker.cpa.arg.path.PathIterator;
+import org.sosy_lab.cpachecker.cpa.arg.path.PathPosition;
+import org.sosy_lab.cpachecker.cpa.conditions.path.AssignmentsInPathCondition.UniqueAssignmentsInPathConditionState;
 import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisCPA;
 import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisInformation;
 import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState;
 import org.sosy_lab.cpachecker.cpa.value.refiner.ValueAnalysisInterpolant;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.AbstractStates;
 import org.sosy_lab.cpachecker.util.refinement.FeasibilityChecker;
 import org.sosy_lab.cpachecker.util.refinement.GenericEdgeInterpolator;
 import org.sosy_lab.cpachecker.util.refinement.StrongestPostOperator;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.statistics.StatCounter;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
 
 @Options(prefix = "cpa.value.interpolation")
 public class ValueAnalysisEdgeInterpolator
     extends GenericEdgeInterpolator<
         ValueAnalysisState, ValueAnalysisInformation, ValueAnalysisInterpolant> {
 
+  /**
+   * CFA edges are compared by their nodes only, but there may be several edges with different
+   * semantics between the same nodes.
+   */
+  private static final Equivalence<Object> EDGE_IDENTITY = Equivalence.identity();
+
+  private static final long EMPTY_SUFFIX_ID = 0;
+  private static final long UNKNOWN_SUFFIX_ID = -1;
+
+  @Option(
+      secure = true,
+      description =
+          "maximum number of interpolants that are memoized for a combination of input"
+              + " interpolant, edge and path suffix, and reused across refinements"
+              + " (0 disables memoization). Path suffixes are identified by ids, so each entry"
+              + " has a constant size.")
+  @IntegerOption(min = 0)
+  private int interpolantCacheSize = 10_000;
+
+  /**
+   * Interpolants derived for a given input interpolant, edge and remaining error path. The result
+   * of {@link #deriveInterpolant} is fully determined by these (and the thresholds of exceeding
+   * memory locations, which are also part of the key), so the same interpolant can be returned
+   * again in later refinements.
+   */
+  private final @Nullable Cache<InterpolationQuery, ValueAnalysisInterpolant> interpolantCache;
+
+  /**
+   * Ids of path suffixes, such that equal suffixes have equal ids. A suffix is given by the edges
+   * to the next state and the id of the remaining suffix, so each entry has a constant size. If an
+   * entry is evicted, the suffix gets a new id later, which only causes misses of the interpolant
+   * cache.
+   */
+  private final @Nullable Cache<SuffixKey, Long> suffixIds;
+
+  private long nextSuffixId = EMPTY_SUFFIX_ID + 1;
+
+  // The ids of the suffixes of the error path that was interpolated last, by position. An error
+  // path is interpolated at all of its positions in turn, so we compute them all at once.
+  private @Nullable ARGPath suffixIdsPath = null;
+  private long[] suffixIdsOfPath = new long[0];
+  private ImmutableSet<MemoryLocation> exceedingMemoryLocationsOfPath = ImmutableSet.of();
+
+  private final StatCounter cacheLookups = new StatCounter("Interpolant cache lookups");
+  private final StatCounter cacheHits = new StatCounter("Interpolant cache hits");
+
   /** This method acts as the constructor of the class. */
   public ValueAnalysisEdgeInterpolator(
       final FeasibilityChecker<ValueAnalysisState> pFeasibilityChecker,
@@ -44,5 +116,131 @@ public class ValueAnalysisEdgeInterpolator
         pConfig,
         pShutdownNotifier,
         pCfa);
+
+    pConfig.inject(this, ValueAnalysisEdgeInterpolator.class);
+    interpolantCache =
+        interpolantCacheSize > 0
+            ? CacheBuilder.newBuilder().maximumSize(interpolantCacheSize).build()
+            : null;
+    suffixIds =
+        interpolantCacheSize > 0
+            ? CacheBuilder.newBuilder().maximumSize(interpolantCacheSize).build()
+            : null;
   }
+
+  @Override
+  public ValueAnalysisInterpolant deriveInterpolant(
+      final ARGPath pErrorPath,
+      final CFAEdge pCurrentEdge,
+      final Deque<ValueAnalysisState> pCallstack,
+      final PathPosition pOffset,
+      final ValueAnalysisInterpolant pInputInterpolant)
+      throws CPAException, InterruptedException {
+
+    // function calls and returns depend on and modify the callstack, and dynamic multi edges
+    // (null) depend on the full path, so we do not memoize them
+    if (interpolantCache == null
+        || pCurrentEdge == null
+        || pCurrentEdge.getEdgeType() == CFAEdgeType.FunctionCallEdge
+        || pCurrentEdge.getEdgeType() == CFAEdgeType.FunctionReturnEdge) {
+      return super.deriveInterpolant(
+          pErrorPath, pCurrentEdge, pCallstack, pOffset, pInputInterpolant);
+    }
+
+    computeSuffixIds(pOffset.getPath());
+    long suffixId = suffixIdsOfPath[pOffset.iterator().getIndex()];
+    if (suffixId == UNKNOWN_SUFFIX_ID) {
+      // the full path could not be computed, so the suffix is not identified by its edges
+      return super.deriveInterpolant(
+          pErrorPath, pCurrentEdge, pCallstack, pOffset, pInputInterpolant);
+    }
+
+    InterpolationQuery query =
+        new InterpolationQuery(
+            pInputInterpolant,
+            EDGE_IDENTITY.wrap(pCurrentEdge),
+            suffixId,
+            exceedingMemoryLocationsOfPath);
+
+    cacheLookups.inc();
+    ValueAnalysisInterpolant interpolant = interpolantCache.getIfPresent(query);
+    if (interpolant != null) {
+      cacheHits.inc();
+      resetNumberOfInterpolationQueries();
+      return interpolant;
+    }
+
+    interpolant =
+        super.deriveInterpolant(pErrorPath, pCurrentEdge, pCallstack, pOffset, pInputInterpolant);
+    interpolantCache.put(query, interpolant);
+    return interpolant;
+  }
+
+  /**
+   * Computes the ids of the exclusive suffixes (cf. {@link PathIterator#getSuffixExclusive()}) of
+   * all positions of the given path, unless they are already known. The id at a position is {@link
+   * #UNKNOWN_SUFFIX_ID} if the edges of the suffix cannot be determined.
+   */
+  private void computeSuffixIds(ARGPath pPath) {
+    if (pPath == suffixIdsPath) {
+      return;
+    }
+    Cache<SuffixKey, Long> cache = verifyNotNull(suffixIds);
+    List<ARGState> states = pPath.asStatesList();
+    List<@Nullable CFAEdge> innerEdges = pPath.getInnerEdges();
+    long[] ids = new long[states.size()];
+    // the suffixes of the last two positions contain no edges
+    long id = EMPTY_SUFFIX_ID;
+    for (int pos = states.size() - 1; pos >= 0; pos--) {
+      ids[pos] = id;
+      if (pos < states.size() - 1 && pos > 0 && id != UNKNOWN_SUFFIX_ID) {
+        // the suffix of the previous position starts with the edges from this position
+        CFAEdge edge = innerEdges.get(pos);
+        List<CFAEdge> edges =
+            edge != null
+                ? ImmutableList.of(edge)
+                : states.get(pos).getEdgesToChild(states.get(pos + 1));
+        id =
+            edges.isEmpty()
+                ? UNKNOWN_SUFFIX_ID
+                : cache
+                    .asMap()
+                    .computeIfAbsent(
+                        new SuffixKey(EDGE_IDENTITY.<CFAEdge>pairwise().wrap(edges), id),
+                        unused -> nextSuffixId++);
+      }
+    }
+    suffixIdsPath = pPath;
+    suffixIdsOfPath = ids;
+    exceedingMemoryLocationsOfPath = getExceedingMemoryLocations(pPath);
+  }
+
+  /**
+   * The strongest-post operator forgets memory locations that exceed the assignment threshold at
+   * the end of the error path, so these are relevant for the result of an interpolation.
+   */
+  private static ImmutableSet<MemoryLocation> getExceedingMemoryLocations(ARGPath pPath) {
+    UniqueAssignmentsInPathConditionState assignments =
+        AbstractStates.extractStateByType(
+            pPath.getLastState(), UniqueAssignmentsInPathConditionState.class);
+    return assignments == null
+        ? ImmutableSet.of()
+        : ImmutableSet.copyOf(assignments.getMemoryLocationsExceedingThreshold());
+  }
+
+  public void printStatistics(StatisticsWriter pWriter) {
+    pWriter.putIfUpdatedAtLeastOnce(cacheLookups).putIfUpdatedAtLeastOnce(cacheHits);
+    if (cacheLookups.getValue() > 0) {
+      pWriter.put(
+          "Interpolant cache hit ratio", toPercent(cacheHits.getValue(), cacheLookups.getValue()));
+    }
+  }
+
+  private record InterpolationQuery(
+      ValueAnalysisInterpolant inputInterpolant,
+      Wrapper<CFAEdge> edge,
+      long suffixId,
+      ImmutableSet<MemoryLocation> exceedingMemoryLocations) {}
+
+  private record SuffixKey(Wrapper<List<CFAEdge>> edges, long remainingSuffixId) {}
 }
@@ -0,0 +1,169 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.value.refiner.utils;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.sosy_lab.cpachecker.cfa.model.CFANode.newDummyCFANode;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.ast.FileLocation;
+import org.sosy_lab.cpachecker.cfa.model.BlankEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.cfa.types.MachineModel;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.cpa.arg.ARGState;
+import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
+import org.sosy_lab.cpachecker.cpa.arg.path.PathIterator;
+import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState;
+import org.sosy_lab.cpachecker.cpa.value.refiner.ValueAnalysisInterpolant;
+import org.sosy_lab.cpachecker.cpa.value.type.NumericValue;
+import org.sosy_lab.cpachecker.util.refinement.FeasibilityChecker;
+import org.sosy_lab.cpachecker.util.refinement.StrongestPostOperator;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+
+public class ValueAnalysisEdgeInterpolatorTest {
+
+  private static final MachineModel MACHINE_MODEL = MachineModel.LINUX32;
+  private static final MemoryLocation X = MemoryLocation.forIdentifier("x");
+  private static final MemoryLocation Y = MemoryLocation.forIdentifier("y");
+
+  @SuppressWarnings("unchecked")
+  private final StrongestPostOperator<ValueAnalysisState> postOperator =
+      mock(StrongestPostOperator.class);
+
+  @SuppressWarnings("unchecked")
+  private final FeasibilityChecker<ValueAnalysisState> checker = mock(FeasibilityChecker.class);
+
+  private final CFA cfa = mock(CFA.class);
+
+  @Before
+  public void setUp() throws Exception {
+    when(cfa.getMachineModel()).thenReturn(MACHINE_MODEL);
+    when(cfa.getVarClassification()).thenReturn(Optional.empty());
+
+    // each edge assigns x and y
+    when(postOperator.getStrongestPost(
+            any(ValueAnalysisState.class), any(Precision.class), any(CFAEdge.class)))
+        .thenAnswer(
+            invocation -> {
+              ValueAnalysisState successor = new ValueAnalysisState(MACHINE_MODEL);
+              successor.assignConstant(X, new NumericValue(1), CNumericTypes.INT);
+              successor.assignConstant(Y, new NumericValue(2), CNumericTypes.INT);
+              return Optional.of(successor);
+            });
+
+    // each suffix is infeasible exactly if the value of x is known
+    when(checker.isFeasible(any(ARGPath.class), any(ValueAnalysisState.class)))
+        .thenAnswer(invocation -> !invocation.<ValueAnalysisState>getArgument(1).contains(X));
+  }
+
+  private ValueAnalysisEdgeInterpolator createInterpolator(int pCacheSize)
+      throws InvalidConfigurationException {
+    Configuration config =
+        Configuration.builder()
+            .setOption("cpa.value.interpolation.interpolantCacheSize", Integer.toString(pCacheSize))
+            .build();
+    return new ValueAnalysisEdgeInterpolator(
+        checker, postOperator, config, ShutdownNotifier.createDummy(), cfa);
+  }
+
+  private static ImmutableList<CFAEdge> createEdges(int pCount) {
+    List<CFAEdge> edges = new ArrayList<>();
+    CFANode predecessor = newDummyCFANode("test");
+    for (int i = 0; i < pCount; i++) {
+      CFANode successor = newDummyCFANode("test");
+      CFAEdge edge = new BlankEdge("", FileLocation.DUMMY, predecessor, successor, "test");
+      predecessor.addLeavingEdge(edge);
+      successor.addEnteringEdge(edge);
+      edges.add(edge);
+      predecessor = successor;
+    }
+    return ImmutableList.copyOf(edges);
+  }
+
+  /** Creates a path of new ARG states along the given edges. */
+  private static ARGPath createPath(List<CFAEdge> pEdges) {
+    List<ARGState> states = new ArrayList<>();
+    for (int i = 0; i <= pEdges.size(); i++) {
+      states.add(new ARGState(mock(AbstractState.class), null));
+    }
+    return new ARGPath(states, pEdges);
+  }
+
+  private static ValueAnalysisInterpolant deriveInterpolant(
+      ValueAnalysisEdgeInterpolator pInterpolator, ARGPath pPath, int pIndex) throws Exception {
+    PathIterator iterator = pPath.pathIterator();
+    for (int i = 0; i < pIndex; i++) {
+      iterator.advance();
+    }
+    return pInterpolator.deriveInterpolant(
+        pPath,
+        iterator.getOutgoingEdge(),
+        new ArrayDeque<>(),
+        iterator.getPosition(),
+        ValueAnalysisInterpolant.createInitial());
+  }
+
+  @Test
+  public void testCacheHitReturnsInterpolantOfFreshComputation() throws Exception {
+    ValueAnalysisEdgeInterpolator cachingInterpolator = createInterpolator(100);
+    ValueAnalysisEdgeInterpolator freshInterpolator = createInterpolator(0);
+    ImmutableList<CFAEdge> edges = createEdges(4);
+
+    // two paths through different ARG states with equal suffixes
+    ARGPath firstPath = createPath(edges);
+    ARGPath secondPath = createPath(edges);
+
+    for (int i = 0; i < edges.size(); i++) {
+      ValueAnalysisInterpolant computed = deriveInterpolant(cachingInterpolator, firstPath, i);
+      assertThat(computed.getMemoryLocations()).containsExactly(X);
+
+      clearInvocations(postOperator, checker);
+      ValueAnalysisInterpolant cached = deriveInterpolant(cachingInterpolator, secondPath, i);
+      verifyNoInteractions(postOperator, checker);
+
+      assertThat(cached).isEqualTo(deriveInterpolant(freshInterpolator, secondPath, i));
+      assertThat(cached).isEqualTo(computed);
+    }
+  }
+
+  @Test
+  public void testDifferentSuffixIsNotCached() throws Exception {
+    ValueAnalysisEdgeInterpolator cachingInterpolator = createInterpolator(100);
+    ImmutableList<CFAEdge> edges = createEdges(3);
+    ImmutableList<CFAEdge> otherEdges =
+        ImmutableList.of(edges.get(0), edges.get(1), createEdges(1).get(0));
+
+    deriveInterpolant(cachingInterpolator, createPath(edges), 0);
+
+    clearInvocations(postOperator, checker);
+    deriveInterpolant(cachingInterpolator, createPath(otherEdges), 0);
+    verify(postOperator)
+        .getStrongestPost(any(ValueAnalysisState.class), any(Precision.class), any(CFAEdge.class));
+  }
+}
@@ -199,7 +199,9 @@ public class ElementTestingSymbolicEdgeInterpolator implements SymbolicEdgeInter
         ForgettingCompositeState pSuccessorState, ARGPath pSuffix)
         throws InterruptedException, CPAException {
 
-      for (MemoryLocation l : pSuccessorState.getTrackedMemoryLocations()) {
+      // iterate in a deterministic order, because the result of this greedy loop depends on it
+      for (MemoryLocation l :
+          ImmutableList.sortedCopyOf(pSuccessorState.getTrackedMemoryLocations())) {
         shutdownNotifier.shutdownIfNecessary();
 
         ValueAnalysisInformation forgottenInfo = pSuccessorState.forget(l);
@@ -50,8 +50,10 @@ public final class AdditionExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new AdditionExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new AdditionExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -48,7 +48,8 @@ public final class AddressOfExpression extends UnarySymbolicExpression {
       return pointerExpression.getOperand();
 
     } else {
-      return new AddressOfExpression(pOperand, getCanonicalType(pType));
+      return SymbolicValueFactory.getInstance()
+          .intern(new AddressOfExpression(pOperand, getCanonicalType(pType)));
     }
   }
 
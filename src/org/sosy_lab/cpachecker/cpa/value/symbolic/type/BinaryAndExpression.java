@@ -50,8 +50,10 @@ public final class BinaryAndExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new BinaryAndExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new BinaryAndExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -40,7 +40,8 @@ public final class BinaryNotExpression extends UnarySymbolicExpression {
       return binaryNotExpression.getOperand();
 
     } else {
-      return new BinaryNotExpression(pOperand, getCanonicalType(pType));
+      return SymbolicValueFactory.getInstance()
+          .intern(new BinaryNotExpression(pOperand, getCanonicalType(pType)));
     }
   }
 
@@ -50,8 +50,10 @@ public final class BinaryOrExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new BinaryOrExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new BinaryOrExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
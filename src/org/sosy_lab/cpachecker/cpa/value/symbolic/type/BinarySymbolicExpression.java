@@ -49,6 +49,9 @@ public abstract sealed class BinarySymbolicExpression extends SymbolicExpression
   /** {@link Type} of the binary expression */
   private final Type expressionType;
 
+  /** Lazily computed hash code, 0 if not computed yet. */
+  private transient int hashCode;
+
   BinarySymbolicExpression(
       SymbolicExpression pOperand1,
       SymbolicExpression pOperand2,
@@ -279,8 +282,15 @@ public abstract sealed class BinarySymbolicExpression extends SymbolicExpression
 
   @Override
   public final int hashCode() {
-    return super.hashCode()
-        + Objects.hash(getClass().getCanonicalName(), operand1, operand2, expressionType);
+    // Expressions are immutable and often deeply nested, so we do not want to recompute this
+    int result = hashCode;
+    if (result == 0) {
+      result =
+          super.hashCode()
+              + Objects.hash(getClass().getCanonicalName(), operand1, operand2, expressionType);
+      hashCode = result;
+    }
+    return result;
   }
 
   @Override
@@ -50,8 +50,10 @@ public final class BinaryXorExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new BinaryXorExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new BinaryXorExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
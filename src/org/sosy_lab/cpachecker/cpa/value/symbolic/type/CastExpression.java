@@ -87,7 +87,8 @@ public final class CastExpression extends UnarySymbolicExpression {
       return operand;
 
     } else {
-      return new CastExpression(operand, canonicalTargetType);
+      return SymbolicValueFactory.getInstance()
+          .intern(new CastExpression(operand, canonicalTargetType));
     }
   }
 
@@ -83,7 +83,8 @@ public final class ConstantSymbolicExpression extends SymbolicExpression {
       return symbolicExpression;
 
     } else {
-      return new ConstantSymbolicExpression(pValue, getCanonicalType(pType));
+      return SymbolicValueFactory.getInstance()
+          .intern(new ConstantSymbolicExpression(pValue, getCanonicalType(pType)));
     }
   }
 
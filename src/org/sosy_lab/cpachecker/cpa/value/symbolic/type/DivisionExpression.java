@@ -50,8 +50,10 @@ public final class DivisionExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new DivisionExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new DivisionExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
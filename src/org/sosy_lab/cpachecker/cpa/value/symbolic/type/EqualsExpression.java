@@ -50,8 +50,10 @@ public final class EqualsExpression extends BinarySymbolicExpression implements
       SymbolicExpression pOperand2,
       Type pType,
       Type pCalculationType) {
-    return new EqualsExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new EqualsExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -21,7 +21,9 @@ public class GreaterThanExpression {
       Type pCalculationType) {
 
     // represent 'a > b' as 'b < a' so we do need less classes
-    return new LessThanExpression(
-        pOperand2, pOperand1, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new LessThanExpression(
+                pOperand2, pOperand1, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 }
@@ -25,7 +25,9 @@ public class GreaterThanOrEqualsExpression {
       Type pCalculationType) {
 
     // represent 'a >= b' as 'b <= a' so we do need less classes
-    return new LessThanOrEqualExpression(
-        pOperand2, pOperand1, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new LessThanOrEqualExpression(
+                pOperand2, pOperand1, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 }
@@ -51,8 +51,10 @@ public final class LessThanExpression extends BinarySymbolicExpression implement
       Type pType,
       Type pCalculationType) {
 
-    return new LessThanExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new LessThanExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
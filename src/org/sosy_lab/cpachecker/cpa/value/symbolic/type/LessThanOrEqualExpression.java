@@ -52,8 +52,10 @@ public final class LessThanOrEqualExpression extends BinarySymbolicExpression
       Type pType,
       Type pCalculationType) {
 
-    return new LessThanOrEqualExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new LessThanOrEqualExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -50,8 +50,10 @@ public final class LogicalAndExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new LogicalAndExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new LogicalAndExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
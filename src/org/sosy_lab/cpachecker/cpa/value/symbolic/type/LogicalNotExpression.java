@@ -41,7 +41,8 @@ public final class LogicalNotExpression extends UnarySymbolicExpression implemen
       return logicalNotExpression.getOperand();
 
     } else {
-      return new LogicalNotExpression(pOperand, getCanonicalType(pType));
+      return SymbolicValueFactory.getInstance()
+          .intern(new LogicalNotExpression(pOperand, getCanonicalType(pType)));
     }
   }
 
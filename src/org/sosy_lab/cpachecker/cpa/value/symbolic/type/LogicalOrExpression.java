@@ -50,8 +50,10 @@ public final class LogicalOrExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new LogicalOrExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new LogicalOrExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
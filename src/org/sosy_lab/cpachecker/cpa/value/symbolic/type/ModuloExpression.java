@@ -50,8 +50,10 @@ public final class ModuloExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new ModuloExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new ModuloExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -49,8 +49,10 @@ public final class MultiplicationExpression extends BinarySymbolicExpression {
       SymbolicExpression pOperand2,
       Type pType,
       Type pCalculationType) {
-    return new MultiplicationExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new MultiplicationExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -42,7 +42,7 @@ public final class NegationExpression extends UnarySymbolicExpression {
       return negationExpression.getOperand();
 
     } else {
-      return new NegationExpression(pFormula, pType);
+      return SymbolicValueFactory.getInstance().intern(new NegationExpression(pFormula, pType));
     }
   }
 
@@ -41,7 +41,8 @@ public final class PointerExpression extends UnarySymbolicExpression {
   }
 
   public static PointerExpression of(SymbolicExpression pOperand, Type pType) {
-    return new PointerExpression(checkNotNull(pOperand), getCanonicalType(pType));
+    return SymbolicValueFactory.getInstance()
+        .intern(new PointerExpression(checkNotNull(pOperand), getCanonicalType(pType)));
   }
 
   @Override
@@ -50,8 +50,10 @@ public final class ShiftLeftExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new ShiftLeftExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new ShiftLeftExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
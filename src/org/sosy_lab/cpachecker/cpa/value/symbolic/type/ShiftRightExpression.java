@@ -68,12 +68,16 @@ public final class ShiftRightExpression extends BinarySymbolicExpression {
       Type pCalculationType,
       boolean signed) {
 
-    return new ShiftRightExpression(
-        pOperand1,
-        pOperand2,
-        getCanonicalType(pType),
-        getCanonicalType(pCalculationType),
-        signed ? ShiftRightExpression.ShiftType.SIGNED : ShiftRightExpression.ShiftType.UNSIGNED);
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new ShiftRightExpression(
+                pOperand1,
+                pOperand2,
+                getCanonicalType(pType),
+                getCanonicalType(pCalculationType),
+                signed
+                    ? ShiftRightExpression.ShiftType.SIGNED
+                    : ShiftRightExpression.ShiftType.UNSIGNED));
   }
 
   public static SymbolicExpression ofUnsigned(
@@ -50,8 +50,10 @@ public final class SubtractionExpression extends BinarySymbolicExpression {
       Type pType,
       Type pCalculationType) {
 
-    return new SubtractionExpression(
-        pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType));
+    return SymbolicValueFactory.getInstance()
+        .intern(
+            new SubtractionExpression(
+                pOperand1, pOperand2, getCanonicalType(pType), getCanonicalType(pCalculationType)));
   }
 
   @Override
@@ -52,4 +52,49 @@ public class SymbolicExpressionTest {
     assertThat(neg1).isEqualTo(neg2);
     assertThat(neg1).isNotEqualTo(ptr);
   }
+
+  @Test
+  public void testHashConsing() {
+    SymbolicExpression op1 = ConstantSymbolicExpression.of(new NumericValue(1), OP_TYPE);
+    SymbolicExpression op2 = ConstantSymbolicExpression.of(new NumericValue(5), OP_TYPE);
+    assertThat(ConstantSymbolicExpression.of(new NumericValue(1), OP_TYPE)).isSameInstanceAs(op1);
+
+    SymbolicExpression add = AdditionExpression.of(op1, op2, OP_TYPE, OP_TYPE);
+    SymbolicExpression nested = NegationExpression.of(add, OP_TYPE);
+    assertThat(
+            NegationExpression.of(
+                AdditionExpression.of(
+                    ConstantSymbolicExpression.of(new NumericValue(1), OP_TYPE),
+                    op2,
+                    OP_TYPE,
+                    OP_TYPE),
+                OP_TYPE))
+        .isSameInstanceAs(nested);
+
+    // expressions that differ in details not considered by equals() are not shared
+    SymbolicExpression longAdd = AdditionExpression.of(op1, op2, OP_TYPE, CNumericTypes.LONG_INT);
+    assertThat(longAdd).isNotSameInstanceAs(add);
+    assertThat(ShiftRightExpression.ofSigned(op1, op2, OP_TYPE, OP_TYPE))
+        .isNotSameInstanceAs(ShiftRightExpression.ofUnsigned(op1, op2, OP_TYPE, OP_TYPE));
+  }
+
+  @Test
+  public void testHashConsing_innerCalculationType() {
+    SymbolicExpression op1 = ConstantSymbolicExpression.of(new NumericValue(1), OP_TYPE);
+    SymbolicExpression op2 = ConstantSymbolicExpression.of(new NumericValue(5), OP_TYPE);
+    SymbolicExpression intAdd = AdditionExpression.of(op1, op2, OP_TYPE, OP_TYPE);
+    SymbolicExpression longAdd = AdditionExpression.of(op1, op2, OP_TYPE, CNumericTypes.LONG_INT);
+    // the inner expressions are equal according to equals(), but not the same
+    assertThat(intAdd).isEqualTo(longAdd);
+
+    SymbolicExpression outer1 = NegationExpression.of(intAdd, OP_TYPE);
+    SymbolicExpression outer2 = NegationExpression.of(longAdd, OP_TYPE);
+    assertThat(outer2).isNotSameInstanceAs(outer1);
+    assertThat(((NegationExpression) outer2).getOperand()).isSameInstanceAs(longAdd);
+
+    SymbolicExpression product1 = MultiplicationExpression.of(intAdd, op2, OP_TYPE, OP_TYPE);
+    SymbolicExpression product2 = MultiplicationExpression.of(longAdd, op2, OP_TYPE, OP_TYPE);
+    assertThat(product2).isNotSameInstanceAs(product1);
+    assertThat(((BinarySymbolicExpression) product2).getOperand1()).isSameInstanceAs(longAdd);
+  }
 }
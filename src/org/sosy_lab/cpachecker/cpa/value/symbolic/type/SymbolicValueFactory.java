@@ -8,6 +8,13 @@
 
 package org.sosy_lab.cpachecker.cpa.value.symbolic.type;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Equivalence;
+import com.google.common.collect.MapMaker;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
 
 public class SymbolicValueFactory {
@@ -15,6 +22,14 @@ public class SymbolicValueFactory {
   private static final SymbolicValueFactory SINGLETON = new SymbolicValueFactory();
   private int idCounter = 0;
 
+  /**
+   * Hash-consing table for {@link SymbolicExpression}s created through the static <code>of</code>
+   * methods of the expression classes. Values are only weakly referenced, so expressions that are
+   * no longer used anywhere in the analysis can still be garbage collected.
+   */
+  private final ConcurrentMap<List<Object>, SymbolicExpression> expressions =
+      new MapMaker().weakValues().makeMap();
+
   private SymbolicValueFactory() {
     // DO NOTHING
   }
@@ -30,4 +45,54 @@ public class SymbolicValueFactory {
   public SymbolicIdentifier newIdentifier(MemoryLocation pMemoryLocation) {
     return new SymbolicIdentifier(idCounter++, pMemoryLocation);
   }
+
+  /**
+   * Returns the unique instance of the given expression, so that structurally identical
+   * expressions, and thus also identical subtrees of expressions, share one object. Equality and
+   * hashing of expressions built from such shared subtrees can then stop at the shared operands.
+   *
+   * <p>The key used for identifying an expression also contains the calculation type of binary
+   * expressions and the kind of right shifts, which are not considered by {@link
+   * SymbolicExpression#equals(Object)}, so that expressions with different semantics are never
+   * merged. For the same reason, operands that are symbolic expressions are compared by identity:
+   * {@link SymbolicExpression#equals(Object)} would not distinguish operands that differ only in
+   * such details, and shared operands are identical anyway.
+   *
+   * @param pExpression a freshly created expression without represented location or state
+   * @return an expression of the same class and with the same content as the given one
+   */
+  @SuppressWarnings("unchecked") // the key contains the class of the expression
+  <T extends SymbolicExpression> T intern(T pExpression) {
+    checkArgument(
+        pExpression.getRepresentedLocation().isEmpty() && !pExpression.hasAbstractState(),
+        "Only plain expressions can be shared: %s",
+        pExpression);
+    SymbolicExpression existing = expressions.putIfAbsent(getKey(pExpression), pExpression);
+    return existing == null ? pExpression : (T) existing;
+  }
+
+  private static List<Object> getKey(SymbolicExpression pExpression) {
+    return switch (pExpression) {
+      case BinarySymbolicExpression binary ->
+          Arrays.asList(
+              binary.getClass(),
+              operandKey(binary.getOperand1()),
+              operandKey(binary.getOperand2()),
+              binary.getType(),
+              binary.getCalculationType(),
+              binary instanceof ShiftRightExpression shift && shift.isSigned());
+      case UnarySymbolicExpression unary ->
+          Arrays.asList(unary.getClass(), operandKey(unary.getOperand()), unary.getType());
+      case ConstantSymbolicExpression constant ->
+          Arrays.asList(constant.getClass(), operandKey(constant.getValue()), constant.getType());
+      case AddressExpression address ->
+          throw new IllegalArgumentException("Address expressions are not shared: " + address);
+    };
+  }
+
+  private static Object operandKey(Object pOperand) {
+    return pOperand instanceof SymbolicExpression
+        ? Equivalence.identity().wrap(pOperand)
+        : pOperand;
+  }
 }
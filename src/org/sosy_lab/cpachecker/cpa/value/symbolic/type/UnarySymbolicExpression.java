@@ -32,6 +32,9 @@ public abstract sealed class UnarySymbolicExpression extends SymbolicExpression
   private final SymbolicExpression operand;
   private final Type type;
 
+  /** Lazily computed hash code, 0 if not computed yet. */
+  private transient int hashCode;
+
   UnarySymbolicExpression(SymbolicExpression pOperand, Type pType) {
     operand = pOperand;
     type = pType;
@@ -94,7 +97,13 @@ public abstract sealed class UnarySymbolicExpression extends SymbolicExpression
 
   @Override
   public final int hashCode() {
-    return super.hashCode() + Objects.hash(getClass().getCanonicalName(), operand, type);
+    // Expressions are immutable and often deeply nested, so we do not want to recompute this
+    int result = hashCode;
+    if (result == 0) {
+      result = super.hashCode() + Objects.hash(getClass().getCanonicalName(), operand, type);
+      hashCode = result;
+    }
+    return result;
   }
 
   @Override
@@ -25,6 +25,28 @@ public record NumericValue(Number number) implements Value {
 
   @Serial private static final long serialVersionUID = -3829943575180448170L;
 
+  // cache for small integer values, which are by far the most common ones
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1024;
+  private static final NumericValue[] cachedValues = new NumericValue[CACHE_HIGH - CACHE_LOW];
+
+  static {
+    for (int i = 0; i < cachedValues.length; i++) {
+      cachedValues[i] = new NumericValue((long) (i + CACHE_LOW));
+    }
+  }
+
+  /**
+   * Return a value holding the given number as {@link Long}. This is equal to {@code new
+   * NumericValue(pValue)}, but avoids allocating new objects for small values.
+   */
+  public static NumericValue of(long pValue) {
+    if (pValue >= CACHE_LOW && pValue < CACHE_HIGH) {
+      return cachedValues[(int) pValue - CACHE_LOW];
+    }
+    return new NumericValue(pValue);
+  }
+
   /** Returns the number stored in the container. */
   public Number getNumber() {
     return number;
@@ -17,6 +17,14 @@ import org.sosy_lab.cpachecker.util.floatingpoint.FloatValue;
 
 public class NumericValueTest {
 
+  @Test
+  public void of_isEqualToConstructor() {
+    for (long value : new long[] {-129, -128, 0, 1, 1023, 1024, Long.MIN_VALUE, Long.MAX_VALUE}) {
+      assertThat(NumericValue.of(value)).isEqualTo(new NumericValue(value));
+    }
+    assertThat(NumericValue.of(42)).isSameInstanceAs(NumericValue.of(42));
+  }
+
   @Test
   public void longValue_conversionFromPositiveLong() {
     NumericValue val = new NumericValue(5L);
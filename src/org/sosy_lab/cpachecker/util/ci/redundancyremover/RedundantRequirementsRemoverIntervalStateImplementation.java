@@ -34,15 +34,15 @@ public class RedundantRequirementsRemoverIntervalStateImplementation
     if (pO1 == null || pO2 == null) {
       throw new NullPointerException(
           "At least one of the arguments " + pO1 + " or " + pO2 + " is null.");
-    } else if (pO1.getLow().equals(pO2.getLow()) && pO1.getHigh().equals(pO2.getHigh())) {
+    } else if (pO1.getLow() == pO2.getLow() && pO1.getHigh() == pO2.getHigh()) {
       return 0;
     } else if (pO2.contains(pO1)) {
       return -1;
     } else if (pO1.contains(pO2)) {
       return 1;
-    } else if (pO1.getLow().compareTo(pO2.getLow()) < 0) {
+    } else if (pO1.getLow() < pO2.getLow()) {
       return -1;
-    } else if (pO1.getLow().equals(pO2.getLow()) && pO1.getHigh().compareTo(pO2.getHigh()) < 0) {
+    } else if (pO1.getLow() == pO2.getLow() && pO1.getHigh() < pO2.getHigh()) {
       return -1;
     }
 
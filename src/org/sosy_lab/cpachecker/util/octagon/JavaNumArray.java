@@ -0,0 +1,36 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.octagon;
+
+import java.util.Arrays;
+
+/** Array of numbers of the {@link JavaOctagonManager}, infinity is represented as such. */
+final class JavaNumArray extends NumArray {
+
+  final double[] values;
+
+  JavaNumArray(int n) {
+    values = new double[n];
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+  @Override
+  public boolean equals(Object pObj) {
+    return this == pObj;
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(this);
+  }
+}
@@ -0,0 +1,215 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.octagon;
+
+import static org.sosy_lab.cpachecker.util.octagon.OctagonPack.INFINITY;
+
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An octagon of the {@link JavaOctagonManager}. The variables of the octagon are partitioned into
+ * packs of related variables, and every pack has its own DBM (cf. {@link OctagonPack}). Variables
+ * in different packs are independent, i.e., the only constraints between them are those implied by
+ * their bounds: in the strong closure of the whole octagon, the entry for V_j - V_i with V_i and
+ * V_j in different packs is (u(i^1) + u(j)) / 2, where u(j) is the bound for V_j - V_(j^1). These
+ * entries are therefore not stored, which is the decomposition of Singh, Püschel, and Vechev,
+ * "Making numerical program analysis fast". Unconstrained variables do not belong to any pack.
+ *
+ * <p>Packs are only merged when a constraint or an assignment relates their variables, or when the
+ * convex hull of two octagons introduces such a relation. Octagons of programs with many
+ * independent variables thus consist of many small packs, and the costs of the transfer functions
+ * only depend on the sizes of the affected packs. Octagons are immutable and share their unchanged
+ * packs.
+ */
+final class JavaOctagon extends Octagon {
+
+  private final int dimension;
+
+  /**
+   * The pack of every variable, where a null entry denotes an unconstrained variable, or null if
+   * the octagon is known to be empty. Each pack is stored for all of its variables.
+   */
+  private final OctagonPack @Nullable [] packs;
+
+  /** Whether the octagon is empty, or null if this is not yet computed. */
+  private @Nullable Boolean empty;
+
+  JavaOctagon(JavaOctagonManager pManager, int pDimension, OctagonPack @Nullable [] pPacks) {
+    super(pManager);
+    assert pPacks == null || pPacks.length == pDimension;
+    dimension = pDimension;
+    packs = pPacks;
+  }
+
+  int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Returns the pack of every variable, or null if the octagon is known to be empty. Do not modify
+   * the result.
+   */
+  OctagonPack @Nullable [] getPacks() {
+    return packs;
+  }
+
+  /** Returns the pack of the given variable, or null if it is unconstrained. */
+  @Nullable OctagonPack getPack(int variable) {
+    return packs == null ? null : packs[variable];
+  }
+
+  /** Returns whether the octagon is empty, which computes the closures of all packs. */
+  boolean isEmpty() {
+    if (empty == null) {
+      empty = packs == null;
+      for (int v = 0; v < dimension && !empty; v++) {
+        OctagonPack pack = packs[v];
+        empty = isFirstVariable(pack, v) && pack.getClosedMatrix() == null;
+      }
+    }
+    return empty;
+  }
+
+  boolean isClosureComputed() {
+    if (packs == null) {
+      return true;
+    }
+    for (int v = 0; v < dimension; v++) {
+      OctagonPack pack = packs[v];
+      if (isFirstVariable(pack, v) && !pack.isClosureComputed()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether v is the first variable of the given pack, which allows to iterate over all
+   * packs of an octagon by iterating over its variables.
+   */
+  static boolean isFirstVariable(@Nullable OctagonPack pack, int v) {
+    return pack != null && pack.getVariable(0) == v;
+  }
+
+  /**
+   * Returns for all indices j of the octagon the bound u(j) for V_j - V_(j^1), i.e., the entry
+   * (j^1, j) of the closed DBM. The octagon must not be empty.
+   */
+  double[] getUnaryBounds() {
+    assert packs != null;
+    double[] unary = new double[2 * dimension];
+    for (int v = 0; v < dimension; v++) {
+      OctagonPack pack = packs[v];
+      if (pack == null) {
+        unary[2 * v] = INFINITY;
+        unary[2 * v + 1] = INFINITY;
+      } else {
+        double[] m = pack.getClosedMatrix();
+        assert m != null;
+        int size = 2 * pack.size();
+        int pos = 2 * pack.indexOf(v);
+        unary[2 * v] = m[(pos + 1) * size + pos];
+        unary[2 * v + 1] = m[pos * size + pos + 1];
+      }
+    }
+    return unary;
+  }
+
+  /**
+   * Builds the DBM over the given variables (in ascending order) from the given packs, using their
+   * closed DBMs if requested. Entries between variables of different packs are infinite, or, if the
+   * unary bounds of the octagon are given, the bounds implied by them, such that the result is the
+   * strong closure of the octagon restricted to the variables.
+   */
+  static double[] gather(
+      OctagonPack[] packs, int[] variables, boolean closed, double @Nullable [] unary) {
+    int s = variables.length;
+    OctagonPack first = packs[variables[0]];
+    if (first != null && Arrays.equals(first.getVariables(), variables)) {
+      return closed ? first.getClosedMatrix().clone() : first.getMatrix().clone();
+    }
+
+    int size = 2 * s;
+    double[] result = OctagonPack.universeMatrix(s);
+    OctagonPack[] sourcePacks = new OctagonPack[s];
+    int[] sourceIndices = new int[s];
+    for (int a = 0; a < s; a++) {
+      sourcePacks[a] = packs[variables[a]];
+      if (sourcePacks[a] != null) {
+        sourceIndices[a] = 2 * sourcePacks[a].indexOf(variables[a]);
+      }
+    }
+    for (int a = 0; a < s; a++) {
+      OctagonPack pack = sourcePacks[a];
+      double[] m = null;
+      int packSize = 0;
+      if (pack != null) {
+        m = closed ? pack.getClosedMatrix() : pack.getMatrix();
+        packSize = 2 * pack.size();
+      }
+      for (int i = 2 * a; i <= 2 * a + 1; i++) {
+        int iRow = i * size;
+        int sourceRow = (sourceIndices[a] + (i & 1)) * packSize;
+        for (int b = 0; b < s; b++) {
+          if (pack != null && pack == sourcePacks[b]) {
+            result[iRow + 2 * b] = m[sourceRow + sourceIndices[b]];
+            result[iRow + 2 * b + 1] = m[sourceRow + sourceIndices[b] + 1];
+          } else if (unary != null && a != b) {
+            double fromI = unary[(2 * variables[a] + (i & 1)) ^ 1];
+            result[iRow + 2 * b] = (fromI + unary[2 * variables[b]]) * 0.5;
+            result[iRow + 2 * b + 1] = (fromI + unary[2 * variables[b] + 1]) * 0.5;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Replaces a pack in the given array of packs, which must contain the old pack. */
+  static void replacePack(OctagonPack[] packs, OctagonPack oldPack, @Nullable OctagonPack newPack) {
+    for (int v : oldPack.getVariables()) {
+      packs[v] = null;
+    }
+    if (newPack != null) {
+      for (int v : newPack.getVariables()) {
+        packs[v] = newPack;
+      }
+    }
+  }
+
+  /**
+   * Returns the strongly closed DBM of the whole octagon, or null if it is empty. This is only
+   * meant for tests and debugging.
+   */
+  double @Nullable [] getClosedMatrix() {
+    if (isEmpty()) {
+      return null;
+    }
+    if (dimension == 0) {
+      return new double[0];
+    }
+    int[] all = new int[dimension];
+    for (int v = 0; v < dimension; v++) {
+      all[v] = v;
+    }
+    return gather(packs, all, true, getUnaryBounds());
+  }
+
+  @Override
+  public int hashCode() {
+    // consistent with equals(), which compares the closed matrices
+    return dimension;
+  }
+
+  @Override
+  public String toString() {
+    return "octagon with dimension: " + dimension;
+  }
+}
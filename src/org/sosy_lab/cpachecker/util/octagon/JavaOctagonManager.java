@@ -0,0 +1,1034 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.octagon;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.sosy_lab.cpachecker.util.octagon.JavaOctagon.isFirstVariable;
+import static org.sosy_lab.cpachecker.util.octagon.OctagonPack.INFINITY;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.cpachecker.cpa.octagon.values.OctagonDoubleValue;
+import org.sosy_lab.cpachecker.cpa.octagon.values.OctagonIntValue;
+import org.sosy_lab.cpachecker.cpa.octagon.values.OctagonInterval;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+
+/**
+ * Pure-Java implementation of the octagon operations, where every octagon is decomposed into
+ * independent packs of variables with their own difference bound matrices in flat arrays (cf.
+ * {@link JavaOctagon} and {@link OctagonPack}). It does not need the native octagon library.
+ *
+ * <p>All transfer functions work on strongly closed packs and restore the closure incrementally in
+ * time quadratic in the size of the affected pack: a new constraint is added with {@link
+ * OctagonPack#addConstraint}, and an assignment to a variable recomputes only the rows and columns
+ * of this variable with {@link OctagonPack#closeVariable}. Only the results of intersection,
+ * widening, and narrowing are closed lazily (in time cubic in the size of each changed pack) when
+ * they are used.
+ */
+public class JavaOctagonManager extends OctagonManager {
+
+  /* results of the lazy test functions */
+  private static final int TRUE = 1;
+  private static final int FALSE = 2;
+  private static final int UNKNOWN = 3;
+
+  private final boolean integerValues;
+
+  /**
+   * Creates a new manager.
+   *
+   * @param pIntegerValues whether all variables are integers, like for {@link OctagonIntManager},
+   *     in which case the tight closure is used, or rationals, like for {@link OctagonFloatManager}
+   */
+  public JavaOctagonManager(boolean pIntegerValues) {
+    integerValues = pIntegerValues;
+  }
+
+  private JavaOctagon create(int n, OctagonPack @Nullable [] packs) {
+    return new JavaOctagon(this, n, packs);
+  }
+
+  private OctagonPack createPack(int[] variables, double[] matrix, boolean isClosed) {
+    return new OctagonPack(variables, matrix, isClosed, integerValues);
+  }
+
+  private static JavaOctagon cast(Octagon oct) {
+    return (JavaOctagon) oct;
+  }
+
+  private static double[] values(NumArray array) {
+    return ((JavaNumArray) array).values;
+  }
+
+  /* num handling function*/
+
+  @Override
+  public NumArray init_num_t(int n) {
+    return new JavaNumArray(n);
+  }
+
+  @Override
+  public void num_set(NumArray n1, NumArray n2) {
+    values(n1)[0] = values(n2)[0];
+  }
+
+  @Override
+  public void num_set_int(NumArray n, int pos, long i) {
+    values(n)[pos] = i;
+  }
+
+  @Override
+  public void num_set_float(NumArray n, int pos, double d) {
+    values(n)[pos] = d;
+  }
+
+  @Override
+  public void num_set_inf(NumArray n, int pos) {
+    values(n)[pos] = INFINITY;
+  }
+
+  @Override
+  public long num_get_int(NumArray n, int pos) {
+    return (long) values(n)[pos];
+  }
+
+  @Override
+  public double num_get_float(NumArray n, int pos) {
+    return values(n)[pos];
+  }
+
+  @Override
+  public boolean num_infty(NumArray n, int pos) {
+    return values(n)[pos] == INFINITY;
+  }
+
+  @Override
+  public void num_clear_n(NumArray n, int size) {
+    // nothing to do, the array is garbage collected
+  }
+
+  /* Octagon Creation */
+
+  @Override
+  public Octagon empty(int n) {
+    return create(n, null);
+  }
+
+  @Override
+  public Octagon universe(int n) {
+    return create(n, new OctagonPack[n]);
+  }
+
+  @Override
+  public Octagon copy(Octagon oct) {
+    // octagons are immutable
+    return oct;
+  }
+
+  @Override
+  public Octagon full_copy(Octagon oct) {
+    return oct;
+  }
+
+  /* Query Functions */
+
+  @Override
+  public int dimension(Octagon oct) {
+    return cast(oct).getDimension();
+  }
+
+  @Override
+  public int nbconstraints(Octagon oct) {
+    OctagonPack[] packs = cast(oct).getPacks();
+    if (packs == null) {
+      return 0;
+    }
+    int count = 0;
+    for (int v = 0; v < packs.length; v++) {
+      if (isFirstVariable(packs[v], v)) {
+        count += packs[v].countConstraints();
+      }
+    }
+    return count;
+  }
+
+  /* Test Functions */
+
+  @Override
+  public boolean isEmpty(Octagon oct) {
+    return cast(oct).isEmpty();
+  }
+
+  @Override
+  public int isEmptyLazy(Octagon oct) {
+    JavaOctagon octagon = cast(oct);
+    if (!octagon.isClosureComputed()) {
+      return UNKNOWN;
+    }
+    return octagon.isEmpty() ? TRUE : FALSE;
+  }
+
+  @Override
+  public boolean isUniverse(Octagon oct) {
+    JavaOctagon octagon = cast(oct);
+    if (octagon.isEmpty()) {
+      return false;
+    }
+    OctagonPack[] packs = octagon.getPacks();
+    for (int v = 0; v < packs.length; v++) {
+      if (isFirstVariable(packs[v], v) && !packs[v].isUniverse()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isIncludedIn(Octagon oct1, Octagon oct2) {
+    checkSameDimension(oct1, oct2);
+    JavaOctagon octagon1 = cast(oct1);
+    if (octagon1.isEmpty()) {
+      return true;
+    }
+    OctagonPack[] packs1 = octagon1.getPacks();
+    OctagonPack[] packs2 = cast(oct2).getPacks();
+    if (packs2 == null) {
+      return false;
+    }
+    // the packs of the second octagon do not need to be closed, and variables in different packs
+    // of it are only constrained by their bounds, which are compared within their own packs
+    double[] unary1 = null;
+    for (int v = 0; v < packs2.length; v++) {
+      OctagonPack pack2 = packs2[v];
+      if (!isFirstVariable(pack2, v) || packs1[v] == pack2) {
+        continue;
+      }
+      if (unary1 == null) {
+        unary1 = octagon1.getUnaryBounds();
+      }
+      double[] m1 = JavaOctagon.gather(packs1, pack2.getVariables(), true, unary1);
+      if (!OctagonPack.isPointwiseLessOrEqual(m1, pack2.getMatrix())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int isIncludedInLazy(Octagon oct1, Octagon oct2) {
+    JavaOctagon octagon1 = cast(oct1);
+    if (octagon1.isClosureComputed()) {
+      return isIncludedIn(oct1, oct2) ? TRUE : FALSE;
+    }
+    // the closure can only lower the entries of the first octagon
+    checkSameDimension(oct1, oct2);
+    OctagonPack[] packs1 = octagon1.getPacks();
+    OctagonPack[] packs2 = cast(oct2).getPacks();
+    if (packs2 == null) {
+      return UNKNOWN;
+    }
+    for (int v = 0; v < packs2.length; v++) {
+      OctagonPack pack2 = packs2[v];
+      if (!isFirstVariable(pack2, v) || packs1[v] == pack2) {
+        continue;
+      }
+      double[] m1 = JavaOctagon.gather(packs1, pack2.getVariables(), false, null);
+      if (!OctagonPack.isPointwiseLessOrEqual(m1, pack2.getMatrix())) {
+        return UNKNOWN;
+      }
+    }
+    return TRUE;
+  }
+
+  @Override
+  public boolean isEqual(Octagon oct1, Octagon oct2) {
+    checkSameDimension(oct1, oct2);
+    boolean empty1 = isEmpty(oct1);
+    boolean empty2 = isEmpty(oct2);
+    if (empty1 || empty2) {
+      return empty1 == empty2;
+    }
+    return isIncludedIn(oct1, oct2) && isIncludedIn(oct2, oct1);
+  }
+
+  @Override
+  public int isEqualLazy(Octagon oct1, Octagon oct2) {
+    JavaOctagon octagon1 = cast(oct1);
+    JavaOctagon octagon2 = cast(oct2);
+    if (octagon1.isClosureComputed() && octagon2.isClosureComputed()) {
+      return isEqual(oct1, oct2) ? TRUE : FALSE;
+    }
+    checkSameDimension(oct1, oct2);
+    OctagonPack[] packs1 = octagon1.getPacks();
+    OctagonPack[] packs2 = octagon2.getPacks();
+    // packs are compared by identity
+    if (packs1 != null && packs2 != null && Arrays.equals(packs1, packs2)) {
+      return TRUE;
+    }
+    return UNKNOWN;
+  }
+
+  @Override
+  public boolean isIn(Octagon oct1, NumArray array) {
+    JavaOctagon octagon = cast(oct1);
+    if (octagon.isEmpty()) {
+      return false;
+    }
+    double[] point = values(array);
+    OctagonPack[] packs = octagon.getPacks();
+    for (int v = 0; v < packs.length; v++) {
+      if (isFirstVariable(packs[v], v) && !packs[v].contains(point)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /* Operators */
+
+  /** The pointwise combinations of DBMs used by the operators. */
+  private enum Combination {
+    MEET,
+    JOIN,
+    NARROWING,
+  }
+
+  @Override
+  public Octagon intersection(Octagon oct1, Octagon oct2) {
+    checkSameDimension(oct1, oct2);
+    JavaOctagon octagon1 = cast(oct1);
+    JavaOctagon octagon2 = cast(oct2);
+    if (octagon1.getPacks() == null) {
+      return oct1;
+    } else if (octagon2.getPacks() == null) {
+      return oct2;
+    }
+    int[] parent = connectPacks(octagon1, octagon2);
+    return create(
+        octagon1.getDimension(),
+        combinePacks(octagon1, octagon2, parent, Combination.MEET, null, null));
+  }
+
+  @Override
+  public Octagon union(Octagon oct1, Octagon oct2) {
+    checkSameDimension(oct1, oct2);
+    JavaOctagon octagon1 = cast(oct1);
+    JavaOctagon octagon2 = cast(oct2);
+    if (octagon1.isEmpty()) {
+      return oct2;
+    } else if (octagon2.isEmpty()) {
+      return oct1;
+    }
+    double[] unary1 = octagon1.getUnaryBounds();
+    double[] unary2 = octagon2.getUnaryBounds();
+    int[] parent = connectPacks(octagon1, octagon2);
+    connectOppositeBounds(parent, unary1, unary2);
+    // the convex hull of two strongly closed octagons is strongly closed
+    return create(
+        octagon1.getDimension(),
+        combinePacks(octagon1, octagon2, parent, Combination.JOIN, unary1, unary2));
+  }
+
+  @Override
+  public Octagon widening(Octagon oct1, Octagon oct2) {
+    checkSameDimension(oct1, oct2);
+    JavaOctagon octagon1 = cast(oct1);
+    JavaOctagon octagon2 = cast(oct2);
+    if (octagon1.isEmpty()) {
+      return oct2;
+    } else if (octagon2.isEmpty()) {
+      return oct1;
+    }
+    // the packs of the first octagon must not be closed, otherwise the widening might not
+    // terminate, and variables that are independent in the first octagon stay independent
+    OctagonPack[] packs1 = octagon1.getPacks();
+    OctagonPack[] packs2 = octagon2.getPacks();
+    double[] unary2 = octagon2.getUnaryBounds();
+    OctagonPack[] result = new OctagonPack[packs1.length];
+    for (int v = 0; v < packs1.length; v++) {
+      OctagonPack pack1 = packs1[v];
+      if (!isFirstVariable(pack1, v)) {
+        continue;
+      }
+      OctagonPack widened = pack1;
+      // the closure of a pack is always included in the pack itself
+      if (packs2[v] != pack1) {
+        double[] m1 = pack1.getMatrix();
+        double[] m2 = JavaOctagon.gather(packs2, pack1.getVariables(), true, unary2);
+        double[] m = new double[m1.length];
+        for (int i = 0; i < m.length; i++) {
+          if (m2[i] <= m1[i]) {
+            m[i] = m1[i];
+          } else {
+            // unstable bounds are widened to the threshold 0 if possible, and to infinity otherwise
+            m[i] = m2[i] <= 0 ? 0 : INFINITY;
+          }
+        }
+        widened = createPack(pack1.getVariables(), m, false);
+      }
+      for (int w : pack1.getVariables()) {
+        result[w] = widened;
+      }
+    }
+    return create(octagon1.getDimension(), result);
+  }
+
+  @Override
+  public Octagon narrowing(Octagon oct1, Octagon oct2) {
+    checkSameDimension(oct1, oct2);
+    JavaOctagon octagon1 = cast(oct1);
+    JavaOctagon octagon2 = cast(oct2);
+    if (octagon1.isEmpty()) {
+      return oct1;
+    } else if (octagon2.isEmpty()) {
+      return oct2;
+    }
+    int[] parent = connectPacks(octagon1, octagon2);
+    return create(
+        octagon1.getDimension(),
+        combinePacks(
+            octagon1,
+            octagon2,
+            parent,
+            Combination.NARROWING,
+            octagon1.getUnaryBounds(),
+            octagon2.getUnaryBounds()));
+  }
+
+  /**
+   * Combines the DBMs of two octagons pointwise for every block of variables given as union-find
+   * forest. The combination works on the closed DBMs, including the entries implied by the bounds
+   * of the variables, if the unary bounds of the octagons are given, and on the DBMs as they were
+   * constructed otherwise.
+   */
+  private OctagonPack[] combinePacks(
+      JavaOctagon octagon1,
+      JavaOctagon octagon2,
+      int[] parent,
+      Combination combination,
+      double @Nullable [] unary1,
+      double @Nullable [] unary2) {
+    OctagonPack[] packs1 = octagon1.getPacks();
+    OctagonPack[] packs2 = octagon2.getPacks();
+    boolean closed = unary1 != null;
+    OctagonPack[] result = new OctagonPack[packs1.length];
+    for (int[] block : getBlocks(parent, packs1, packs2)) {
+      OctagonPack pack1 = packs1[block[0]];
+      OctagonPack combined;
+      if (pack1 != null && pack1 == packs2[block[0]] && pack1.size() == block.length) {
+        // all combinations are idempotent
+        combined = pack1;
+      } else {
+        double[] m1 = JavaOctagon.gather(packs1, block, closed, unary1);
+        double[] m2 = JavaOctagon.gather(packs2, block, closed, unary2);
+        switch (combination) {
+          case MEET -> {
+            for (int i = 0; i < m1.length; i++) {
+              m1[i] = Math.min(m1[i], m2[i]);
+            }
+          }
+          case JOIN -> {
+            for (int i = 0; i < m1.length; i++) {
+              m1[i] = Math.max(m1[i], m2[i]);
+            }
+          }
+          case NARROWING -> {
+            for (int i = 0; i < m1.length; i++) {
+              m1[i] = m1[i] == INFINITY ? m2[i] : m1[i];
+            }
+          }
+        }
+        combined = createPack(block, m1, combination == Combination.JOIN);
+      }
+      for (int v : block) {
+        result[v] = combined;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a union-find forest in which the variables of every pack of both octagons are
+   * connected.
+   */
+  private static int[] connectPacks(JavaOctagon octagon1, JavaOctagon octagon2) {
+    int n = octagon1.getDimension();
+    int[] parent = new int[n];
+    for (int v = 0; v < n; v++) {
+      parent[v] = v;
+    }
+    for (JavaOctagon octagon : ImmutableList.of(octagon1, octagon2)) {
+      for (int v = 0; v < n; v++) {
+        OctagonPack pack = octagon.getPack(v);
+        if (pack != null) {
+          union(parent, v, pack.getVariable(0));
+        }
+      }
+    }
+    return parent;
+  }
+
+  /**
+   * Connects the blocks of variables such that the convex hull of two octagons does not lose a
+   * relation between different blocks. For V_i and V_j in different blocks, the bound for V_j - V_i
+   * in the hull is max(u1(i^1) + u1(j), u2(i^1) + u2(j)) / 2, where u1 and u2 are the unary bounds
+   * of the octagons. This is tighter than the bound implied by the unary bounds of the hull if and
+   * only if all four bounds are finite and u1(i^1) > u2(i^1) and u1(j) < u2(j), or vice versa. So
+   * every block with a unary bound that is larger in the first octagon has to be connected with
+   * every other block with a unary bound that is larger in the second octagon.
+   */
+  private static void connectOppositeBounds(int[] parent, double[] unary1, double[] unary2) {
+    int n = parent.length;
+    boolean[] largerInFirst = new boolean[n];
+    boolean[] largerInSecond = new boolean[n];
+    for (int j = 0; j < 2 * n; j++) {
+      if (unary1[j] != unary2[j] && unary1[j] != INFINITY && unary2[j] != INFINITY) {
+        int root = find(parent, j / 2);
+        if (unary1[j] > unary2[j]) {
+          largerInFirst[root] = true;
+        } else {
+          largerInSecond[root] = true;
+        }
+      }
+    }
+    int firstRoot = -1;
+    int secondRoot = -1;
+    int firstCount = 0;
+    int secondCount = 0;
+    for (int root = 0; root < n; root++) {
+      if (largerInFirst[root]) {
+        firstRoot = root;
+        firstCount++;
+      }
+      if (largerInSecond[root]) {
+        secondRoot = root;
+        secondCount++;
+      }
+    }
+    if (firstCount == 0
+        || secondCount == 0
+        || (firstCount == 1 && secondCount == 1 && firstRoot == secondRoot)) {
+      return;
+    }
+    // every such block is connected with another one, so they all end up in one block
+    int first = -1;
+    for (int root = 0; root < n; root++) {
+      if (largerInFirst[root] || largerInSecond[root]) {
+        if (first < 0) {
+          first = root;
+        } else {
+          union(parent, first, root);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the blocks of the given union-find forest that contain variables with a pack in one of
+   * the octagons, each as array of variables in ascending order.
+   */
+  private static List<int[]> getBlocks(int[] parent, OctagonPack[] packs1, OctagonPack[] packs2) {
+    int n = parent.length;
+    int[] sizes = new int[n];
+    for (int v = 0; v < n; v++) {
+      if (packs1[v] != null || packs2[v] != null) {
+        sizes[find(parent, v)]++;
+      }
+    }
+    int[][] blocks = new int[n][];
+    int[] filled = new int[n];
+    List<int[]> result = new ArrayList<>();
+    for (int v = 0; v < n; v++) {
+      if (packs1[v] != null || packs2[v] != null) {
+        int root = find(parent, v);
+        if (blocks[root] == null) {
+          blocks[root] = new int[sizes[root]];
+          result.add(blocks[root]);
+        }
+        blocks[root][filled[root]++] = v;
+      }
+    }
+    return result;
+  }
+
+  private static int find(int[] parent, int v) {
+    while (parent[v] != v) {
+      parent[v] = parent[parent[v]];
+      v = parent[v];
+    }
+    return v;
+  }
+
+  private static void union(int[] parent, int v, int w) {
+    int rootV = find(parent, v);
+    int rootW = find(parent, w);
+    parent[Math.max(rootV, rootW)] = Math.min(rootV, rootW);
+  }
+
+  /* Transfer Functions */
+
+  @Override
+  public Octagon forget(Octagon oct, int k) {
+    JavaOctagon octagon = cast(oct);
+    OctagonPack pack = octagon.getPack(k);
+    if (pack == null || octagon.isEmpty()) {
+      return oct;
+    }
+    OctagonPack[] packs = octagon.getPacks().clone();
+    JavaOctagon.replacePack(packs, pack, withoutVariable(pack, k));
+    return create(octagon.getDimension(), packs);
+  }
+
+  /**
+   * Returns the given non-empty pack without the variable k, or null if no variable remains.
+   * Removing a variable from a closed DBM keeps it closed.
+   */
+  private static @Nullable OctagonPack withoutVariable(OctagonPack pack, int k) {
+    if (pack.size() == 1) {
+      return null;
+    }
+    int[] remaining = new int[pack.size() - 1];
+    int count = 0;
+    for (int v : pack.getVariables()) {
+      if (v != k) {
+        remaining[count++] = v;
+      }
+    }
+    return pack.project(remaining);
+  }
+
+  @Override
+  public Octagon assingVar(Octagon oct, int k, NumArray array) {
+    int n = cast(oct).getDimension();
+    double[] coefficients = values(array);
+    double[] low = new double[n + 1];
+    double[] high = new double[n + 1];
+    System.arraycopy(coefficients, 0, low, 0, n + 1);
+    System.arraycopy(coefficients, 0, high, 0, n + 1);
+    return assign(cast(oct), k, low, high);
+  }
+
+  @Override
+  public Octagon intervAssingVar(Octagon oct, int k, NumArray array) {
+    int n = cast(oct).getDimension();
+    double[] coefficients = values(array);
+    double[] low = new double[n + 1];
+    double[] high = new double[n + 1];
+    for (int i = 0; i <= n; i++) {
+      high[i] = coefficients[2 * i];
+      low[i] = -coefficients[2 * i + 1];
+    }
+    return assign(cast(oct), k, low, high);
+  }
+
+  /**
+   * Assigns the expression [low_0, high_0]*x_0 + ... + [low_(n-1), high_(n-1)]*x_(n-1) + [low_n,
+   * high_n] to the variable x_k. If the expression is x_k or -x_k plus a constant, the pack of x_k
+   * is translated. Otherwise, the variable is forgotten and constrained by the bounds of the
+   * expression and of the expression minus x_j and plus x_j, respectively, for every other variable
+   * x_j of the expression, which is exact for octagonal assignments like x_k := x_j + c. Only if
+   * the latter constraints are not implied by the bounds of x_k and x_j, the pack of x_j is merged
+   * into the new pack of x_k.
+   */
+  private Octagon assign(JavaOctagon oct, int k, double[] low, double[] high) {
+    if (oct.isEmpty()) {
+      return oct;
+    }
+    int n = oct.getDimension();
+    OctagonPack[] packs = oct.getPacks().clone();
+    OctagonPack packOfK = packs[k];
+
+    boolean onlyVariableK = true;
+    for (int i = 0; i < n; i++) {
+      if (i != k && (low[i] != 0 || high[i] != 0)) {
+        onlyVariableK = false;
+        break;
+      }
+    }
+    if (onlyVariableK && low[k] == high[k] && Math.abs(low[k]) == 1) {
+      if (packOfK == null) {
+        // an unconstrained variable stays unconstrained
+        return oct;
+      }
+      double[] result = packOfK.getClosedMatrix().clone();
+      OctagonPack.translate(
+          result, packOfK.size(), packOfK.indexOf(k), low[k] < 0, low[n], high[n]);
+      JavaOctagon.replacePack(
+          packs, packOfK, createPack(packOfK.getVariables(), result, low[n] == high[n]));
+      return create(n, packs);
+    }
+
+    // bounds of the summands of the expression, the last one is the constant
+    double[] unary = oct.getUnaryBounds();
+    double[] summandLow = new double[n + 1];
+    double[] summandHigh = new double[n + 1];
+    for (int i = 0; i < n; i++) {
+      if (low[i] != 0 || high[i] != 0) {
+        double lower = -unary[2 * i + 1] / 2;
+        double upper = unary[2 * i] / 2;
+        summandLow[i] = multiplyLow(low[i], high[i], lower, upper);
+        summandHigh[i] = multiplyHigh(low[i], high[i], lower, upper);
+      }
+    }
+    summandLow[n] = low[n];
+    summandHigh[n] = high[n];
+    BoundSum sumLow = new BoundSum(summandLow, -INFINITY);
+    BoundSum sumHigh = new BoundSum(summandHigh, INFINITY);
+    double expressionLow = sumLow.get();
+    double expressionHigh = sumHigh.get();
+
+    if (packOfK != null) {
+      JavaOctagon.replacePack(packs, packOfK, withoutVariable(packOfK, k));
+    }
+
+    // bounds of x_k - V_j for the indices j of other variables, if not implied by the bounds
+    boolean[] related = new boolean[2 * n];
+    double[] differenceLow = new double[2 * n];
+    double[] differenceHigh = new double[2 * n];
+    boolean[] inNewPack = new boolean[n];
+    inNewPack[k] = true;
+    for (int j = 0; j < n; j++) {
+      if (j == k || (low[j] == 0 && high[j] == 0)) {
+        continue;
+      }
+      double lower = -unary[2 * j + 1] / 2;
+      double upper = unary[2 * j] / 2;
+      for (int sign = -1; sign <= 1; sign += 2) {
+        // bounds of x_k - sign * x_j, where the coefficient of x_j is reduced by sign
+        double low2 =
+            sumLow.getWithReplacedSummand(
+                j, multiplyLow(low[j] - sign, high[j] - sign, lower, upper));
+        double high2 =
+            sumHigh.getWithReplacedSummand(
+                j, multiplyHigh(low[j] - sign, high[j] - sign, lower, upper));
+        double impliedLow = expressionLow - (sign > 0 ? upper : -lower);
+        double impliedHigh = expressionHigh - (sign > 0 ? lower : -upper);
+        if (low2 > impliedLow || high2 < impliedHigh) {
+          int other = sign > 0 ? 2 * j : 2 * j + 1;
+          related[other] = true;
+          differenceLow[other] = low2;
+          differenceHigh[other] = high2;
+          if (packs[j] == null) {
+            inNewPack[j] = true;
+          } else {
+            for (int v : packs[j].getVariables()) {
+              inNewPack[v] = true;
+            }
+          }
+        }
+      }
+    }
+
+    int[] variables = IntStream.range(0, n).filter(v -> inNewPack[v]).toArray();
+    if (variables.length == 1 && expressionLow == -INFINITY && expressionHigh == INFINITY) {
+      // x_k is unconstrained
+      return create(n, packs);
+    }
+    int s = variables.length;
+    double[] m = JavaOctagon.gather(packs, variables, true, null);
+    int pos = 2 * Arrays.binarySearch(variables, k);
+    int neg = pos + 1;
+    OctagonPack.setEntry(m, s, neg, pos, 2 * expressionHigh, integerValues);
+    OctagonPack.setEntry(m, s, pos, neg, -2 * expressionLow, integerValues);
+    for (int other = 0; other < 2 * n; other++) {
+      if (related[other]) {
+        int local = 2 * Arrays.binarySearch(variables, other / 2) + (other & 1);
+        OctagonPack.setEntry(m, s, local, pos, differenceHigh[other], integerValues);
+        OctagonPack.setEntry(m, s, pos, local, -differenceLow[other], integerValues);
+      }
+    }
+    // the DBM of the merged packs is shortest-path closed, because they are independent
+    if (!OctagonPack.closeVariable(m, s, pos / 2, integerValues)) {
+      return empty(n);
+    }
+    OctagonPack assigned = createPack(variables, m, true);
+    for (int v : variables) {
+      packs[v] = assigned;
+    }
+    return create(n, packs);
+  }
+
+  /** Sum of bounds, where infinite summands are counted instead of added. */
+  private static final class BoundSum {
+
+    private final double[] summands;
+    private final double infinity;
+    private final double finiteSum;
+    private final int infiniteSummands;
+
+    BoundSum(double[] pSummands, double pInfinity) {
+      summands = pSummands;
+      infinity = pInfinity;
+      double sum = 0;
+      int infinite = 0;
+      for (double summand : pSummands) {
+        if (summand == pInfinity) {
+          infinite++;
+        } else {
+          sum += summand;
+        }
+      }
+      finiteSum = sum;
+      infiniteSummands = infinite;
+    }
+
+    double get() {
+      return infiniteSummands > 0 ? infinity : finiteSum;
+    }
+
+    double getWithReplacedSummand(int index, double replacement) {
+      int infinite = infiniteSummands;
+      double sum = finiteSum;
+      if (summands[index] == infinity) {
+        infinite--;
+      } else {
+        sum -= summands[index];
+      }
+      if (replacement == infinity) {
+        infinite++;
+      } else {
+        sum += replacement;
+      }
+      return infinite > 0 ? infinity : sum;
+    }
+  }
+
+  /** Multiplication of bounds, where 0 times infinity is 0. */
+  private static double multiply(double a, double b) {
+    return a == 0 || b == 0 ? 0 : a * b;
+  }
+
+  private static double multiplyLow(double low1, double high1, double low2, double high2) {
+    return Math.min(
+        Math.min(multiply(low1, low2), multiply(low1, high2)),
+        Math.min(multiply(high1, low2), multiply(high1, high2)));
+  }
+
+  private static double multiplyHigh(double low1, double high1, double low2, double high2) {
+    return Math.max(
+        Math.max(multiply(low1, low2), multiply(low1, high2)),
+        Math.max(multiply(high1, low2), multiply(high1, high2)));
+  }
+
+  @Override
+  public Octagon addBinConstraint(Octagon oct, int noOfConstraints, NumArray array) {
+    JavaOctagon octagon = cast(oct);
+    if (octagon.isEmpty()) {
+      return oct;
+    }
+    int n = octagon.getDimension();
+    OctagonPack[] packs = octagon.getPacks().clone();
+    double[] constraints = values(array);
+    for (int c = 0; c < noOfConstraints; c++) {
+      int x = (int) constraints[4 * c + 1];
+      int y = (int) constraints[4 * c + 2];
+      double bound = constraints[4 * c + 3];
+      if (bound == INFINITY) {
+        continue;
+      }
+      // the entry (i, j) of the matrix is the bound for V_j - V_i
+      boolean nonEmpty =
+          switch ((int) constraints[4 * c]) {
+            case 0 -> addConstraint(packs, 2 * x + 1, 2 * x, 2 * bound);
+            case 1 -> addConstraint(packs, 2 * x, 2 * x + 1, 2 * bound);
+            case 2 -> addConstraint(packs, 2 * y + 1, 2 * x, bound);
+            case 3 -> addConstraint(packs, 2 * y, 2 * x, bound);
+            case 4 -> addConstraint(packs, 2 * x, 2 * y, bound);
+            case 5 -> addConstraint(packs, 2 * y, 2 * x + 1, bound);
+            default ->
+                throw new IllegalArgumentException(
+                    "Unknown type of octagon constraint: " + constraints[4 * c]);
+          };
+      if (!nonEmpty) {
+        return empty(n);
+      }
+    }
+    return create(n, packs);
+  }
+
+  /**
+   * Adds the constraint V_b - V_a <= d to the given closed packs. If the constraint is not implied
+   * by the bounds of the variables, their packs are merged.
+   *
+   * @return false if the octagon is empty afterwards
+   */
+  private boolean addConstraint(OctagonPack[] packs, int a, int b, double d) {
+    double bound = integerValues ? Math.floor(d) : d;
+    if (bound >= getClosedEntry(packs, a, b)) {
+      return true;
+    }
+    OctagonPack packA = packs[a / 2];
+    OctagonPack packB = packs[b / 2];
+    int[] variables;
+    if (packA != null && packA == packB) {
+      variables = packA.getVariables();
+    } else {
+      variables =
+          IntStream.concat(
+                  packA == null ? IntStream.of(a / 2) : Arrays.stream(packA.getVariables()),
+                  packB == null ? IntStream.of(b / 2) : Arrays.stream(packB.getVariables()))
+              .sorted()
+              .distinct()
+              .toArray();
+    }
+    // the DBM of the merged packs is shortest-path closed, because they are independent
+    double[] m = JavaOctagon.gather(packs, variables, true, null);
+    int localA = 2 * Arrays.binarySearch(variables, a / 2) + (a & 1);
+    int localB = 2 * Arrays.binarySearch(variables, b / 2) + (b & 1);
+    if (!OctagonPack.addConstraint(m, variables.length, localA, localB, bound, integerValues)) {
+      return false;
+    }
+    OctagonPack result = createPack(variables, m, true);
+    for (int v : variables) {
+      packs[v] = result;
+    }
+    return true;
+  }
+
+  /** Returns the entry (i, j) of the strong closure of the octagon with the given closed packs. */
+  private static double getClosedEntry(OctagonPack[] packs, int i, int j) {
+    OctagonPack pack = packs[i / 2];
+    if (pack != null && pack == packs[j / 2]) {
+      double[] m = pack.getClosedMatrix();
+      int localI = 2 * pack.indexOf(i / 2) + (i & 1);
+      int localJ = 2 * pack.indexOf(j / 2) + (j & 1);
+      return m[localI * 2 * pack.size() + localJ];
+    } else if (i == j) {
+      return 0;
+    }
+    return (getUnaryBound(packs, i ^ 1) + getUnaryBound(packs, j)) * 0.5;
+  }
+
+  /** Returns the bound for V_j - V_(j^1) of the octagon with the given closed packs. */
+  private static double getUnaryBound(OctagonPack[] packs, int j) {
+    OctagonPack pack = packs[j / 2];
+    if (pack == null) {
+      return INFINITY;
+    }
+    double[] m = pack.getClosedMatrix();
+    int local = 2 * pack.indexOf(j / 2) + (j & 1);
+    return m[(local ^ 1) * 2 * pack.size() + local];
+  }
+
+  /* change of dimensions */
+
+  @Override
+  public Octagon addDimensionAndEmbed(Octagon oct, int k) {
+    JavaOctagon octagon = cast(oct);
+    int n = octagon.getDimension();
+    OctagonPack[] packs = octagon.getPacks();
+    // the new variables are unconstrained
+    return create(n + k, packs == null ? null : Arrays.copyOf(packs, n + k));
+  }
+
+  @Override
+  public Octagon addDimensionAndProject(Octagon oct, int k) {
+    JavaOctagon octagon = cast(oct);
+    int n = octagon.getDimension();
+    if (octagon.isEmpty()) {
+      return empty(n + k);
+    }
+    OctagonPack[] packs = Arrays.copyOf(octagon.getPacks(), n + k);
+    for (int v = n; v < n + k; v++) {
+      // the DBM of x_v = 0 has only zero entries
+      packs[v] = createPack(new int[] {v}, new double[4], true);
+    }
+    return create(n + k, packs);
+  }
+
+  @Override
+  public Octagon removeDimension(Octagon oct, int k) {
+    JavaOctagon octagon = cast(oct);
+    int n = octagon.getDimension();
+    checkArgument(k <= n, "cannot remove %s dimensions from an octagon of dimension %s", k, n);
+    if (octagon.isEmpty()) {
+      return empty(n - k);
+    }
+    OctagonPack[] packs = octagon.getPacks();
+    OctagonPack[] result = new OctagonPack[n - k];
+    for (int v = 0; v < n - k; v++) {
+      OctagonPack pack = packs[v];
+      if (!isFirstVariable(pack, v)) {
+        continue;
+      }
+      int[] variables = pack.getVariables();
+      int kept = 0;
+      while (kept < variables.length && variables[kept] < n - k) {
+        kept++;
+      }
+      OctagonPack remaining =
+          kept == variables.length ? pack : pack.project(Arrays.copyOf(variables, kept));
+      for (int w : remaining.getVariables()) {
+        result[w] = remaining;
+      }
+    }
+    return create(n - k, result);
+  }
+
+  @Override
+  public String print(Octagon oct, BiMap<Integer, MemoryLocation> map) {
+    StringBuilder str = new StringBuilder();
+    str.append("Octagon (dimension: ").append(dimension(oct)).append(")\n");
+    if (isEmpty(oct)) {
+      str.append("[Empty]\n");
+      return str.toString();
+    }
+    for (int i = 0; i < map.size(); i++) {
+      OctagonInterval bounds = getVariableBounds(oct, i);
+      str.append(" ").append(map.get(i)).append(" -> [");
+      if (bounds.getLow().isInfinite()) {
+        str.append("-INFINITY, ");
+      } else {
+        str.append(bounds.getLow()).append(", ");
+      }
+      if (bounds.getHigh().isInfinite()) {
+        str.append("INFINITY]\n");
+      } else {
+        str.append(bounds.getHigh()).append("]\n");
+      }
+    }
+    return str.toString();
+  }
+
+  @Override
+  public OctagonInterval getVariableBounds(Octagon oct, int id) {
+    assert id < dimension(oct);
+    JavaOctagon octagon = cast(oct);
+    if (octagon.isEmpty()) {
+      return OctagonInterval.EMPTY;
+    }
+    double lower = -INFINITY;
+    double upper = INFINITY;
+    OctagonPack pack = octagon.getPack(id);
+    if (pack != null) {
+      double[] m = pack.getClosedMatrix();
+      int size = 2 * pack.size();
+      int pos = 2 * pack.indexOf(id);
+      lower = -m[pos * size + pos + 1] / 2;
+      upper = m[(pos + 1) * size + pos] / 2;
+    }
+    if (!integerValues) {
+      return new OctagonInterval(lower, upper);
+    }
+    return new OctagonInterval(
+        lower == -INFINITY ? new OctagonDoubleValue(lower) : OctagonIntValue.of((long) lower),
+        upper == INFINITY ? new OctagonDoubleValue(upper) : OctagonIntValue.of((long) upper));
+  }
+
+  private static void checkSameDimension(Octagon oct1, Octagon oct2) {
+    checkArgument(
+        cast(oct1).getDimension() == cast(oct2).getDimension(),
+        "octagons have different dimensions");
+  }
+}
@@ -0,0 +1,246 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.octagon;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cpa.octagon.values.OctagonInterval;
+
+public class JavaOctagonManagerTest {
+
+  private static final int PX = 0;
+  private static final int MX = 1;
+  private static final int PXMY = 3;
+
+  private final OctagonManager manager = new JavaOctagonManager(true);
+
+  private Octagon addConstraint(Octagon oct, int type, int x, int y, long bound) {
+    NumArray array = manager.init_num_t(4);
+    manager.num_set_int(array, 0, type);
+    manager.num_set_int(array, 1, x);
+    manager.num_set_int(array, 2, y);
+    manager.num_set_int(array, 3, bound);
+    return manager.addBinConstraint(oct, 1, array);
+  }
+
+  private Octagon assign(Octagon oct, int k, long... coefficients) {
+    NumArray array = manager.init_num_t(coefficients.length);
+    for (int i = 0; i < coefficients.length; i++) {
+      manager.num_set_int(array, i, coefficients[i]);
+    }
+    return manager.assingVar(oct, k, array);
+  }
+
+  private boolean contains(Octagon oct, int... point) {
+    NumArray array = manager.init_num_t(point.length);
+    for (int i = 0; i < point.length; i++) {
+      manager.num_set_int(array, i, point[i]);
+    }
+    return manager.isIn(oct, array);
+  }
+
+  /** Checks the bounds of a variable, where null stands for infinity. */
+  private void assertBounds(Octagon oct, int id, @Nullable Long low, @Nullable Long high) {
+    OctagonInterval bounds = manager.getVariableBounds(oct, id);
+    if (low == null) {
+      assertThat(bounds.getLow().isInfinite()).isTrue();
+    } else {
+      assertThat(bounds.getLow().getValue()).isEqualTo(low);
+    }
+    if (high == null) {
+      assertThat(bounds.getHigh().isInfinite()).isTrue();
+    } else {
+      assertThat(bounds.getHigh().getValue()).isEqualTo(high);
+    }
+  }
+
+  @Test
+  public void testTransitiveBounds() {
+    // 0 <= x0 <= 10, x1 - x0 <= 2, x2 - x1 <= 3
+    Octagon oct = manager.universe(3);
+    oct = addConstraint(oct, PX, 0, 0, 10);
+    oct = addConstraint(oct, MX, 0, 0, 0);
+    oct = addConstraint(oct, PXMY, 1, 0, 2);
+    oct = addConstraint(oct, PXMY, 2, 1, 3);
+
+    assertBounds(oct, 2, null, 15L);
+    assertThat(contains(oct, 10, 12, 15)).isTrue();
+    assertThat(contains(oct, 10, 12, 16)).isFalse();
+  }
+
+  @Test
+  public void testIntegerTightening() {
+    // x0 + x0 <= 3 implies x0 <= 1 for integers
+    Octagon oct = addConstraint(manager.universe(1), 2, 0, 0, 3);
+    assertBounds(oct, 0, null, 1L);
+
+    Octagon rational = new JavaOctagonManager(false).universe(1);
+    NumArray array = rational.getManager().init_num_t(4);
+    rational.getManager().num_set_int(array, 0, 2);
+    rational.getManager().num_set_int(array, 3, 3);
+    rational = rational.getManager().addBinConstraint(rational, 1, array);
+    assertThat(rational.getManager().getVariableBounds(rational, 0).getHigh().getValue())
+        .isEqualTo(1.5);
+  }
+
+  @Test
+  public void testEmpty() {
+    Octagon oct = addConstraint(manager.universe(2), PXMY, 0, 1, -1);
+    oct = addConstraint(oct, PXMY, 1, 0, 0);
+    assertThat(manager.isEmpty(oct)).isTrue();
+    assertThat(manager.isIncludedIn(oct, manager.universe(2))).isTrue();
+    assertThat(manager.isEqual(oct, manager.empty(2))).isTrue();
+  }
+
+  @Test
+  public void testAssignmentKeepsRelation() {
+    // x0 in [0, 5], x1 := x0 + 1, x0 := x0 + 2
+    Octagon oct = addConstraint(manager.universe(2), PX, 0, 0, 5);
+    oct = addConstraint(oct, MX, 0, 0, 0);
+    oct = assign(oct, 1, 1, 0, 1);
+    oct = assign(oct, 0, 1, 0, 2);
+
+    assertThat(contains(oct, 7, 6)).isTrue();
+    assertThat(contains(oct, 7, 5)).isFalse();
+    assertBounds(oct, 0, 2L, 7L);
+  }
+
+  @Test
+  public void testUnionAndWidening() {
+    Octagon zero = addConstraint(manager.universe(1), PX, 0, 0, 0);
+    zero = addConstraint(zero, MX, 0, 0, 0);
+    Octagon one = assign(zero, 0, 1, 1);
+
+    Octagon union = manager.union(zero, one);
+    assertBounds(union, 0, 0L, 1L);
+    assertThat(manager.isIncludedIn(zero, union)).isTrue();
+    assertThat(manager.isIncludedIn(union, zero)).isFalse();
+
+    Octagon widened = manager.widening(zero, union);
+    assertBounds(widened, 0, 0L, null);
+  }
+
+  @Test
+  public void testDimensions() {
+    Octagon oct = addConstraint(manager.universe(1), PX, 0, 0, 3);
+    oct = manager.addDimensionAndEmbed(oct, 2);
+    assertThat(manager.dimension(oct)).isEqualTo(3);
+    oct = addConstraint(oct, PXMY, 2, 0, 1);
+    assertBounds(oct, 2, null, 4L);
+
+    oct = manager.removeDimension(oct, 2);
+    assertThat(manager.dimension(oct)).isEqualTo(1);
+    assertBounds(oct, 0, null, 3L);
+  }
+
+  @Test
+  public void testPacks() {
+    // x0 - x1 <= 1 and x2 - x3 <= 1 are independent, also with bounds for x0 and x2
+    Octagon oct = addConstraint(manager.universe(4), PXMY, 0, 1, 1);
+    oct = addConstraint(oct, PXMY, 2, 3, 1);
+    oct = addConstraint(oct, PX, 0, 0, 5);
+    oct = addConstraint(oct, MX, 2, 0, 0);
+    JavaOctagon octagon = (JavaOctagon) oct;
+    assertThat(octagon.getPack(1)).isSameInstanceAs(octagon.getPack(0));
+    assertThat(octagon.getPack(3)).isSameInstanceAs(octagon.getPack(2));
+    assertThat(octagon.getPack(2)).isNotSameInstanceAs(octagon.getPack(0));
+
+    // x1 := x2 + 1 relates x1 to the pack of x2
+    octagon = (JavaOctagon) assign(oct, 1, 0, 0, 1, 0, 1);
+    assertThat(octagon.getPack(1)).isSameInstanceAs(octagon.getPack(2));
+    assertThat(octagon.getPack(0)).isNotSameInstanceAs(octagon.getPack(1));
+    assertThat(contains(octagon, 0, 1, 0, 0)).isTrue();
+    assertThat(contains(octagon, 0, 2, 0, 0)).isFalse();
+  }
+
+  @Test
+  public void testUnionRelatesIndependentVariables() {
+    // the hull of x0 = x1 = 0 and x0 = x1 = 1 implies x0 = x1
+    Octagon zero = addConstraint(manager.universe(2), PX, 0, 0, 0);
+    zero = addConstraint(zero, MX, 0, 0, 0);
+    zero = addConstraint(zero, PX, 1, 0, 0);
+    zero = addConstraint(zero, MX, 1, 0, 0);
+    Octagon one = assign(assign(zero, 0, 0, 0, 1), 1, 0, 0, 1);
+    JavaOctagon octagon = (JavaOctagon) one;
+    assertThat(octagon.getPack(1)).isNotSameInstanceAs(octagon.getPack(0));
+
+    octagon = (JavaOctagon) manager.union(zero, one);
+    assertThat(octagon.getPack(1)).isSameInstanceAs(octagon.getPack(0));
+    assertThat(contains(octagon, 1, 1)).isTrue();
+    assertThat(contains(octagon, 0, 1)).isFalse();
+  }
+
+  /**
+   * Compares the incrementally closed octagons with the exact bounds computed from all integer
+   * points, because the tight closure of integer octagons is exact.
+   */
+  @Test
+  public void testClosureIsExact() {
+    Random random = new Random(0);
+    int n = 3;
+    int bound = 3;
+    for (int round = 0; round < 200; round++) {
+      Octagon oct = manager.universe(n);
+      for (int x = 0; x < n; x++) {
+        oct = addConstraint(oct, PX, x, 0, bound);
+        oct = addConstraint(oct, MX, x, 0, bound);
+      }
+      for (int c = 0; c < 4; c++) {
+        oct =
+            addConstraint(
+                oct,
+                random.nextInt(6),
+                random.nextInt(n),
+                random.nextInt(n),
+                random.nextInt(2 * bound + 1) - bound);
+      }
+
+      List<int[]> points = new ArrayList<>();
+      for (int x0 = -bound; x0 <= bound; x0++) {
+        for (int x1 = -bound; x1 <= bound; x1++) {
+          for (int x2 = -bound; x2 <= bound; x2++) {
+            if (contains(oct, x0, x1, x2)) {
+              points.add(new int[] {x0, x1, x2});
+            }
+          }
+        }
+      }
+      assertThat(manager.isEmpty(oct)).isEqualTo(points.isEmpty());
+      if (points.isEmpty()) {
+        continue;
+      }
+
+      int size = 2 * n;
+      double[] exact = new double[size * size];
+      Arrays.fill(exact, Double.NEGATIVE_INFINITY);
+      for (int[] point : points) {
+        for (int i = 0; i < size; i++) {
+          for (int j = 0; j < size; j++) {
+            int vi = (i & 1) == 0 ? point[i / 2] : -point[i / 2];
+            int vj = (j & 1) == 0 ? point[j / 2] : -point[j / 2];
+            exact[i * size + j] = Math.max(exact[i * size + j], vj - vi);
+          }
+        }
+      }
+      assertThat(((JavaOctagon) oct).getClosedMatrix())
+          .usingTolerance(0)
+          .containsExactly(exact)
+          .inOrder();
+
+      // the full closure of the intersection must give the same result
+      assertThat(manager.isEqual(manager.intersection(oct, manager.universe(n)), oct)).isTrue();
+    }
+  }
+}
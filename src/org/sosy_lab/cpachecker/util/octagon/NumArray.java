@@ -16,6 +16,11 @@ public class NumArray {
     array = l;
   }
 
+  /** Constructor for arrays that are not managed by the native library. */
+  NumArray() {
+    array = 0;
+  }
+
   long getArray() {
     return array;
   }
@@ -10,22 +10,28 @@ package org.sosy_lab.cpachecker.util.octagon;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 public class Octagon {
 
   private final long octId;
   private final OctagonManager manager;
-  private static List<OctagonPhantomReference> phantomReferences = new ArrayList<>();
+  private static Set<OctagonPhantomReference> phantomReferences = new HashSet<>();
   private static ReferenceQueue<Octagon> referenceQueue = new ReferenceQueue<>();
 
-  Octagon(long l, OctagonManager manager) {
+  Octagon(long l, NativeOctagonManager manager) {
     octId = l;
     this.manager = manager;
     registerPhantomReference(this);
   }
 
+  /** Constructor for octagons that are not managed by the native library. */
+  Octagon(OctagonManager manager) {
+    octId = 0;
+    this.manager = manager;
+  }
+
   private static void registerPhantomReference(Octagon oct) {
     phantomReferences.add(new OctagonPhantomReference(oct, referenceQueue));
   }
@@ -34,6 +40,7 @@ public class Octagon {
     Reference<? extends Octagon> reference;
     while ((reference = referenceQueue.poll()) != null) {
       ((OctagonPhantomReference) reference).cleanup();
+      phantomReferences.remove(reference);
     }
   }
 
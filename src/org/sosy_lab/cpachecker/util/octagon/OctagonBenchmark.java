@@ -0,0 +1,133 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.octagon;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the native octagon library with {@link JavaOctagonManager} on the operations used by the
+ * octagon analysis. The octagons contain a chain of difference constraints x_(i+1) - x_i <= 1 over
+ * the first half of the variables, the other half is unconstrained like the temporary variables of
+ * the analysis. Every benchmark forces the closure of its result, because the native library
+ * computes it lazily. Run with {@code ant microbenchmarks -Djmh.args="OctagonBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OctagonBenchmark {
+
+  public enum Implementation {
+    NATIVE,
+    JAVA,
+  }
+
+  @Param({"NATIVE", "JAVA"})
+  public Implementation implementation;
+
+  @Param({"8", "32", "128"})
+  public int variables;
+
+  private OctagonManager manager;
+
+  /** The chain with 0 <= x_0 <= 10. */
+  private Octagon chain;
+
+  /** The chain with 5 <= x_0 <= 20. */
+  private Octagon shiftedChain;
+
+  /** The constraint x_(n/2-1) - x_0 <= 3. */
+  private NumArray constraint;
+
+  /** The coefficients of x_0 := x_1 + 1. */
+  private NumArray assignment;
+
+  @Setup(Level.Trial)
+  public void buildOctagons() {
+    manager =
+        switch (implementation) {
+          case NATIVE -> new OctagonIntManager();
+          case JAVA -> new JavaOctagonManager(true);
+        };
+    int constrained = variables / 2;
+    Octagon oct = manager.universe(variables);
+    NumArray array = manager.init_num_t(4 * constrained);
+    for (int i = 0; i + 1 < constrained; i++) {
+      setConstraint(array, i, 3, i + 1, i, 1);
+    }
+    oct = manager.addBinConstraint(oct, constrained - 1, array);
+    chain = boundFirstVariable(oct, 0, 10);
+    shiftedChain = boundFirstVariable(oct, 5, 20);
+
+    constraint = manager.init_num_t(4);
+    setConstraint(constraint, 0, 3, constrained - 1, 0, 3);
+    assignment = manager.init_num_t(variables + 1);
+    manager.num_set_int(assignment, 1, 1);
+    manager.num_set_int(assignment, variables, 1);
+  }
+
+  private void setConstraint(NumArray array, int index, int type, int x, int y, long bound) {
+    manager.num_set_int(array, 4 * index, type);
+    manager.num_set_int(array, 4 * index + 1, x);
+    manager.num_set_int(array, 4 * index + 2, y);
+    manager.num_set_int(array, 4 * index + 3, bound);
+  }
+
+  private Octagon boundFirstVariable(Octagon oct, long low, long high) {
+    NumArray array = manager.init_num_t(8);
+    setConstraint(array, 0, 0, 0, 0, high);
+    setConstraint(array, 1, 1, 0, 0, -low);
+    return manager.addBinConstraint(oct, 2, array);
+  }
+
+  @TearDown(Level.Iteration)
+  public void freeOctagons() {
+    Octagon.removePhantomReferences();
+  }
+
+  @Benchmark
+  public boolean addConstraint() {
+    return manager.isEmpty(manager.addBinConstraint(chain, 1, constraint));
+  }
+
+  @Benchmark
+  public boolean assignVariable() {
+    return manager.isEmpty(manager.assingVar(chain, 0, assignment));
+  }
+
+  @Benchmark
+  public boolean union() {
+    return manager.isEmpty(manager.union(chain, shiftedChain));
+  }
+
+  @Benchmark
+  public boolean intersection() {
+    return manager.isEmpty(manager.intersection(chain, shiftedChain));
+  }
+
+  @Benchmark
+  public boolean isIncludedIn() {
+    return manager.isIncludedIn(chain, shiftedChain);
+  }
+}
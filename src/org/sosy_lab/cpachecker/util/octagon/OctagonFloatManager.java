@@ -17,7 +17,7 @@ import com.google.common.collect.BiMap;
 import org.sosy_lab.cpachecker.cpa.octagon.values.OctagonInterval;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
 
-public class OctagonFloatManager extends OctagonManager {
+public class OctagonFloatManager extends NativeOctagonManager {
 
   public OctagonFloatManager() {
     super("JOct_float");
@@ -0,0 +1,425 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.octagon;
+
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A pack of variables of a {@link JavaOctagon} together with a difference bound matrix (DBM) for
+ * them. For the s variables of the pack with the local indices 0, ..., s-1, the DBM is defined over
+ * the 2s variables V_2l = x_l and V_(2l+1) = -x_l, stored row by row in a flat array of size 2s*2s:
+ * the entry in row i and column j is an upper bound for V_j - V_i. For example, the entry in row
+ * 2l+1 and column 2l bounds 2*x_l. The matrix is always coherent, i.e., the entries (i, j) and
+ * (j^1, i^1) are equal.
+ *
+ * <p>Packs are immutable and shared between octagons, except for the lazily computed strong closure
+ * of the matrix, which is cached. The matrix itself is kept as it was constructed, because the
+ * widening operator must not work on closed matrices for termination.
+ */
+final class OctagonPack {
+
+  static final double INFINITY = Double.POSITIVE_INFINITY;
+
+  /** The variables of the octagon in this pack in ascending order, indexed by local index. */
+  private final int[] variables;
+
+  private final double[] matrix;
+
+  /** The strong closure of {@link #matrix}, or null if it is empty or not yet computed. */
+  private double @Nullable [] closedMatrix;
+
+  private boolean closureComputed;
+
+  private final boolean integerValues;
+
+  OctagonPack(int[] pVariables, double[] pMatrix, boolean pIsClosed, boolean pIntegerValues) {
+    assert pMatrix.length == 4 * pVariables.length * pVariables.length;
+    variables = pVariables;
+    matrix = pMatrix;
+    integerValues = pIntegerValues;
+    if (pIsClosed) {
+      closedMatrix = pMatrix;
+      closureComputed = true;
+    }
+  }
+
+  /** Returns the number of variables in this pack. */
+  int size() {
+    return variables.length;
+  }
+
+  /** Returns the variables of this pack in ascending order. Do not modify the result. */
+  int[] getVariables() {
+    return variables;
+  }
+
+  int getVariable(int local) {
+    return variables[local];
+  }
+
+  /** Returns the local index of the given variable, which must be part of this pack. */
+  int indexOf(int variable) {
+    int local = Arrays.binarySearch(variables, variable);
+    assert local >= 0 : "variable " + variable + " is not part of the pack";
+    return local;
+  }
+
+  /** Returns the DBM as it was constructed. Do not modify the result. */
+  double[] getMatrix() {
+    return matrix;
+  }
+
+  /** Returns the strongly closed DBM, or null if it is empty. Do not modify the result. */
+  double @Nullable [] getClosedMatrix() {
+    if (!closureComputed) {
+      double[] closed = matrix.clone();
+      closedMatrix = close(closed, variables.length, integerValues) ? closed : null;
+      closureComputed = true;
+    }
+    return closedMatrix;
+  }
+
+  boolean isClosureComputed() {
+    return closureComputed;
+  }
+
+  /**
+   * Returns the pack of the given variables, which must be a subset of the variables of this pack,
+   * with the closed DBM restricted to them. This pack must not be empty.
+   */
+  OctagonPack project(int[] pVariables) {
+    double[] m = getClosedMatrix();
+    assert m != null;
+    int size = 2 * variables.length;
+    int newSize = 2 * pVariables.length;
+    int[] sourceIndices = new int[newSize];
+    for (int l = 0; l < pVariables.length; l++) {
+      sourceIndices[2 * l] = 2 * indexOf(pVariables[l]);
+      sourceIndices[2 * l + 1] = sourceIndices[2 * l] + 1;
+    }
+    double[] result = new double[newSize * newSize];
+    for (int i = 0; i < newSize; i++) {
+      int sourceRow = sourceIndices[i] * size;
+      for (int j = 0; j < newSize; j++) {
+        result[i * newSize + j] = m[sourceRow + sourceIndices[j]];
+      }
+    }
+    return new OctagonPack(pVariables, result, true, integerValues);
+  }
+
+  /** Counts the constraints like in the half matrix of the native library. */
+  int countConstraints() {
+    int size = 2 * variables.length;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j <= (i | 1); j++) {
+        if (i != j && matrix[i * size + j] != INFINITY) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /** Returns whether the closed DBM has no constraint. This pack must not be empty. */
+  boolean isUniverse() {
+    double[] m = getClosedMatrix();
+    assert m != null;
+    int size = 2 * variables.length;
+    for (int i = 0; i < m.length; i++) {
+      if (i % (size + 1) != 0 && m[i] != INFINITY) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the given point, which has a value for every variable of the octagon, satisfies
+   * the constraints of this pack.
+   */
+  boolean contains(double[] point) {
+    int size = 2 * variables.length;
+    for (int i = 0; i < size; i++) {
+      double vi = (i & 1) == 0 ? point[variables[i / 2]] : -point[variables[i / 2]];
+      for (int j = 0; j < size; j++) {
+        double vj = (j & 1) == 0 ? point[variables[j / 2]] : -point[variables[j / 2]];
+        if (vj - vi > matrix[i * size + j]) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /* DBM operations, all of them work in place on the given matrix. */
+
+  static double[] universeMatrix(int n) {
+    int size = 2 * n;
+    double[] m = new double[size * size];
+    Arrays.fill(m, INFINITY);
+    for (int i = 0; i < size; i++) {
+      m[i * size + i] = 0;
+    }
+    return m;
+  }
+
+  /**
+   * Computes the strong closure (for integer values the tight closure) of the given DBM. As in
+   * Bagnara et al., "Weakly-relational shapes for numeric abstractions", this is done by computing
+   * the shortest-path closure, tightening the unary constraints if necessary, and then applying a
+   * single strengthening step.
+   *
+   * @return false if the DBM has no solution
+   */
+  static boolean close(double[] m, int n, boolean integerValues) {
+    int size = 2 * n;
+    if (integerValues) {
+      for (int i = 0; i < m.length; i++) {
+        m[i] = Math.floor(m[i]);
+      }
+    }
+    for (int k = 0; k < size; k++) {
+      int kRow = k * size;
+      for (int i = 0; i < size; i++) {
+        double ik = m[i * size + k];
+        if (i == k || ik == INFINITY) {
+          continue;
+        }
+        int iRow = i * size;
+        // this loop over two contiguous rows is the hot spot and is vectorized by the JIT
+        for (int j = 0; j < size; j++) {
+          m[iRow + j] = Math.min(m[iRow + j], ik + m[kRow + j]);
+        }
+      }
+    }
+    return tightenAndStrengthen(m, size, integerValues);
+  }
+
+  /**
+   * Adds the constraint V_b - V_a <= d (together with its coherent counterpart V_(a^1) - V_(b^1) <=
+   * d) to the given strongly closed DBM and restores strong closure in quadratic time: as the
+   * matrix was closed, a new shortest path from i to j uses each of the two new edges at most once,
+   * so it is enough to combine the shortest paths to and from the endpoints of the new edges.
+   *
+   * @return false if the DBM has no solution afterwards
+   */
+  static boolean addConstraint(double[] m, int n, int a, int b, double d, boolean integerValues) {
+    int size = 2 * n;
+    double bound = integerValues ? Math.floor(d) : d;
+    if (bound >= m[a * size + b]) {
+      return true;
+    }
+    int aBar = a ^ 1;
+    int bBar = b ^ 1;
+
+    // shortest paths from every i over one of the new edges to its end b or a^1, respectively
+    double[] toB = new double[size];
+    double[] toABar = new double[size];
+    double bBarToA = bound + m[aBar * size + a];
+    double aToBBar = bound + m[b * size + bBar];
+    for (int i = 0; i < size; i++) {
+      int iRow = i * size;
+      toB[i] = Math.min(m[iRow + a], m[iRow + bBar] + bBarToA) + bound;
+      toABar[i] = Math.min(m[iRow + bBar], m[iRow + a] + aToBBar) + bound;
+    }
+    double[] fromB = Arrays.copyOfRange(m, b * size, b * size + size);
+    double[] fromABar = Arrays.copyOfRange(m, aBar * size, aBar * size + size);
+
+    for (int i = 0; i < size; i++) {
+      double viaB = toB[i];
+      double viaABar = toABar[i];
+      if (viaB == INFINITY && viaABar == INFINITY) {
+        continue;
+      }
+      int iRow = i * size;
+      for (int j = 0; j < size; j++) {
+        m[iRow + j] = Math.min(m[iRow + j], Math.min(viaB + fromB[j], viaABar + fromABar[j]));
+      }
+    }
+    return tightenAndStrengthen(m, size, integerValues);
+  }
+
+  /**
+   * Restores the strong closure of a DBM that is strongly closed except for the rows and columns of
+   * the variable k in quadratic time: first the shortest paths to and from V_2k and V_(2k+1) over
+   * the other variables are computed, and then these two are used as pivots like in the cubic
+   * closure.
+   *
+   * @return false if the DBM has no solution
+   */
+  static boolean closeVariable(double[] m, int n, int k, boolean integerValues) {
+    int size = 2 * n;
+    int pos = 2 * k;
+    int neg = pos + 1;
+
+    // columns: shortest paths from the other indices to V_2k and V_(2k+1)
+    double[] column = new double[size];
+    for (int p = pos; p <= neg; p++) {
+      for (int l = 0; l < size; l++) {
+        column[l] = m[l * size + p];
+      }
+      column[pos] = INFINITY;
+      column[neg] = INFINITY;
+      for (int i = 0; i < size; i++) {
+        if (i == pos || i == neg) {
+          continue;
+        }
+        int iRow = i * size;
+        double best = m[iRow + p];
+        for (int l = 0; l < size; l++) {
+          best = Math.min(best, m[iRow + l] + column[l]);
+        }
+        m[iRow + p] = best;
+      }
+    }
+
+    // rows: shortest paths from V_2k and V_(2k+1) over the other indices to all indices
+    for (int p = pos; p <= neg; p++) {
+      int pRow = p * size;
+      for (int l = 0; l < size; l++) {
+        double pl = m[pRow + l];
+        if (l == pos || l == neg || pl == INFINITY) {
+          continue;
+        }
+        int lRow = l * size;
+        for (int j = 0; j < size; j++) {
+          m[pRow + j] = Math.min(m[pRow + j], pl + m[lRow + j]);
+        }
+      }
+    }
+
+    for (int p = pos; p <= neg; p++) {
+      int pRow = p * size;
+      for (int i = 0; i < size; i++) {
+        double ip = m[i * size + p];
+        if (i == p || ip == INFINITY) {
+          continue;
+        }
+        int iRow = i * size;
+        for (int j = 0; j < size; j++) {
+          m[iRow + j] = Math.min(m[iRow + j], ip + m[pRow + j]);
+        }
+      }
+    }
+    return tightenAndStrengthen(m, size, integerValues);
+  }
+
+  /**
+   * Checks the diagonal of a shortest-path closed DBM for negative cycles, tightens the unary
+   * constraints for integer values, and strengthens all entries with the unary constraints.
+   */
+  private static boolean tightenAndStrengthen(double[] m, int size, boolean integerValues) {
+    for (int i = 0; i < size; i++) {
+      if (m[i * size + i] < 0) {
+        return false;
+      }
+    }
+
+    // unary[j] is the bound for V_j - V_(j^1), i.e., the entry (j^1, j)
+    double[] unary = new double[size];
+    for (int j = 0; j < size; j++) {
+      int entry = (j ^ 1) * size + j;
+      if (integerValues) {
+        m[entry] = 2 * Math.floor(m[entry] / 2);
+      }
+      unary[j] = m[entry];
+    }
+    for (int i = 0; i < size; i += 2) {
+      if (unary[i] + unary[i + 1] < 0) {
+        return false;
+      }
+    }
+
+    for (int i = 0; i < size; i++) {
+      double fromI = unary[i ^ 1];
+      if (fromI == INFINITY) {
+        continue;
+      }
+      int iRow = i * size;
+      for (int j = 0; j < size; j++) {
+        m[iRow + j] = Math.min(m[iRow + j], (fromI + unary[j]) * 0.5);
+      }
+    }
+    return true;
+  }
+
+  /** Lowers the entry (i, j) and its coherent counterpart (j^1, i^1) to the given bound. */
+  static void setEntry(double[] m, int n, int i, int j, double bound, boolean integerValues) {
+    int size = 2 * n;
+    double value = integerValues ? Math.floor(bound) : bound;
+    m[i * size + j] = Math.min(m[i * size + j], value);
+    m[(j ^ 1) * size + (i ^ 1)] = Math.min(m[(j ^ 1) * size + (i ^ 1)], value);
+  }
+
+  /** Removes all constraints on the variable k from the DBM, which keeps it strongly closed. */
+  static void forget(double[] m, int n, int k) {
+    int size = 2 * n;
+    for (int p = 2 * k; p <= 2 * k + 1; p++) {
+      Arrays.fill(m, p * size, p * size + size, INFINITY);
+      for (int i = 0; i < size; i++) {
+        m[i * size + p] = INFINITY;
+      }
+      m[p * size + p] = 0;
+    }
+  }
+
+  /**
+   * Replaces x_k by s*x_k + [low, high] for s = 1 or s = -1, i.e., V_(2k) by s*V_(2k) + [low, high]
+   * and V_(2k+1) by s*V_(2k+1) - [low, high]. Afterwards the DBM is only closed if low == high.
+   */
+  static void translate(double[] m, int n, int k, boolean negate, double low, double high) {
+    int size = 2 * n;
+    int pos = 2 * k;
+    int neg = pos + 1;
+    if (negate) {
+      // swap the rows and the columns of V_2k and V_(2k+1)
+      for (int j = 0; j < size; j++) {
+        double tmp = m[pos * size + j];
+        m[pos * size + j] = m[neg * size + j];
+        m[neg * size + j] = tmp;
+      }
+      for (int i = 0; i < size; i++) {
+        double tmp = m[i * size + pos];
+        m[i * size + pos] = m[i * size + neg];
+        m[i * size + neg] = tmp;
+      }
+    }
+    // V_j - V_i grows by at most (upper change of V_j) - (lower change of V_i)
+    for (int i = 0; i < size; i++) {
+      m[i * size + pos] += high;
+      m[i * size + neg] -= low;
+      m[pos * size + i] -= low;
+      m[neg * size + i] += high;
+    }
+    m[pos * size + pos] = 0;
+    m[neg * size + neg] = 0;
+  }
+
+  /** Returns whether the DBM m1 is pointwise less than or equal to the DBM m2. */
+  static boolean isPointwiseLessOrEqual(double[] m1, double[] m2) {
+    for (int i = 0; i < m1.length; i++) {
+      if (m1[i] > m2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Like {@link Arrays#equals(double[], double[])}, but treats 0.0 and -0.0 as equal. */
+  static boolean isPointwiseEqual(double[] m1, double[] m2) {
+    for (int i = 0; i < m1.length; i++) {
+      if (m1[i] != m2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -6,5 +6,8 @@
 //
 // SPDX-License-Identifier: Apache-2.0
 
-/** Wrapper around libJoct, Antoine Mine pre-APRON octagon library. */
+/**
+ * Wrapper around libJoct, Antoine Mine pre-APRON octagon library, and a pure-Java implementation of
+ * the same operations.
+ */
 package org.sosy_lab.cpachecker.util.octagon;
@@ -64,6 +64,12 @@ public final class AbstractionManager {
     }
   }
 
+  /** The groups of predicates that reordering keeps close to each other. */
+  private enum PredicateGrouping {
+    NONE,
+    FUNCTION, // predicates over local variables of the same function
+  }
+
   private final LogManager logger;
   private final RegionManager rmgr;
   private final FormulaManagerView fmgr;
@@ -79,6 +85,23 @@ public final class AbstractionManager {
   @Option(secure = true, name = "abs.predicateOrdering.method", description = "Predicate ordering")
   private PredicateOrderingStrategy varOrderMethod = PredicateOrderingStrategy.CHRONOLOGICAL;
 
+  @Option(
+      secure = true,
+      name = "abs.predicateOrdering.dynamic",
+      description =
+          "Let the BDD library apply the predicate ordering method whenever the number of BDD nodes"
+              + " grows, instead of reordering each time new predicates are created.")
+  private boolean dynamicReordering = false;
+
+  @Option(
+      secure = true,
+      name = "abs.predicateOrdering.grouping",
+      description =
+          "Keep predicates close to each other in the BDD variable order during reordering if they"
+              + " belong to the same group, e.g., if they are over local variables of the same"
+              + " function.")
+  private PredicateGrouping predicateGrouping = PredicateGrouping.NONE;
+
   private final Map<Region, BooleanFormula> toConcreteCache;
 
   private final UniqueIdGenerator numberOfPredicates = new UniqueIdGenerator();
@@ -100,6 +123,21 @@ public final class AbstractionManager {
     fmgr = pSolver.getFormulaManager();
     bfmgr = fmgr.getBooleanFormulaManager();
 
+    if (dynamicReordering) {
+      if (varOrderMethod == PredicateOrderingStrategy.CHRONOLOGICAL) {
+        throw new InvalidConfigurationException(
+            "Dynamic reordering of predicates needs a predicate ordering method,"
+                + " please set cpa.predicate.abs.predicateOrdering.method.");
+      }
+      if (!rmgr.supportsDynamicReordering()) {
+        throw new InvalidConfigurationException(
+            "Dynamic reordering of predicates is not supported by the BDD package "
+                + rmgr.getVersion()
+                + ", please use JavaBDD or disable cpa.predicate.abs.predicateOrdering.dynamic.");
+      }
+      rmgr.enableDynamicReordering(verifyNotNull(varOrderMethod.frameworkStrategy));
+    }
+
     if (useCache) {
       toConcreteCache = new HashMap<>();
     } else {
@@ -131,10 +169,14 @@ public final class AbstractionManager {
 
       BooleanFormula symbVar =
           fmgr.createPredicateVariable("PRED" + numberOfPredicates.getFreshId());
-      Region absVar =
-          (rmgr instanceof SymbolicRegionManager symbolicRegionManager)
-              ? symbolicRegionManager.createPredicate(atom)
-              : rmgr.createPredicate();
+      Region absVar;
+      if (rmgr instanceof SymbolicRegionManager symbolicRegionManager) {
+        absVar = symbolicRegionManager.createPredicate(atom);
+      } else if (predicateGrouping == PredicateGrouping.FUNCTION) {
+        absVar = rmgr.createPredicateInGroup(getFunctionOfVariables(atom));
+      } else {
+        absVar = rmgr.createPredicate();
+      }
 
       logger.log(
           Level.FINEST, "Created predicate", absVar, "from variable", symbVar, "and atom", atom);
@@ -148,9 +190,29 @@ public final class AbstractionManager {
     return result;
   }
 
-  /** Reorders the BDD variables. */
+  /**
+   * Returns the function whose local variables occur in the given atom, or the empty string if the
+   * atom contains only global variables or local variables of several functions.
+   */
+  private String getFunctionOfVariables(BooleanFormula atom) {
+    @Nullable String function = null;
+    for (String variable : fmgr.extractVariableNames(atom)) {
+      int separatorIndex = variable.indexOf("::");
+      if (separatorIndex > 0) {
+        String variableFunction = variable.substring(0, separatorIndex);
+        if (function == null) {
+          function = variableFunction;
+        } else if (!function.equals(variableFunction)) {
+          return "";
+        }
+      }
+    }
+    return function == null ? "" : function;
+  }
+
+  /** Reorders the BDD variables, unless the BDD library does this on its own. */
   public void reorderPredicates() {
-    if (varOrderMethod != PredicateOrderingStrategy.CHRONOLOGICAL) {
+    if (varOrderMethod != PredicateOrderingStrategy.CHRONOLOGICAL && !dynamicReordering) {
       rmgr.reorder(verifyNotNull(varOrderMethod.frameworkStrategy));
     }
   }
@@ -35,7 +35,7 @@ public class BDDExistsTest {
 
   @Parameters(name = "{0}")
   public static List<String> getAllPackages() {
-    return ImmutableList.of("SYLVAN", "JAVA");
+    return ImmutableList.of("SYLVAN", "JAVA", "CONCURRENT");
   }
 
   @Test
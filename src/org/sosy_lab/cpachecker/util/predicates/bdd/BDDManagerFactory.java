@@ -38,8 +38,10 @@ public class BDDManagerFactory {
               + "- buddy:  Buddy (native library required)\n"
               + "- cal:    CAL (native library required)\n"
               + "- jdd:    JDD\n"
-              + "- pjbdd:  A java native parallel bdd framework",
-      values = {"JAVA", "SYLVAN", "CUDD", "MICRO", "BUDDY", "CAL", "JDD", "PJBDD"},
+              + "- pjbdd:  A java native parallel bdd framework\n"
+              + "- concurrent: thread-safe Java implementation without locks, for analyses that"
+              + " access the BDDs from several threads",
+      values = {"JAVA", "SYLVAN", "CUDD", "MICRO", "BUDDY", "CAL", "JDD", "PJBDD", "CONCURRENT"},
       toUppercase = true)
   // documentation of the packages can be found at source of BDDFactory.init()
   private String bddPackage = "JAVA";
@@ -76,6 +78,8 @@ public class BDDManagerFactory {
       rmgr = new SylvanBDDRegionManager(config, logger);
     } else if (bddPackage.equals("PJBDD")) {
       rmgr = new PJBDDRegionManager(config, logger);
+    } else if (bddPackage.equals("CONCURRENT")) {
+      rmgr = new ConcurrentBDDRegionManager(config);
     } else {
       rmgr = new JavaBDDRegionManager(bddPackage, config, logger);
     }
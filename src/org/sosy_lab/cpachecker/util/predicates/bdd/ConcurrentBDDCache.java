@@ -0,0 +1,100 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.bdd;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The operation cache of the {@link ConcurrentBDDRegionManager}. It is a direct-mapped table that
+ * overwrites older results on collisions, and it does not need any synchronization: every entry is
+ * an immutable object with only final fields, so a thread sees either a complete entry of another
+ * thread or an older one, both of which are valid results. Losing a write only costs a
+ * recomputation.
+ */
+final class ConcurrentBDDCache {
+
+  /** The operations whose results are cached. */
+  enum Operation {
+    ITE,
+    EXISTS,
+  }
+
+  private record Entry(
+      Operation operation,
+      ConcurrentBDDRegion first,
+      ConcurrentBDDRegion second,
+      ConcurrentBDDRegion third,
+      ConcurrentBDDRegion result) {}
+
+  private final @Nullable Entry[] entries;
+  private final int mask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  ConcurrentBDDCache(int pSize) {
+    int size = Math.max(16, Integer.highestOneBit(Math.max(pSize, 1) - 1) << 1);
+    entries = new Entry[size];
+    mask = size - 1;
+  }
+
+  private int index(
+      Operation pOperation,
+      ConcurrentBDDRegion pFirst,
+      ConcurrentBDDRegion pSecond,
+      ConcurrentBDDRegion pThird) {
+    int h = pOperation.ordinal();
+    h = 31 * h + pFirst.hashCode();
+    h = 31 * h + pSecond.hashCode();
+    h = 31 * h + pThird.hashCode();
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  /** Returns the cached result of the operation for the given operands, or null. */
+  @Nullable ConcurrentBDDRegion get(
+      Operation pOperation,
+      ConcurrentBDDRegion pFirst,
+      ConcurrentBDDRegion pSecond,
+      ConcurrentBDDRegion pThird) {
+    Entry entry = entries[index(pOperation, pFirst, pSecond, pThird)];
+    if (entry != null
+        && entry.operation == pOperation
+        && entry.first == pFirst
+        && entry.second == pSecond
+        && entry.third == pThird) {
+      hits.increment();
+      return entry.result;
+    }
+    misses.increment();
+    return null;
+  }
+
+  void put(
+      Operation pOperation,
+      ConcurrentBDDRegion pFirst,
+      ConcurrentBDDRegion pSecond,
+      ConcurrentBDDRegion pThird,
+      ConcurrentBDDRegion pResult) {
+    entries[index(pOperation, pFirst, pSecond, pThird)] =
+        new Entry(pOperation, pFirst, pSecond, pThird, pResult);
+  }
+
+  int getSize() {
+    return entries.length;
+  }
+
+  long getHits() {
+    return hits.sum();
+  }
+
+  long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,112 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.bdd;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.cpachecker.util.predicates.regions.Region;
+
+/**
+ * A node of a BDD of the {@link ConcurrentBDDRegionManager}, which is at the same time the region
+ * represented by the BDD below it. Nodes are immutable and canonical, i.e., the unique table of the
+ * manager guarantees that there is at most one node for each triple of variable and children, so
+ * regions can be compared by identity.
+ */
+final class ConcurrentBDDRegion implements Region {
+
+  /** The variable of the terminal nodes, which is larger than all other variables. */
+  static final int TERMINAL_VARIABLE = Integer.MAX_VALUE;
+
+  static final ConcurrentBDDRegion TRUE = new ConcurrentBDDRegion(0x6a09e667);
+  static final ConcurrentBDDRegion FALSE = new ConcurrentBDDRegion(0xbb67ae85);
+
+  private final int variable;
+  private final @Nullable ConcurrentBDDRegion low;
+  private final @Nullable ConcurrentBDDRegion high;
+  private final int hash;
+
+  private ConcurrentBDDRegion(int pHash) {
+    variable = TERMINAL_VARIABLE;
+    low = null;
+    high = null;
+    hash = pHash;
+  }
+
+  ConcurrentBDDRegion(
+      int pVariable, ConcurrentBDDRegion pLow, ConcurrentBDDRegion pHigh, int pHash) {
+    assert pVariable < pLow.variable && pVariable < pHigh.variable && pLow != pHigh;
+    variable = pVariable;
+    low = pLow;
+    high = pHigh;
+    hash = pHash;
+  }
+
+  /** Returns the hash of the node with the given variable and children. */
+  static int hash(int pVariable, ConcurrentBDDRegion pLow, ConcurrentBDDRegion pHigh) {
+    long h = pVariable * 0x9e3779b97f4a7c15L;
+    h = (h ^ pLow.hash) * 0xbf58476d1ce4e5b9L;
+    h = (h ^ pHigh.hash) * 0x94d049bb133111ebL;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  boolean matches(int pVariable, ConcurrentBDDRegion pLow, ConcurrentBDDRegion pHigh) {
+    return variable == pVariable && low == pLow && high == pHigh;
+  }
+
+  boolean isTerminal() {
+    return variable == TERMINAL_VARIABLE;
+  }
+
+  /** Returns the variable of this node, or {@link #TERMINAL_VARIABLE} for terminal nodes. */
+  int getVariable() {
+    return variable;
+  }
+
+  /** Returns the child for the variable being false. Must not be called for terminal nodes. */
+  ConcurrentBDDRegion getLow() {
+    assert low != null;
+    return low;
+  }
+
+  /** Returns the child for the variable being true. Must not be called for terminal nodes. */
+  ConcurrentBDDRegion getHigh() {
+    assert high != null;
+    return high;
+  }
+
+  @Override
+  public boolean isTrue() {
+    return this == TRUE;
+  }
+
+  @Override
+  public boolean isFalse() {
+    return this == FALSE;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    // nodes are canonical
+    return this == o;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    if (this == TRUE) {
+      return "true";
+    } else if (this == FALSE) {
+      return "false";
+    }
+    return "ite(v" + variable + ", " + high + ", " + low + ")";
+  }
+}
@@ -0,0 +1,477 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.bdd;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static org.sosy_lab.cpachecker.util.statistics.StatisticsWriter.writingStatisticsTo;
+
+import com.google.common.primitives.ImmutableIntArray;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.configuration.Option;
+import org.sosy_lab.common.configuration.Options;
+import org.sosy_lab.cpachecker.util.predicates.bdd.ConcurrentBDDCache.Operation;
+import org.sosy_lab.cpachecker.util.predicates.regions.Region;
+import org.sosy_lab.cpachecker.util.predicates.regions.RegionCreator;
+import org.sosy_lab.cpachecker.util.predicates.regions.RegionManager;
+import org.sosy_lab.cpachecker.util.predicates.smt.BooleanFormulaManagerView;
+import org.sosy_lab.cpachecker.util.predicates.smt.FormulaManagerView;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.BooleanFormulaManager;
+import org.sosy_lab.java_smt.api.Formula;
+import org.sosy_lab.java_smt.api.FunctionDeclaration;
+import org.sosy_lab.java_smt.api.QuantifiedFormulaManager.Quantifier;
+import org.sosy_lab.java_smt.api.visitors.BooleanFormulaVisitor;
+
+/**
+ * A thread-safe BDD package in pure Java, which allows several threads to build and query regions
+ * at the same time without any global lock, in contrast to wrapping another package in a {@link
+ * org.sosy_lab.cpachecker.util.predicates.regions.SynchronizedRegionManager}. Nodes are immutable
+ * and unique (cf. {@link ConcurrentBDDUniqueTable}), so all operations are computed by recursive
+ * if-then-else on the nodes, and intermediate results are shared between threads through a lossy
+ * operation cache (cf. {@link ConcurrentBDDCache}). Unused nodes are freed by the Java garbage
+ * collector.
+ *
+ * <p>The variable order is the order in which the predicates are created, reordering is not
+ * supported.
+ */
+@Options(prefix = "bdd.concurrent")
+final class ConcurrentBDDRegionManager implements RegionManager {
+
+  private static final ConcurrentBDDRegion TRUE = ConcurrentBDDRegion.TRUE;
+  private static final ConcurrentBDDRegion FALSE = ConcurrentBDDRegion.FALSE;
+
+  @Option(
+      secure = true,
+      description =
+          "Initial size of the BDD node table, which grows when it is filled to three quarters.")
+  @IntegerOption(min = 16)
+  private int initTableSize = 65536;
+
+  @Option(secure = true, description = "Size of the BDD operation cache.")
+  @IntegerOption(min = 16)
+  private int cacheSize = 262144;
+
+  private final ConcurrentBDDUniqueTable uniqueTable;
+  private final ConcurrentBDDCache cache;
+
+  private final AtomicInteger nextVariable = new AtomicInteger();
+
+  ConcurrentBDDRegionManager(Configuration pConfig) throws InvalidConfigurationException {
+    pConfig.inject(this);
+    uniqueTable = new ConcurrentBDDUniqueTable(initTableSize);
+    cache = new ConcurrentBDDCache(cacheSize);
+  }
+
+  private static ConcurrentBDDRegion unwrap(Region pRegion) {
+    return (ConcurrentBDDRegion) pRegion;
+  }
+
+  private ConcurrentBDDRegion makeNode(
+      int pVariable, ConcurrentBDDRegion pLow, ConcurrentBDDRegion pHigh) {
+    if (pLow == pHigh) {
+      return pLow;
+    }
+    return uniqueTable.getOrCreate(pVariable, pLow, pHigh);
+  }
+
+  private ConcurrentBDDRegion makeVariable(int pVariable) {
+    return makeNode(pVariable, FALSE, TRUE);
+  }
+
+  private static ConcurrentBDDRegion lowCofactor(ConcurrentBDDRegion pNode, int pVariable) {
+    return pNode.getVariable() == pVariable ? pNode.getLow() : pNode;
+  }
+
+  private static ConcurrentBDDRegion highCofactor(ConcurrentBDDRegion pNode, int pVariable) {
+    return pNode.getVariable() == pVariable ? pNode.getHigh() : pNode;
+  }
+
+  /** Computes if-then-else, from which all other Boolean operations are derived. */
+  private ConcurrentBDDRegion ite(
+      ConcurrentBDDRegion f, ConcurrentBDDRegion g, ConcurrentBDDRegion h) {
+    if (f == TRUE) {
+      return g;
+    } else if (f == FALSE) {
+      return h;
+    } else if (g == h) {
+      return g;
+    } else if (g == TRUE && h == FALSE) {
+      return f;
+    }
+
+    ConcurrentBDDRegion result = cache.get(Operation.ITE, f, g, h);
+    if (result != null) {
+      return result;
+    }
+    int variable = Math.min(f.getVariable(), Math.min(g.getVariable(), h.getVariable()));
+    ConcurrentBDDRegion low =
+        ite(lowCofactor(f, variable), lowCofactor(g, variable), lowCofactor(h, variable));
+    ConcurrentBDDRegion high =
+        ite(highCofactor(f, variable), highCofactor(g, variable), highCofactor(h, variable));
+    result = makeNode(variable, low, high);
+    cache.put(Operation.ITE, f, g, h, result);
+    return result;
+  }
+
+  private ConcurrentBDDRegion not(ConcurrentBDDRegion f) {
+    return ite(f, FALSE, TRUE);
+  }
+
+  private ConcurrentBDDRegion and(ConcurrentBDDRegion f1, ConcurrentBDDRegion f2) {
+    return ite(f1, f2, FALSE);
+  }
+
+  private ConcurrentBDDRegion or(ConcurrentBDDRegion f1, ConcurrentBDDRegion f2) {
+    return ite(f1, TRUE, f2);
+  }
+
+  /** Existentially quantifies the variables of the given cube, i.e., a conjunction of variables. */
+  private ConcurrentBDDRegion exists(ConcurrentBDDRegion f, ConcurrentBDDRegion cube) {
+    if (f.isTerminal()) {
+      return f;
+    }
+    while (cube.getVariable() < f.getVariable()) {
+      cube = cube.getHigh();
+    }
+    if (cube == TRUE) {
+      return f;
+    }
+
+    ConcurrentBDDRegion result = cache.get(Operation.EXISTS, f, cube, TRUE);
+    if (result != null) {
+      return result;
+    }
+    if (f.getVariable() == cube.getVariable()) {
+      ConcurrentBDDRegion low = exists(f.getLow(), cube.getHigh());
+      result = low == TRUE ? TRUE : or(low, exists(f.getHigh(), cube.getHigh()));
+    } else {
+      result = makeNode(f.getVariable(), exists(f.getLow(), cube), exists(f.getHigh(), cube));
+    }
+    cache.put(Operation.EXISTS, f, cube, TRUE, result);
+    return result;
+  }
+
+  @Override
+  public boolean entails(Region f1, Region f2) {
+    return ite(unwrap(f1), unwrap(f2), TRUE) == TRUE;
+  }
+
+  @Override
+  public Region createPredicate() {
+    return makeVariable(nextVariable.getAndIncrement());
+  }
+
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    // no reordering, so groups do not matter
+    return createPredicate();
+  }
+
+  @Override
+  public Region fromFormula(
+      BooleanFormula pF, FormulaManagerView fmgr, Function<BooleanFormula, Region> atomToRegion) {
+    BooleanFormulaManagerView bfmgr = fmgr.getBooleanFormulaManager();
+    if (bfmgr.isFalse(pF)) {
+      return FALSE;
+    }
+    if (bfmgr.isTrue(pF)) {
+      return TRUE;
+    }
+    return bfmgr.visit(pF, new FormulaToRegionConverter(fmgr, atomToRegion));
+  }
+
+  @Override
+  public IfThenElseParts getIfThenElse(Region pF) {
+    ConcurrentBDDRegion f = unwrap(pF);
+    checkArgument(!f.isTerminal(), "Constant region has no predicate");
+    return new IfThenElseParts(makeVariable(f.getVariable()), f.getHigh(), f.getLow());
+  }
+
+  @Override
+  public void printStatistics(PrintStream out) {
+    writingStatisticsTo(out)
+        .put("Number of BDD variables", nextVariable.get())
+        .put("Size of BDD node table", uniqueTable.getCapacity())
+        .put("Used slots of BDD node table", uniqueTable.getUsedSlots())
+        .put("Number of BDD node table resizes", uniqueTable.getResizes())
+        .put("Size of BDD cache", cache.getSize())
+        .put("BDD cache hits", cache.getHits())
+        .put("BDD cache misses", cache.getMisses());
+  }
+
+  @Override
+  public String getVersion() {
+    return "concurrent BDD package of CPAchecker";
+  }
+
+  @Override
+  public void setVarOrder(ImmutableIntArray pOrder) {
+    throw new UnsupportedOperationException("variable ordering is not supported");
+  }
+
+  @Override
+  public void reorder(VariableOrderingStrategy strategy) {
+    throw new UnsupportedOperationException("dynamic reordering is not supported");
+  }
+
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy strategy) {
+    throw new UnsupportedOperationException("dynamic reordering is not supported");
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return false;
+  }
+
+  @Override
+  public RegionBuilder builder(ShutdownNotifier pShutdownNotifier) {
+    return new RegionBuilder();
+  }
+
+  @Override
+  public Region makeTrue() {
+    return TRUE;
+  }
+
+  @Override
+  public Region makeFalse() {
+    return FALSE;
+  }
+
+  @Override
+  public Region makeNot(Region f) {
+    return not(unwrap(f));
+  }
+
+  @Override
+  public Region makeAnd(Region f1, Region f2) {
+    return and(unwrap(f1), unwrap(f2));
+  }
+
+  @Override
+  public Region makeOr(Region f1, Region f2) {
+    return or(unwrap(f1), unwrap(f2));
+  }
+
+  @Override
+  public Region makeEqual(Region f1, Region f2) {
+    ConcurrentBDDRegion second = unwrap(f2);
+    return ite(unwrap(f1), second, not(second));
+  }
+
+  @Override
+  public Region makeUnequal(Region f1, Region f2) {
+    ConcurrentBDDRegion second = unwrap(f2);
+    return ite(unwrap(f1), not(second), second);
+  }
+
+  @Override
+  public Region makeIte(Region f1, Region f2, Region f3) {
+    return ite(unwrap(f1), unwrap(f2), unwrap(f3));
+  }
+
+  @Override
+  public Region makeExists(Region f1, Region... f2) {
+    int[] variables = new int[f2.length];
+    for (int i = 0; i < f2.length; i++) {
+      variables[i] = unwrap(f2[i]).getVariable();
+    }
+    Arrays.sort(variables);
+    ConcurrentBDDRegion cube = TRUE;
+    for (int i = variables.length - 1; i >= 0; i--) {
+      if (variables[i] != ConcurrentBDDRegion.TERMINAL_VARIABLE) {
+        cube = makeNode(variables[i], FALSE, cube);
+      }
+    }
+    return exists(unwrap(f1), cube);
+  }
+
+  @Override
+  public Region replace(Region pRegion, List<Region> pOldPredicates, List<Region> pNewPredicates) {
+    checkArgument(pOldPredicates.size() == pNewPredicates.size());
+    ConcurrentBDDRegion bdd = unwrap(pRegion);
+    for (int i = 0; i < pOldPredicates.size(); i++) {
+      ConcurrentBDDRegion oldVar = makeVariable(unwrap(pOldPredicates.get(i)).getVariable());
+      ConcurrentBDDRegion newVar = makeVariable(unwrap(pNewPredicates.get(i)).getVariable());
+      if (oldVar != newVar) {
+        bdd = exists(ite(oldVar, and(bdd, newVar), and(bdd, not(newVar))), oldVar);
+      }
+    }
+    return bdd;
+  }
+
+  /** Class for creating BDDs out of a formula. */
+  private class FormulaToRegionConverter implements BooleanFormulaVisitor<Region> {
+
+    private final Function<BooleanFormula, Region> atomToRegion;
+    private final BooleanFormulaManager bfmgr;
+
+    private final Map<BooleanFormula, Region> cache = new HashMap<>();
+
+    FormulaToRegionConverter(
+        FormulaManagerView pFmgr, Function<BooleanFormula, Region> pAtomToRegion) {
+      atomToRegion = pAtomToRegion;
+      bfmgr = pFmgr.getBooleanFormulaManager();
+    }
+
+    @Override
+    public Region visitConstant(boolean pB) {
+      return pB ? TRUE : FALSE;
+    }
+
+    @Override
+    public Region visitNot(BooleanFormula pOperand) {
+      return not(convert(pOperand));
+    }
+
+    @Override
+    public Region visitAnd(List<BooleanFormula> pOperands) {
+      ConcurrentBDDRegion result = TRUE;
+      for (BooleanFormula operand : pOperands) {
+        result = and(result, convert(operand));
+      }
+      return result;
+    }
+
+    @Override
+    public Region visitOr(List<BooleanFormula> pOperands) {
+      ConcurrentBDDRegion result = FALSE;
+      for (BooleanFormula operand : pOperands) {
+        result = or(result, convert(operand));
+      }
+      return result;
+    }
+
+    @Override
+    public Region visitXor(BooleanFormula pOperand1, BooleanFormula pOperand2) {
+      return makeUnequal(convert(pOperand1), convert(pOperand2));
+    }
+
+    @Override
+    public Region visitEquivalence(BooleanFormula pOperand1, BooleanFormula pOperand2) {
+      return makeEqual(convert(pOperand1), convert(pOperand2));
+    }
+
+    @Override
+    public Region visitImplication(BooleanFormula pOperand1, BooleanFormula pOperand2) {
+      return ite(convert(pOperand1), convert(pOperand2), TRUE);
+    }
+
+    @Override
+    public Region visitIfThenElse(
+        BooleanFormula pCondition, BooleanFormula pThen, BooleanFormula pElse) {
+      return ite(convert(pCondition), convert(pThen), convert(pElse));
+    }
+
+    @Override
+    public Region visitQuantifier(
+        Quantifier pQuantifier,
+        BooleanFormula pQuantifiedAST,
+        List<Formula> pBoundVars,
+        BooleanFormula pBody) {
+      throw new UnsupportedOperationException("Quantifiers are not supported");
+    }
+
+    @Override
+    public Region visitAtom(
+        BooleanFormula pAtom, FunctionDeclaration<BooleanFormula> pFunctionDeclaration) {
+      return atomToRegion.apply(pAtom);
+    }
+
+    // Convert one BooleanFormula (recursively)
+    // and return a result that is also put in the cache.
+    private ConcurrentBDDRegion convert(BooleanFormula pOperand) {
+      Region operand = cache.get(pOperand);
+      if (operand == null) {
+        operand = bfmgr.visit(pOperand, this);
+        cache.put(pOperand, operand);
+      }
+      return unwrap(operand);
+    }
+  }
+
+  private class RegionBuilder implements RegionCreator.RegionBuilder {
+
+    private final List<ConcurrentBDDRegion> cubes = new ArrayList<>();
+    private ConcurrentBDDRegion currentCube;
+
+    @Override
+    public void startNewConjunction() {
+      checkState(currentCube == null);
+      currentCube = TRUE;
+    }
+
+    @Override
+    public void addPositiveRegion(Region r) {
+      checkState(currentCube != null);
+      currentCube = and(currentCube, unwrap(r));
+    }
+
+    @Override
+    public void addNegativeRegion(Region r) {
+      checkState(currentCube != null);
+      currentCube = and(currentCube, not(unwrap(r)));
+    }
+
+    @Override
+    public void finishConjunction() {
+      checkState(currentCube != null);
+
+      // combine the cubes like a binary counter, which keeps the operands balanced
+      for (int i = 0; i < cubes.size(); i++) {
+        ConcurrentBDDRegion cubeAtI = cubes.get(i);
+
+        if (cubeAtI == null) {
+          cubes.set(i, currentCube);
+          currentCube = null;
+          return;
+        } else {
+          currentCube = or(currentCube, cubeAtI);
+          cubes.set(i, null);
+        }
+      }
+
+      cubes.add(currentCube);
+      currentCube = null;
+    }
+
+    @Override
+    public Region getResult() {
+      checkState(currentCube == null);
+      ConcurrentBDDRegion result = FALSE;
+      for (ConcurrentBDDRegion bdd : cubes) {
+        if (bdd != null) {
+          result = or(result, bdd);
+        }
+      }
+      cubes.clear();
+      cubes.add(result);
+      return result;
+    }
+
+    @Override
+    public void close() {
+      checkState(currentCube == null);
+      cubes.clear();
+    }
+  }
+}
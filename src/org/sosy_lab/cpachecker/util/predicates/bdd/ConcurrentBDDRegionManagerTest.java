@@ -0,0 +1,144 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.bdd;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.cpachecker.util.predicates.regions.Region;
+
+public class ConcurrentBDDRegionManagerTest {
+
+  private static final int VARIABLES = 12;
+  private static final int FORMULAS = 200;
+  private static final int THREADS = 8;
+
+  private ConcurrentBDDRegionManager createManager(int pTableSize)
+      throws InvalidConfigurationException {
+    Configuration config =
+        Configuration.builder()
+            .setOption("bdd.concurrent.initTableSize", Integer.toString(pTableSize))
+            .build();
+    return new ConcurrentBDDRegionManager(config);
+  }
+
+  @Test
+  public void testCanonicity() throws InvalidConfigurationException {
+    ConcurrentBDDRegionManager rmgr = createManager(16);
+    Region a = rmgr.createPredicate();
+    Region b = rmgr.createPredicate();
+    Region c = rmgr.createPredicate();
+
+    Region left = rmgr.makeOr(rmgr.makeAnd(a, b), c);
+    Region right =
+        rmgr.makeNot(rmgr.makeAnd(rmgr.makeOr(rmgr.makeNot(a), rmgr.makeNot(b)), rmgr.makeNot(c)));
+    assertThat(left).isSameInstanceAs(right);
+    assertThat(rmgr.makeAnd(a, rmgr.makeNot(a))).isSameInstanceAs(rmgr.makeFalse());
+    assertThat(rmgr.makeEqual(a, b)).isSameInstanceAs(rmgr.makeNot(rmgr.makeUnequal(a, b)));
+    assertThat(rmgr.makeIte(a, b, c))
+        .isSameInstanceAs(rmgr.makeOr(rmgr.makeAnd(a, b), rmgr.makeAnd(rmgr.makeNot(a), c)));
+
+    assertThat(rmgr.entails(rmgr.makeAnd(a, b), a)).isTrue();
+    assertThat(rmgr.entails(a, rmgr.makeAnd(a, b))).isFalse();
+  }
+
+  @Test
+  public void testExistsAndReplace() throws InvalidConfigurationException {
+    ConcurrentBDDRegionManager rmgr = createManager(16);
+    Region a = rmgr.createPredicate();
+    Region b = rmgr.createPredicate();
+    Region c = rmgr.createPredicate();
+    Region region = rmgr.makeAnd(a, rmgr.makeOr(b, c));
+
+    assertThat(rmgr.makeExists(region, b)).isSameInstanceAs(a);
+    assertThat(rmgr.makeExists(region, a)).isSameInstanceAs(rmgr.makeOr(b, c));
+    assertThat(rmgr.makeExists(region, a, b, c)).isSameInstanceAs(rmgr.makeTrue());
+
+    Region replaced =
+        rmgr.replace(rmgr.makeAnd(a, rmgr.makeNot(b)), ImmutableList.of(a), ImmutableList.of(c));
+    assertThat(replaced).isSameInstanceAs(rmgr.makeAnd(c, rmgr.makeNot(b)));
+  }
+
+  /** Builds a random disjunction of cubes, whose cubes are combined in the given order. */
+  private static Region buildFormula(
+      ConcurrentBDDRegionManager rmgr, List<Region> variables, int index, long orderSeed) {
+    Random random = new Random(index);
+    List<Region> cubes = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      Region cube = rmgr.makeTrue();
+      for (Region variable : variables) {
+        switch (random.nextInt(3)) {
+          case 0 -> cube = rmgr.makeAnd(cube, variable);
+          case 1 -> cube = rmgr.makeAnd(cube, rmgr.makeNot(variable));
+          default -> {}
+        }
+      }
+      cubes.add(cube);
+    }
+    Collections.shuffle(cubes, new Random(orderSeed));
+    Region result = rmgr.makeFalse();
+    for (Region cube : cubes) {
+      result = rmgr.makeOr(result, cube);
+    }
+    return result;
+  }
+
+  /**
+   * Lets several threads build the same formulas in different orders, with a small node table that
+   * is resized while the threads are running. The results must be the unique nodes of the formulas.
+   */
+  @Test
+  public void testConcurrentConstruction() throws Exception {
+    ConcurrentBDDRegionManager rmgr = createManager(16);
+    List<Region> variables = new ArrayList<>();
+    for (int i = 0; i < VARIABLES; i++) {
+      variables.add(rmgr.createPredicate());
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<List<Region>>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        long seed = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<Region> results = new ArrayList<>();
+                  for (int i = 0; i < FORMULAS; i++) {
+                    results.add(buildFormula(rmgr, variables, i, seed * FORMULAS + i));
+                  }
+                  return results;
+                }));
+      }
+
+      List<Region> expected = futures.get(0).get();
+      for (Future<List<Region>> future : futures) {
+        List<Region> results = future.get();
+        for (int i = 0; i < FORMULAS; i++) {
+          assertThat(results.get(i)).isSameInstanceAs(expected.get(i));
+        }
+      }
+      for (int i = 0; i < FORMULAS; i++) {
+        assertThat(buildFormula(rmgr, variables, i, -1)).isSameInstanceAs(expected.get(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.bdd;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The unique table of the {@link ConcurrentBDDRegionManager}, which guarantees that there is at
+ * most one node for each triple of variable and children, even if several threads create the same
+ * node at the same time.
+ *
+ * <p>The table uses open addressing with linear probing, and lookups and insertions do not block: a
+ * node is inserted with a single compare-and-set into an empty slot, and a thread that loses the
+ * race for the slot checks whether the winner inserted the same node. Slots never become empty
+ * again, so no thread can miss a node that is inserted before its probe position. The table holds
+ * its nodes only weakly, such that unused nodes are removed by the Java garbage collector. Their
+ * slots are freed when the table is resized, which is the only operation that makes other threads
+ * wait: the thread that fills the table up to the load factor marks all slots as moved, and all
+ * threads that reach a moved slot wait until the new table is published.
+ */
+final class ConcurrentBDDUniqueTable {
+
+  private static final double LOAD_FACTOR = 0.75;
+
+  /** The marker for the slots of a table that is being resized. */
+  private static final Object MOVED = new Object();
+
+  private static final class Entry extends WeakReference<ConcurrentBDDRegion> {
+
+    private final int hash;
+
+    private Entry(ConcurrentBDDRegion pNode) {
+      super(pNode);
+      hash = pNode.hashCode();
+    }
+  }
+
+  private static final class Table {
+
+    /** Contains null, {@link Entry} objects, or {@link #MOVED}. */
+    private final AtomicReferenceArray<Object> slots;
+
+    private final int threshold;
+
+    /** The number of non-empty slots, including those of unused nodes. */
+    private final AtomicInteger usedSlots = new AtomicInteger();
+
+    /** The table that replaces this table, set after the resize is finished. */
+    private volatile @Nullable Table next;
+
+    private Table(int pCapacity) {
+      slots = new AtomicReferenceArray<>(pCapacity);
+      threshold = (int) (pCapacity * LOAD_FACTOR);
+    }
+  }
+
+  private final int minCapacity;
+
+  private volatile Table table;
+
+  private final AtomicInteger resizes = new AtomicInteger();
+
+  ConcurrentBDDUniqueTable(int pInitialCapacity) {
+    minCapacity = capacityFor(pInitialCapacity);
+    table = new Table(minCapacity);
+  }
+
+  /** Returns the smallest power of two that is at least the given size, but at least 16. */
+  private static int capacityFor(int pSize) {
+    return Math.max(16, Integer.highestOneBit(Math.max(pSize, 1) - 1) << 1);
+  }
+
+  /** Returns the unique node with the given variable and children, which are different. */
+  ConcurrentBDDRegion getOrCreate(
+      int pVariable, ConcurrentBDDRegion pLow, ConcurrentBDDRegion pHigh) {
+    int hash = ConcurrentBDDRegion.hash(pVariable, pLow, pHigh);
+    ConcurrentBDDRegion created = null;
+    while (true) {
+      Table current = table;
+      AtomicReferenceArray<Object> slots = current.slots;
+      int mask = slots.length() - 1;
+      int index = hash & mask;
+      for (int probes = 0; probes <= mask; probes++, index = (index + 1) & mask) {
+        Object slot = slots.get(index);
+        if (slot == null) {
+          if (created == null) {
+            created = new ConcurrentBDDRegion(pVariable, pLow, pHigh, hash);
+          }
+          if (slots.compareAndSet(index, null, new Entry(created))) {
+            if (current.usedSlots.incrementAndGet() == current.threshold) {
+              resize(current);
+            }
+            return created;
+          }
+          // another thread inserted a node or started a resize
+          slot = slots.get(index);
+        }
+        if (slot == MOVED) {
+          break;
+        }
+        Entry entry = (Entry) slot;
+        if (entry.hash == hash) {
+          ConcurrentBDDRegion node = entry.get();
+          if (node != null && node.matches(pVariable, pLow, pHigh)) {
+            return node;
+          }
+        }
+      }
+      awaitResize(current);
+    }
+  }
+
+  private static void awaitResize(Table pTable) {
+    while (pTable.next == null) {
+      Thread.onSpinWait();
+    }
+  }
+
+  /**
+   * Replaces the given table by a table for its live nodes. Only the thread that fills the table up
+   * to its threshold calls this method, so there is only one resize at a time.
+   */
+  private void resize(Table pOld) {
+    AtomicReferenceArray<Object> oldSlots = pOld.slots;
+    List<ConcurrentBDDRegion> live = new ArrayList<>(pOld.threshold);
+    for (int i = 0; i < oldSlots.length(); i++) {
+      // after this, no other thread can insert into the slot
+      Object slot = oldSlots.getAndSet(i, MOVED);
+      if (slot != null) {
+        ConcurrentBDDRegion node = ((Entry) slot).get();
+        if (node != null) {
+          live.add(node);
+        }
+      }
+    }
+
+    Table fresh = new Table(Math.max(minCapacity, capacityFor(2 * live.size())));
+    AtomicReferenceArray<Object> slots = fresh.slots;
+    int mask = slots.length() - 1;
+    for (ConcurrentBDDRegion node : live) {
+      int index = node.hashCode() & mask;
+      while (slots.getPlain(index) != null) {
+        index = (index + 1) & mask;
+      }
+      slots.setPlain(index, new Entry(node));
+    }
+    fresh.usedSlots.set(live.size());
+
+    resizes.incrementAndGet();
+    table = fresh;
+    pOld.next = fresh;
+  }
+
+  /** Returns the number of slots of the current table. */
+  int getCapacity() {
+    return table.slots.length();
+  }
+
+  /** Returns the number of used slots of the current table, including those of unused nodes. */
+  int getUsedSlots() {
+    return table.usedSlots.get();
+  }
+
+  int getResizes() {
+    return resizes.get();
+  }
+}
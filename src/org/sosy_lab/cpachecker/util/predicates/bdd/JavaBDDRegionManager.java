@@ -13,6 +13,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.sosy_lab.cpachecker.util.statistics.StatisticsWriter.writingStatisticsTo;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Ascii;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Streams;
@@ -72,6 +73,11 @@ class JavaBDDRegionManager implements RegionManager {
   private final StatInt cleanupQueueSize =
       new StatInt(StatKind.AVG, "Size of BDD node cleanup queue");
   private final StatTimer cleanupTimer = new StatTimer("Time for BDD node cleanup");
+  private final StatInt nodesBeforeReordering =
+      new StatInt(StatKind.AVG, "Number of BDD nodes before reordering");
+  private final StatInt nodesAfterReordering =
+      new StatInt(StatKind.AVG, "Number of BDD nodes after reordering");
+  private long reorderingTime = 0; // in ms, as reported by the library
   private final LogManager logger;
   private final BDDFactory factory;
   private final Region trueFormula;
@@ -108,8 +114,32 @@ class JavaBDDRegionManager implements RegionManager {
               + " cache size).")
   private double cacheRatio = 0.1;
 
+  @Option(
+      secure = true,
+      description =
+          "Number of BDD variables that are reserved at once for a group of predicates. Reordering"
+              + " moves the reserved variables of a group only as a whole.")
+  @IntegerOption(min = 1)
+  private int variableGroupBlockSize = 16;
+
   private int nextvar = 0;
   private int varcount = 100;
+  // variables from nextvar up to poolEnd are not yet used and do not belong to a group
+  private int poolEnd = varcount;
+
+  /** A range of variables that is reserved for a group of predicates. */
+  private static final class VariableBlock {
+    private int next;
+    private final int end;
+
+    private VariableBlock(int pFirst, int pEnd) {
+      next = pFirst;
+      end = pEnd;
+    }
+  }
+
+  // the current block of reserved variables for each group
+  private final Map<String, VariableBlock> groupBlocks = new HashMap<>();
 
   @SuppressForbidden("reflection on own methods")
   JavaBDDRegionManager(String bddPackage, Configuration config, LogManager pLogger)
@@ -164,10 +194,10 @@ class JavaBDDRegionManager implements RegionManager {
       // calling them with reflection.
       // Registering and immediately unregistering prevents the library
       // from printing stuff to stdout.
+      // The reorder handler collects statistics and is called rarely, so we keep it.
       if (!logger.wouldBeLogged(LOG_LEVEL)) {
         factory.unregisterGCCallback(this, gcCallback);
         factory.unregisterResizeCallback(this, resizeCallback);
-        factory.unregisterReorderCallback(this, reorderCallback);
       }
 
     } catch (NoSuchMethodException e) {
@@ -199,6 +229,11 @@ class JavaBDDRegionManager implements RegionManager {
 
   @SuppressWarnings("unused")
   private void reorderCallback(Integer pre, BDDFactory.ReorderStats stats) {
+    if (pre == 0) {
+      nodesBeforeReordering.setNextValue(stats.usednum_before);
+      nodesAfterReordering.setNextValue(stats.usednum_after);
+      reorderingTime += stats.time;
+    }
     if (logger.wouldBeLogged(LOG_LEVEL)) {
       switch (pre) {
         case 1 -> logger.log(LOG_LEVEL, "Starting BDD Reordering");
@@ -220,6 +255,12 @@ class JavaBDDRegionManager implements RegionManager {
           .putIf(currentCacheSize >= 0, "Size of BDD cache", currentCacheSize)
           .put(cleanupQueueSize)
           .put(cleanupTimer)
+          .putIfUpdatedAtLeastOnce(nodesBeforeReordering)
+          .putIfUpdatedAtLeastOnce(nodesAfterReordering)
+          .putIf(
+              nodesAfterReordering.getUpdateCount() > 0,
+              "Time for BDD reordering",
+              TimeSpan.ofMillis(reorderingTime).formatAs(SECONDS))
           .put(
               "Time for BDD garbage collection",
               TimeSpan.ofMillis(stats.sumtime).formatAs(SECONDS) + " (in " + stats.num + " runs)");
@@ -269,20 +310,47 @@ class JavaBDDRegionManager implements RegionManager {
   // free() must be called manually.
 
   private BDD createNewVar() {
-    if (nextvar >= varcount) {
+    if (nextvar >= poolEnd) {
+      nextvar = varcount;
       varcount = (int) (varcount * 1.5);
       factory.setVarNum(varcount);
+      poolEnd = varcount;
     }
     BDD ret = factory.ithVar(nextvar++);
     return ret;
   }
 
+  /**
+   * Returns a new variable of the given group. The variables of a group are taken from blocks of
+   * consecutive variables that the library only reorders as a whole. Such a block needs to be
+   * consecutive in the current variable order, too, so we always append it at the end of the
+   * variables, where the library puts new variables.
+   */
+  private BDD createNewVarInGroup(String pGroup) {
+    VariableBlock block = groupBlocks.get(pGroup);
+    if (block == null || block.next >= block.end) {
+      int first = varcount;
+      varcount += variableGroupBlockSize;
+      factory.setVarNum(varcount);
+      factory.addVarBlock(first, varcount - 1, false);
+      block = new VariableBlock(first, varcount);
+      groupBlocks.put(pGroup, block);
+    }
+    return factory.ithVar(block.next++);
+  }
+
   @Override
   public JavaBDDRegion createPredicate() {
     cleanupReferences();
     return wrap(createNewVar());
   }
 
+  @Override
+  public JavaBDDRegion createPredicateInGroup(String pGroup) {
+    cleanupReferences();
+    return wrap(createNewVarInGroup(pGroup));
+  }
+
   /**
    * Cleanup all references to BDDs that are no longer needed. We call this method from all public
    * methods, so that this gets done as soon as possible. Usually we would do this in a daemon
@@ -468,17 +536,35 @@ class JavaBDDRegionManager implements RegionManager {
 
   @Override
   public void reorder(VariableOrderingStrategy strategy) {
-    ReorderMethod reorderMethod =
-        switch (strategy) {
-          case RANDOM -> BDDFactory.REORDER_RANDOM;
-          case SIFT -> BDDFactory.REORDER_SIFT;
-          case SIFTITE -> BDDFactory.REORDER_SIFTITE;
-          case WIN2 -> BDDFactory.REORDER_WIN2;
-          case WIN2ITE -> BDDFactory.REORDER_WIN2ITE;
-          case WIN3 -> BDDFactory.REORDER_WIN3;
-          case WIN3ITE -> BDDFactory.REORDER_WIN3ITE;
-        };
-    factory.reorder(reorderMethod);
+    factory.reorder(toReorderMethod(strategy));
+  }
+
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy strategy) {
+    factory.autoReorder(toReorderMethod(strategy));
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return true;
+  }
+
+  /** Returns the current position of the given predicate in the variable order. */
+  @VisibleForTesting
+  int getLevel(Region pPredicate) {
+    return factory.var2Level(unwrap(pPredicate).var());
+  }
+
+  private static ReorderMethod toReorderMethod(VariableOrderingStrategy strategy) {
+    return switch (strategy) {
+      case RANDOM -> BDDFactory.REORDER_RANDOM;
+      case SIFT -> BDDFactory.REORDER_SIFT;
+      case SIFTITE -> BDDFactory.REORDER_SIFTITE;
+      case WIN2 -> BDDFactory.REORDER_WIN2;
+      case WIN2ITE -> BDDFactory.REORDER_WIN2ITE;
+      case WIN3 -> BDDFactory.REORDER_WIN3;
+      case WIN3ITE -> BDDFactory.REORDER_WIN3ITE;
+    };
   }
 
   @Override
@@ -0,0 +1,140 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.bdd;
+
+import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.util.predicates.regions.Region;
+import org.sosy_lab.cpachecker.util.predicates.regions.RegionManager.VariableOrderingStrategy;
+
+public class JavaBDDRegionManagerTest {
+
+  private static final int PAIRS = 6;
+  private static final int BLOCK_SIZE = 4;
+
+  private static JavaBDDRegionManager createRegionManager(ImmutableMap<String, String> pOptions)
+      throws InvalidConfigurationException {
+    Configuration config =
+        Configuration.builder()
+            .setOption("bdd.javabdd.variableGroupBlockSize", Integer.toString(BLOCK_SIZE))
+            .setOptions(pOptions)
+            .build();
+    return new JavaBDDRegionManager("JAVA", config, LogManager.createTestLogManager());
+  }
+
+  private Region buildPairs(JavaBDDRegionManager rmgr, List<Region> xs, List<Region> ys) {
+    Region result = rmgr.makeFalse();
+    for (int i = 0; i < xs.size(); i++) {
+      result = rmgr.makeOr(result, rmgr.makeAnd(xs.get(i), ys.get(i)));
+    }
+    return result;
+  }
+
+  /**
+   * Creates the given number of xs in one group and the same number of ys in one group each, in the
+   * worst order for the pairs: all xs before all ys.
+   */
+  private static void createPairVariables(
+      JavaBDDRegionManager rmgr, int pCount, List<Region> xs, List<Region> ys) {
+    for (int i = 0; i < pCount; i++) {
+      xs.add(rmgr.createPredicateInGroup("x"));
+    }
+    for (int i = 0; i < pCount; i++) {
+      ys.add(rmgr.createPredicateInGroup("y" + i));
+    }
+  }
+
+  /** Checks that each block of the xs still occupies consecutive levels of the variable order. */
+  private static void assertGroupBlocksAreContiguous(JavaBDDRegionManager rmgr, List<Region> xs) {
+    for (List<Region> block : Lists.partition(xs, BLOCK_SIZE)) {
+      ImmutableList<Integer> levels = from(block).transform(rmgr::getLevel).toList();
+      assertThat(levels).containsNoDuplicates();
+      assertThat(Collections.max(levels) - Collections.min(levels)).isLessThan(BLOCK_SIZE);
+    }
+  }
+
+  private static String getStatistics(JavaBDDRegionManager rmgr) {
+    ByteArrayOutputStream statistics = new ByteArrayOutputStream();
+    rmgr.printStatistics(new PrintStream(statistics, true, UTF_8));
+    return statistics.toString(UTF_8);
+  }
+
+  @Test
+  public void testReorderingWithGroups() throws InvalidConfigurationException {
+    JavaBDDRegionManager rmgr = createRegionManager(ImmutableMap.of());
+
+    List<Region> xs = new ArrayList<>();
+    List<Region> ys = new ArrayList<>();
+    createPairVariables(rmgr, PAIRS, xs, ys);
+    Region ungrouped = rmgr.createPredicate();
+    Region pairs = buildPairs(rmgr, xs, ys);
+
+    rmgr.reorder(VariableOrderingStrategy.SIFT);
+    assertGroupBlocksAreContiguous(rmgr, xs);
+    rmgr.enableDynamicReordering(VariableOrderingStrategy.SIFT);
+
+    // reordering must not change the represented sets
+    assertThat(buildPairs(rmgr, xs, ys)).isEqualTo(pairs);
+    assertThat(rmgr.entails(rmgr.makeAnd(xs.get(0), ys.get(0)), pairs)).isTrue();
+    assertThat(rmgr.entails(rmgr.makeAnd(xs.get(0), ys.get(1)), pairs)).isFalse();
+    assertThat(rmgr.makeExists(rmgr.makeAnd(pairs, ungrouped), ungrouped)).isEqualTo(pairs);
+  }
+
+  @Test
+  public void testDynamicReorderingIsTriggered() throws InvalidConfigurationException {
+    // a small node table, such that building the pairs in the worst order exceeds it
+    JavaBDDRegionManager rmgr =
+        createRegionManager(
+            ImmutableMap.of("bdd.javabdd.initTableSize", "1000", "bdd.javabdd.cacheSize", "1000"));
+    assertThat(rmgr.supportsDynamicReordering()).isTrue();
+    rmgr.enableDynamicReordering(VariableOrderingStrategy.SIFT);
+
+    List<Region> xs = new ArrayList<>();
+    List<Region> ys = new ArrayList<>();
+    createPairVariables(rmgr, 3 * BLOCK_SIZE, xs, ys);
+    Region pairs = buildPairs(rmgr, xs, ys);
+
+    String statistics = getStatistics(rmgr);
+    assertThat(statistics).contains("Number of BDD nodes before reordering");
+    assertThat(statistics).contains("Number of BDD nodes after reordering");
+    assertThat(statistics).contains("Time for BDD reordering");
+
+    assertGroupBlocksAreContiguous(rmgr, xs);
+    assertThat(rmgr.entails(rmgr.makeAnd(xs.get(5), ys.get(5)), pairs)).isTrue();
+    assertThat(rmgr.entails(rmgr.makeAnd(xs.get(5), ys.get(6)), pairs)).isFalse();
+  }
+
+  @Test
+  public void testNoReorderingStatisticsWithoutReordering() throws InvalidConfigurationException {
+    JavaBDDRegionManager rmgr = createRegionManager(ImmutableMap.of());
+
+    List<Region> xs = new ArrayList<>();
+    List<Region> ys = new ArrayList<>();
+    createPairVariables(rmgr, PAIRS, xs, ys);
+    buildPairs(rmgr, xs, ys);
+
+    String statistics = getStatistics(rmgr);
+    assertThat(statistics).contains("Number of BDD nodes");
+    assertThat(statistics).doesNotContain("reordering");
+  }
+}
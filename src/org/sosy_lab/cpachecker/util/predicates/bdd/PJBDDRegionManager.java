@@ -81,6 +81,12 @@ public class PJBDDRegionManager implements RegionManager {
     return wrap(bddCreator.makeVariable());
   }
 
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    // no dynamic reordering, so groups do not matter
+    return createPredicate();
+  }
+
   @Override
   public Region fromFormula(
       BooleanFormula pF, FormulaManagerView fmgr, Function<BooleanFormula, Region> atomToRegion) {
@@ -124,6 +130,16 @@ public class PJBDDRegionManager implements RegionManager {
     throw new UnsupportedOperationException("dynamic reordering not yet implemented");
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy strategy) {
+    throw new UnsupportedOperationException("dynamic reordering not yet implemented");
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return false;
+  }
+
   @Override
   public RegionBuilder builder(ShutdownNotifier pShutdownNotifier) {
     return new RegionBuilder();
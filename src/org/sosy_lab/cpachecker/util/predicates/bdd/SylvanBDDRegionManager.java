@@ -194,6 +194,12 @@ class SylvanBDDRegionManager implements RegionManager {
     return wrap(JSylvan.makeVar(nextvar++));
   }
 
+  @Override
+  public SylvanBDDRegion createPredicateInGroup(String pGroup) {
+    // no reordering, so groups do not matter
+    return createPredicate();
+  }
+
   /**
    * Wrap a BDD object in a SylvanBDDRegion and register it so that we can free the BDD after the
    * SylvanBDDRegion was garbage collected. Always use this method, and never the SylvanBDDRegion
@@ -304,6 +310,16 @@ class SylvanBDDRegionManager implements RegionManager {
     throw new UnsupportedOperationException("reordering not yet implemented");
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy strategy) {
+    throw new UnsupportedOperationException("reordering not yet implemented");
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return false;
+  }
+
   @Override
   public Region replace(Region pRegion, List<Region> pOldPredicates, List<Region> pNewPredicates) {
     checkArgument(pOldPredicates.size() == pNewPredicates.size());
@@ -106,6 +106,12 @@ public class CountingRegionManager implements RegionManager {
     return delegate.createPredicate();
   }
 
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    operationsCtr.setNextValue(1);
+    return delegate.createPredicateInGroup(pGroup);
+  }
+
   @Override
   public Region fromFormula(
       BooleanFormula pF, FormulaManagerView pFmgr, Function<BooleanFormula, Region> pAtomToRegion) {
@@ -146,6 +152,16 @@ public class CountingRegionManager implements RegionManager {
     delegate.reorder(pStrategy);
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy pStrategy) {
+    delegate.enableDynamicReordering(pStrategy);
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return delegate.supportsDynamicReordering();
+  }
+
   @Override
   public Region replace(Region pRegion, List<Region> pOldPredicates, List<Region> pNewPredicates) {
     operationsCtr.setNextValue(1);
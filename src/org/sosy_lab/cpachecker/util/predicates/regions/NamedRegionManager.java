@@ -70,6 +70,13 @@ public class NamedRegionManager implements RegionManager {
     return createPredicate(ANONYMOUS_PREDICATE + anonymousPredicateCounter.getAndIncrement());
   }
 
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    return regionMap.computeIfAbsent(
+        ANONYMOUS_PREDICATE + anonymousPredicateCounter.getAndIncrement(),
+        ignoreArg -> delegate.createPredicateInGroup(pGroup));
+  }
+
   /** Returns a String representation of a region. */
   public Appender dumpRegion(final Region r) {
     return new AbstractAppender() {
@@ -232,6 +239,16 @@ public class NamedRegionManager implements RegionManager {
     delegate.reorder(strategy);
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy strategy) {
+    delegate.enableDynamicReordering(strategy);
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return delegate.supportsDynamicReordering();
+  }
+
   @Override
   public Region fromFormula(
       BooleanFormula pF, FormulaManagerView pFmgr, Function<BooleanFormula, Region> pAtomToRegion) {
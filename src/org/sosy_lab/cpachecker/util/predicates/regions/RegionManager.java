@@ -50,6 +50,16 @@ public interface RegionManager extends RegionCreator {
    */
   Region createPredicate();
 
+  /**
+   * Creates a new variable like {@link #createPredicate()}, but the variable belongs to the given
+   * group of variables, which reordering keeps close to each other in the variable order.
+   * Implementations without support for variable groups ignore the group.
+   *
+   * @param pGroup an identifier of the group
+   * @return a new predicate
+   */
+  Region createPredicateInGroup(String pGroup);
+
   /**
    * Convert a formula into a region.
    *
@@ -90,6 +100,18 @@ public interface RegionManager extends RegionCreator {
    */
   void reorder(VariableOrderingStrategy strategy);
 
+  /**
+   * Lets the bdd package reorder the bdd variables automatically with the provided strategy
+   * whenever the number of bdd nodes grows.
+   *
+   * @param strategy the reorder strategy that should be applied.
+   * @throws UnsupportedOperationException if {@link #supportsDynamicReordering()} returns false.
+   */
+  void enableDynamicReordering(VariableOrderingStrategy strategy);
+
+  /** Returns whether {@link #enableDynamicReordering(VariableOrderingStrategy)} is supported. */
+  boolean supportsDynamicReordering();
+
   /**
    * Replace predicates in the region with a new predicates.
    *
@@ -162,6 +162,11 @@ public class SymbolicRegionManager implements RegionManager {
     throw new UnsupportedOperationException("Call createPredicate(BooleanFormula) instead.");
   }
 
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    throw new UnsupportedOperationException("Call createPredicate(BooleanFormula) instead.");
+  }
+
   @Override
   public IfThenElseParts getIfThenElse(Region pF) {
     throw new UnsupportedOperationException("Use toFormula(Region) instead of traversal.");
@@ -226,6 +231,16 @@ public class SymbolicRegionManager implements RegionManager {
     // not applicable
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy strategy) {
+    // not applicable
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return true; // there is nothing to reorder, so enabling it is harmless
+  }
+
   @Override
   public void setVarOrder(ImmutableIntArray pOrder) {
     // not applicable
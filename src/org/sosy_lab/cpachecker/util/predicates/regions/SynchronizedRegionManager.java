@@ -113,6 +113,13 @@ public class SynchronizedRegionManager implements RegionManager {
     }
   }
 
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    synchronized (delegate) {
+      return delegate.createPredicateInGroup(pGroup);
+    }
+  }
+
   @Override
   public Region fromFormula(
       BooleanFormula pF, FormulaManagerView pFmgr, Function<BooleanFormula, Region> pAtomToRegion) {
@@ -156,6 +163,18 @@ public class SynchronizedRegionManager implements RegionManager {
     }
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy pStrategy) {
+    synchronized (delegate) {
+      delegate.enableDynamicReordering(pStrategy);
+    }
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return delegate.supportsDynamicReordering();
+  }
+
   @Override
   public Region replace(Region pRegion, List<Region> pOldPredicates, List<Region> pNewPredicates) {
     synchronized (delegate) {
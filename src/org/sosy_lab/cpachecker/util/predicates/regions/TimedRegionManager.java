@@ -151,6 +151,16 @@ public class TimedRegionManager implements RegionManager {
     }
   }
 
+  @Override
+  public Region createPredicateInGroup(String pGroup) {
+    predicateTimer.start();
+    try {
+      return delegate.createPredicateInGroup(pGroup);
+    } finally {
+      predicateTimer.stop();
+    }
+  }
+
   @Override
   public Region fromFormula(
       BooleanFormula pF, FormulaManagerView pFmgr, Function<BooleanFormula, Region> pAtomToRegion) {
@@ -209,6 +219,17 @@ public class TimedRegionManager implements RegionManager {
     }
   }
 
+  @Override
+  public void enableDynamicReordering(VariableOrderingStrategy pStrategy) {
+    // the reorderings themselves happen during other operations and are not measured here
+    delegate.enableDynamicReordering(pStrategy);
+  }
+
+  @Override
+  public boolean supportsDynamicReordering() {
+    return delegate.supportsDynamicReordering();
+  }
+
   @Override
   public Region replace(Region pRegion, List<Region> pOldPredicates, List<Region> pNewPredicates) {
     timer.start();
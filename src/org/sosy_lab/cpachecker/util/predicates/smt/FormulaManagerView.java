@@ -18,6 +18,8 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
@@ -28,6 +30,8 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +44,8 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.SequencedSet;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -1242,6 +1248,135 @@ public class FormulaManagerView {
                     : parseName(name).getFirst()));
   }
 
+  private static final int MAX_CACHED_CANONICAL_FORMULAS = 10_000;
+
+  // cache for sorting the operands of commutative operators (see canonicalize() below),
+  // bounded and thread-safe because this instance may be shared by components running in parallel
+  private final Cache<BooleanFormula, BooleanFormula> commutativeOperandsCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_CANONICAL_FORMULAS).build();
+
+  private static final Comparator<Formula> OPERAND_ORDER =
+      Comparator.<Formula>comparingInt(Object::hashCode).thenComparing(Object::toString);
+
+  /**
+   * Compute a canonical representative of a formula for use as key of caches whose results do not
+   * depend on the order of operands or on concrete SSA indices, like caches of satisfiability
+   * checks. Formulas that only differ in the order of operands of commutative operators (including
+   * nested conjunctions and disjunctions) or in SSA indices, as long as the relative order of the
+   * indices of each variable is the same, get the same representative.
+   *
+   * <p>The representative is equisatisfiable to the input, but in general not equivalent to it.
+   */
+  public BooleanFormula canonicalize(BooleanFormula pFormula) {
+    return canonicalize(ImmutableList.of(pFormula)).getFirst();
+  }
+
+  /**
+   * Canonicalize several formulas like {@link #canonicalize(BooleanFormula)}, but using the same
+   * renaming of SSA indices for all of them, such that the relation between the formulas is
+   * preserved.
+   */
+  public ImmutableList<BooleanFormula> canonicalize(List<BooleanFormula> pFormulas) {
+    // Map the indices of each variable to 1, 2, ... while keeping their order.
+    Map<String, SortedSet<Integer>> indicesOfVariables = new HashMap<>();
+    for (BooleanFormula f : pFormulas) {
+      for (String name : extractFunctionNames(f)) {
+        Pair<String, OptionalInt> parsedName;
+        try {
+          parsedName = parseName(name);
+        } catch (IllegalArgumentException e) {
+          continue; // not an instantiated variable
+        }
+        if (parsedName.getSecond().isPresent()) {
+          indicesOfVariables
+              .computeIfAbsent(parsedName.getFirst(), k -> new TreeSet<>())
+              .add(parsedName.getSecond().orElseThrow());
+        }
+      }
+    }
+    Map<String, String> renaming = new HashMap<>();
+    for (Entry<String, SortedSet<Integer>> variable : indicesOfVariables.entrySet()) {
+      int normalizedIndex = 1;
+      for (int index : variable.getValue()) {
+        if (index != normalizedIndex) {
+          renaming.put(
+              makeName(variable.getKey(), index), makeName(variable.getKey(), normalizedIndex));
+        }
+        normalizedIndex++;
+      }
+    }
+
+    ImmutableList.Builder<BooleanFormula> result =
+        ImmutableList.builderWithExpectedSize(pFormulas.size());
+    for (BooleanFormula f : pFormulas) {
+      if (!renaming.isEmpty()) {
+        f = renameFreeVariablesAndUFs(f, name -> renaming.getOrDefault(name, name));
+      }
+      result.add(sortCommutativeOperands(f));
+    }
+    return result.build();
+  }
+
+  private BooleanFormula sortCommutativeOperands(BooleanFormula pFormula) {
+    BooleanFormula result = commutativeOperandsCache.getIfPresent(pFormula);
+    if (result == null) {
+      result =
+          (BooleanFormula)
+              manager.transformRecursively(pFormula, new CommutativeOperandsSortingVisitor());
+      commutativeOperandsCache.put(pFormula, result);
+    }
+    return result;
+  }
+
+  /**
+   * Sorts the operands of commutative operators. Nested conjunctions and disjunctions are flattened
+   * and duplicate operands are removed before sorting. The order is arbitrary but fixed for a given
+   * solver context.
+   */
+  private class CommutativeOperandsSortingVisitor
+      extends org.sosy_lab.java_smt.api.visitors.FormulaTransformationVisitor {
+
+    private final BooleanFormulaManager rawBfmgr = manager.getBooleanFormulaManager();
+
+    CommutativeOperandsSortingVisitor() {
+      super(manager);
+    }
+
+    @Override
+    public Formula visitFunction(
+        Formula pF, List<Formula> pNewArgs, FunctionDeclaration<?> pFunctionDeclaration) {
+      switch (pFunctionDeclaration.getKind()) {
+        case AND -> {
+          Set<BooleanFormula> operands = new HashSet<>();
+          pNewArgs.forEach(
+              arg -> operands.addAll(rawBfmgr.toConjunctionArgs((BooleanFormula) arg, false)));
+          return rawBfmgr.and(sortOperands(operands));
+        }
+        case OR -> {
+          Set<BooleanFormula> operands = new HashSet<>();
+          pNewArgs.forEach(
+              arg -> operands.addAll(rawBfmgr.toDisjunctionArgs((BooleanFormula) arg, false)));
+          return rawBfmgr.or(sortOperands(operands));
+        }
+        case ADD, MUL, EQ, IFF, XOR, BV_EQ, BV_ADD, BV_MUL, BV_AND, BV_OR, BV_XOR -> {
+          if (pNewArgs.size() == 2) {
+            return manager.makeApplication(pFunctionDeclaration, sortOperands(pNewArgs));
+          }
+          return super.visitFunction(pF, pNewArgs, pFunctionDeclaration);
+        }
+        default -> {
+          return super.visitFunction(pF, pNewArgs, pFunctionDeclaration);
+        }
+      }
+    }
+
+    private <T extends Formula> List<T> sortOperands(Collection<T> pOperands) {
+      List<T> sorted = new ArrayList<>(pOperands);
+      sorted.sort(OPERAND_ORDER);
+      return sorted;
+    }
+  }
+
   /**
    * Apply an arbitrary renaming to all free variables and UFs in a formula.
    *
@@ -12,6 +12,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
 import static com.google.common.truth.TruthJUnit.assume;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -307,6 +308,44 @@ public class FormulaManagerViewTest extends SolverViewBasedTest0 {
     testUnInstantiate(_inst3, _uinst3, ssaBuilder);
   }
 
+  @Test
+  public void testCanonicalizeOperandOrder() {
+    requireIntegers();
+    BooleanFormula a = imgrv.greaterThan(imgrv.makeVariable("a"), imgrv.makeNumber(1));
+    BooleanFormula b = imgrv.lessThan(imgrv.makeVariable("b"), imgrv.makeNumber(2));
+    BooleanFormula c = imgrv.equal(imgrv.makeVariable("c"), imgrv.makeNumber(3));
+
+    assertThat(mgrv.canonicalize(bmgrv.and(bmgrv.and(a, b), c)))
+        .isEqualTo(mgrv.canonicalize(bmgrv.and(c, bmgrv.and(b, a))));
+    assertThat(mgrv.canonicalize(bmgrv.or(a, bmgrv.or(b, c))))
+        .isEqualTo(mgrv.canonicalize(bmgrv.or(bmgrv.or(c, a), b)));
+    assertThat(mgrv.canonicalize(bmgrv.and(a, b))).isNotEqualTo(mgrv.canonicalize(bmgrv.and(a, c)));
+  }
+
+  @Test
+  public void testCanonicalizeSsaIndices() {
+    requireIntegers();
+    IntegerFormula x3 = imgrv.makeVariable("x@3");
+    IntegerFormula x4 = imgrv.makeVariable("x@4");
+    IntegerFormula y7 = imgrv.makeVariable("y@7");
+    IntegerFormula x1 = imgrv.makeVariable("x@1");
+    IntegerFormula x2 = imgrv.makeVariable("x@2");
+    IntegerFormula y1 = imgrv.makeVariable("y@1");
+
+    BooleanFormula f1 =
+        bmgrv.and(imgrv.greaterThan(x3, y7), imgrv.equal(x4, imgrv.add(x3, imgrv.makeNumber(1))));
+    BooleanFormula f2 =
+        bmgrv.and(imgrv.equal(x2, imgrv.add(x1, imgrv.makeNumber(1))), imgrv.greaterThan(x1, y1));
+    assertThat(mgrv.canonicalize(f1)).isEqualTo(mgrv.canonicalize(f2));
+
+    // The renaming is shared between the formulas, so the predicate over x@4 corresponds to the
+    // predicate over x@2.
+    BooleanFormula p1 = imgrv.greaterThan(x4, imgrv.makeNumber(0));
+    BooleanFormula p2 = imgrv.greaterThan(x2, imgrv.makeNumber(0));
+    assertThat(mgrv.canonicalize(ImmutableList.of(f1, p1)))
+        .isEqualTo(mgrv.canonicalize(ImmutableList.of(f2, p2)));
+  }
+
   private void testUnInstantiate(
       BooleanFormula pInstantiated, BooleanFormula pUninstantiated, SSAMapBuilder pSsaBuilder)
       throws SolverException, InterruptedException {
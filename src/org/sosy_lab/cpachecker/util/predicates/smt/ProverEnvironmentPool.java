@@ -0,0 +1,268 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.Model;
+import org.sosy_lab.java_smt.api.Model.ValueAssignment;
+import org.sosy_lab.java_smt.api.ProverEnvironment;
+import org.sosy_lab.java_smt.api.SolverContext.ProverOptions;
+import org.sosy_lab.java_smt.api.SolverException;
+
+/**
+ * Keeps prover environments that were closed by their users and hands them out again for later
+ * queries with the same prover options, such that the setup costs of the solver for a new
+ * environment are only paid once.
+ *
+ * <p>An environment is only reused if it can be reset completely, i.e., if all constraints were
+ * added on a pushed level and can thus be removed by popping. Environments that have constraints on
+ * the base level are closed instead. The pool itself is thread-safe, and an environment is never
+ * handed out to more than one user at the same time. However, all environments of a pool belong to
+ * the same solver context, so they must not be used concurrently unless the solver context allows
+ * this.
+ */
+final class ProverEnvironmentPool implements AutoCloseable {
+
+  private final Function<ProverOptions[], ProverEnvironment> factory;
+  private final int maxIdleEnvironmentsPerOptions;
+
+  private final Map<ImmutableSet<ProverOptions>, Deque<ProverEnvironment>> idleEnvironments =
+      new HashMap<>();
+  private boolean closed = false;
+
+  // stats, guarded by this
+  private int createdEnvironments = 0;
+  private int reusedEnvironments = 0;
+  private int discardedEnvironments = 0;
+
+  /**
+   * @param pFactory creates a new prover environment with the given options if none is available
+   * @param pMaxIdleEnvironmentsPerOptions how many environments are kept for each combination of
+   *     prover options
+   */
+  ProverEnvironmentPool(
+      Function<ProverOptions[], ProverEnvironment> pFactory, int pMaxIdleEnvironmentsPerOptions) {
+    checkArgument(pMaxIdleEnvironmentsPerOptions > 0);
+    factory = pFactory;
+    maxIdleEnvironmentsPerOptions = pMaxIdleEnvironmentsPerOptions;
+  }
+
+  /**
+   * Get a prover environment with the given options and an empty assertion stack. Closing the
+   * returned environment returns it to this pool.
+   */
+  ProverEnvironment acquire(ProverOptions... pOptions) {
+    ImmutableSet<ProverOptions> key = Sets.immutableEnumSet(Arrays.asList(pOptions));
+    ProverEnvironment delegate;
+    synchronized (this) {
+      checkState(!closed, "prover environment pool is closed");
+      Deque<ProverEnvironment> idle = idleEnvironments.get(key);
+      delegate = idle == null ? null : idle.pollFirst();
+      if (delegate != null) {
+        reusedEnvironments++;
+      } else {
+        createdEnvironments++;
+      }
+    }
+    if (delegate == null) {
+      delegate = factory.apply(pOptions);
+    }
+    return new PooledProverEnvironment(delegate, key);
+  }
+
+  private void release(ProverEnvironment pDelegate, ImmutableSet<ProverOptions> pKey) {
+    synchronized (this) {
+      if (!closed) {
+        Deque<ProverEnvironment> idle =
+            idleEnvironments.computeIfAbsent(pKey, k -> new ArrayDeque<>());
+        if (idle.size() < maxIdleEnvironmentsPerOptions) {
+          idle.addFirst(pDelegate);
+          return;
+        }
+      }
+      discardedEnvironments++;
+    }
+    pDelegate.close();
+  }
+
+  private synchronized void discard(ProverEnvironment pDelegate) {
+    discardedEnvironments++;
+    pDelegate.close();
+  }
+
+  synchronized int getCreatedEnvironments() {
+    return createdEnvironments;
+  }
+
+  synchronized int getReusedEnvironments() {
+    return reusedEnvironments;
+  }
+
+  synchronized int getDiscardedEnvironments() {
+    return discardedEnvironments;
+  }
+
+  /** Close all idle environments. Environments that are still in use are closed when released. */
+  @Override
+  public void close() {
+    List<ProverEnvironment> toClose = new ArrayList<>();
+    synchronized (this) {
+      closed = true;
+      idleEnvironments.values().forEach(toClose::addAll);
+      idleEnvironments.clear();
+    }
+    toClose.forEach(ProverEnvironment::close);
+  }
+
+  /**
+   * The environment that is handed out to users. It tracks whether the environment can still be
+   * reset and returns it to the pool instead of closing it.
+   */
+  private final class PooledProverEnvironment implements ProverEnvironment {
+
+    private final ProverEnvironment delegate;
+    private final ImmutableSet<ProverOptions> key;
+
+    /** Whether a constraint was added to the base level, which cannot be removed by popping. */
+    private boolean hasBaseLevelConstraints = false;
+
+    private boolean released = false;
+
+    private PooledProverEnvironment(ProverEnvironment pDelegate, ImmutableSet<ProverOptions> pKey) {
+      delegate = pDelegate;
+      key = pKey;
+    }
+
+    @Override
+    public Void push(BooleanFormula f) throws InterruptedException {
+      checkNotReleased();
+      return delegate.push(f);
+    }
+
+    @Override
+    public void pop() {
+      checkNotReleased();
+      delegate.pop();
+    }
+
+    @Override
+    public Void addConstraint(BooleanFormula constraint) throws InterruptedException {
+      checkNotReleased();
+      if (delegate.size() == 0) {
+        hasBaseLevelConstraints = true;
+      }
+      return delegate.addConstraint(constraint);
+    }
+
+    @Override
+    public void push() throws InterruptedException {
+      checkNotReleased();
+      delegate.push();
+    }
+
+    @Override
+    public int size() {
+      checkNotReleased();
+      return delegate.size();
+    }
+
+    @Override
+    public boolean isUnsat() throws SolverException, InterruptedException {
+      checkNotReleased();
+      return delegate.isUnsat();
+    }
+
+    @Override
+    public Model getModel() throws SolverException {
+      checkNotReleased();
+      return delegate.getModel();
+    }
+
+    @Override
+    public ImmutableList<ValueAssignment> getModelAssignments() throws SolverException {
+      checkNotReleased();
+      return delegate.getModelAssignments();
+    }
+
+    @Override
+    public boolean isUnsatWithAssumptions(Collection<BooleanFormula> assumptions)
+        throws SolverException, InterruptedException {
+      checkNotReleased();
+      return delegate.isUnsatWithAssumptions(assumptions);
+    }
+
+    @Override
+    public List<BooleanFormula> getUnsatCore() {
+      checkNotReleased();
+      return delegate.getUnsatCore();
+    }
+
+    @Override
+    public Optional<List<BooleanFormula>> unsatCoreOverAssumptions(
+        Collection<BooleanFormula> assumptions) throws SolverException, InterruptedException {
+      checkNotReleased();
+      return delegate.unsatCoreOverAssumptions(assumptions);
+    }
+
+    @Override
+    public <R> R allSat(AllSatCallback<R> callback, List<BooleanFormula> important)
+        throws InterruptedException, SolverException {
+      checkNotReleased();
+      return delegate.allSat(callback, important);
+    }
+
+    private void checkNotReleased() {
+      checkState(!released, "prover environment was already closed");
+    }
+
+    @Override
+    public void close() {
+      if (released) {
+        return;
+      }
+      released = true;
+
+      if (hasBaseLevelConstraints) {
+        discard(delegate);
+        return;
+      }
+      try {
+        while (delegate.size() > 0) {
+          delegate.pop();
+        }
+      } catch (RuntimeException e) {
+        // the solver is in an unknown state, do not hand out this environment again
+        discard(delegate);
+        throw e;
+      }
+      release(delegate, key);
+    }
+
+    @Override
+    public String toString() {
+      return delegate.toString();
+    }
+  }
+}
@@ -0,0 +1,117 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.ProverEnvironment;
+import org.sosy_lab.java_smt.api.SolverContext.ProverOptions;
+
+public class ProverEnvironmentPoolTest {
+
+  private final List<ProverEnvironment> created = new ArrayList<>();
+  private ProverEnvironmentPool pool;
+
+  @Before
+  public void setUp() {
+    pool =
+        new ProverEnvironmentPool(
+            options -> {
+              ProverEnvironment env = mock(ProverEnvironment.class);
+              created.add(env);
+              return env;
+            },
+            1);
+  }
+
+  @Test
+  public void testReuse() throws InterruptedException {
+    ProverEnvironment first = pool.acquire();
+    first.push(mock(BooleanFormula.class));
+    first.close();
+    pool.acquire().close();
+
+    assertThat(created).hasSize(1);
+    verify(created.get(0), never()).close();
+    assertThat(pool.getCreatedEnvironments()).isEqualTo(1);
+    assertThat(pool.getReusedEnvironments()).isEqualTo(1);
+  }
+
+  @Test
+  public void testResetOnRelease() {
+    ProverEnvironment env = pool.acquire();
+    when(created.get(0).size()).thenReturn(2, 1, 0);
+    env.close();
+
+    verify(created.get(0), times(2)).pop();
+    verify(created.get(0), never()).close();
+  }
+
+  @Test
+  public void testDifferentOptionsAreNotShared() {
+    pool.acquire(ProverOptions.GENERATE_MODELS).close();
+    pool.acquire(ProverOptions.GENERATE_UNSAT_CORE).close();
+    pool.acquire(ProverOptions.GENERATE_MODELS).close();
+
+    assertThat(created).hasSize(2);
+    assertThat(pool.getReusedEnvironments()).isEqualTo(1);
+  }
+
+  @Test
+  public void testBaseLevelConstraintsPreventReuse() throws InterruptedException {
+    ProverEnvironment env = pool.acquire();
+    env.addConstraint(mock(BooleanFormula.class));
+    env.close();
+    pool.acquire().close();
+
+    assertThat(created).hasSize(2);
+    verify(created.get(0)).close();
+    assertThat(pool.getDiscardedEnvironments()).isEqualTo(1);
+  }
+
+  @Test
+  public void testLimitOfIdleEnvironments() {
+    ProverEnvironment first = pool.acquire();
+    ProverEnvironment second = pool.acquire();
+    first.close();
+    second.close();
+
+    assertThat(created).hasSize(2);
+    verify(created.get(0), never()).close();
+    verify(created.get(1)).close();
+  }
+
+  @Test
+  public void testUseAfterClose() {
+    ProverEnvironment env = pool.acquire();
+    env.close();
+    assertThrows(IllegalStateException.class, env::size);
+  }
+
+  @Test
+  public void testCloseClosesIdleEnvironments() {
+    ProverEnvironment env = pool.acquire();
+    env.close();
+    pool.close();
+
+    verify(created.get(0)).close();
+    assertThrows(IllegalStateException.class, () -> pool.acquire());
+  }
+}
@@ -0,0 +1,139 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.Model;
+import org.sosy_lab.java_smt.api.Model.ValueAssignment;
+import org.sosy_lab.java_smt.api.ProverEnvironment;
+import org.sosy_lab.java_smt.api.SolverException;
+
+/**
+ * Prover environment that keeps track of the asserted formulas and records every satisfiability
+ * check in a {@link SmtQueryLog}.
+ */
+class QueryLoggingProverEnvironment implements ProverEnvironment {
+
+  private final ProverEnvironment delegate;
+  private final SmtQueryLog queryLog;
+
+  /** The asserted formulas for each level of the stack, including the base level. */
+  private final List<List<BooleanFormula>> assertions = new ArrayList<>();
+
+  QueryLoggingProverEnvironment(ProverEnvironment pDelegate, SmtQueryLog pQueryLog) {
+    delegate = pDelegate;
+    queryLog = pQueryLog;
+    assertions.add(new ArrayList<>());
+  }
+
+  @Override
+  public Void push(BooleanFormula f) throws InterruptedException {
+    Void result = delegate.push(f);
+    assertions.add(new ArrayList<>(ImmutableList.of(f)));
+    return result;
+  }
+
+  @Override
+  public void pop() {
+    delegate.pop();
+    assertions.removeLast();
+  }
+
+  @Override
+  public Void addConstraint(BooleanFormula constraint) throws InterruptedException {
+    Void result = delegate.addConstraint(constraint);
+    assertions.getLast().add(constraint);
+    return result;
+  }
+
+  @Override
+  public void push() throws InterruptedException {
+    delegate.push();
+    assertions.add(new ArrayList<>());
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public boolean isUnsat() throws SolverException, InterruptedException {
+    return logged(ImmutableList.of(), delegate::isUnsat);
+  }
+
+  @Override
+  public boolean isUnsatWithAssumptions(Collection<BooleanFormula> assumptions)
+      throws SolverException, InterruptedException {
+    return logged(assumptions, () -> delegate.isUnsatWithAssumptions(assumptions));
+  }
+
+  @FunctionalInterface
+  private interface Query {
+    boolean isUnsat() throws SolverException, InterruptedException;
+  }
+
+  private boolean logged(Collection<BooleanFormula> pAssumptions, Query pQuery)
+      throws SolverException, InterruptedException {
+    String result = "unknown";
+    long start = System.nanoTime();
+    try {
+      boolean isUnsat = pQuery.isUnsat();
+      result = isUnsat ? "unsat" : "sat";
+      return isUnsat;
+    } finally {
+      long time = System.nanoTime() - start;
+      List<BooleanFormula> asserted = new ArrayList<>();
+      assertions.forEach(asserted::addAll);
+      queryLog.logQuery(asserted, pAssumptions, result, time);
+    }
+  }
+
+  @Override
+  public Model getModel() throws SolverException {
+    return delegate.getModel();
+  }
+
+  @Override
+  public ImmutableList<ValueAssignment> getModelAssignments() throws SolverException {
+    return delegate.getModelAssignments();
+  }
+
+  @Override
+  public List<BooleanFormula> getUnsatCore() {
+    return delegate.getUnsatCore();
+  }
+
+  @Override
+  public Optional<List<BooleanFormula>> unsatCoreOverAssumptions(
+      Collection<BooleanFormula> assumptions) throws SolverException, InterruptedException {
+    return delegate.unsatCoreOverAssumptions(assumptions);
+  }
+
+  @Override
+  public <R> R allSat(AllSatCallback<R> callback, List<BooleanFormula> important)
+      throws InterruptedException, SolverException {
+    return delegate.allSat(callback, important);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,282 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.io.IO;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+
+/**
+ * Records satisfiability checks to a file such that they can be replayed later without running the
+ * analysis, cf. {@link SmtQueryReplay}.
+ *
+ * <p>The log is a sequence of entries. Each entry starts with a header line {@code ;; query <id>
+ * <component> <result> <time in ns>}, followed by the conjunction of all assertions on the solver
+ * stack as an SMT-LIB script with the necessary declarations, and optionally by one {@code ;;
+ * assumption} line and SMT-LIB script for each assumption of the query. The component is the method
+ * that issued the query, i.e., the first caller outside of the solver wrappers.
+ *
+ * <p>All instances that log to the same file share one writer, such that several solvers of one
+ * analysis do not overwrite each other's entries, and query ids are unique per file. The file is
+ * closed when the last instance writing to it is closed, and later instances append to it. Each
+ * entry is flushed immediately, such that the log is complete even if a solver is never closed.
+ */
+final class SmtQueryLog implements AutoCloseable {
+
+  private static final String FILE_HEADER = ";; CPAchecker SMT query log";
+  private static final String QUERY_PREFIX = ";; query ";
+  private static final String ASSUMPTION_LINE = ";; assumption";
+
+  private static final ImmutableList<String> SOLVER_PACKAGES =
+      ImmutableList.of(
+          "org.sosy_lab.cpachecker.util.predicates.ufCheckingProver.", "org.sosy_lab.java_smt.");
+
+  private static final ImmutableSet<String> SOLVER_WRAPPER_CLASSES =
+      ImmutableSet.of(
+          Solver.class.getName(),
+          BasicProverEnvironmentView.class.getName(),
+          ProverEnvironmentView.class.getName(),
+          ProverEnvironmentPool.class.getName(),
+          QueryLoggingProverEnvironment.class.getName(),
+          SmtQueryLog.class.getName());
+
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  /** A query as read back from a log file. */
+  record LoggedQuery(
+      int id,
+      String component,
+      String result,
+      long timeNanos,
+      String assertions,
+      ImmutableList<String> assumptions) {}
+
+  /** A log file, shared by all instances that log to it. */
+  private static final class LogFile {
+
+    // guarded by this
+    private @Nullable Writer writer;
+    private boolean failed = false;
+    private int nextQueryId = 0;
+
+    // guarded by logFiles
+    private int users = 0;
+
+    private LogFile(Writer pWriter) {
+      writer = pWriter;
+    }
+  }
+
+  // All files written by this JVM, guarded by itself. Files are kept here after they were closed,
+  // such that a later log for the same file appends instead of truncating it.
+  private static final Map<Path, LogFile> logFiles = new HashMap<>();
+
+  private final LogFile file;
+  private final FormulaManagerView fmgr;
+  private final LogManager logger;
+
+  // guarded by logFiles
+  private boolean closed = false;
+
+  private SmtQueryLog(LogFile pFile, FormulaManagerView pFmgr, LogManager pLogger) {
+    file = pFile;
+    fmgr = pFmgr;
+    logger = pLogger;
+  }
+
+  /**
+   * Create a log that writes to the given file. The file is truncated only if no other log has
+   * written to it before, otherwise the new entries are appended.
+   */
+  static SmtQueryLog create(Path pFile, FormulaManagerView pFmgr, LogManager pLogger)
+      throws IOException {
+    Path path = pFile.toAbsolutePath().normalize();
+    synchronized (logFiles) {
+      LogFile file = logFiles.get(path);
+      if (file == null) {
+        Writer writer = IO.openOutputFile(path, StandardCharsets.UTF_8);
+        writer.append(FILE_HEADER).append('\n');
+        file = new LogFile(writer);
+        logFiles.put(path, file);
+      } else if (file.users == 0) {
+        synchronized (file) {
+          if (!file.failed) {
+            file.writer =
+                Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+          }
+        }
+      }
+      file.users++;
+      return new SmtQueryLog(file, pFmgr, pLogger);
+    }
+  }
+
+  /**
+   * Append an entry for a query to the log.
+   *
+   * @param pAssertions the formulas on the solver stack
+   * @param pAssumptions the assumptions of the query, if any
+   * @param pResult "sat", "unsat", or "unknown" if the query failed
+   * @param pTimeNanos the time the solver needed for the query
+   */
+  void logQuery(
+      List<BooleanFormula> pAssertions,
+      Collection<BooleanFormula> pAssumptions,
+      String pResult,
+      long pTimeNanos) {
+    String component = getCallingComponent();
+    BooleanFormulaManagerView bfmgr = fmgr.getBooleanFormulaManager();
+
+    // Creating the dumps is the expensive part, do this before taking the lock.
+    StringBuilder entry = new StringBuilder();
+    try {
+      fmgr.dumpFormula(bfmgr.and(pAssertions)).appendTo(entry);
+      for (BooleanFormula assumption : pAssumptions) {
+        entry.append(ASSUMPTION_LINE).append('\n');
+        fmgr.dumpFormula(assumption).appendTo(entry);
+      }
+    } catch (IOException e) {
+      throw new AssertionError("StringBuilder does not throw IOException", e);
+    }
+
+    synchronized (file) {
+      Writer writer = file.writer;
+      if (writer == null) {
+        return;
+      }
+      try {
+        writer
+            .append(QUERY_PREFIX)
+            .append(Integer.toString(file.nextQueryId++))
+            .append(' ')
+            .append(component)
+            .append(' ')
+            .append(pResult)
+            .append(' ')
+            .append(Long.toString(pTimeNanos))
+            .append('\n')
+            .append(entry)
+            .flush();
+      } catch (IOException e) {
+        logger.logUserException(Level.WARNING, e, "Could not write SMT query log, disabling it");
+        file.failed = true;
+        closeWriter();
+      }
+    }
+  }
+
+  private static String getCallingComponent() {
+    return STACK_WALKER
+        .walk(frames -> frames.filter(f -> !isSolverWrapper(f.getClassName())).findFirst())
+        .map(f -> f.getClassName() + "." + f.getMethodName())
+        .orElse("unknown");
+  }
+
+  private static boolean isSolverWrapper(String pClassName) {
+    int nestedClassSeparator = pClassName.indexOf('$');
+    String topLevelClass =
+        nestedClassSeparator < 0 ? pClassName : pClassName.substring(0, nestedClassSeparator);
+    return SOLVER_WRAPPER_CLASSES.contains(topLevelClass)
+        || SOLVER_PACKAGES.stream().anyMatch(pClassName::startsWith);
+  }
+
+  @Override
+  public void close() {
+    synchronized (logFiles) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      file.users--;
+      if (file.users == 0) {
+        synchronized (file) {
+          closeWriter();
+        }
+      }
+    }
+  }
+
+  // requires lock on file
+  private void closeWriter() {
+    Writer writer = file.writer;
+    if (writer != null) {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        logger.logUserException(Level.WARNING, e, "Could not write SMT query log");
+      }
+      file.writer = null;
+    }
+  }
+
+  /** Read all queries from a log file written by this class. */
+  static ImmutableList<LoggedQuery> read(Path pFile) throws IOException {
+    ImmutableList.Builder<LoggedQuery> queries = ImmutableList.builder();
+    try (BufferedReader reader = Files.newBufferedReader(pFile, StandardCharsets.UTF_8)) {
+      String line = reader.readLine();
+      checkArgument(FILE_HEADER.equals(line), "%s is not an SMT query log", pFile);
+
+      List<String> header = null;
+      List<StringBuilder> parts = new ArrayList<>();
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(QUERY_PREFIX)) {
+          if (header != null) {
+            queries.add(toQuery(header, parts));
+          }
+          header = Splitter.on(' ').splitToList(line.substring(QUERY_PREFIX.length()));
+          checkArgument(header.size() == 4, "invalid query header in %s: %s", pFile, line);
+          parts = new ArrayList<>();
+          parts.add(new StringBuilder());
+        } else if (header == null) {
+          throw new IllegalArgumentException("missing query header in " + pFile);
+        } else if (line.equals(ASSUMPTION_LINE)) {
+          parts.add(new StringBuilder());
+        } else {
+          parts.getLast().append(line).append('\n');
+        }
+      }
+      if (header != null) {
+        queries.add(toQuery(header, parts));
+      }
+    }
+    return queries.build();
+  }
+
+  private static LoggedQuery toQuery(List<String> pHeader, List<StringBuilder> pParts) {
+    return new LoggedQuery(
+        Integer.parseInt(pHeader.get(0)),
+        pHeader.get(1),
+        pHeader.get(2),
+        Long.parseLong(pHeader.get(3)),
+        pParts.getFirst().toString(),
+        pParts.stream()
+            .skip(1)
+            .map(StringBuilder::toString)
+            .collect(ImmutableList.toImmutableList()));
+  }
+}
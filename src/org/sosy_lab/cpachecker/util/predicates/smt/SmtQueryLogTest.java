@@ -0,0 +1,103 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sosy_lab.cpachecker.util.predicates.smt.SmtQueryLog.LoggedQuery;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.NumeralFormula.IntegerFormula;
+import org.sosy_lab.java_smt.api.ProverEnvironment;
+import org.sosy_lab.java_smt.api.SolverException;
+
+public class SmtQueryLogTest extends SolverViewBasedTest0 {
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void testLogAndReplay() throws IOException, SolverException, InterruptedException {
+    requireIntegers();
+    Path logFile = tempFolder.newFile("queries.smt2").toPath();
+    IntegerFormula x = imgrv.makeVariable("x");
+    BooleanFormula positive = imgrv.greaterThan(x, imgrv.makeNumber(0));
+    BooleanFormula negative = imgrv.lessThan(x, imgrv.makeNumber(0));
+
+    try (SmtQueryLog queryLog = SmtQueryLog.create(logFile, mgrv, logger);
+        ProverEnvironment prover =
+            new QueryLoggingProverEnvironment(context.newProverEnvironment(), queryLog)) {
+      prover.push(positive);
+      assertThat(prover.isUnsat()).isFalse();
+      prover.push(negative);
+      assertThat(prover.isUnsat()).isTrue();
+      prover.pop();
+      assertThat(prover.isUnsatWithAssumptions(ImmutableList.of(negative))).isTrue();
+    }
+
+    ImmutableList<LoggedQuery> queries = SmtQueryLog.read(logFile);
+    assertThat(queries).hasSize(3);
+    assertThat(queries.get(0).result()).isEqualTo("sat");
+    assertThat(queries.get(1).result()).isEqualTo("unsat");
+    assertThat(queries.get(2).assumptions()).hasSize(1);
+    assertThat(queries.get(0).component()).contains(getClass().getName());
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    SmtQueryReplay.replay(queries, context, new PrintStream(output, true, StandardCharsets.UTF_8));
+    assertThat(output.toString(StandardCharsets.UTF_8)).contains("Changed results:   0");
+    assertThat(output.toString(StandardCharsets.UTF_8)).contains("Failed queries:    0");
+  }
+
+  @Test
+  public void testLogsShareFile() throws IOException, SolverException, InterruptedException {
+    requireIntegers();
+    Path logFile = tempFolder.newFile("shared.smt2").toPath();
+    IntegerFormula x = imgrv.makeVariable("x");
+    BooleanFormula positive = imgrv.greaterThan(x, imgrv.makeNumber(0));
+
+    try (SmtQueryLog firstLog = SmtQueryLog.create(logFile, mgrv, logger);
+        SmtQueryLog secondLog = SmtQueryLog.create(logFile, mgrv, logger)) {
+      try (ProverEnvironment first =
+              new QueryLoggingProverEnvironment(context.newProverEnvironment(), firstLog);
+          ProverEnvironment second =
+              new QueryLoggingProverEnvironment(context.newProverEnvironment(), secondLog)) {
+        first.push(positive);
+        assertThat(first.isUnsat()).isFalse();
+        second.push(bmgrv.makeFalse());
+        assertThat(second.isUnsat()).isTrue();
+      }
+
+      // entries are flushed even though the logs are still open
+      ImmutableList<LoggedQuery> queries = SmtQueryLog.read(logFile);
+      assertThat(from(queries).transform(LoggedQuery::id)).containsExactly(0, 1).inOrder();
+      assertThat(from(queries).transform(LoggedQuery::result))
+          .containsExactly("sat", "unsat")
+          .inOrder();
+    }
+
+    // a log that is created after all others were closed appends to the file
+    try (SmtQueryLog thirdLog = SmtQueryLog.create(logFile, mgrv, logger);
+        ProverEnvironment third =
+            new QueryLoggingProverEnvironment(context.newProverEnvironment(), thirdLog)) {
+      third.push(positive);
+      assertThat(third.isUnsat()).isFalse();
+    }
+    assertThat(from(SmtQueryLog.read(logFile)).transform(LoggedQuery::id))
+        .containsExactly(0, 1, 2)
+        .inOrder();
+  }
+}
@@ -0,0 +1,147 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.annotations.SuppressForbidden;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.util.predicates.smt.SmtQueryLog.LoggedQuery;
+import org.sosy_lab.java_smt.SolverContextFactory;
+import org.sosy_lab.java_smt.SolverContextFactory.Solvers;
+import org.sosy_lab.java_smt.api.BooleanFormula;
+import org.sosy_lab.java_smt.api.FormulaManager;
+import org.sosy_lab.java_smt.api.ProverEnvironment;
+import org.sosy_lab.java_smt.api.SolverContext;
+import org.sosy_lab.java_smt.api.SolverException;
+
+/**
+ * Replays an SMT query log that was recorded with the option {@code solver.queryLogFile} against a
+ * JavaSMT backend, and reports for each query the recorded and the new result and time, as well as
+ * the accumulated times per calling component. This allows to benchmark solvers and caching
+ * strategies on the queries of an analysis without running the analysis itself.
+ *
+ * <p>Usage: {@code java -cp cpachecker.jar:lib/java/runtime/* <this class> <log file> [<solver>]},
+ * where the solver is one of {@link Solvers} and defaults to SMTInterpol.
+ */
+@SuppressForbidden("System.out in this class is ok")
+public final class SmtQueryReplay {
+
+  private static final class ComponentStats {
+    private int queries = 0;
+    private long recordedNanos = 0;
+    private long replayedNanos = 0;
+  }
+
+  private SmtQueryReplay() {}
+
+  public static void main(String[] args)
+      throws IOException, InvalidConfigurationException, InterruptedException {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("Usage: SmtQueryReplay <log file> [<solver>]");
+      System.exit(1);
+    }
+    Solvers solver =
+        args.length > 1 ? Solvers.valueOf(args[1].toUpperCase(Locale.ROOT)) : Solvers.SMTINTERPOL;
+    ImmutableList<LoggedQuery> queries = SmtQueryLog.read(Path.of(args[0]));
+
+    try (SolverContext context =
+        SolverContextFactory.createSolverContext(
+            Configuration.defaultConfiguration(),
+            LogManager.createNullLogManager(),
+            ShutdownNotifier.createDummy(),
+            solver)) {
+      replay(queries, context, System.out);
+    }
+  }
+
+  static void replay(ImmutableList<LoggedQuery> pQueries, SolverContext pContext, PrintStream pOut)
+      throws InterruptedException {
+    FormulaManager fmgr = pContext.getFormulaManager();
+    Map<String, ComponentStats> statsPerComponent = new TreeMap<>();
+    int mismatches = 0;
+    int failures = 0;
+
+    pOut.println("id\tcomponent\trecorded result\treplayed result\trecorded ms\treplayed ms");
+    for (LoggedQuery query : pQueries) {
+      String result;
+      long time = 0;
+      try (ProverEnvironment prover = pContext.newProverEnvironment()) {
+        prover.push(fmgr.parse(query.assertions()));
+        ImmutableList.Builder<BooleanFormula> assumptions = ImmutableList.builder();
+        for (String assumption : query.assumptions()) {
+          assumptions.add(fmgr.parse(assumption));
+        }
+        ImmutableList<BooleanFormula> assumptionFormulas = assumptions.build();
+
+        long start = System.nanoTime();
+        boolean isUnsat =
+            assumptionFormulas.isEmpty()
+                ? prover.isUnsat()
+                : prover.isUnsatWithAssumptions(assumptionFormulas);
+        time = System.nanoTime() - start;
+        result = isUnsat ? "unsat" : "sat";
+      } catch (IllegalArgumentException | UnsupportedOperationException | SolverException e) {
+        result = "failed (" + e.getMessage() + ")";
+        failures++;
+      }
+
+      if (!result.startsWith("failed")
+          && !query.result().equals("unknown")
+          && !result.equals(query.result())) {
+        mismatches++;
+      }
+      ComponentStats stats =
+          statsPerComponent.computeIfAbsent(query.component(), k -> new ComponentStats());
+      stats.queries++;
+      stats.recordedNanos += query.timeNanos();
+      stats.replayedNanos += time;
+
+      pOut.printf(
+          Locale.ROOT,
+          "%d\t%s\t%s\t%s\t%.3f\t%.3f%n",
+          query.id(),
+          query.component(),
+          query.result(),
+          result,
+          toMillis(query.timeNanos()),
+          toMillis(time));
+    }
+
+    pOut.println();
+    pOut.println("component\tqueries\trecorded ms\treplayed ms");
+    for (Map.Entry<String, ComponentStats> entry : statsPerComponent.entrySet()) {
+      ComponentStats stats = entry.getValue();
+      pOut.printf(
+          Locale.ROOT,
+          "%s\t%d\t%.3f\t%.3f%n",
+          entry.getKey(),
+          stats.queries,
+          toMillis(stats.recordedNanos),
+          toMillis(stats.replayedNanos));
+    }
+    pOut.println();
+    pOut.println("Replayed queries:  " + pQueries.size());
+    pOut.println("Failed queries:    " + failures);
+    pOut.println("Changed results:   " + mismatches);
+  }
+
+  private static double toMillis(long pNanos) {
+    return (double) pNanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -17,7 +17,9 @@ import com.google.common.base.Verify;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +28,8 @@ import java.util.concurrent.TimeUnit;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -83,6 +87,14 @@ public final class Solver implements AutoCloseable {
   @Option(secure = true, description = "Extract and cache unsat cores for satisfiability checking")
   private boolean cacheUnsatCores = true;
 
+  @Option(
+      secure = true,
+      description =
+          "Use a canonical form of formulas as key for the cache of satisfiability checks, such"
+              + " that formulas that only differ in the order of operands of commutative operators"
+              + " or in their SSA indices share cache entries.")
+  private boolean canonicalizeCacheKeys = false;
+
   @Option(
       secure = true,
       description =
@@ -90,6 +102,26 @@ public final class Solver implements AutoCloseable {
               + "otherwise nothing is logged from the solver.")
   private boolean enableLoggingInSolver = false;
 
+  @Option(
+      secure = true,
+      description =
+          "Keep up to this many closed prover environments for each combination of prover"
+              + " options and reset and reuse them for later queries instead of creating a new"
+              + " environment for each query (0 to disable). Environments with constraints"
+              + " on their base level are never reused.")
+  @IntegerOption(min = 0)
+  private int reusableProverEnvironments = 0;
+
+  @Option(
+      secure = true,
+      description =
+          "Record every satisfiability check of a prover environment to this file, including the"
+              + " asserted formulas in SMT-LIB format, the result, the time and the calling"
+              + " component. All solvers write to the same log. The log can be replayed with"
+              + " SmtQueryReplay.")
+  @FileOption(FileOption.Type.OUTPUT_FILE)
+  private @Nullable Path queryLogFile = null;
+
   private final @Nullable UFCheckingProverOptions ufCheckingProverOptions;
 
   private final SolverContext solvingContext;
@@ -100,6 +132,9 @@ public final class Solver implements AutoCloseable {
 
   private final BooleanFormulaManagerView solvingBfmgr;
 
+  private final @Nullable ProverEnvironmentPool proverPool;
+  private final @Nullable SmtQueryLog queryLog;
+
   private final Map<BooleanFormula, Boolean> unsatCache = new HashMap<>();
 
   /**
@@ -166,6 +201,9 @@ public final class Solver implements AutoCloseable {
     } else {
       ufCheckingProverOptions = null;
     }
+
+    proverPool = createProverPool();
+    queryLog = createQueryLog(pLogger);
   }
 
   /**
@@ -214,6 +252,30 @@ public final class Solver implements AutoCloseable {
     } else {
       ufCheckingProverOptions = null;
     }
+
+    proverPool = createProverPool();
+    queryLog = createQueryLog(pLogger);
+  }
+
+  private @Nullable ProverEnvironmentPool createProverPool() {
+    if (reusableProverEnvironments == 0) {
+      return null;
+    }
+    return new ProverEnvironmentPool(
+        this::newUnpooledProverEnvironment, reusableProverEnvironments);
+  }
+
+  private @Nullable SmtQueryLog createQueryLog(LogManager pLogger)
+      throws InvalidConfigurationException {
+    if (queryLogFile == null) {
+      return null;
+    }
+    try {
+      return SmtQueryLog.create(queryLogFile, solvingFmgr, pLogger);
+    } catch (IOException e) {
+      throw new InvalidConfigurationException(
+          "Cannot write SMT query log " + queryLogFile + ": " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -278,6 +340,12 @@ public final class Solver implements AutoCloseable {
    * formulas.
    */
   public void printStatistics(PrintStream pOut) {
+    if (proverPool != null) {
+      writingStatisticsTo(pOut)
+          .put("Number of created prover environments", proverPool.getCreatedEnvironments())
+          .put("Number of reused prover environments", proverPool.getReusedEnvironments())
+          .put("Number of discarded prover environments", proverPool.getDiscardedEnvironments());
+    }
     if (solvingContext instanceof StatisticsSolverContext statisticsSolverContext) {
       final SolverStatistics stats = statisticsSolverContext.getSolverStatistics();
       pOut.println();
@@ -332,14 +400,25 @@ public final class Solver implements AutoCloseable {
   }
 
   private ProverEnvironment newProverEnvironment0(ProverOptions... options) {
+    ProverEnvironment pe =
+        proverPool != null ? proverPool.acquire(options) : newUnpooledProverEnvironment(options);
+
+    if (queryLog != null) {
+      pe = new QueryLoggingProverEnvironment(pe, queryLog);
+    }
+
+    pe = new ProverEnvironmentView(pe, solvingFmgr.getFormulaWrappingHandler());
+
+    return pe;
+  }
+
+  private ProverEnvironment newUnpooledProverEnvironment(ProverOptions... options) {
     ProverEnvironment pe = solvingContext.newProverEnvironment(options);
 
     if (checkUFs) {
       pe = new UFCheckingProverEnvironment(logger, pe, solvingFmgr, ufCheckingProverOptions);
     }
 
-    pe = new ProverEnvironmentView(pe, solvingFmgr.getFormulaWrappingHandler());
-
     return pe;
   }
 
@@ -424,7 +503,7 @@ public final class Solver implements AutoCloseable {
       } finally {
         solverTime.stop();
       }
-      unsatCache.put(f, isUnsat);
+      unsatCache.put(getCacheKey(f), isUnsat);
 
       if (modelCallback != null && !isUnsat) {
         try (Model model = prover.getModel()) {
@@ -454,13 +533,17 @@ public final class Solver implements AutoCloseable {
     }
 
     // check cache
-    Boolean cachedIsUnsat = unsatCache.get(f);
+    Boolean cachedIsUnsat = unsatCache.get(getCacheKey(f));
     if (cachedIsUnsat != null) {
       cachedSatChecks++;
     }
     return cachedIsUnsat;
   }
 
+  private BooleanFormula getCacheKey(BooleanFormula f) {
+    return canonicalizeCacheKeys ? solvingFmgr.canonicalize(f) : f;
+  }
+
   /**
    * Unsatisfiability check with more complex cache look up, optionally based on unsat core.
    *
@@ -553,6 +636,7 @@ public final class Solver implements AutoCloseable {
       throws SolverException, InterruptedException {
 
     try (ProverEnvironment prover = newProverEnvironment(GENERATE_UNSAT_CORE)) {
+      prover.push();
       for (BooleanFormula constraint : constraints) {
         prover.addConstraint(constraint);
       }
@@ -588,6 +672,13 @@ public final class Solver implements AutoCloseable {
     // such that no exception gets lost and both managers get closed.
     // Taken from https://stackoverflow.com/questions/24705055/wrapping-multiple-autocloseables
     // Guava has Closer, but it does not yet support AutoCloseables.
+    if (proverPool != null) {
+      proverPool.close();
+    }
+    if (queryLog != null) {
+      queryLog.close();
+    }
+
     Throwable t = null;
     try {
       solvingContext.close();
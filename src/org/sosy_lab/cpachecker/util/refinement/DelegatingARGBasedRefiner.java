@@ -27,6 +27,7 @@ import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.exceptions.RefinementFailedException;
 import org.sosy_lab.cpachecker.exceptions.RefinementFailedException.Reason;
+import org.sosy_lab.cpachecker.util.CPAs;
 import org.sosy_lab.cpachecker.util.statistics.StatCounter;
 import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
 
@@ -34,7 +35,8 @@ import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
  * This is a {@link ARGBasedRefiner} that delegates each refinement to a list of given {@link
  * ARGBasedRefiner}s (in the given order) until one succeeds.
  */
-public final class DelegatingARGBasedRefiner implements ARGBasedRefiner, StatisticsProvider {
+public final class DelegatingARGBasedRefiner
+    implements ARGBasedRefiner, StatisticsProvider, AutoCloseable {
 
   private final List<ARGBasedRefiner> refiners;
 
@@ -150,4 +152,11 @@ public final class DelegatingARGBasedRefiner implements ARGBasedRefiner, Statist
       }
     }
   }
+
+  @Override
+  public void close() {
+    for (ARGBasedRefiner refiner : refiners) {
+      CPAs.closeIfPossible(refiner, logger);
+    }
+  }
 }
@@ -15,6 +15,7 @@ import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
+import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
 import org.sosy_lab.cpachecker.core.counterexample.CounterexampleInfo;
 import org.sosy_lab.cpachecker.core.interfaces.Statistics;
@@ -24,6 +25,7 @@ import org.sosy_lab.cpachecker.cpa.arg.ARGBasedRefiner;
 import org.sosy_lab.cpachecker.cpa.arg.ARGReachedSet;
 import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.CPAs;
 import org.sosy_lab.cpachecker.util.refinement.PrefixSelector.PrefixPreference;
 import org.sosy_lab.cpachecker.util.statistics.StatCounter;
 import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
@@ -35,7 +37,7 @@ import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
  */
 @Options(prefix = "cegar")
 public final class DelegatingARGBasedRefinerWithRefinementSelection
-    implements ARGBasedRefiner, StatisticsProvider {
+    implements ARGBasedRefiner, StatisticsProvider, AutoCloseable {
 
   @Option(
       secure = true,
@@ -49,6 +51,8 @@ public final class DelegatingARGBasedRefinerWithRefinementSelection
               + " refined")
   private int domainScoreThreshold = 1024;
 
+  private final LogManager logger;
+
   /** classifier used to score sliced prefixes */
   private final PrefixSelector classfier;
 
@@ -84,6 +88,7 @@ public final class DelegatingARGBasedRefinerWithRefinementSelection
 
   public DelegatingARGBasedRefinerWithRefinementSelection(
       final Configuration pConfig,
+      final LogManager pLogger,
       final PrefixSelector pClassifier,
       final ARGBasedRefiner pPrimaryRefiner,
       final PrefixProvider pPrimaryPrefixProvider,
@@ -91,6 +96,7 @@ public final class DelegatingARGBasedRefinerWithRefinementSelection
       final PrefixProvider pSecondaryPrefixProvider)
       throws InvalidConfigurationException {
     pConfig.inject(this);
+    logger = pLogger;
 
     classfier = pClassifier;
 
@@ -212,4 +218,10 @@ public final class DelegatingARGBasedRefinerWithRefinementSelection
       statisticsProvider.collectStatistics(pStatsCollection);
     }
   }
+
+  @Override
+  public void close() {
+    CPAs.closeIfPossible(primaryRefiner, logger);
+    CPAs.closeIfPossible(secondaryRefiner, logger);
+  }
 }
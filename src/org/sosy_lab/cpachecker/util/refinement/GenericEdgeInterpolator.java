@@ -8,6 +8,7 @@
 
 package org.sosy_lab.cpachecker.util.refinement;
 
+import com.google.common.collect.ImmutableList;
 import java.util.Deque;
 import java.util.Optional;
 import java.util.Set;
@@ -188,8 +189,9 @@ public class GenericEdgeInterpolator<S extends ForgetfulState<T>, T, I extends I
       return interpolantManager.getTrueInterpolant();
     }
 
+    // iterate in a deterministic order, because the result of this greedy loop depends on it
     for (MemoryLocation currentMemoryLocation :
-        determineMemoryLocationsToInterpolateOn(initialSuccessor)) {
+        ImmutableList.sortedCopyOf(determineMemoryLocationsToInterpolateOn(initialSuccessor))) {
       shutdownNotifier.shutdownIfNecessary();
 
       // temporarily remove the value of the current memory location from the candidate
@@ -8,18 +8,35 @@
 
 package org.sosy_lab.cpachecker.util.refinement;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.util.concurrent.MoreExecutors.listeningDecorator;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.errorprone.annotations.ForOverride;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -57,7 +74,7 @@ import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
  */
 @Options(prefix = "cpa.value.refinement")
 public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Interpolant<S, I>>
-    implements ARGBasedRefiner, StatisticsProvider {
+    implements ARGBasedRefiner, StatisticsProvider, AutoCloseable {
 
   @Option(
       secure = true,
@@ -106,6 +123,18 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
               + " e.g., for supporting counterexample checks")
   private boolean addAssumptionsToCex = true;
 
+  @Option(
+      secure = true,
+      description =
+          "number of threads for interpolating the paths to several target states in parallel"
+              + " (only relevant with cegar.globalRefinement, and only if the refiner supports"
+              + " independent interpolators). With more than one thread, the paths to all"
+              + " infeasible target states are refined at once, and each path is interpolated"
+              + " independently from the root, so the interpolants may differ from those of the"
+              + " sequential, tree-based interpolation of a single target path.")
+  @IntegerOption(min = 1)
+  private int interpolationThreads = 1;
+
   protected final LogManager logger;
 
   private final PathInterpolator<I> interpolator;
@@ -118,10 +147,28 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
 
   private Set<Integer> previousErrorPathIds = new HashSet<>();
 
+  /**
+   * Interpolators for parallel interpolation, each used by at most one thread at a time. Created
+   * lazily, and kept across refinements so that they can keep their caches.
+   */
+  private @Nullable ImmutableList<PathInterpolator<I>> parallelInterpolators = null;
+
+  private @Nullable ListeningExecutorService interpolationExecutor = null;
+
+  /**
+   * Other target states whose paths were found feasible while collecting the paths for parallel
+   * interpolation. They are left for later refinements and need not be checked again until then.
+   */
+  private final Set<ARGState> feasibleOtherTargets = new HashSet<>();
+
   // statistics
   private final StatCounter refinementCounter = new StatCounter("Number of refinements");
   private final StatInt numberOfTargets = new StatInt(StatKind.SUM, "Number of targets found");
   private final StatTimer refinementTime = new StatTimer("Time for completing refinement");
+  private final StatCounter parallelInterpolations =
+      new StatCounter("Number of paths interpolated in parallel");
+  private final StatTimer parallelInterpolationTime =
+      new StatTimer("Time for parallel interpolation");
 
   protected GenericRefiner(
       final FeasibilityChecker<S> pFeasibilityChecker,
@@ -200,7 +247,7 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
     CounterexampleInfo cex = isPathFeasible(targetPathToUse);
 
     if (cex.isSpurious()) {
-      refineUsingInterpolants(pReached, obtainInterpolants(targetPathToUse));
+      refineUsingInterpolants(pReached, obtainInterpolants(pReached, targetPathToUse));
     }
 
     refinementTime.stop();
@@ -212,20 +259,193 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
       final ARGReachedSet pReached, final InterpolationTree<S, I> pInterpolationTree)
       throws InterruptedException;
 
-  private InterpolationTree<S, I> obtainInterpolants(ARGPath pTargetPath)
+  private InterpolationTree<S, I> obtainInterpolants(
+      final ARGReachedSet pReached, final ARGPath pTargetPath)
       throws CPAException, InterruptedException {
 
-    InterpolationTree<S, I> interpolationTree =
-        createInterpolationTree(ImmutableList.of(pTargetPath));
+    List<ARGPath> targetPaths = getTargetPathsForInterpolation(pReached, pTargetPath);
+    InterpolationTree<S, I> interpolationTree = createInterpolationTree(targetPaths);
 
-    while (interpolationTree.hasNextPathForInterpolation()) {
-      performPathInterpolation(interpolationTree);
+    if (targetPaths.size() > 1) {
+      // several target paths are only collected for parallel interpolation
+      performParallelPathInterpolation(interpolationTree, targetPaths);
+
+    } else {
+      while (interpolationTree.hasNextPathForInterpolation()) {
+        performPathInterpolation(interpolationTree);
+      }
     }
 
     exportTree(interpolationTree, "FINAL");
     return interpolationTree;
   }
 
+  /**
+   * Returns the paths to interpolate for the given (infeasible) target path. With global refinement
+   * and parallel interpolation, these are the given path and the paths to all other target states
+   * of the reached set that are infeasible, too. Feasible other targets are left for later
+   * refinements, and are remembered such that their paths are not checked again. Otherwise, only
+   * the given path is interpolated, as in sequential mode.
+   */
+  @VisibleForTesting
+  List<ARGPath> getTargetPathsForInterpolation(
+      final ARGReachedSet pReached, final ARGPath pTargetPath)
+      throws CPAException, InterruptedException {
+    if (interpolationThreads <= 1
+        || !pathExtractor.isGlobalRefinement()
+        || (parallelInterpolators == null && !initializeParallelInterpolation())) {
+      return ImmutableList.of(pTargetPath);
+    }
+
+    ImmutableList.Builder<ARGPath> targetPaths = ImmutableList.builder();
+    targetPaths.add(pTargetPath);
+    ARGState target = pTargetPath.getLastState();
+    // not PathExtractor#getTargetStates, which counts the targets again for the statistics
+    ImmutableSet<ARGState> remainingTargets =
+        ImmutableSet.copyOf(pathExtractor.getRemainingTargetStates(pReached));
+    // forget targets that were removed from the ARG or reported as feasible in the meantime
+    feasibleOtherTargets.retainAll(remainingTargets);
+    feasibleOtherTargets.remove(target);
+    List<ARGState> otherTargets =
+        from(remainingTargets)
+            .filter(s -> !s.equals(target) && !feasibleOtherTargets.contains(s))
+            .toList();
+    for (ARGPath otherPath : pathExtractor.getTargetPaths(otherTargets)) {
+      if (isErrorPathFeasible(otherPath)) {
+        feasibleOtherTargets.add(otherPath.getLastState());
+      } else {
+        targetPaths.add(otherPath);
+      }
+    }
+    return targetPaths.build();
+  }
+
+  /**
+   * Creates an additional path interpolator for parallel interpolation. It must not share any
+   * mutable state, e.g., its strongest-post operator, with the interpolator of this refiner or with
+   * other interpolators created by this method.
+   *
+   * @return a new interpolator, or null if parallel interpolation is not supported by this refiner
+   */
+  @ForOverride
+  protected @Nullable PathInterpolator<I> createIndependentPathInterpolator()
+      throws InvalidConfigurationException {
+    return null;
+  }
+
+  /** Returns whether parallel interpolation is possible. */
+  @VisibleForTesting
+  boolean initializeParallelInterpolation() throws CPAException {
+    ImmutableList.Builder<PathInterpolator<I>> interpolators = ImmutableList.builder();
+    try {
+      for (int i = 0; i < interpolationThreads; i++) {
+        PathInterpolator<I> itp = createIndependentPathInterpolator();
+        if (itp == null) {
+          logger.log(
+              Level.WARNING,
+              getClass().getSimpleName(),
+              "does not support parallel interpolation, interpolating sequentially.");
+          interpolationThreads = 1;
+          return false;
+        }
+        interpolators.add(itp);
+      }
+    } catch (InvalidConfigurationException e) {
+      throw new CPAException("Could not create interpolators for parallel interpolation", e);
+    }
+
+    parallelInterpolators = interpolators.build();
+    interpolationExecutor =
+        listeningDecorator(
+            newFixedThreadPool(
+                interpolationThreads,
+                Thread.ofPlatform()
+                    .daemon()
+                    .name(getClass().getSimpleName() + "-interpolation-", 0)
+                    .factory()));
+    return true;
+  }
+
+  /**
+   * Interpolates each of the given paths independently, starting with the initial interpolant at
+   * the root, and distributes the paths among the parallel interpolators. The interpolants are
+   * added to the tree in the order of the given paths after all paths have been interpolated, such
+   * that the result does not depend on the scheduling of the threads. Interpolants for states that
+   * are shared by several paths are joined by the tree.
+   */
+  @VisibleForTesting
+  void performParallelPathInterpolation(
+      final InterpolationTree<S, I> pInterpolationTree, final List<ARGPath> pTargetPaths)
+      throws CPAException, InterruptedException {
+    final ImmutableList<PathInterpolator<I>> interpolators = checkNotNull(parallelInterpolators);
+    final ListeningExecutorService executor = checkNotNull(interpolationExecutor);
+
+    parallelInterpolationTime.start();
+    try {
+      final int numberOfWorkers = Math.min(interpolators.size(), pTargetPaths.size());
+      final I initialItp = interpolantManager.createInitialInterpolant();
+      List<ListenableFuture<List<Map<ARGState, I>>>> futures = new ArrayList<>(numberOfWorkers);
+      for (int w = 0; w < numberOfWorkers; w++) {
+        final PathInterpolator<I> worker = interpolators.get(w);
+        final List<ARGPath> assignedPaths = new ArrayList<>();
+        for (int i = w; i < pTargetPaths.size(); i += interpolators.size()) {
+          assignedPaths.add(pTargetPaths.get(i));
+        }
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<Map<ARGState, I>> results = new ArrayList<>(assignedPaths.size());
+                  for (ARGPath path : assignedPaths) {
+                    results.add(worker.performInterpolation(path, initialItp));
+                  }
+                  return results;
+                }));
+      }
+
+      // wait for all workers, even if one of them fails, such that no worker is still busy
+      // when the next refinement starts
+      List<List<Map<ARGState, I>>> resultsPerWorker = new ArrayList<>(numberOfWorkers);
+      Throwable failure = null;
+      for (ListenableFuture<List<Map<ARGState, I>>> future : futures) {
+        try {
+          resultsPerWorker.add(Uninterruptibles.getUninterruptibly(future));
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause();
+          } else {
+            failure.addSuppressed(e.getCause());
+          }
+          resultsPerWorker.add(null);
+        }
+      }
+      if (failure != null) {
+        Throwables.throwIfInstanceOf(failure, CPAException.class);
+        Throwables.throwIfInstanceOf(failure, InterruptedException.class);
+        Throwables.throwIfUnchecked(failure);
+        throw new UnexpectedCheckedException("parallel interpolation", failure);
+      }
+
+      for (int i = 0; i < pTargetPaths.size(); i++) {
+        pInterpolationTree.addInterpolants(
+            resultsPerWorker.get(i % interpolators.size()).get(i / interpolators.size()));
+      }
+      parallelInterpolations.add(pTargetPaths.size());
+      exportTree(pInterpolationTree, "ALWAYS");
+    } finally {
+      parallelInterpolationTime.stop();
+    }
+  }
+
+  /** Stops the threads for parallel interpolation, if they were started. */
+  @Override
+  public void close() {
+    if (interpolationExecutor != null) {
+      interpolationExecutor.shutdownNow();
+      interpolationExecutor = null;
+      parallelInterpolators = null;
+    }
+  }
+
   /** This method creates the interpolation tree. */
   @ForOverride
   protected InterpolationTree<S, I> createInterpolationTree(List<ARGPath> targets) {
@@ -341,6 +561,9 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
       final PrintStream pOut, final Result pResult, final UnmodifiableReachedSet pReached) {
     StatisticsWriter writer = StatisticsWriter.writingStatisticsTo(pOut);
     writer.put(refinementCounter).put(numberOfTargets).put(refinementTime);
+    writer
+        .putIfUpdatedAtLeastOnce(parallelInterpolations)
+        .putIfUpdatedAtLeastOnce(parallelInterpolationTime);
     printAdditionalStatistics(pOut, pResult, pReached); // hook
   }
 
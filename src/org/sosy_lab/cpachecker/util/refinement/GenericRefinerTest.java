@@ -0,0 +1,189 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.refinement;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
+import org.sosy_lab.cpachecker.cpa.arg.ARGReachedSet;
+import org.sosy_lab.cpachecker.cpa.arg.ARGState;
+import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
+import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState;
+import org.sosy_lab.cpachecker.cpa.value.refiner.ValueAnalysisInterpolant;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+import org.sosy_lab.cpachecker.util.test.TestUtils;
+
+public class GenericRefinerTest {
+
+  private static final class TestRefiner
+      extends GenericRefiner<ValueAnalysisState, ValueAnalysisInterpolant> {
+
+    private final boolean supportsParallelInterpolation;
+    private final List<PathInterpolator<ValueAnalysisInterpolant>> independentInterpolators =
+        new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    TestRefiner(Configuration pConfig, boolean pSupportsParallelInterpolation)
+        throws InvalidConfigurationException {
+      super(
+          mock(FeasibilityChecker.class),
+          mock(PathInterpolator.class),
+          mock(InterpolantManager.class),
+          new PathExtractor(LogManager.createTestLogManager(), pConfig),
+          pConfig,
+          LogManager.createTestLogManager());
+      supportsParallelInterpolation = pSupportsParallelInterpolation;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @Nullable PathInterpolator<ValueAnalysisInterpolant>
+        createIndependentPathInterpolator() {
+      if (!supportsParallelInterpolation) {
+        return null;
+      }
+      PathInterpolator<ValueAnalysisInterpolant> interpolator = mock(PathInterpolator.class);
+      independentInterpolators.add(interpolator);
+      return interpolator;
+    }
+
+    @Override
+    protected void refineUsingInterpolants(
+        ARGReachedSet pReached,
+        InterpolationTree<ValueAnalysisState, ValueAnalysisInterpolant> pInterpolationTree) {}
+
+    @Override
+    protected void printAdditionalStatistics(
+        PrintStream pOut, Result pResult, UnmodifiableReachedSet pReached) {}
+  }
+
+  private static Configuration globalRefinementConfig(int pThreads)
+      throws InvalidConfigurationException {
+    return TestUtils.configurationForTest()
+        .setOption("cegar.globalRefinement", "true")
+        .setOption("cpa.value.refinement.interpolationThreads", Integer.toString(pThreads))
+        .build();
+  }
+
+  @Test
+  public void testSingleThreadInterpolatesOnlyGivenPath() throws Exception {
+    TestRefiner refiner = new TestRefiner(globalRefinementConfig(1), true);
+    ARGReachedSet reached = mock(ARGReachedSet.class);
+    ARGPath path = mock(ARGPath.class);
+
+    // like the sequential baseline, no other target paths are collected
+    assertThat(refiner.getTargetPathsForInterpolation(reached, path)).containsExactly(path);
+    verifyNoInteractions(reached);
+  }
+
+  @Test
+  public void testUnsupportedParallelInterpolationInterpolatesOnlyGivenPath() throws Exception {
+    TestRefiner refiner = new TestRefiner(globalRefinementConfig(2), false);
+    ARGReachedSet reached = mock(ARGReachedSet.class);
+    ARGPath path = mock(ARGPath.class);
+
+    assertThat(refiner.getTargetPathsForInterpolation(reached, path)).containsExactly(path);
+    verifyNoInteractions(reached);
+  }
+
+  /** Returns a parallel refiner whose interpolators return the given interpolants per path. */
+  private static TestRefiner createParallelRefiner(
+      int pThreads, Map<ARGPath, Map<ARGState, ValueAnalysisInterpolant>> pInterpolants)
+      throws Exception {
+    TestRefiner refiner = new TestRefiner(globalRefinementConfig(pThreads), true);
+    assertThat(refiner.initializeParallelInterpolation()).isTrue();
+    for (PathInterpolator<ValueAnalysisInterpolant> interpolator :
+        refiner.independentInterpolators) {
+      when(interpolator.performInterpolation(any(), any()))
+          .thenAnswer(invocation -> pInterpolants.get(invocation.getArgument(0, ARGPath.class)));
+    }
+    return refiner;
+  }
+
+  @Test
+  public void testParallelInterpolationAddsInterpolantsInPathOrder() throws Exception {
+    Map<ARGPath, Map<ARGState, ValueAnalysisInterpolant>> interpolants = new LinkedHashMap<>();
+    for (int i = 0; i < 5; i++) {
+      interpolants.put(
+          mock(ARGPath.class),
+          ImmutableMap.of(mock(ARGState.class), ValueAnalysisInterpolant.FALSE));
+    }
+    List<ARGPath> paths = ImmutableList.copyOf(interpolants.keySet());
+    TestRefiner refiner = createParallelRefiner(2, interpolants);
+    @SuppressWarnings("unchecked")
+    InterpolationTree<ValueAnalysisState, ValueAnalysisInterpolant> tree =
+        mock(InterpolationTree.class);
+
+    try {
+      refiner.performParallelPathInterpolation(tree, paths);
+    } finally {
+      refiner.close();
+    }
+
+    // the interpolants are added in the order of the paths, independently of the scheduling
+    InOrder inOrder = inOrder(tree);
+    for (ARGPath path : paths) {
+      inOrder.verify(tree).addInterpolants(interpolants.get(path));
+    }
+    // the paths are distributed among all interpolators
+    assertThat(refiner.independentInterpolators).hasSize(2);
+    verify(refiner.independentInterpolators.get(0), times(3)).performInterpolation(any(), any());
+    verify(refiner.independentInterpolators.get(1), times(2)).performInterpolation(any(), any());
+  }
+
+  @Test
+  public void testParallelInterpolationPropagatesFailure() throws Exception {
+    ARGPath failingPath = mock(ARGPath.class);
+    ARGPath otherPath = mock(ARGPath.class);
+    TestRefiner refiner = createParallelRefiner(2, ImmutableMap.of());
+    CPAException failure = new CPAException("test failure");
+    when(refiner.independentInterpolators.get(0).performInterpolation(eq(failingPath), any()))
+        .thenThrow(failure);
+    @SuppressWarnings("unchecked")
+    InterpolationTree<ValueAnalysisState, ValueAnalysisInterpolant> tree =
+        mock(InterpolationTree.class);
+
+    try {
+      CPAException thrown =
+          assertThrows(
+              CPAException.class,
+              () ->
+                  refiner.performParallelPathInterpolation(
+                      tree, ImmutableList.of(failingPath, otherPath)));
+      assertThat(thrown).isSameInstanceAs(failure);
+    } finally {
+      refiner.close();
+    }
+    verify(tree, never()).addInterpolants(any());
+  }
+}
@@ -11,6 +11,7 @@ package org.sosy_lab.cpachecker.util.refinement;
 import com.google.common.base.Predicates;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -75,13 +76,7 @@ public class PathExtractor implements Statistics {
   public Collection<ARGState> getTargetStates(final ARGReachedSet pReached)
       throws RefinementFailedException, InterruptedException {
 
-    // extract target locations from and exclude those found to be feasible before,
-    // e.g., when analysis.stopAfterError is set to false
-    List<ARGState> targets =
-        extractTargetStatesFromArg(pReached)
-            .transform(s -> (ARGState) s)
-            .filter(Predicates.not(Predicates.in(feasibleTargets)))
-            .toList();
+    List<ARGState> targets = getRemainingTargetStates(pReached);
 
     // set of targets may only be empty, if all of them were found feasible previously
     if (targets.isEmpty()) {
@@ -94,6 +89,19 @@ public class PathExtractor implements Statistics {
     return targets;
   }
 
+  /**
+   * Returns the target states like {@link #getTargetStates}, but without counting them for the
+   * statistics and without failing if there are none.
+   */
+  public ImmutableList<ARGState> getRemainingTargetStates(final ARGReachedSet pReached) {
+    // extract target locations from and exclude those found to be feasible before,
+    // e.g., when analysis.stopAfterError is set to false
+    return extractTargetStatesFromArg(pReached)
+        .transform(s -> (ARGState) s)
+        .filter(Predicates.not(Predicates.in(feasibleTargets)))
+        .toList();
+  }
+
   /** This method extracts the last state from the ARG, which has to be a target state. */
   private FluentIterable<AbstractState> extractTargetStatesFromArg(final ARGReachedSet pReached) {
     if (globalRefinement) {
@@ -116,6 +124,11 @@ public class PathExtractor implements Statistics {
     return new ArrayList<>(Collections2.transform(targetStates, ARGUtils::getOnePathTo));
   }
 
+  /** Returns whether all target states of the reached set are refined at once. */
+  public boolean isGlobalRefinement() {
+    return globalRefinement;
+  }
+
   public void addFeasibleTarget(ARGState pLastState) {
     feasibleTargets.add(pLastState);
   }
@@ -93,8 +93,24 @@ public class SMG {
       objectsAndPointersPointingAtThem;
   private final BigInteger sizeOfPointer;
 
-  /** Creates a new, empty SMG */
+  // Objects whose has-value edges, validity or incoming pointers changed since the last call of
+  // copyAndClearChangedObjects(). Used to restrict the search for list abstraction candidates.
+  // Null if changes are not tracked, which saves the bookkeeping if the search does not need it.
+  private final @Nullable PersistentSet<SMGObject> changedObjects;
+
+  /** Creates a new, empty SMG that does not track changed objects. */
   public SMG(BigInteger pSizeOfPointer) {
+    this(pSizeOfPointer, false);
+  }
+
+  /**
+   * Creates a new, empty SMG.
+   *
+   * @param pSizeOfPointer the size of pointers in bits.
+   * @param pTrackChangedObjects whether the SMG and its successors remember their changed objects,
+   *     see {@link #getChangedObjects()}.
+   */
+  public SMG(BigInteger pSizeOfPointer, boolean pTrackChangedObjects) {
     hasValueEdges = PathCopyingPersistentTreeMap.of();
     objectsAndPointersPointingAtThem = PathCopyingPersistentTreeMap.of();
     valuesToRegionsTheyAreSavedIn = PathCopyingPersistentTreeMap.of();
@@ -115,6 +131,7 @@ public class SMG {
             SMGValue.zeroDoubleValue(),
             nullPointer);
     sizeOfPointer = pSizeOfPointer;
+    changedObjects = pTrackChangedObjects ? PersistentSet.of() : null;
   }
 
   private SMG(
@@ -124,7 +141,8 @@ public class SMG {
       PersistentMap<SMGValue, PersistentMap<SMGObject, Integer>> pValuesToRegionsTheyAreSavedIn,
       ImmutableMap<SMGValue, SMGPointsToEdge> pPointsToEdges,
       PersistentMap<SMGObject, PersistentMap<SMGValue, Integer>> pObjectsAndPointersPointingAtThem,
-      BigInteger pSizeOfPointer) {
+      BigInteger pSizeOfPointer,
+      @Nullable PersistentSet<SMGObject> pChangedObjects) {
     smgObjects = pSmgObjects;
     smgValuesAndNestingLvl = pSmgValues;
     hasValueEdges = pHasValueEdges;
@@ -132,6 +150,7 @@ public class SMG {
     pointsToEdges = pPointsToEdges;
     sizeOfPointer = pSizeOfPointer;
     objectsAndPointersPointingAtThem = pObjectsAndPointersPointingAtThem;
+    changedObjects = pChangedObjects;
   }
 
   private SMG of(ImmutableMap<SMGValue, SMGPointsToEdge> pPointsToEdges) {
@@ -142,7 +161,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pPointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   private SMG of(
@@ -154,11 +174,13 @@ public class SMG {
         pValuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   private SMG ofHasValueEdges(
-      PersistentMap<SMGObject, PersistentSet<SMGHasValueEdge>> pHasValueEdges) {
+      PersistentMap<SMGObject, PersistentSet<SMGHasValueEdge>> pHasValueEdges,
+      SMGObject pChangedObject) {
     return new SMG(
         smgObjects,
         smgValuesAndNestingLvl,
@@ -166,12 +188,14 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, pChangedObject));
   }
 
   private SMG of(
       PersistentMap<SMGObject, Boolean> pSmgObjects,
-      PersistentMap<SMGObject, PersistentSet<SMGHasValueEdge>> pHasValueEdges) {
+      PersistentMap<SMGObject, PersistentSet<SMGHasValueEdge>> pHasValueEdges,
+      @Nullable PersistentSet<SMGObject> pChangedObjects) {
     return new SMG(
         pSmgObjects,
         smgValuesAndNestingLvl,
@@ -179,7 +203,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        pChangedObjects);
   }
 
   /**
@@ -196,7 +221,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, pObject));
   }
 
   /**
@@ -214,7 +240,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   /**
@@ -231,7 +258,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   /**
@@ -248,7 +276,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   /**
@@ -282,7 +311,8 @@ public class SMG {
           newSMG.valuesToRegionsTheyAreSavedIn,
           builder.buildOrThrow(),
           newSMG.objectsAndPointersPointingAtThem,
-          newSMG.sizeOfPointer);
+          newSMG.sizeOfPointer,
+          newSMG.changedObjects);
     }
     return new SMG(
         smgObjects,
@@ -291,7 +321,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         builder.buildOrThrow(),
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   /**
@@ -321,7 +352,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         builder.buildOrThrow(),
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        changedObjects);
   }
 
   /**
@@ -397,7 +429,7 @@ public class SMG {
     PersistentSet<SMGHasValueEdge> edges = hasValueEdges.getOrDefault(source, PersistentSet.of());
     edges = edges.addAndCopy(edge);
 
-    return ofHasValueEdges(hasValueEdges.putAndCopy(source, edges))
+    return ofHasValueEdges(hasValueEdges.putAndCopy(source, edges), source)
         .incrementValueToMemoryMapEntry(source, edge.hasValue());
   }
 
@@ -475,7 +507,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, source));
   }
 
   public int getNumberOfAbstractedLists() {
@@ -533,7 +566,8 @@ public class SMG {
         newValuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, source));
   }
 
   /**
@@ -553,7 +587,7 @@ public class SMG {
       newSMG = newSMG.decrementValueToMemoryMapEntry(source, edgeToRemove.hasValue());
     }
 
-    return newSMG.ofHasValueEdges(hasValueEdges.putAndCopy(source, smgEdges));
+    return newSMG.ofHasValueEdges(hasValueEdges.putAndCopy(source, smgEdges), source);
   }
 
   /**
@@ -740,7 +774,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         newObjectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, target));
   }
 
   /**
@@ -801,7 +836,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         newObjectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(addChangedObject(changedObjects, oldTarget), newTarget));
   }
 
   /**
@@ -834,7 +870,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         newObjectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, target));
   }
 
   /** Replaces all HVedges at the offset + size with the new HVEdge in the given objects. */
@@ -890,7 +927,10 @@ public class SMG {
     PersistentMap<SMGObject, Boolean> newObjects =
         smgObjects.removeAndCopy(pOldObject).putAndCopy(pNewObject, smgObjects.get(pOldObject));
 
-    return newSMG.of(newObjects, newHVEdges);
+    return newSMG.of(
+        newObjects,
+        newHVEdges,
+        addChangedObject(removeChangedObject(newSMG.changedObjects, pOldObject), pNewObject));
   }
 
   /**
@@ -911,7 +951,7 @@ public class SMG {
     // TODO: delete PTEs with no values left
     // TODO: actually delete old objects with no references to them (for example the dirt from
     //  SLL/DLL creation/deletion)
-    return newSMG.of(newObjects, newHVEdges);
+    return newSMG.of(newObjects, newHVEdges, addChangedObject(newSMG.changedObjects, pObject));
   }
 
   /**
@@ -946,7 +986,8 @@ public class SMG {
                   newValuesToRegionsTheyAreSavedIn.valuesToRegionsTheyAreSavedIn,
                   builder.buildOrThrow(),
                   newValuesToRegionsTheyAreSavedIn.objectsAndPointersPointingAtThem,
-                  newValuesToRegionsTheyAreSavedIn.sizeOfPointer);
+                  newValuesToRegionsTheyAreSavedIn.sizeOfPointer,
+                  newValuesToRegionsTheyAreSavedIn.changedObjects);
         }
       }
     }
@@ -969,7 +1010,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, pObject));
   }
 
   public SMG copyAndRemoveObjects(Collection<SMGObject> pUnreachableObjects) {
@@ -990,7 +1032,10 @@ public class SMG {
         hasValueEdges.getOrDefault(pUnreachableObject, PersistentSet.of());
     SMG newSMG = copyAndRemoveHVEdges(values, pUnreachableObject);
     // TODO: remove unused values
-    return newSMG.of(newObjects, newSMG.hasValueEdges);
+    return newSMG.of(
+        newObjects,
+        newSMG.hasValueEdges,
+        removeChangedObject(newSMG.changedObjects, pUnreachableObject));
   }
 
   /**
@@ -1127,6 +1172,10 @@ public class SMG {
       newSMGObjects = newSMGObjects.removeAndCopy(objToRemove);
       newHVEs = newHVEs.removeAndCopy(objToRemove);
     }
+    @Nullable PersistentSet<SMGObject> newChangedObjects = newSMG.changedObjects;
+    for (SMGObject objToRemove : objsToRemove) {
+      newChangedObjects = removeChangedObject(newChangedObjects, objToRemove);
+    }
 
     // Remove object from the SMG and remove all values inside from the SMG
     SMG currentSMG =
@@ -1137,7 +1186,8 @@ public class SMG {
             newSMG.valuesToRegionsTheyAreSavedIn,
             newSMG.pointsToEdges,
             newSMG.objectsAndPointersPointingAtThem,
-            newSMG.sizeOfPointer);
+            newSMG.sizeOfPointer,
+            newChangedObjects);
 
     return SMGAndSMGObjects.of(currentSMG, objsToRemove);
   }
@@ -1799,6 +1849,53 @@ public class SMG {
     return smgObjects.getOrDefault(pObject, false);
   }
 
+  /**
+   * Returns all objects whose {@link SMGHasValueEdge}s, validity or incoming pointers (including
+   * their target specifiers) changed since the last call of {@link #copyAndClearChangedObjects()}.
+   * The changed objects are not considered for equality.
+   *
+   * @return the changed objects, some of which might not be valid anymore.
+   * @throws IllegalStateException if this SMG does not track changed objects.
+   */
+  public PersistentSet<SMGObject> getChangedObjects() {
+    Preconditions.checkState(changedObjects != null, "Changed objects are not tracked");
+    return changedObjects;
+  }
+
+  /** Returns whether this SMG remembers its changed objects, see {@link #getChangedObjects()}. */
+  public boolean isTrackingChangedObjects() {
+    return changedObjects != null;
+  }
+
+  private static @Nullable PersistentSet<SMGObject> addChangedObject(
+      @Nullable PersistentSet<SMGObject> pChangedObjects, SMGObject pObject) {
+    return pChangedObjects == null ? null : pChangedObjects.addAndCopy(pObject);
+  }
+
+  private static @Nullable PersistentSet<SMGObject> removeChangedObject(
+      @Nullable PersistentSet<SMGObject> pChangedObjects, SMGObject pObject) {
+    return pChangedObjects == null ? null : pChangedObjects.removeAndCopy(pObject);
+  }
+
+  /**
+   * Returns a copy of this SMG that does not remember any changed objects, see {@link
+   * #getChangedObjects()}. Returns this SMG if it does not track changed objects.
+   */
+  public SMG copyAndClearChangedObjects() {
+    if (changedObjects == null || changedObjects.isEmpty()) {
+      return this;
+    }
+    return new SMG(
+        smgObjects,
+        smgValuesAndNestingLvl,
+        hasValueEdges,
+        valuesToRegionsTheyAreSavedIn,
+        pointsToEdges,
+        objectsAndPointersPointingAtThem,
+        sizeOfPointer,
+        PersistentSet.of());
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(hasValueEdges, smgObjects, pointsToEdges, smgValuesAndNestingLvl);
@@ -2047,7 +2144,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         pointsToEdges,
         newPointersTowardsObjectsMap,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(addChangedObject(changedObjects, oldObj), newTarget));
   }
 
   /**
@@ -2488,7 +2586,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         newPTEs.buildOrThrow(),
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, pointsToEdges.get(pValue).pointsTo()));
   }
 
   public SMG copyAndSetTargetSpecifierForPtrsTowards(
@@ -2553,7 +2652,8 @@ public class SMG {
         valuesToRegionsTheyAreSavedIn,
         newPTEs.buildOrThrow(),
         objectsAndPointersPointingAtThem,
-        sizeOfPointer);
+        sizeOfPointer,
+        addChangedObject(changedObjects, pTarget));
   }
 
   public Optional<SMGValue> getAddressValueForPointsToTargetWithNestingLevel(
@@ -9,6 +9,7 @@
 package org.sosy_lab.cpachecker.util.smg;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
@@ -94,6 +95,48 @@ public class SMGWriteReadTest extends SMGTest0 {
         .isEqualTo(PersistentSet.of(SMGObject.nullInstance()).addAndCopy(testObject));
   }
 
+  /*
+   * Test that objects with new edges, incoming pointers or a new validity are remembered as changed
+   * until the changes are cleared.
+   */
+  @Test
+  public void changedObjectsTest() {
+    SMGObject source = createRegion(mockType8bSize);
+    SMGObject target = createRegion(mockType8bSize);
+    smg = new SMG(mockType8bSize, true).copyAndAddObject(source).copyAndAddObject(target);
+    assertThat(smg.isTrackingChangedObjects()).isTrue();
+    assertThat(smg.getChangedObjects()).containsExactly(source, target);
+
+    SMG clearedSMG = smg.copyAndClearChangedObjects();
+    assertThat(clearedSMG.getChangedObjects()).isEmpty();
+    assertThat(clearedSMG).isEqualTo(smg);
+    assertThat(clearedSMG.copyAndClearChangedObjects()).isSameInstanceAs(clearedSMG);
+
+    // Writing a pointer changes the object written to and the target of the pointer
+    SMGValue pointer = createValue();
+    smg =
+        clearedSMG
+            .copyAndAddValueWithNestingLevelZero(pointer)
+            .copyAndAddPTEdge(createPTRegionEdge(0, target), pointer)
+            .copyAndAddHVEdge(createHasValueEdge(mockType8bSize, pointer), source);
+    assertThat(smg.getChangedObjects()).containsExactly(source, target);
+
+    smg = smg.copyAndClearChangedObjects().copyAndInvalidateObject(target, false);
+    assertThat(smg.getChangedObjects()).containsExactly(target);
+  }
+
+  /*
+   * Test that SMGs only remember changed objects if this was requested.
+   */
+  @Test
+  public void changedObjectsNotTrackedTest() {
+    SMGObject object = createRegion(mockType8bSize);
+    smg = smg.copyAndAddObject(object).copyAndInvalidateObject(object, false);
+    assertThat(smg.isTrackingChangedObjects()).isFalse();
+    assertThat(smg.copyAndClearChangedObjects()).isSameInstanceAs(smg);
+    assertThrows(IllegalStateException.class, () -> smg.getChangedObjects());
+  }
+
   /*
    * Test adding an SMGObject, writing everything to 0 for it, then add
    * value1 from (Bytes) 3 to 11 (size 8 Bytes) and then adding value2 from
@@ -13,31 +13,96 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.ComparisonChain;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Ordering;
 import com.google.errorprone.annotations.Immutable;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.cfa.ast.ASimpleDeclaration;
 
-/** This class describes a location in the memory. */
+/**
+ * This class describes a location in the memory.
+ *
+ * <p>Instances are interned: there exists at most one instance for each memory location, and each
+ * instance has a unique numeric id (cf. {@link #getId()}), such that data structures like {@link
+ * PersistentMemoryLocationMap} can use the id instead of comparing names. Instances that are no
+ * longer referenced can still be garbage collected, and if the same memory location is created
+ * again later, it gets a new id. Ids are therefore neither dense nor stable, and only {@link
+ * #compareTo(MemoryLocation)} defines a deterministic order.
+ */
 @Immutable
 public final class MemoryLocation implements Comparable<MemoryLocation>, Serializable {
 
   @Serial private static final long serialVersionUID = -8910967707373729034L;
+
+  private static final int NO_ID = -1;
+
+  /**
+   * All instances that are still referenced, the keys are instances without id used only for
+   * lookups. Entries are removed as soon as their value is garbage collected, so the registry does
+   * not grow across analyses.
+   */
+  private static final ConcurrentMap<MemoryLocation, MemoryLocation> instances =
+      new MapMaker().weakValues().makeMap();
+
+  private static final AtomicInteger nextId = new AtomicInteger();
+
   private final @Nullable String functionName;
   private final String identifier;
   private final @Nullable Long offset;
 
+  private final transient int id;
+  private final transient int hashCode;
+
   private MemoryLocation(
-      @Nullable String pFunctionName, String pIdentifier, @Nullable Long pOffset) {
+      @Nullable String pFunctionName, String pIdentifier, @Nullable Long pOffset, int pId) {
     checkNotNull(pIdentifier);
 
     functionName = pFunctionName;
     identifier = pIdentifier;
     offset = pOffset;
+    id = pId;
+    hashCode = Objects.hash(functionName, identifier, offset);
+  }
+
+  private static MemoryLocation of(
+      @Nullable String pFunctionName, String pIdentifier, @Nullable Long pOffset) {
+    MemoryLocation key = new MemoryLocation(pFunctionName, pIdentifier, pOffset, NO_ID);
+    MemoryLocation existing = instances.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    return instances.computeIfAbsent(
+        key, k -> new MemoryLocation(k.functionName, k.identifier, k.offset, newId()));
+  }
+
+  private static int newId() {
+    // never wrap around, negative ids would break users like PersistentMemoryLocationMap
+    int id = nextId.getAndUpdate(i -> i == Integer.MAX_VALUE ? i : i + 1);
+    checkState(id < Integer.MAX_VALUE, "Ids for memory locations are exhausted");
+    return id;
+  }
+
+  @Serial
+  private Object readResolve() {
+    return of(functionName, identifier, offset);
+  }
+
+  /**
+   * Return the id of this memory location. Ids are non-negative and increase in the order in which
+   * memory locations are created, so they can be used as keys of tries. Ids of garbage-collected
+   * instances are not reused, so the ids of the live instances can have arbitrary gaps. Ids are
+   * only unique within the current JVM, they depend on the order of creation and on garbage
+   * collection, and must neither be persisted nor used for ordering memory locations in ways that
+   * affect results (use {@link #compareTo(MemoryLocation)} instead).
+   */
+  public int getId() {
+    return id;
   }
 
   @Override
@@ -47,7 +112,13 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
       return true;
     }
 
-    return other instanceof MemoryLocation otherLocation
+    if (!(other instanceof MemoryLocation otherLocation)) {
+      return false;
+    }
+    if (id != NO_ID && otherLocation.id != NO_ID) {
+      return false; // two different interned instances
+    }
+    return hashCode == otherLocation.hashCode
         && Objects.equals(functionName, otherLocation.functionName)
         && Objects.equals(identifier, otherLocation.identifier)
         && Objects.equals(offset, otherLocation.offset);
@@ -55,7 +126,7 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
 
   @Override
   public int hashCode() {
-    return Objects.hash(functionName, identifier, offset);
+    return hashCode;
   }
 
   /** Create an instance for the given declaration, which usually should be a variable. */
@@ -69,7 +140,7 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
    * should be used for global variables.
    */
   public static MemoryLocation forIdentifier(String pIdentifier) {
-    return new MemoryLocation(null, pIdentifier, null);
+    return of(null, pIdentifier, null);
   }
 
   /**
@@ -77,16 +148,16 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
    * Typically, this should be used for global variables.
    */
   public static MemoryLocation forIdentifier(String pIdentifier, long pOffset) {
-    return new MemoryLocation(null, pIdentifier, pOffset);
+    return of(null, pIdentifier, pOffset);
   }
 
   public static MemoryLocation forLocalVariable(String pFunctionName, String pIdentifier) {
-    return new MemoryLocation(checkNotNull(pFunctionName), pIdentifier, null);
+    return of(checkNotNull(pFunctionName), pIdentifier, null);
   }
 
   public static MemoryLocation forLocalVariable(
       String pFunctionName, String pIdentifier, long pOffset) {
-    return new MemoryLocation(checkNotNull(pFunctionName), pIdentifier, pOffset);
+    return of(checkNotNull(pFunctionName), pIdentifier, pOffset);
   }
 
   private static MemoryLocation fromQualifiedName(String pIdentifier, @Nullable Long pOffset) {
@@ -101,7 +172,7 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
       functionName = null;
       identifier = pIdentifier;
     }
-    return new MemoryLocation(functionName, identifier, pOffset);
+    return of(functionName, identifier, pOffset);
   }
 
   /**
@@ -137,14 +208,14 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
       if (hasOffset) {
         varName = varName.replace("/" + offset, "");
       }
-      return new MemoryLocation(functionName, varName, offset);
+      return of(functionName, varName, offset);
 
     } else {
       String varName = nameParts.getFirst();
       if (hasOffset) {
         varName = varName.replace("/" + offset, "");
       }
-      return new MemoryLocation(null, varName.replace("/" + offset, ""), offset);
+      return of(null, varName.replace("/" + offset, ""), offset);
     }
   }
 
@@ -208,12 +279,12 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
   /** Return new instance without offset. */
   public MemoryLocation getReferenceStart() {
     checkState(isReference(), "Memory location is no reference: %s", this);
-    return new MemoryLocation(functionName, identifier, null);
+    return of(functionName, identifier, null);
   }
 
   /** Return a new instance with replaced offset. */
   public MemoryLocation withOffset(long pNewOffset) {
-    return new MemoryLocation(functionName, identifier, pNewOffset);
+    return of(functionName, identifier, pNewOffset);
   }
 
   /**
@@ -222,7 +293,7 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
    */
   public MemoryLocation withAddedOffset(long pAddToOffset) {
     long oldOffset = offset == null ? 0 : offset;
-    return new MemoryLocation(functionName, identifier, oldOffset + pAddToOffset);
+    return of(functionName, identifier, oldOffset + pAddToOffset);
   }
 
   @Override
@@ -232,6 +303,9 @@ public final class MemoryLocation implements Comparable<MemoryLocation>, Seriali
 
   @Override
   public int compareTo(MemoryLocation other) {
+    if (this == other) {
+      return 0;
+    }
     return ComparisonChain.start()
         .compare(functionName, other.functionName, Ordering.natural().nullsFirst())
         .compare(identifier, other.identifier)
@@ -0,0 +1,612 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.states;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.collect.PersistentMap;
+
+/**
+ * Persistent map with {@link MemoryLocation}s as keys that is indexed by the numeric ids of the
+ * memory locations (cf. {@link MemoryLocation#getId()}) instead of their names.
+ *
+ * <p>The map is a bitmap-compressed radix trie over the ids with 32 children per node. Lookups and
+ * updates need only integer operations and are logarithmic with a large base, and updates share all
+ * unchanged nodes with the original map. Iteration is in the order of {@link
+ * MemoryLocation#compareTo(MemoryLocation)} like for a sorted map, and not in the order of the ids,
+ * because the ids depend on the order in which memory locations happened to be created. The sorted
+ * entries are computed on the first iteration and cached, so iterating is linear afterwards.
+ *
+ * <p>The map does not support {@code null} values.
+ */
+@SuppressWarnings("Immutable") // the only mutable fields are caches
+public final class PersistentMemoryLocationMap<V> extends AbstractMap<MemoryLocation, V>
+    implements PersistentMap<MemoryLocation, V>, Serializable {
+
+  @Serial private static final long serialVersionUID = 6393915405826522711L;
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+
+  /**
+   * Inner node of the trie, the children are either all {@link Node}s or all {@link Leaf}s. The
+   * array of children is never modified after construction.
+   */
+  private static final class Node {
+    private final int bitmap;
+    private final Object[] children;
+
+    private Node(int pBitmap, Object[] pChildren) {
+      bitmap = pBitmap;
+      children = pChildren;
+    }
+
+    private static Node single(int pDigit, Object pChild) {
+      return new Node(1 << pDigit, new Object[] {pChild});
+    }
+
+    private int index(int pBit) {
+      return Integer.bitCount(bitmap & (pBit - 1));
+    }
+
+    private Node withChild(int pDigit, Object pChild) {
+      int bit = 1 << pDigit;
+      int index = index(bit);
+      Object[] newChildren;
+      if ((bitmap & bit) != 0) {
+        newChildren = children.clone();
+        newChildren[index] = pChild;
+        return new Node(bitmap, newChildren);
+      }
+      newChildren = new Object[children.length + 1];
+      System.arraycopy(children, 0, newChildren, 0, index);
+      newChildren[index] = pChild;
+      System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+      return new Node(bitmap | bit, newChildren);
+    }
+
+    private @Nullable Node withoutChild(int pDigit) {
+      int bit = 1 << pDigit;
+      if (children.length == 1) {
+        return null;
+      }
+      int index = index(bit);
+      Object[] newChildren = new Object[children.length - 1];
+      System.arraycopy(children, 0, newChildren, 0, index);
+      System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+      return new Node(bitmap & ~bit, newChildren);
+    }
+  }
+
+  private static final class Leaf<V> extends AbstractMap.SimpleImmutableEntry<MemoryLocation, V> {
+    @Serial private static final long serialVersionUID = -2283340585137282311L;
+
+    private Leaf(MemoryLocation pKey, V pValue) {
+      super(pKey, pValue);
+    }
+  }
+
+  private static final PersistentMemoryLocationMap<?> EMPTY =
+      new PersistentMemoryLocationMap<>(null, 0, 0, 0);
+
+  private final transient @Nullable Node root;
+
+  /** Number of levels of the trie, such that all ids are smaller than 2^(BITS*height). */
+  private final transient int height;
+
+  private final transient int size;
+  private final transient int hashCode;
+
+  /** The entries in the order of their keys, computed lazily by {@link #sortedEntries()}. */
+  private transient @Nullable List<Map.Entry<MemoryLocation, V>> sortedEntries;
+
+  private PersistentMemoryLocationMap(@Nullable Node pRoot, int pHeight, int pSize, int pHashCode) {
+    root = pRoot;
+    height = pHeight;
+    size = pSize;
+    hashCode = pHashCode;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <V> PersistentMemoryLocationMap<V> of() {
+    return (PersistentMemoryLocationMap<V>) EMPTY;
+  }
+
+  /**
+   * Return a map with the same content as the given map. Returns the given map itself if it is
+   * already an instance of this class.
+   */
+  public static <V> PersistentMemoryLocationMap<V> copyOf(Map<MemoryLocation, ? extends V> pMap) {
+    if (pMap instanceof PersistentMemoryLocationMap) {
+      @SuppressWarnings("unchecked")
+      PersistentMemoryLocationMap<V> result = (PersistentMemoryLocationMap<V>) pMap;
+      return result;
+    }
+    PersistentMemoryLocationMap<V> result = of();
+    for (Map.Entry<MemoryLocation, ? extends V> entry : pMap.entrySet()) {
+      result = result.putAndCopy(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  private static boolean fits(int pId, int pHeight) {
+    return ((long) pId >>> (BITS * pHeight)) == 0;
+  }
+
+  private @Nullable Leaf<V> getLeaf(int pId) {
+    if (root == null || !fits(pId, height)) {
+      return null;
+    }
+    Node node = root;
+    for (int shift = BITS * (height - 1); ; shift -= BITS) {
+      int bit = 1 << ((pId >>> shift) & MASK);
+      if ((node.bitmap & bit) == 0) {
+        return null;
+      }
+      Object child = node.children[node.index(bit)];
+      if (shift == 0) {
+        @SuppressWarnings("unchecked")
+        Leaf<V> leaf = (Leaf<V>) child;
+        return leaf;
+      }
+      node = (Node) child;
+    }
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object pKey) {
+    if (!(pKey instanceof MemoryLocation memoryLocation)) {
+      return null;
+    }
+    Leaf<V> leaf = getLeaf(memoryLocation.getId());
+    return leaf == null ? null : leaf.getValue();
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object pKey) {
+    return pKey instanceof MemoryLocation memoryLocation && getLeaf(memoryLocation.getId()) != null;
+  }
+
+  @Override
+  public PersistentMemoryLocationMap<V> putAndCopy(MemoryLocation pKey, V pValue) {
+    checkNotNull(pKey);
+    checkNotNull(pValue);
+    int id = pKey.getId();
+    checkArgument(id >= 0, "Memory location %s has no valid id", pKey);
+    Leaf<V> oldLeaf = getLeaf(id);
+    if (oldLeaf != null && oldLeaf.getValue() == pValue) {
+      return this;
+    }
+
+    Node newRoot = root;
+    int newHeight = height;
+    if (newRoot == null) {
+      newHeight = 1;
+      while (!fits(id, newHeight)) {
+        newHeight++;
+      }
+    } else {
+      while (!fits(id, newHeight)) {
+        // all existing ids are smaller than the capacity, so the old root becomes child 0
+        newRoot = Node.single(0, newRoot);
+        newHeight++;
+      }
+    }
+
+    Leaf<V> newLeaf = new Leaf<>(pKey, pValue);
+    newRoot = insert(newRoot, BITS * (newHeight - 1), id, newLeaf);
+
+    int newSize = size;
+    int newHashCode = hashCode + newLeaf.hashCode();
+    if (oldLeaf == null) {
+      newSize++;
+    } else {
+      newHashCode -= oldLeaf.hashCode();
+    }
+    return new PersistentMemoryLocationMap<>(newRoot, newHeight, newSize, newHashCode);
+  }
+
+  private static Node insert(@Nullable Node pNode, int pShift, int pId, Leaf<?> pLeaf) {
+    int digit = (pId >>> pShift) & MASK;
+    if (pShift == 0) {
+      return pNode == null ? Node.single(digit, pLeaf) : pNode.withChild(digit, pLeaf);
+    }
+    Node child = null;
+    if (pNode != null && (pNode.bitmap & (1 << digit)) != 0) {
+      child = (Node) pNode.children[pNode.index(1 << digit)];
+    }
+    Node newChild = insert(child, pShift - BITS, pId, pLeaf);
+    return pNode == null ? Node.single(digit, newChild) : pNode.withChild(digit, newChild);
+  }
+
+  @Override
+  public PersistentMemoryLocationMap<V> removeAndCopy(@Nullable Object pKey) {
+    if (!(pKey instanceof MemoryLocation memoryLocation)) {
+      return this;
+    }
+    int id = memoryLocation.getId();
+    Leaf<V> oldLeaf = getLeaf(id);
+    if (oldLeaf == null) {
+      return this;
+    }
+    if (size == 1) {
+      return of();
+    }
+    Node newRoot = remove(root, BITS * (height - 1), id);
+    return new PersistentMemoryLocationMap<>(
+        newRoot, height, size - 1, hashCode - oldLeaf.hashCode());
+  }
+
+  /** Remove the leaf for the given id, which needs to exist, and drop nodes that become empty. */
+  private static @Nullable Node remove(Node pNode, int pShift, int pId) {
+    int digit = (pId >>> pShift) & MASK;
+    if (pShift == 0) {
+      return pNode.withoutChild(digit);
+    }
+    Node child = (Node) pNode.children[pNode.index(1 << digit)];
+    Node newChild = remove(child, pShift - BITS, pId);
+    return newChild == null ? pNode.withoutChild(digit) : pNode.withChild(digit, newChild);
+  }
+
+  @Override
+  public PersistentMemoryLocationMap<V> empty() {
+    return of();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<Map.Entry<MemoryLocation, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Map.Entry<MemoryLocation, V>> iterator() {
+        return sortedEntries().iterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(@Nullable Object pObject) {
+        if (!(pObject instanceof Map.Entry<?, ?> entry)
+            || !(entry.getKey() instanceof MemoryLocation key)) {
+          return false;
+        }
+        Leaf<V> leaf = getLeaf(key.getId());
+        return leaf != null && leaf.equals(entry);
+      }
+    };
+  }
+
+  /**
+   * Returns all entries in the order of {@link MemoryLocation#compareTo(MemoryLocation)}. The map
+   * is immutable, so a data race on the cache can at most lead to sorting more than once, and the
+   * list is safely published by the final field of the unmodifiable wrapper.
+   */
+  private List<Map.Entry<MemoryLocation, V>> sortedEntries() {
+    List<Map.Entry<MemoryLocation, V>> result = sortedEntries;
+    if (result == null) {
+      List<Leaf<V>> leaves = new ArrayList<>(size);
+      Iterator<Leaf<V>> it = new EntryIterator<>(root, height);
+      while (it.hasNext()) {
+        leaves.add(it.next());
+      }
+      leaves.sort(Map.Entry.<MemoryLocation, V>comparingByKey());
+      result = Collections.unmodifiableList(leaves);
+      sortedEntries = result;
+    }
+    return result;
+  }
+
+  /** Iterates over the leaves of a trie in ascending order of ids. */
+  private static final class EntryIterator<V> implements Iterator<Leaf<V>> {
+
+    // for each level on the path to the next leaf: the node and the index of its next child
+    private final Node[] nodes;
+    private final int[] indices;
+    private int depth = 0;
+
+    private @Nullable Leaf<V> next;
+
+    private EntryIterator(@Nullable Node pRoot, int pHeight) {
+      nodes = new Node[pHeight];
+      indices = new int[pHeight];
+      if (pRoot != null) {
+        nodes[0] = pRoot;
+        depth = 1;
+      }
+      next = advance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Leaf<V> advance() {
+      while (depth > 0) {
+        Node node = nodes[depth - 1];
+        int index = indices[depth - 1];
+        if (index >= node.children.length) {
+          depth--;
+          continue;
+        }
+        indices[depth - 1] = index + 1;
+        Object child = node.children[index];
+        if (child instanceof Node childNode) {
+          nodes[depth] = childNode;
+          indices[depth] = 0;
+          depth++;
+        } else {
+          return (Leaf<V>) child;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Leaf<V> next() {
+      Leaf<V> result = next;
+      if (result == null) {
+        throw new NoSuchElementException();
+      }
+      next = advance();
+      return result;
+    }
+  }
+
+  @Override
+  public boolean equals(@Nullable Object pOther) {
+    if (this == pOther) {
+      return true;
+    }
+    if (pOther instanceof PersistentMemoryLocationMap<?> other) {
+      if (size != other.size || hashCode != other.hashCode) {
+        return false;
+      }
+      @SuppressWarnings("unchecked") // values are only compared with equals()
+      PersistentMemoryLocationMap<V> otherMap = (PersistentMemoryLocationMap<V>) other;
+      return visitDifferences(otherMap, (key, thisValue, otherValue) -> false);
+    }
+    return super.equals(pOther);
+  }
+
+  /** Callback for {@link #visitDifferences(PersistentMemoryLocationMap, DifferenceVisitor)}. */
+  @FunctionalInterface
+  public interface DifferenceVisitor<V> {
+
+    /**
+     * Handle a key whose values differ between the two maps.
+     *
+     * @param pKey the key
+     * @param pThisValue the value in the map on which the method was called, or {@code null}
+     * @param pOtherValue the value in the other map, or {@code null}
+     * @return whether the remaining differences should be visited
+     */
+    boolean visit(MemoryLocation pKey, @Nullable V pThisValue, @Nullable V pOtherValue);
+  }
+
+  /**
+   * Call the visitor for each key that is only present in one of the two maps or whose values are
+   * not equal. Subtrees that are shared between both maps, e.g., because one map was created from
+   * the other one, are skipped without looking at their content, so the cost is proportional to the
+   * size of the difference between the maps if they share most of their structure. The order of the
+   * visited keys is unspecified (it depends on the ids of the memory locations), so the visitor
+   * must not produce results that depend on it.
+   *
+   * @return {@code false} if the visitor requested to stop, {@code true} otherwise
+   */
+  public boolean visitDifferences(
+      PersistentMemoryLocationMap<V> pOther, DifferenceVisitor<? super V> pVisitor) {
+    if (root == pOther.root) {
+      return true;
+    } else if (root == null) {
+      return visitAll(pOther.root, BITS * (pOther.height - 1), false, pVisitor);
+    } else if (pOther.root == null) {
+      return visitAll(root, BITS * (height - 1), true, pVisitor);
+    }
+    @Nullable Node thisNode = root;
+    @Nullable Node otherNode = pOther.root;
+    int thisHeight = height;
+    int otherHeight = pOther.height;
+
+    // Align the heights. In the higher trie, only child 0 of the root can contain keys that may
+    // also be present in the other trie.
+    while (thisHeight > otherHeight) {
+      if (!visitAllExceptFirst(thisNode, BITS * (thisHeight - 1), true, pVisitor)) {
+        return false;
+      }
+      thisNode = firstChild(thisNode);
+      thisHeight--;
+    }
+    while (otherHeight > thisHeight) {
+      if (!visitAllExceptFirst(otherNode, BITS * (otherHeight - 1), false, pVisitor)) {
+        return false;
+      }
+      otherNode = firstChild(otherNode);
+      otherHeight--;
+    }
+    return visitDifferences(thisNode, otherNode, BITS * (thisHeight - 1), pVisitor);
+  }
+
+  private static @Nullable Node firstChild(@Nullable Node pNode) {
+    return pNode != null && (pNode.bitmap & 1) != 0 ? (Node) pNode.children[0] : null;
+  }
+
+  private static <V> boolean visitAllExceptFirst(
+      @Nullable Node pNode, int pShift, boolean pIsThis, DifferenceVisitor<? super V> pVisitor) {
+    if (pNode == null) {
+      return true;
+    }
+    for (int i = (pNode.bitmap & 1) != 0 ? 1 : 0; i < pNode.children.length; i++) {
+      if (!visitAll(pNode.children[i], pShift - BITS, pIsThis, pVisitor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Visit all leaves below the given node or leaf as only present in one of the maps. */
+  private static <V> boolean visitAll(
+      Object pNodeOrLeaf, int pShift, boolean pIsThis, DifferenceVisitor<? super V> pVisitor) {
+    if (pShift < 0) {
+      @SuppressWarnings("unchecked")
+      Leaf<V> leaf = (Leaf<V>) pNodeOrLeaf;
+      return pIsThis
+          ? pVisitor.visit(leaf.getKey(), leaf.getValue(), null)
+          : pVisitor.visit(leaf.getKey(), null, leaf.getValue());
+    }
+    for (Object child : ((Node) pNodeOrLeaf).children) {
+      if (!visitAll(child, pShift - BITS, pIsThis, pVisitor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <V> boolean visitDifferences(
+      @Nullable Node pThis,
+      @Nullable Node pOther,
+      int pShift,
+      DifferenceVisitor<? super V> pVisitor) {
+    if (pThis == pOther) {
+      return true; // shared subtree (or both empty)
+    } else if (pOther == null) {
+      return visitAll(pThis, pShift, true, pVisitor);
+    } else if (pThis == null) {
+      return visitAll(pOther, pShift, false, pVisitor);
+    }
+
+    int digits = pThis.bitmap | pOther.bitmap;
+    while (digits != 0) {
+      int bit = Integer.lowestOneBit(digits);
+      digits &= ~bit;
+      Object thisChild = (pThis.bitmap & bit) != 0 ? pThis.children[pThis.index(bit)] : null;
+      Object otherChild = (pOther.bitmap & bit) != 0 ? pOther.children[pOther.index(bit)] : null;
+      if (thisChild == otherChild) {
+        continue;
+      }
+
+      if (pShift > 0) {
+        if (!visitDifferences((Node) thisChild, (Node) otherChild, pShift - BITS, pVisitor)) {
+          return false;
+        }
+      } else {
+        @SuppressWarnings("unchecked")
+        Leaf<V> thisLeaf = (Leaf<V>) thisChild;
+        @SuppressWarnings("unchecked")
+        Leaf<V> otherLeaf = (Leaf<V>) otherChild;
+        if (thisLeaf == null) {
+          if (!pVisitor.visit(otherLeaf.getKey(), null, otherLeaf.getValue())) {
+            return false;
+          }
+        } else if (otherLeaf == null || !thisLeaf.getValue().equals(otherLeaf.getValue())) {
+          V otherValue = otherLeaf == null ? null : otherLeaf.getValue();
+          if (!pVisitor.visit(thisLeaf.getKey(), thisLeaf.getValue(), otherValue)) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Deprecated
+  @Override
+  public V put(MemoryLocation pKey, V pValue) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Deprecated
+  @Override
+  public V remove(@Nullable Object pKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Deprecated
+  @Override
+  public void putAll(Map<? extends MemoryLocation, ? extends V> pMap) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Deprecated
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return new SerialProxy<>(this);
+  }
+
+  @Serial
+  private void readObject(@SuppressWarnings("unused") ObjectInputStream pStream)
+      throws IOException {
+    throw new InvalidObjectException("Proxy required");
+  }
+
+  /** Serializes the entries as list, because the ids are only valid within one JVM. */
+  private static final class SerialProxy<V> implements Serializable {
+    @Serial private static final long serialVersionUID = -1390472137445935124L;
+
+    private final List<MemoryLocation> keys;
+    private final List<V> values;
+
+    private SerialProxy(PersistentMemoryLocationMap<V> pMap) {
+      keys = new ArrayList<>(pMap.size());
+      values = new ArrayList<>(pMap.size());
+      for (Map.Entry<MemoryLocation, V> entry : pMap.entrySet()) {
+        keys.add(entry.getKey());
+        values.add(entry.getValue());
+      }
+    }
+
+    @Serial
+    private Object readResolve() {
+      PersistentMemoryLocationMap<V> result = of();
+      for (int i = 0; i < keys.size(); i++) {
+        result = result.putAndCopy(keys.get(i), values.get(i));
+      }
+      return result;
+    }
+  }
+}
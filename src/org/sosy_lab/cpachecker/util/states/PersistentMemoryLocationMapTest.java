@@ -0,0 +1,136 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2026 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.states;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.Test;
+
+public class PersistentMemoryLocationMapTest {
+
+  @Test
+  public void testInterning() {
+    MemoryLocation loc = MemoryLocation.forLocalVariable("f", "x", 4);
+    assertThat(MemoryLocation.fromQualifiedName("f::x", 4)).isSameInstanceAs(loc);
+    assertThat(MemoryLocation.parseExtendedQualifiedName("f::x/4")).isSameInstanceAs(loc);
+    assertThat(loc.withOffset(4)).isSameInstanceAs(loc);
+    assertThat(MemoryLocation.forLocalVariable("f", "x").getId()).isNotEqualTo(loc.getId());
+  }
+
+  @Test
+  public void testPutGetRemove() {
+    MemoryLocation x = MemoryLocation.forIdentifier("x");
+    MemoryLocation y = MemoryLocation.forIdentifier("y");
+    PersistentMemoryLocationMap<String> empty = PersistentMemoryLocationMap.of();
+
+    PersistentMemoryLocationMap<String> map = empty.putAndCopy(x, "1").putAndCopy(y, "2");
+    assertThat(map).containsExactly(x, "1", y, "2");
+    assertThat(empty).isEmpty();
+
+    PersistentMemoryLocationMap<String> updated = map.putAndCopy(x, "3");
+    assertThat(updated).containsExactly(x, "3", y, "2");
+    assertThat(map.get(x)).isEqualTo("1");
+
+    assertThat(updated.removeAndCopy(x)).containsExactly(y, "2");
+    assertThat(updated.removeAndCopy(x).removeAndCopy(y)).isSameInstanceAs(empty);
+    assertThat(updated.removeAndCopy(MemoryLocation.forIdentifier("z"))).isSameInstanceAs(updated);
+  }
+
+  @Test
+  public void testIterationOrderIsMemoryLocationOrder() {
+    // create the memory locations (and thus their ids) in the reverse of their natural order
+    List<MemoryLocation> locations = new ArrayList<>();
+    for (int i = 100; i > 0; i--) {
+      locations.add(MemoryLocation.forLocalVariable("testIterationOrder", "v" + i));
+    }
+    PersistentMemoryLocationMap<Integer> map = PersistentMemoryLocationMap.of();
+    for (int i = 0; i < locations.size(); i++) {
+      map = map.putAndCopy(locations.get(i), i);
+    }
+    assertThat(map.keySet()).containsExactlyElementsIn(locations);
+    assertThat(map.keySet()).isInOrder();
+    assertThat(map.removeAndCopy(locations.getFirst()).keySet()).isInOrder();
+    assertThat(map.toString()).isEqualTo(new TreeMap<>(map).toString());
+  }
+
+  @Test
+  public void testVisitDifferences() {
+    List<MemoryLocation> locations = new ArrayList<>();
+    for (int i = 0; i < 1500; i++) {
+      locations.add(MemoryLocation.forIdentifier("testVisitDifferences", i));
+    }
+    PersistentMemoryLocationMap<Integer> base = PersistentMemoryLocationMap.of();
+    for (int i = 0; i < 1000; i++) {
+      base = base.putAndCopy(locations.get(i), i);
+    }
+    MemoryLocation changed = locations.get(10);
+    MemoryLocation removed = locations.get(500);
+    MemoryLocation added = locations.get(1499);
+    PersistentMemoryLocationMap<Integer> modified =
+        base.putAndCopy(changed, -1).removeAndCopy(removed).putAndCopy(added, 0);
+
+    Map<MemoryLocation, List<Integer>> differences = new HashMap<>();
+    assertThat(
+            base.visitDifferences(
+                modified,
+                (key, thisValue, otherValue) -> {
+                  differences.put(key, Arrays.asList(thisValue, otherValue));
+                  return true;
+                }))
+        .isTrue();
+    assertThat(differences)
+        .containsExactly(
+            changed,
+            Arrays.asList(10, -1),
+            removed,
+            Arrays.asList(500, null),
+            added,
+            Arrays.asList(null, 0));
+
+    assertThat(base.visitDifferences(modified, (key, thisValue, otherValue) -> false)).isFalse();
+    assertThat(base.visitDifferences(base.putAndCopy(changed, 10), (k, v1, v2) -> false)).isTrue();
+    assertThat(modified).isNotEqualTo(base);
+    assertThat(modified.putAndCopy(changed, 10).putAndCopy(removed, 500).removeAndCopy(added))
+        .isEqualTo(base);
+  }
+
+  @Test
+  public void testAgainstHashMap() {
+    Random random = new Random(0);
+    List<MemoryLocation> locations = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      locations.add(MemoryLocation.forIdentifier("testAgainstHashMap", i));
+    }
+
+    Map<MemoryLocation, Integer> expected = new HashMap<>();
+    PersistentMemoryLocationMap<Integer> map = PersistentMemoryLocationMap.of();
+    for (int i = 0; i < 20000; i++) {
+      MemoryLocation loc = locations.get(random.nextInt(locations.size()));
+      if (random.nextInt(3) == 0) {
+        expected.remove(loc);
+        map = map.removeAndCopy(loc);
+      } else {
+        expected.put(loc, i);
+        map = map.putAndCopy(loc, i);
+      }
+      assertThat(map.get(loc)).isEqualTo(expected.get(loc));
+    }
+
+    assertThat(map).isEqualTo(expected);
+    assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(PersistentMemoryLocationMap.copyOf(expected)).isEqualTo(map);
+  }
+}